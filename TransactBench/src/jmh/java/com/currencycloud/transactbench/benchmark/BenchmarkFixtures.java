@@ -0,0 +1,101 @@
+package com.currencycloud.transactbench.benchmark;
+
+import com.currencycloud.transactbench.calendar.ValueDateCalendar;
+import com.currencycloud.transactbench.config.IdGeneratorProperties;
+import com.currencycloud.transactbench.config.PayloadProperties;
+import com.currencycloud.transactbench.config.ReferenceProperties;
+import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import com.currencycloud.transactbench.config.ValueDateProperties;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.id.IdGenerators;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.id.ReferenceGenerators;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PayloadPools;
+import com.currencycloud.transactbench.serialization.BinaryTransactionConverter;
+import com.currencycloud.transactbench.serialization.TransactionJsonWriter;
+import com.currencycloud.transactbench.serialization.TransactionMessageConverter;
+import com.currencycloud.transactbench.service.TransactionGeneratorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Builds the services under benchmark the way the application context does, without starting it.
+ * Provider configuration is bound from the shipped {@code transaction-config.yml}, so lookups run
+ * against the real provider tables.
+ */
+final class BenchmarkFixtures {
+    static final String PROVIDER = "lhv";
+    static final String PAYMENT_RAIL = "SEPA";
+
+    private BenchmarkFixtures() {
+    }
+
+    static TransactionConfigProperties configProperties() {
+        try {
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                    .load("transaction-config", new ClassPathResource("transaction-config.yml"));
+            return new Binder(ConfigurationPropertySources.from(sources))
+                    .bind("transaction", TransactionConfigProperties.class)
+                    .get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static TransactionMetrics metrics() {
+        return new TransactionMetrics(new SimpleMeterRegistry());
+    }
+
+    static TransactionGeneratorService generatorService() {
+        IdGenerators idGenerators = new IdGenerators(new IdGeneratorProperties());
+        return new TransactionGeneratorService(configProperties(), idGenerators,
+                new ReferenceGenerators(new ReferenceProperties(), idGenerators),
+                new ValueDateCalendar(new ValueDateProperties()), metrics(),
+                new PayloadPools(new PayloadProperties()));
+    }
+
+    static TransactionGenerationRequest request(IdStrategy idStrategy, Long seed) {
+        TransactionGenerationRequest request =
+                new TransactionGenerationRequest(PROVIDER, PAYMENT_RAIL, Integer.MAX_VALUE, null);
+        request.setIdStrategy(idStrategy);
+        request.setSeed(seed);
+        return request;
+    }
+
+    /**
+     * An effectively endless run, so each benchmark invocation pulls exactly one transaction
+     * through the same lazy stream the publishers consume.
+     */
+    static Iterator<Transaction> endlessRun(TransactionGeneratorService generatorService,
+                                            TransactionGenerationRequest request) {
+        return generatorService.streamTransactions(request, 0, Integer.MAX_VALUE).iterator();
+    }
+
+    /**
+     * The message converter selected by {@code rabbitmq.message.serializer}.
+     */
+    static MessageConverter messageConverter(String serializer) {
+        Jackson2JsonMessageConverter jackson = new Jackson2JsonMessageConverter();
+        return switch (serializer) {
+            case "jackson" -> new TransactionMessageConverter(null, jackson, metrics());
+            case "streaming" -> new TransactionMessageConverter(new TransactionJsonWriter(), jackson, metrics());
+            case "smile" -> BinaryTransactionConverter.smile(metrics());
+            case "cbor" -> BinaryTransactionConverter.cbor(metrics());
+            case "avro" -> BinaryTransactionConverter.avro(metrics());
+            default -> throw new IllegalArgumentException("Unknown serializer: " + serializer);
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.currencycloud.transactbench.benchmark;
+
+import com.currencycloud.transactbench.config.ProviderConfig;
+import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provider configuration lookup, done once per run and once per job submission.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLookupBenchmark {
+
+    @Param({"lhv:SEPA", "arkea:fps"})
+    private String route;
+
+    private TransactionConfigProperties configProperties;
+    private String provider;
+    private String paymentRail;
+
+    @Setup
+    public void setUp() {
+        configProperties = BenchmarkFixtures.configProperties();
+        provider = route.substring(0, route.indexOf(':'));
+        paymentRail = route.substring(route.indexOf(':') + 1);
+    }
+
+    @Benchmark
+    public ProviderConfig getConfig() {
+        return configProperties.getConfig(provider, paymentRail);
+    }
+}
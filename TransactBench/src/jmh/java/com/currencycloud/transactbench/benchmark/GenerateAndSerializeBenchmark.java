@@ -0,0 +1,53 @@
+package com.currencycloud.transactbench.benchmark;
+
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Everything a publisher worker does for one message before it reaches the channel: pulling the
+ * next transaction from the run's stream and converting it to an AMQP message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerateAndSerializeBenchmark {
+
+    @Param({"jackson", "streaming"})
+    private String serializer;
+
+    private Iterator<Transaction> transactions;
+    private MessageConverter converter;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        transactions = BenchmarkFixtures.endlessRun(BenchmarkFixtures.generatorService(),
+                BenchmarkFixtures.request(IdStrategy.FAST_RANDOM, null));
+        converter = BenchmarkFixtures.messageConverter(serializer);
+    }
+
+    @Benchmark
+    public Message generateAndSerialize() {
+        return converter.toMessage(transactions.next(), new MessageProperties());
+    }
+}
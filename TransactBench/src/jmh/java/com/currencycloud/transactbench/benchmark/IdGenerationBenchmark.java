@@ -0,0 +1,76 @@
+package com.currencycloud.transactbench.benchmark;
+
+import com.currencycloud.transactbench.config.IdGeneratorProperties;
+import com.currencycloud.transactbench.config.ReferenceProperties;
+import com.currencycloud.transactbench.id.IdGenerator;
+import com.currencycloud.transactbench.id.IdGenerators;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.id.ReferenceGenerator;
+import com.currencycloud.transactbench.id.ReferenceGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id and reference generation per strategy. Every transaction takes two ids and one reference.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    @Param({"SECURE_RANDOM", "FAST_RANDOM", "TIME_ORDERED", "NODE_SEQUENCE"})
+    private IdStrategy strategy;
+
+    private IdGenerator ids;
+    private ReferenceGenerator references;
+    private long index;
+
+    @Setup
+    public void setUp() {
+        IdGenerators idGenerators = new IdGenerators(new IdGeneratorProperties());
+        ids = idGenerators.forStrategy(strategy);
+        references = new ReferenceGenerators(new ReferenceProperties(), idGenerators)
+                .forRail(BenchmarkFixtures.PAYMENT_RAIL);
+    }
+
+    @Benchmark
+    public UUID nextId() {
+        return ids.nextId();
+    }
+
+    /**
+     * The id as the generator stores it on the transaction.
+     */
+    @Benchmark
+    public String nextIdString() {
+        return ids.nextId().toString();
+    }
+
+    @Benchmark
+    public String nextReference() {
+        return references.next();
+    }
+
+    /**
+     * The reference of a seeded run, derived from the transaction index.
+     */
+    @Benchmark
+    public String referenceAt() {
+        return references.referenceAt(index++);
+    }
+}
@@ -0,0 +1,76 @@
+package com.currencycloud.transactbench.benchmark;
+
+import com.currencycloud.transactbench.dto.PayloadProfile;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.serialization.TransactionJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing one generated transaction. {@code jackson} and {@code streaming} are the JSON message
+ * converters as the templates call them, headers included, and {@code smile}, {@code cbor} and
+ * {@code avro} the converters of the binary wire formats; {@code object-mapper} and
+ * {@code json-writer} produce the body alone, isolating the JSON encoding. {@code payloadSize}
+ * fills {@code transaction_content} from a fixed payload profile of that many bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"jackson", "streaming", "smile", "cbor", "avro", "object-mapper", "json-writer"})
+    private String serializer;
+
+    @Param({"0", "16384"})
+    private int payloadSize;
+
+    private Transaction transaction;
+    private Serializer serialize;
+
+    @Setup
+    public void setUp() {
+        TransactionGenerationRequest request = BenchmarkFixtures.request(IdStrategy.FAST_RANDOM, 42L);
+        if (payloadSize > 0) {
+            request.setPayloadProfile(PayloadProfile.builder()
+                    .type(PayloadProfile.Type.FIXED).size(payloadSize).build());
+        }
+        transaction = BenchmarkFixtures.endlessRun(BenchmarkFixtures.generatorService(), request).next();
+        serialize = switch (serializer) {
+            case "object-mapper" -> new ObjectMapper()::writeValueAsBytes;
+            case "json-writer" -> new TransactionJsonWriter()::write;
+            default -> {
+                MessageConverter converter = BenchmarkFixtures.messageConverter(serializer);
+                yield value -> converter.toMessage(value, new MessageProperties());
+            }
+        };
+    }
+
+    @Benchmark
+    public Object serialize() throws Exception {
+        return serialize.apply(transaction);
+    }
+
+    @FunctionalInterface
+    private interface Serializer {
+        Object apply(Transaction transaction) throws Exception;
+    }
+}
@@ -0,0 +1,47 @@
+package com.currencycloud.transactbench.benchmark;
+
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building one transaction, for random and seeded runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionGeneratorBenchmark {
+
+    @Param({"false", "true"})
+    private boolean seeded;
+
+    private Iterator<Transaction> transactions;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        transactions = BenchmarkFixtures.endlessRun(BenchmarkFixtures.generatorService(),
+                BenchmarkFixtures.request(IdStrategy.FAST_RANDOM, seeded ? 42L : null));
+    }
+
+    @Benchmark
+    public Transaction buildTransaction() {
+        return transactions.next();
+    }
+}
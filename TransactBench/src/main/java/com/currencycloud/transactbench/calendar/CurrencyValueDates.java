@@ -0,0 +1,31 @@
+package com.currencycloud.transactbench.calendar;
+
+/**
+ * Current value-date table for one currency. Generators keep a reference to this holder for a
+ * whole run and read {@link #current()} per message, so a midnight refresh takes effect
+ * mid-run without any locking.
+ */
+public class CurrencyValueDates {
+    private final String currency;
+    private volatile ValueDateTable table;
+
+    CurrencyValueDates(String currency, ValueDateTable table) {
+        this.currency = currency;
+        this.table = table;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Callers must size and index the same snapshot, since a refresh can swap it at any time.
+     */
+    public ValueDateTable current() {
+        return table;
+    }
+
+    void replace(ValueDateTable table) {
+        this.table = table;
+    }
+}
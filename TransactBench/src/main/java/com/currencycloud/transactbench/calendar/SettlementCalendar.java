@@ -0,0 +1,181 @@
+package com.currencycloud.transactbench.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Non-settlement days of the payment systems behind each generated currency. Weekends are never
+ * business days; the rules below add each system's published holidays, including the weekend
+ * substitution conventions each one follows.
+ */
+public enum SettlementCalendar {
+    /**
+     * TARGET2 (EUR): fixed closing days with no weekend substitution.
+     */
+    TARGET2 {
+        @Override
+        void addHolidays(int year, Set<LocalDate> holidays) {
+            LocalDate easter = easterSunday(year);
+            holidays.add(LocalDate.of(year, Month.JANUARY, 1));
+            holidays.add(easter.minusDays(2));
+            holidays.add(easter.plusDays(1));
+            holidays.add(LocalDate.of(year, Month.MAY, 1));
+            holidays.add(LocalDate.of(year, Month.DECEMBER, 25));
+            holidays.add(LocalDate.of(year, Month.DECEMBER, 26));
+        }
+    },
+    /**
+     * England and Wales bank holidays (GBP); weekend holidays move to the following weekday.
+     */
+    UK {
+        @Override
+        void addHolidays(int year, Set<LocalDate> holidays) {
+            LocalDate easter = easterSunday(year);
+            holidays.add(nextWeekdayIfWeekend(LocalDate.of(year, Month.JANUARY, 1)));
+            holidays.add(easter.minusDays(2));
+            holidays.add(easter.plusDays(1));
+            holidays.add(nthWeekday(year, Month.MAY, DayOfWeek.MONDAY, 1));
+            holidays.add(lastWeekday(year, Month.MAY, DayOfWeek.MONDAY));
+            holidays.add(lastWeekday(year, Month.AUGUST, DayOfWeek.MONDAY));
+            addChristmasAndBoxingDay(year, holidays);
+        }
+    },
+    /**
+     * Federal Reserve (USD): Sunday holidays move to Monday, Saturday holidays are not observed.
+     */
+    FEDWIRE {
+        @Override
+        void addHolidays(int year, Set<LocalDate> holidays) {
+            addFederal(holidays, LocalDate.of(year, Month.JANUARY, 1));
+            holidays.add(nthWeekday(year, Month.JANUARY, DayOfWeek.MONDAY, 3));
+            holidays.add(nthWeekday(year, Month.FEBRUARY, DayOfWeek.MONDAY, 3));
+            holidays.add(lastWeekday(year, Month.MAY, DayOfWeek.MONDAY));
+            addFederal(holidays, LocalDate.of(year, Month.JUNE, 19));
+            addFederal(holidays, LocalDate.of(year, Month.JULY, 4));
+            holidays.add(nthWeekday(year, Month.SEPTEMBER, DayOfWeek.MONDAY, 1));
+            holidays.add(nthWeekday(year, Month.OCTOBER, DayOfWeek.MONDAY, 2));
+            addFederal(holidays, LocalDate.of(year, Month.NOVEMBER, 11));
+            holidays.add(nthWeekday(year, Month.NOVEMBER, DayOfWeek.THURSDAY, 4));
+            addFederal(holidays, LocalDate.of(year, Month.DECEMBER, 25));
+        }
+
+        private void addFederal(Set<LocalDate> holidays, LocalDate date) {
+            if (date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                holidays.add(date.plusDays(1));
+            } else if (date.getDayOfWeek() != DayOfWeek.SATURDAY) {
+                holidays.add(date);
+            }
+        }
+    },
+    /**
+     * Payments Canada (CAD); weekend holidays move to the following weekday.
+     */
+    CANADA {
+        @Override
+        void addHolidays(int year, Set<LocalDate> holidays) {
+            holidays.add(nextWeekdayIfWeekend(LocalDate.of(year, Month.JANUARY, 1)));
+            holidays.add(easterSunday(year).minusDays(2));
+            // Victoria Day: the Monday before 25 May
+            holidays.add(LocalDate.of(year, Month.MAY, 25).with(TemporalAdjusters.previous(DayOfWeek.MONDAY)));
+            holidays.add(nextWeekdayIfWeekend(LocalDate.of(year, Month.JULY, 1)));
+            holidays.add(nthWeekday(year, Month.AUGUST, DayOfWeek.MONDAY, 1));
+            holidays.add(nthWeekday(year, Month.SEPTEMBER, DayOfWeek.MONDAY, 1));
+            if (year >= 2021) {
+                holidays.add(nextWeekdayIfWeekend(LocalDate.of(year, Month.SEPTEMBER, 30)));
+            }
+            holidays.add(nthWeekday(year, Month.OCTOBER, DayOfWeek.MONDAY, 2));
+            holidays.add(nextWeekdayIfWeekend(LocalDate.of(year, Month.NOVEMBER, 11)));
+            addChristmasAndBoxingDay(year, holidays);
+        }
+    },
+    /**
+     * Fallback for currencies without a calendar: every weekday settles.
+     */
+    WEEKENDS_ONLY {
+        @Override
+        void addHolidays(int year, Set<LocalDate> holidays) {
+        }
+    };
+
+    abstract void addHolidays(int year, Set<LocalDate> holidays);
+
+    public static SettlementCalendar forCurrency(String currency) {
+        if (currency == null) {
+            return WEEKENDS_ONLY;
+        }
+        return switch (currency.toUpperCase(Locale.ROOT)) {
+            case "EUR" -> TARGET2;
+            case "GBP" -> UK;
+            case "USD" -> FEDWIRE;
+            case "CAD" -> CANADA;
+            default -> WEEKENDS_ONLY;
+        };
+    }
+
+    static boolean isWeekend(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+    }
+
+    /**
+     * Gregorian Easter Sunday (anonymous Gregorian algorithm).
+     */
+    static LocalDate easterSunday(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = (h + l - 7 * m + 114) % 31 + 1;
+        return LocalDate.of(year, month, day);
+    }
+
+    private static LocalDate nthWeekday(int year, Month month, DayOfWeek day, int n) {
+        return LocalDate.of(year, month, 1).with(TemporalAdjusters.dayOfWeekInMonth(n, day));
+    }
+
+    private static LocalDate lastWeekday(int year, Month month, DayOfWeek day) {
+        return LocalDate.of(year, month, 1).with(TemporalAdjusters.lastInMonth(day));
+    }
+
+    private static LocalDate nextWeekdayIfWeekend(LocalDate date) {
+        return isWeekend(date) ? date.with(TemporalAdjusters.next(DayOfWeek.MONDAY)) : date;
+    }
+
+    /**
+     * Christmas and Boxing Day, each moved to the next free weekday when it falls on a weekend.
+     */
+    private static void addChristmasAndBoxingDay(int year, Set<LocalDate> holidays) {
+        LocalDate christmas = LocalDate.of(year, Month.DECEMBER, 25);
+        switch (christmas.getDayOfWeek()) {
+            case FRIDAY -> {
+                holidays.add(christmas);
+                holidays.add(christmas.plusDays(3));
+            }
+            case SATURDAY -> {
+                holidays.add(christmas.plusDays(2));
+                holidays.add(christmas.plusDays(3));
+            }
+            case SUNDAY -> {
+                holidays.add(christmas.plusDays(1));
+                holidays.add(christmas.plusDays(2));
+            }
+            default -> {
+                holidays.add(christmas);
+                holidays.add(christmas.plusDays(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.currencycloud.transactbench.calendar;
+
+import com.currencycloud.transactbench.config.ValueDateProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Owns the per-currency value-date tables, building each on first use and rebuilding all of them
+ * for the new day at midnight. Seeded runs instead use tables built from a fixed base date, which
+ * are never refreshed.
+ */
+@Component
+@Slf4j
+public class ValueDateCalendar {
+    private final int horizonDays;
+    private final Map<String, Set<LocalDate>> extraHolidays;
+    private final Clock clock;
+    private static final int MAX_FIXED_TABLES = 256;
+
+    private final LocalDate seededBaseDate;
+    private final Map<String, CurrencyValueDates> currencies = new ConcurrentHashMap<>();
+    private final Map<FixedKey, CurrencyValueDates> fixed = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ValueDateCalendar(ValueDateProperties properties) {
+        this(properties, Clock.system(properties.resolveZone()));
+    }
+
+    ValueDateCalendar(ValueDateProperties properties, Clock clock) {
+        if (properties.getHorizonDays() < 1 || properties.getHorizonDays() > 366) {
+            throw new IllegalArgumentException("Value date horizon must be between 1 and 366 days: "
+                    + properties.getHorizonDays());
+        }
+        this.horizonDays = properties.getHorizonDays();
+        this.extraHolidays = properties.getExtraHolidays().entrySet().stream().collect(Collectors.toMap(
+                entry -> entry.getKey().toUpperCase(Locale.ROOT),
+                entry -> entry.getValue().stream().map(LocalDate::parse).collect(Collectors.toUnmodifiableSet())));
+        this.seededBaseDate = properties.getSeededBaseDate();
+        this.clock = clock;
+    }
+
+    public CurrencyValueDates datesFor(String currency) {
+        String key = currency != null ? currency.toUpperCase(Locale.ROOT) : "";
+        return currencies.computeIfAbsent(key, ccy -> new CurrencyValueDates(ccy, buildTable(ccy, LocalDate.now(clock))));
+    }
+
+    /**
+     * Value dates as if today were {@code baseDate}, or the configured seeded base date when it is
+     * {@code null}. The table depends only on the currency and the date, so seeded runs generate
+     * the same value dates on any day.
+     */
+    public CurrencyValueDates datesAt(String currency, LocalDate baseDate) {
+        String key = currency != null ? currency.toUpperCase(Locale.ROOT) : "";
+        LocalDate base = baseDate != null ? baseDate : seededBaseDate;
+        if (fixed.size() >= MAX_FIXED_TABLES) {
+            fixed.clear();
+        }
+        return fixed.computeIfAbsent(new FixedKey(key, base),
+                fixedKey -> new CurrencyValueDates(key, buildTable(key, base)));
+    }
+
+    @Scheduled(cron = "0 0 0 * * *", zone = "${transaction.value-dates.zone:}")
+    public void refresh() {
+        LocalDate today = LocalDate.now(clock);
+        currencies.values().forEach(dates -> {
+            if (!today.equals(dates.current().getToday())) {
+                dates.replace(buildTable(dates.getCurrency(), today));
+            }
+        });
+        log.info("Refreshed value date tables for {} on {}", currencies.keySet(), today);
+    }
+
+    private ValueDateTable buildTable(String currency, LocalDate today) {
+        return ValueDateTable.build(SettlementCalendar.forCurrency(currency),
+                extraHolidays.getOrDefault(currency, Set.of()), today, horizonDays);
+    }
+
+    private record FixedKey(String currency, LocalDate baseDate) {
+    }
+}
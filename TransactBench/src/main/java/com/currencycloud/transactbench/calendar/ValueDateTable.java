@@ -0,0 +1,59 @@
+package com.currencycloud.transactbench.calendar;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Business days after a given date within the value-date horizon, formatted once so picking a
+ * value date is an array index. Tables are immutable; a new one is built for each day.
+ */
+public final class ValueDateTable {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final LocalDate today;
+    private final String[] dates;
+
+    private ValueDateTable(LocalDate today, String[] dates) {
+        this.today = today;
+        this.dates = dates;
+    }
+
+    /**
+     * Builds the table of business days in {@code (today, today + horizonDays]}. If the whole
+     * horizon is closed, the next business day after it is used so there is always a value date.
+     */
+    public static ValueDateTable build(SettlementCalendar calendar, Set<LocalDate> extraHolidays,
+                                       LocalDate today, int horizonDays) {
+        LocalDate last = today.plusDays(horizonDays);
+        Set<LocalDate> holidays = new HashSet<>(extraHolidays);
+        for (int year = today.getYear(); year <= last.getYear() + 1; year++) {
+            calendar.addHolidays(year, holidays);
+        }
+
+        List<String> businessDays = new ArrayList<>(horizonDays);
+        LocalDate date = today.plusDays(1);
+        while (!date.isAfter(last) || businessDays.isEmpty()) {
+            if (!SettlementCalendar.isWeekend(date) && !holidays.contains(date)) {
+                businessDays.add(date.format(DATE_FORMATTER));
+            }
+            date = date.plusDays(1);
+        }
+        return new ValueDateTable(today, businessDays.toArray(String[]::new));
+    }
+
+    public LocalDate getToday() {
+        return today;
+    }
+
+    public int size() {
+        return dates.length;
+    }
+
+    public String dateAt(int index) {
+        return dates[index];
+    }
+}
@@ -0,0 +1,24 @@
+package com.currencycloud.transactbench.capture;
+
+/**
+ * Layout of a capture file. A 16-byte header holds {@link #MAGIC}, the format {@link #VERSION},
+ * the {@link com.currencycloud.transactbench.serialization.WireFormat} of the bodies as a
+ * {@code short} ordinal and the capture's start as epoch milliseconds. Each record that follows is
+ * the body length as an {@code int}, the nanoseconds from the start of the capture to the
+ * message's send as a {@code long}, then the body itself. Values are big-endian. Bodies are never
+ * empty, so a zero length marks the end of the records, such as the zero-filled tail of a file
+ * whose writer did not close.
+ * <p>
+ * A capture is usually one file per publishing worker, all sharing the capture's start, named
+ * {@code <captureId>-<worker>.tbcap}.
+ */
+public final class CaptureFormat {
+    public static final int MAGIC = 0x54424350;
+    public static final short VERSION = 1;
+    public static final int HEADER_BYTES = 16;
+    public static final int RECORD_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    public static final String EXTENSION = ".tbcap";
+
+    private CaptureFormat() {
+    }
+}
@@ -0,0 +1,139 @@
+package com.currencycloud.transactbench.capture;
+
+import com.currencycloud.transactbench.serialization.WireFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a capture file record by record through read-only regions of it mapped into memory.
+ * {@link #body()} is a view of the mapping, so reading copies nothing out of the page cache. A
+ * record cut short at the end of the file, as left by a writer that did not close, ends the
+ * capture, as does a record of length 0: a writer that did not close leaves the rest of its last
+ * mapped region zero-filled. Not thread-safe.
+ */
+public class CaptureReader implements Closeable {
+    private static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private final WireFormat wireFormat;
+    private final long startEpochMillis;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long timestampNanos;
+    private ByteBuffer body;
+
+    public CaptureReader(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize bytes of the file mapped at a time; a record larger than this is mapped
+     *                   whole
+     */
+    public CaptureReader(Path file, int windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.windowSize = windowSize;
+        try {
+            this.fileSize = channel.size();
+            if (fileSize < CaptureFormat.HEADER_BYTES || !map(0, CaptureFormat.HEADER_BYTES)) {
+                throw new IOException("Not a capture file: " + file);
+            }
+            if (window.getInt() != CaptureFormat.MAGIC) {
+                throw new IOException("Not a capture file: " + file);
+            }
+            short version = window.getShort();
+            if (version != CaptureFormat.VERSION) {
+                throw new IOException("Unsupported capture version " + version + " in " + file);
+            }
+            short format = window.getShort();
+            if (format < 0 || format >= WireFormat.values().length) {
+                throw new IOException("Unknown wire format " + format + " in " + file);
+            }
+            this.wireFormat = WireFormat.values()[format];
+            this.startEpochMillis = window.getLong();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return false once the capture has no more complete records
+     */
+    public boolean next() throws IOException {
+        if (!ensure(CaptureFormat.RECORD_HEADER_BYTES)) {
+            return false;
+        }
+        int length = window.getInt(window.position());
+        if (length <= 0 || !ensure(CaptureFormat.RECORD_HEADER_BYTES + length)) {
+            return false;
+        }
+        window.getInt();
+        timestampNanos = window.getLong();
+        body = window.slice(window.position(), length).asReadOnlyBuffer();
+        window.position(window.position() + length);
+        return true;
+    }
+
+    /**
+     * Nanoseconds from the start of the capture to the current record's send.
+     */
+    public long timestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * The current record's body, valid until the next call to {@link #next()}.
+     */
+    public ByteBuffer body() {
+        return body;
+    }
+
+    /**
+     * Wire format of every body in the capture.
+     */
+    public WireFormat getWireFormat() {
+        return wireFormat;
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * Makes sure the next {@code bytes} bytes are mapped, moving the window if they are not.
+     */
+    private boolean ensure(int bytes) throws IOException {
+        if (window.remaining() >= bytes) {
+            return true;
+        }
+        return map(windowStart + window.position(), bytes);
+    }
+
+    private boolean map(long position, int required) throws IOException {
+        if (fileSize - position < required) {
+            return false;
+        }
+        long length = Math.min(fileSize - position, Math.max(windowSize, required));
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        windowStart = position;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        body = null;
+        channel.close();
+    }
+}
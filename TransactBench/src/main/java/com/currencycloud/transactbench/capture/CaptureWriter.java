@@ -0,0 +1,86 @@
+package com.currencycloud.transactbench.capture;
+
+import com.currencycloud.transactbench.serialization.WireFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends records to a capture file through regions of it mapped into memory. An append is a copy
+ * into the page cache, with no system call until a region fills. The file is cut to its written
+ * length on close; it is not forced to disk. Not thread-safe.
+ */
+public class CaptureWriter implements Closeable {
+    private final FileChannel channel;
+    private final int segmentSize;
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    public CaptureWriter(Path file, int segmentSize, long startEpochMillis) throws IOException {
+        this(file, segmentSize, startEpochMillis, WireFormat.JSON);
+    }
+
+    /**
+     * @param format wire format of the bodies that will be appended
+     */
+    public CaptureWriter(Path file, int segmentSize, long startEpochMillis, WireFormat format) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.segmentSize = segmentSize;
+        try {
+            map(CaptureFormat.HEADER_BYTES);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        region.putInt(CaptureFormat.MAGIC);
+        region.putShort(CaptureFormat.VERSION);
+        region.putShort((short) format.ordinal());
+        region.putLong(startEpochMillis);
+    }
+
+    /**
+     * @param sentNanos nanoseconds from the start of the capture to the message's send
+     * @param body      must not be empty, since a zero length marks the end of the capture
+     */
+    public void append(long sentNanos, byte[] body) throws IOException {
+        if (body.length == 0) {
+            throw new IllegalArgumentException("Capture records need a non-empty body");
+        }
+        int length = CaptureFormat.RECORD_HEADER_BYTES + body.length;
+        if (region.remaining() < length) {
+            map(length);
+        }
+        region.putInt(body.length);
+        region.putLong(sentNanos);
+        region.put(body);
+    }
+
+    /**
+     * Bytes written so far, header included.
+     */
+    public long size() {
+        return regionStart + region.position();
+    }
+
+    private void map(int required) throws IOException {
+        if (region != null) {
+            regionStart += region.position();
+        }
+        // Mapping past the end of the file grows it; the unused tail is cut on close
+        region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, Math.max(segmentSize, required));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            long written = size();
+            region = null;
+            channel.truncate(written);
+        }
+    }
+}
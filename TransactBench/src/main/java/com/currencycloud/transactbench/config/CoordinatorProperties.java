@@ -0,0 +1,32 @@
+package com.currencycloud.transactbench.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "transaction.coordinator")
+@Data
+public class CoordinatorProperties {
+
+    /**
+     * Base URLs of the instances a distributed run is split across when the request names none.
+     */
+    private List<URI> workers = new ArrayList<>();
+
+    /**
+     * How far ahead of submission the workers are told to start; it has to cover reaching every
+     * worker.
+     */
+    private Duration startDelay = Duration.ofSeconds(2);
+
+    /**
+     * Connect and read timeout of each call to a worker.
+     */
+    private Duration requestTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,23 @@
+package com.currencycloud.transactbench.config;
+
+import com.currencycloud.transactbench.id.IdStrategy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "transaction.ids")
+@Data
+public class IdGeneratorProperties {
+
+    /**
+     * Strategy used when a request does not choose one.
+     */
+    private IdStrategy strategy = IdStrategy.SECURE_RANDOM;
+
+    /**
+     * This instance's id for NODE_SEQUENCE ids (0-65535). Give every load generator its own;
+     * unset means a random one is picked at startup.
+     */
+    private Integer nodeId;
+}
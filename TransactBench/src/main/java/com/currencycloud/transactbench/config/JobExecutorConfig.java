@@ -0,0 +1,28 @@
+package com.currencycloud.transactbench.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class JobExecutorConfig {
+
+    @Bean(name = "generationJobExecutor")
+    public ThreadPoolTaskExecutor generationJobExecutor(
+            @Value("${transaction.jobs.pool-size:4}") int poolSize,
+            @Value("${transaction.jobs.queue-capacity:100}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("generation-job-");
+        if (virtualThreads) {
+            // Still pooled so pool-size and queue-capacity keep bounding concurrent jobs
+            executor.setThreadFactory(Thread.ofVirtual().name("generation-job-", 0).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
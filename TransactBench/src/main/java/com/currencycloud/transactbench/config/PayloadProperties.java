@@ -0,0 +1,27 @@
+package com.currencycloud.transactbench.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "transaction.payload")
+@Data
+public class PayloadProperties {
+
+    /**
+     * Largest {@code transaction_content} a payload profile may ask for.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(1);
+
+    /**
+     * Distinct sizes pre-generated for a uniform profile; the range is covered in equal steps.
+     */
+    private int uniformSteps = 32;
+
+    /**
+     * Payload pools kept for reuse by later runs; the least recently used is dropped beyond this.
+     */
+    private int cachedPools = 16;
+}
@@ -0,0 +1,52 @@
+package com.currencycloud.transactbench.config;
+
+import com.currencycloud.transactbench.probe.EndToEndLatencyProbe;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Starts the end-to-end latency probe's consumer when {@code transaction.probe.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.probe", name = "enabled", havingValue = "true")
+public class ProbeConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "transaction.probe", name = "declare-queue", havingValue = "true",
+            matchIfMissing = true)
+    public Declarables probeQueue(ProbeProperties probeProperties,
+                                  @Value("${rabbitmq.exchange.name:transaction-exchange}") String exchangeName,
+                                  @Value("${rabbitmq.routing.key:new_transaction_message}") String routingKey) {
+        Queue queue = new Queue(probeProperties.getQueue(), false, false, true);
+        Binding binding = new Binding(queue.getName(), Binding.DestinationType.QUEUE, exchangeName, routingKey, null);
+        return new Declarables(queue, binding);
+    }
+
+    /**
+     * Acks are sent once per batch rather than per message, and prefetch keeps enough messages
+     * buffered on the consumer that it never waits on the broker between batches.
+     */
+    @Bean
+    public SimpleMessageListenerContainer probeListenerContainer(ConnectionFactory connectionFactory,
+                                                                 ProbeProperties probeProperties,
+                                                                 EndToEndLatencyProbe probe) {
+        probeProperties.validate();
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueueNames(probeProperties.getQueue());
+        container.setMessageListener(probe);
+        container.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        container.setConcurrentConsumers(probeProperties.getConsumers());
+        container.setPrefetchCount(probeProperties.getPrefetch());
+        container.setBatchSize(probeProperties.getAckBatchSize());
+        container.setMissingQueuesFatal(false);
+        return container;
+    }
+}
@@ -0,0 +1,48 @@
+package com.currencycloud.transactbench.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Embedded consumer measuring publish-to-consume latency.
+ */
+@Component
+@ConfigurationProperties(prefix = "transaction.probe")
+@Data
+public class ProbeProperties {
+
+    private boolean enabled;
+
+    private String queue = "funds.new_transaction.probe";
+
+    /**
+     * Declare the queue as non-durable and auto-delete, bound to the publishing exchange and
+     * routing key, so the probe receives a copy of every message without taking them from real
+     * consumers. Disable to consume from an existing queue.
+     */
+    private boolean declareQueue = true;
+
+    private int consumers = 1;
+
+    /**
+     * Unacknowledged messages the broker may push to each consumer.
+     */
+    private int prefetch = 500;
+
+    /**
+     * Messages acknowledged together with one ack. Never more than the prefetch.
+     */
+    private int ackBatchSize = 100;
+
+    public void validate() {
+        if (consumers < 1 || prefetch < 1 || ackBatchSize < 1) {
+            throw new IllegalArgumentException("Probe consumers, prefetch and ack batch size must be positive");
+        }
+        if (ackBatchSize > prefetch) {
+            // The broker would stop delivering before a batch filled, leaving each batch to time out
+            throw new IllegalArgumentException(
+                    "Probe ack batch size " + ackBatchSize + " cannot exceed prefetch " + prefetch);
+        }
+    }
+}
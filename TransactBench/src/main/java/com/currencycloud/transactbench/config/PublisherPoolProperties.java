@@ -0,0 +1,86 @@
+package com.currencycloud.transactbench.config;
+
+import com.currencycloud.transactbench.publish.ConfirmMode;
+import com.currencycloud.transactbench.publish.PublishMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "rabbitmq.publisher")
+@Data
+public class PublisherPoolProperties {
+    /**
+     * Most publisher workers a single request or scenario may ask for.
+     */
+    public static final int MAX_REQUEST_WORKERS = 256;
+    private static final int WORKERS_PER_CONNECTION = 4;
+
+    /**
+     * Publishing threads per run. Zero means one per available core.
+     */
+    private int workers;
+
+    /**
+     * AMQP connections shared by the workers. Zero means one per four workers.
+     */
+    private int connections;
+
+    /**
+     * Broker addresses as host:port. Empty means the spring.rabbitmq host and port.
+     */
+    private List<String> addresses = new ArrayList<>();
+
+    private ConfirmMode confirmMode = ConfirmMode.NONE;
+
+    /**
+     * Unconfirmed messages each worker may have outstanding in ASYNC confirm mode.
+     */
+    private int maxInFlight = 1024;
+
+    /**
+     * How long a worker waits for its outstanding confirms once its partition is sent.
+     */
+    private Duration confirmTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Publishing mode used when a request does not choose one.
+     */
+    private PublishMode mode = PublishMode.PER_MESSAGE;
+
+    /**
+     * Messages sent together per channel invocation and confirm wait in BATCH mode.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Longest time a message may wait for its batch to fill in BATCH mode.
+     */
+    private Duration batchLinger = Duration.ofMillis(10);
+
+    public int resolveWorkers() {
+        return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int resolveConnections() {
+        if (connections > 0) {
+            return connections;
+        }
+        return Math.max(1, (resolveWorkers() + WORKERS_PER_CONNECTION - 1) / WORKERS_PER_CONNECTION);
+    }
+
+    /**
+     * Channels each connection keeps cached so every worker assigned to it holds its own, even
+     * when a request asks for more workers than the default. Channels are only opened on demand,
+     * so the cache costs nothing until a run uses it.
+     */
+    public int resolveChannelsPerConnection() {
+        int connectionCount = resolveConnections();
+        int workerCount = Math.max(resolveWorkers(), MAX_REQUEST_WORKERS);
+        return (workerCount + connectionCount - 1) / connectionCount;
+    }
+}
@@ -1,24 +1,68 @@
 package com.currencycloud.transactbench.config;
 
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.probe.SendTimestamps;
+import com.currencycloud.transactbench.publish.PublisherConnectionPool;
+import com.currencycloud.transactbench.serialization.TransactionJsonWriter;
+import com.currencycloud.transactbench.serialization.TransactionMessageConverter;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 public class RabbitMQConfig {
 
+    @Value("${rabbitmq.message.serializer:streaming}")
+    private String serializer = "streaming";
+
+    /**
+     * Transactions are written by the streaming writer unless {@code rabbitmq.message.serializer}
+     * is set to {@code jackson}; both produce identical bodies and headers and both are timed.
+     */
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter jsonMessageConverter(TransactionMetrics metrics) {
+        Jackson2JsonMessageConverter jackson = new Jackson2JsonMessageConverter();
+        if ("jackson".equalsIgnoreCase(serializer)) {
+            return new TransactionMessageConverter(null, jackson, metrics);
+        }
+        if (!"streaming".equalsIgnoreCase(serializer)) {
+            throw new IllegalArgumentException("Unknown rabbitmq.message.serializer: " + serializer);
+        }
+        return new TransactionMessageConverter(new TransactionJsonWriter(), jackson, metrics);
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter jsonMessageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        rabbitTemplate.setMessageConverter(jsonMessageConverter);
+        rabbitTemplate.addBeforePublishPostProcessors(new SendTimestamps());
         return rabbitTemplate;
     }
+
+    @Bean
+    public PublisherConnectionPool publisherConnectionPool(RabbitProperties rabbitProperties,
+                                                           PublisherPoolProperties poolProperties,
+                                                           MessageConverter jsonMessageConverter) {
+        List<String> addresses = poolProperties.getAddresses().isEmpty()
+                ? rabbitProperties.determineAddresses()
+                : poolProperties.getAddresses();
+
+        return new PublisherConnectionPool(
+                addresses,
+                rabbitProperties.determineUsername(),
+                rabbitProperties.determinePassword(),
+                rabbitProperties.determineVirtualHost(),
+                poolProperties.resolveConnections(),
+                poolProperties.resolveChannelsPerConnection(),
+                poolProperties.resolveWorkers(),
+                jsonMessageConverter,
+                poolProperties.getConfirmMode());
+    }
 }
@@ -0,0 +1,24 @@
+package com.currencycloud.transactbench.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceFormat {
+    public static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private String prefix = "REF-";
+
+    /**
+     * Characters after the prefix.
+     */
+    private int length = 8;
+
+    /**
+     * Characters the reference body is drawn from, in digit order.
+     */
+    private String alphabet = ALPHANUMERIC;
+}
@@ -0,0 +1,42 @@
+package com.currencycloud.transactbench.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "transaction.references")
+@Data
+public class ReferenceProperties {
+
+    /**
+     * Format for rails without their own entry in {@link #formats}.
+     */
+    private ReferenceFormat defaultFormat = new ReferenceFormat();
+
+    /**
+     * Formats keyed by payment rail, matched case-insensitively.
+     */
+    private Map<String, ReferenceFormat> formats = new LinkedHashMap<>();
+
+    /**
+     * Where each node records the references it has reserved, so a restart with the same node id
+     * continues after them. Unset keeps the sequence in memory and restarts from the first reference.
+     */
+    private Path stateDirectory;
+
+    /**
+     * References reserved per write to the state file; unused ones are skipped after a restart.
+     */
+    private long reservationBlock = 10_000;
+
+    /**
+     * Start a node's slice over once it is used up instead of failing. References are then unique
+     * only within the last slice-size issued by the node.
+     */
+    private boolean reuseExhausted;
+}
@@ -0,0 +1,20 @@
+package com.currencycloud.transactbench.config;
+
+import com.currencycloud.transactbench.dto.Scenario;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "transaction")
+@Data
+public class ScenarioProperties {
+
+    /**
+     * Named scenarios, by default those in transaction-scenarios.yml.
+     */
+    private Map<String, Scenario> scenarios = new LinkedHashMap<>();
+}
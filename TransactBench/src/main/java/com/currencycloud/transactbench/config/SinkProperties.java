@@ -0,0 +1,70 @@
+package com.currencycloud.transactbench.config;
+
+import com.currencycloud.transactbench.sink.SinkType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "transaction.sinks")
+@Data
+public class SinkProperties {
+
+    /**
+     * Sink used when a request does not choose one.
+     */
+    private SinkType defaultType = SinkType.AMQP;
+
+    private File file = new File();
+
+    private Memory memory = new Memory();
+
+    public void validate() {
+        if (file.segmentSize.toBytes() < 1 || file.segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("File sink segment size must be between 1 byte and 2GB");
+        }
+        if (memory.capacity < 1) {
+            throw new IllegalArgumentException("Memory sink capacity must be positive");
+        }
+        if (memory.maxBytes.toBytes() < 1) {
+            throw new IllegalArgumentException("Memory sink max bytes must be positive");
+        }
+    }
+
+    @Data
+    public static class File {
+
+        /**
+         * Directory the per-worker files of each run are written to.
+         */
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "transactbench");
+
+        /**
+         * Size of each region mapped into memory; a file grows by this much at a time.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Captures last written longer ago than this are deleted when the next run starts writing.
+         */
+        private Duration retention = Duration.ofHours(24);
+    }
+
+    @Data
+    public static class Memory {
+
+        /**
+         * Messages held before the oldest is dropped to make room.
+         */
+        private int capacity = 10_000;
+
+        /**
+         * Message body bytes held before the oldest is dropped to make room.
+         */
+        private DataSize maxBytes = DataSize.ofMegabytes(64);
+    }
+}
@@ -0,0 +1,42 @@
+package com.currencycloud.transactbench.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "transaction.value-dates")
+@Data
+public class ValueDateProperties {
+
+    /**
+     * Value dates fall on business days up to this many calendar days ahead.
+     */
+    private int horizonDays = 90;
+
+    /**
+     * Zone whose midnight starts a new value-date day. Empty means the system zone.
+     */
+    private String zone;
+
+    /**
+     * Additional closing days (yyyy-MM-dd) by currency, on top of the built-in calendars.
+     */
+    private Map<String, List<String>> extraHolidays = new LinkedHashMap<>();
+
+    /**
+     * Day the value dates of seeded runs count from when the request does not give one, so a seed
+     * generates the same dates whatever day it runs on.
+     */
+    private LocalDate seededBaseDate = LocalDate.of(2026, 1, 1);
+
+    public ZoneId resolveZone() {
+        return zone == null || zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+    }
+}
@@ -0,0 +1,83 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.distributed.DistributedRun;
+import com.currencycloud.transactbench.dto.DistributedRunRequest;
+import com.currencycloud.transactbench.dto.DistributedRunResponse;
+import com.currencycloud.transactbench.dto.JobSubmissionResponse;
+import com.currencycloud.transactbench.service.DistributedRunService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/distributed-runs")
+@RequiredArgsConstructor
+@Slf4j
+public class DistributedRunController {
+    private static final String RUNS_PATH = "/api/distributed-runs/";
+
+    private final DistributedRunService runService;
+
+    @PostMapping
+    public ResponseEntity<JobSubmissionResponse> submitRun(@Valid @RequestBody DistributedRunRequest request) {
+        log.info("Received distributed run request for {} transactions, provider: {}, paymentRail: {}",
+                request.getRun().getNumberOfMessages(), request.getRun().getProvider(),
+                request.getRun().getPaymentRail());
+
+        try {
+            DistributedRun run = runService.submit(request);
+            String statusUrl = RUNS_PATH + run.getId();
+            return ResponseEntity.accepted()
+                    .location(URI.create(statusUrl))
+                    .body(new JobSubmissionResponse(run.getId(), statusUrl));
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid distributed run request", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
+        } catch (IllegalStateException e) {
+            log.error("Could not submit distributed run", e);
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+    }
+
+    @GetMapping("/{runId}")
+    public ResponseEntity<DistributedRunResponse> getRun(@PathVariable String runId) {
+        return runService.getStatus(runId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Downloads the merged latency histograms of every worker as an HdrHistogram interval log.
+     * Not found until every worker has finished and the run has been looked at since.
+     */
+    @GetMapping("/{runId}/latency/hlog")
+    public ResponseEntity<StreamingResponseBody> getLatencyLog(@PathVariable String runId) {
+        return runService.getRun(runId)
+                .filter(run -> run.getLatencyReport() != null)
+                .map(run -> {
+                    StreamingResponseBody body = run.getLatencyReport()::writeHdrLog;
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.TEXT_PLAIN)
+                            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                    .filename(runId + "-latency.hlog").build().toString())
+                            .body(body);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
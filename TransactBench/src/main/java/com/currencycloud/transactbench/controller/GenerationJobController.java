@@ -0,0 +1,118 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.dto.JobStatusResponse;
+import com.currencycloud.transactbench.dto.JobSubmissionResponse;
+import com.currencycloud.transactbench.dto.LatencySummary;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.service.GenerationJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/transactions/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class GenerationJobController {
+    private static final String JOBS_PATH = "/api/transactions/jobs/";
+
+    private final GenerationJobService jobService;
+
+    @PostMapping
+    public ResponseEntity<JobSubmissionResponse> submitJob(@Valid @RequestBody TransactionGenerationRequest request) {
+        log.info("Received job request to generate {} transactions for provider: {}, paymentRail: {}",
+                request.getNumberOfMessages(), request.getProvider(), request.getPaymentRail());
+
+        try {
+            GenerationJob job = jobService.submit(request);
+            String statusUrl = JOBS_PATH + job.getId();
+            return ResponseEntity.accepted()
+                    .location(URI.create(statusUrl))
+                    .body(new JobSubmissionResponse(job.getId(), statusUrl));
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid configuration for provider: {}, paymentRail: {}",
+                    request.getProvider(), request.getPaymentRail(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
+        } catch (TaskRejectedException e) {
+            log.warn("Job queue is full, rejecting request", e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobStatusResponse> getJob(@PathVariable String jobId) {
+        return jobService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(JobStatusResponse.from(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Downloads every tracked nacked id of the job, one per line, for reconciliation.
+     */
+    @GetMapping("/{jobId}/nacked-ids")
+    public ResponseEntity<StreamingResponseBody> getNackedIds(@PathVariable String jobId) {
+        return jobService.getJob(jobId)
+                .map(job -> IdDownloads.attachment(jobId + "-nacked.ids", job.nackedIdsSnapshot()::stream))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Downloads every tracked returned id of the job, one per line, for reconciliation.
+     */
+    @GetMapping("/{jobId}/returned-ids")
+    public ResponseEntity<StreamingResponseBody> getReturnedIds(@PathVariable String jobId) {
+        return jobService.getJob(jobId)
+                .map(job -> IdDownloads.attachment(jobId + "-returned.ids", job.returnedIdsSnapshot()::stream))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Downloads the latency percentiles of a finished job as JSON. Not found until the job has
+     * finished.
+     */
+    @GetMapping("/{jobId}/latency")
+    public ResponseEntity<LatencySummary> getLatency(@PathVariable String jobId) {
+        return jobService.getJob(jobId)
+                .filter(job -> job.getLatencyReport() != null)
+                .map(job -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, attachment(jobId + "-latency.json"))
+                        .body(job.getLatencyReport().summary()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Downloads the full latency histograms of a finished job as an HdrHistogram interval log,
+     * one tagged interval per histogram. Not found until the job has finished.
+     */
+    @GetMapping("/{jobId}/latency/hlog")
+    public ResponseEntity<StreamingResponseBody> getLatencyLog(@PathVariable String jobId) {
+        return jobService.getJob(jobId)
+                .filter(job -> job.getLatencyReport() != null)
+                .map(job -> {
+                    StreamingResponseBody body = job.getLatencyReport()::writeHdrLog;
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.TEXT_PLAIN)
+                            .header(HttpHeaders.CONTENT_DISPOSITION, attachment(jobId + "-latency.hlog"))
+                            .body(body);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static String attachment(String filename) {
+        return ContentDisposition.attachment().filename(filename).build().toString();
+    }
+}
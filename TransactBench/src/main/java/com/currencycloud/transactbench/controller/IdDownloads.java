@@ -0,0 +1,42 @@
+package com.currencycloud.transactbench.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Plain-text id downloads, one id per line, written through a bounded buffer as the ids are read
+ * so the body is never materialised.
+ */
+final class IdDownloads {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private IdDownloads() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> attachment(String filename, Supplier<Stream<String>> ids) {
+        StreamingResponseBody body = target -> {
+            OutputStream out = new BufferedOutputStream(target, BUFFER_SIZE);
+            Iterator<String> iterator = ids.get().iterator();
+            while (iterator.hasNext()) {
+                out.write(iterator.next().getBytes(StandardCharsets.UTF_8));
+                out.write('\n');
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,34 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.service.IdLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/transactions/ledgers")
+@RequiredArgsConstructor
+@Slf4j
+public class IdLedgerController {
+    static final String LEDGERS_PATH = "/api/transactions/ledgers/";
+
+    private final IdLedgerService ledgerService;
+
+    /**
+     * Streams the ledger as plain text, one id per line.
+     */
+    @GetMapping("/{ledgerId}")
+    public ResponseEntity<StreamingResponseBody> downloadLedger(@PathVariable String ledgerId) {
+        return ledgerService.getLedger(ledgerId)
+                .map(ledger -> {
+                    log.info("Serving id ledger {} with {} ids", ledger.getId(), ledger.getCount());
+                    return IdDownloads.attachment(ledgerId + ".ids", ledger::ids);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.dto.MemorySinkDrainResponse;
+import com.currencycloud.transactbench.dto.MemorySinkDrainResponse.DrainedMessage;
+import com.currencycloud.transactbench.dto.MemorySinkResponse;
+import com.currencycloud.transactbench.sink.MemoryTransactionSink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Messages held by the memory sink. A run empties the queue when it starts; draining or clearing
+ * it here releases the last run's messages without starting another.
+ */
+@RestController
+@RequestMapping("/api/sinks/memory")
+@RequiredArgsConstructor
+public class MemorySinkController {
+    static final int MAX_DRAIN = 10_000;
+
+    private final MemoryTransactionSink memorySink;
+
+    @GetMapping
+    public ResponseEntity<MemorySinkResponse> getStatus() {
+        return ResponseEntity.ok(status());
+    }
+
+    /**
+     * Removes and returns up to {@code max} of the oldest queued messages, at most
+     * {@value #MAX_DRAIN} per call.
+     */
+    @PostMapping("/drain")
+    public ResponseEntity<MemorySinkDrainResponse> drain(@RequestParam(defaultValue = "100") int max) {
+        if (max < 1 || max > MAX_DRAIN) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Message> drained = new ArrayList<>(Math.min(max, memorySink.size()));
+        memorySink.drainTo(drained, max);
+        List<DrainedMessage> messages = new ArrayList<>(drained.size());
+        for (Message message : drained) {
+            messages.add(new DrainedMessage(message.getMessageProperties().getContentType(), message.getBody()));
+        }
+        return ResponseEntity.ok(new MemorySinkDrainResponse(messages, memorySink.size()));
+    }
+
+    /**
+     * Drops every queued message and resets the dropped count, returning what was held.
+     */
+    @DeleteMapping
+    public ResponseEntity<MemorySinkResponse> clear() {
+        MemorySinkResponse before = status();
+        memorySink.clear();
+        return ResponseEntity.ok(before);
+    }
+
+    private MemorySinkResponse status() {
+        return MemorySinkResponse.builder()
+                .messages(memorySink.size())
+                .bytes(memorySink.getQueuedBytes())
+                .dropped(memorySink.getDroppedCount())
+                .build();
+    }
+}
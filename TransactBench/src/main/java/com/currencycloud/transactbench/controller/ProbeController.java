@@ -0,0 +1,66 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.config.ProbeProperties;
+import com.currencycloud.transactbench.dto.LatencyPercentiles;
+import com.currencycloud.transactbench.dto.ProbeLatencyResponse;
+import com.currencycloud.transactbench.latency.HdrLogs;
+import com.currencycloud.transactbench.probe.EndToEndLatencyProbe;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+/**
+ * End-to-end latency measured by the embedded probe consumer since it started or was last reset.
+ */
+@RestController
+@RequestMapping("/api/probe/latency")
+@RequiredArgsConstructor
+public class ProbeController {
+    private final EndToEndLatencyProbe probe;
+    private final ProbeProperties probeProperties;
+
+    @GetMapping
+    public ResponseEntity<ProbeLatencyResponse> getLatency() {
+        Histogram histogram = probe.snapshot();
+        return ResponseEntity.ok(ProbeLatencyResponse.builder()
+                .enabled(probeProperties.isEnabled())
+                .queue(probeProperties.getQueue())
+                .since(Instant.ofEpochMilli(histogram.getStartTimeStamp()))
+                .unstamped(probe.getUnstampedCount())
+                .endToEnd(LatencyPercentiles.from(histogram))
+                .build());
+    }
+
+    /**
+     * Downloads the end-to-end histogram as an HdrHistogram interval log.
+     */
+    @GetMapping("/hlog")
+    public ResponseEntity<StreamingResponseBody> getLatencyLog() {
+        Histogram histogram = probe.snapshot();
+        StreamingResponseBody body = target -> HdrLogs.write(target, histogram.getStartTimeStamp(), histogram);
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("probe-latency.hlog").build().toString())
+                .body(body);
+    }
+
+    /**
+     * Starts a new measurement, typically right before a run.
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        probe.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
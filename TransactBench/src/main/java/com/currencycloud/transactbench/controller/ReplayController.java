@@ -0,0 +1,60 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.dto.ReplayRequest;
+import com.currencycloud.transactbench.dto.ReplayResponse;
+import com.currencycloud.transactbench.service.ReplayService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Replays captures written by the file sink, as often as needed, at their original pace, scaled
+ * or as fast as possible, and deletes them once they are no longer needed.
+ */
+@RestController
+@RequestMapping("/api/replays")
+@RequiredArgsConstructor
+@Slf4j
+public class ReplayController {
+    private final ReplayService replayService;
+
+    @PostMapping
+    public ResponseEntity<ReplayResponse> replay(@Valid @RequestBody ReplayRequest request) {
+        log.info("Received request to replay capture {}, timing: {}, speed: {}",
+                request.getCaptureId(), request.getTiming(), request.getSpeed());
+        try {
+            return replayService.replay(request)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid replay request for capture {}", request.getCaptureId(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            log.error("Error replaying capture {}", request.getCaptureId(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/captures/{captureId}")
+    public ResponseEntity<Void> deleteCapture(@PathVariable String captureId) {
+        log.info("Received request to delete capture {}", captureId);
+        try {
+            return replayService.deleteCapture(captureId)
+                    ? ResponseEntity.noContent().build()
+                    : ResponseEntity.notFound().build();
+        } catch (IOException e) {
+            log.error("Error deleting capture {}", captureId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.dto.JobSubmissionResponse;
+import com.currencycloud.transactbench.dto.Scenario;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.service.ScenarioService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Multi-phase scenarios, either stored by name in transaction-scenarios.yml or posted inline as
+ * JSON or YAML. Submitted scenarios run as generation jobs and are followed through the job
+ * endpoints, whose status lists every phase.
+ */
+@RestController
+@RequestMapping("/api/scenarios")
+@RequiredArgsConstructor
+@Slf4j
+public class ScenarioController {
+    private static final String JOBS_PATH = "/api/transactions/jobs/";
+    private static final String YAML = "application/yaml";
+
+    private final ScenarioService scenarioService;
+
+    @GetMapping
+    public Map<String, Scenario> getScenarios() {
+        return scenarioService.getScenarios();
+    }
+
+    @GetMapping("/{name}")
+    public ResponseEntity<Scenario> getScenario(@PathVariable String name) {
+        return Optional.ofNullable(scenarioService.getScenarios().get(name))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{name}/jobs")
+    public ResponseEntity<JobSubmissionResponse> submitNamed(@PathVariable String name) {
+        log.info("Received request to run scenario {}", name);
+        if (!scenarioService.getScenarios().containsKey(name)) {
+            return ResponseEntity.notFound().build();
+        }
+        return submit(() -> scenarioService.submit(name));
+    }
+
+    @PostMapping(path = "/jobs", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JobSubmissionResponse> submitInline(@Valid @RequestBody Scenario scenario) {
+        log.info("Received inline scenario with {} phases", scenario.getPhases().size());
+        return submit(() -> scenarioService.submit(scenario));
+    }
+
+    @PostMapping(path = "/jobs", consumes = {YAML, "application/x-yaml", "text/yaml"})
+    public ResponseEntity<JobSubmissionResponse> submitInlineYaml(@RequestBody String yaml) {
+        log.info("Received inline YAML scenario");
+        return submit(() -> scenarioService.submit(ScenarioService.parse(yaml)));
+    }
+
+    private static ResponseEntity<JobSubmissionResponse> submit(Supplier<GenerationJob> submission) {
+        try {
+            GenerationJob job = submission.get();
+            String statusUrl = JOBS_PATH + job.getId();
+            return ResponseEntity.accepted()
+                    .location(URI.create(statusUrl))
+                    .body(new JobSubmissionResponse(job.getId(), statusUrl));
+
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid scenario", e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
+        } catch (TaskRejectedException e) {
+            log.warn("Job queue is full, rejecting scenario", e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
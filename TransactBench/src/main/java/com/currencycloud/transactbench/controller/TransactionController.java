@@ -1,27 +1,57 @@
 package com.currencycloud.transactbench.controller;
 
+import com.currencycloud.transactbench.dataset.DatasetChecksum;
+import com.currencycloud.transactbench.dto.IdLedgerDescriptor;
+import com.currencycloud.transactbench.dto.IdResponseMode;
 import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
 import com.currencycloud.transactbench.dto.TransactionGenerationResponse;
+import com.currencycloud.transactbench.id.IdList;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.model.IdLedger;
 import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.service.IdLedgerService;
 import com.currencycloud.transactbench.service.TransactionGeneratorService;
 import com.currencycloud.transactbench.service.TransactionPublisherService;
+import com.currencycloud.transactbench.sink.SinkType;
+import com.currencycloud.transactbench.sink.TransactionSinks;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/transactions")
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionController {
+    private static final byte[] ID_LINE_START = "{\"transactionId\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ID_LINE_END = "\"}\n".getBytes(StandardCharsets.UTF_8);
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final TransactionGeneratorService generatorService;
     private final TransactionPublisherService publisherService;
+    private final IdLedgerService ledgerService;
+    private final ObjectMapper objectMapper;
+    private final TransactionSinks sinks;
+
+    @Value("${transaction.streaming.threshold:10000}")
+    private int streamingThreshold = 10000;
 
     @PostMapping("/generate")
     public ResponseEntity<TransactionGenerationResponse> generateTransactions(
@@ -31,25 +61,31 @@ public class TransactionController {
           request.getNumberOfMessages(), request.getProvider(), request.getPaymentRail(), request.getTransactionId());
 
       try {
+            generatorService.validateIndexRange(request);
+            if (request.getNumberOfMessages() >= streamingThreshold || request.getLoadProfile() != null) {
+                return ResponseEntity.status(HttpStatus.CREATED).body(streamTransactions(request));
+            }
+
             // Generate transactions
-            List<Transaction> transactions = generatorService.generateTransactions(
-                    request.getProvider(),
-                    request.getPaymentRail(),
-                    request.getNumberOfMessages(),
-                    request.getTransactionId()
-            );
+            List<Transaction> transactions = generatorService.generateTransactions(request);
 
-            // Publish to RabbitMQ
-            publisherService.publishTransactions(transactions);
+            // Publish to the requested sink
+            PublishRun run = publishRun(request);
+            publisherService.publishTransactions(transactions, run);
 
-            // Extract transaction IDs for response
-            List<String> transactionIds = transactions.stream()
-                    .map(Transaction::getId)
-                    .collect(Collectors.toList());
+            // Extract transaction IDs for response, unless a seeded compact ledger can replay them
+            IdList transactionIds = retainsIds(request) ? idsOf(transactions) : null;
 
-            TransactionGenerationResponse response = new TransactionGenerationResponse(transactionIds);
+            TransactionGenerationResponse response = idResponse(request, transactionIds, transactions.size());
+            response.setCaptureId(captureIdOf(run));
+            if (request.getSeed() != null) {
+                DatasetChecksum checksum = new DatasetChecksum();
+                transactions.forEach(checksum::add);
+                response.setSeed(request.getSeed());
+                response.setChecksum(checksum.value());
+            }
 
-            log.info("Successfully generated and published {} transactions", transactionIds.size());
+            log.info("Successfully generated and published {} transactions", transactions.size());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
         } catch (IllegalArgumentException e) {
@@ -62,4 +98,162 @@ public class TransactionController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * Streams the ids as newline-delimited JSON while the run is published, so the response never
+     * holds more than a buffer of them. Each id is a {@code {"transactionId":...}} line and the
+     * last line is the usual response without the id list, or an {@code {"error":...}} line if the
+     * run failed part way. Closing the connection stops the run.
+     */
+    @PostMapping(value = "/generate/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> generateTransactionStream(
+            @Valid @RequestBody TransactionGenerationRequest request) {
+
+        log.info("Received request to stream {} transactions for provider: {}, paymentRail: {}, transactionId: {}",
+                request.getNumberOfMessages(), request.getProvider(), request.getPaymentRail(),
+                request.getTransactionId());
+
+        LoadPacer pacer;
+        Stream<Transaction> transactions;
+        try {
+            pacer = LoadPacer.forProfile(request.getLoadProfile());
+            generatorService.validateIndexRange(request);
+            transactions = generatorService.streamTransactions(request, 0, request.getNumberOfMessages());
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid configuration for provider: {}, paymentRail: {}",
+                    request.getProvider(), request.getPaymentRail(), e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        StreamingResponseBody body = out -> writeIdStream(request, transactions, pacer, out);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeIdStream(TransactionGenerationRequest request, Stream<Transaction> transactions,
+                               LoadPacer pacer, OutputStream target) throws IOException {
+        OutputStream out = new BufferedOutputStream(target, STREAM_BUFFER_SIZE);
+        DatasetChecksum checksum = request.getSeed() != null ? new DatasetChecksum() : null;
+        PublishRun run = publishRun(request);
+        long published;
+        try {
+            published = publisherService.publishTransactionStream(transactions, pacer, run,
+                    transaction -> {
+                        writeIdLine(out, transaction.getId(), pacer.isPaced());
+                        if (checksum != null) {
+                            checksum.add(transaction);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            log.warn("Client disconnected from id stream, run stopped", e);
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            log.error("Error streaming transactions", e);
+            out.write(objectMapper.writeValueAsBytes(Map.of("error", String.valueOf(e.getMessage()))));
+            out.write('\n');
+            out.flush();
+            return;
+        }
+
+        TransactionGenerationResponse summary = new TransactionGenerationResponse();
+        summary.setCount(published);
+        summary.setPacing(pacer.isPaced() ? pacer.report() : null);
+        summary.setCaptureId(captureIdOf(run));
+        if (checksum != null) {
+            summary.setSeed(request.getSeed());
+            summary.setChecksum(checksum.value());
+        }
+        out.write(objectMapper.writeValueAsBytes(summary));
+        out.write('\n');
+        out.flush();
+        log.info("Successfully streamed and published {} transactions", published);
+    }
+
+    private static void writeIdLine(OutputStream out, String id, boolean flush) {
+        try {
+            out.write(ID_LINE_START);
+            out.write(id.getBytes(StandardCharsets.UTF_8));
+            out.write(ID_LINE_END);
+            if (flush) {
+                // Paced runs are slow enough that callers should see each id as it is published
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private TransactionGenerationResponse streamTransactions(TransactionGenerationRequest request) {
+        // Generation and publishing overlap, so only the ids are retained for the response
+        LoadPacer pacer = LoadPacer.forProfile(request.getLoadProfile());
+        IdList transactionIds = retainsIds(request) ? new IdList() : null;
+        DatasetChecksum checksum = request.getSeed() != null ? new DatasetChecksum() : null;
+        PublishRun run = publishRun(request);
+        long published = publisherService.publishTransactionStream(
+                generatorService.streamTransactions(request, 0, request.getNumberOfMessages()),
+                pacer,
+                run,
+                transaction -> {
+                    if (transactionIds != null) {
+                        transactionIds.add(transaction.getId());
+                    }
+                    if (checksum != null) {
+                        checksum.add(transaction);
+                    }
+                }
+        );
+
+        log.info("Successfully streamed and published {} transactions", published);
+        TransactionGenerationResponse response = idResponse(request, transactionIds, published);
+        response.setPacing(pacer.isPaced() ? pacer.report() : null);
+        response.setCaptureId(captureIdOf(run));
+        if (checksum != null) {
+            response.setSeed(request.getSeed());
+            response.setChecksum(checksum.value());
+        }
+        return response;
+    }
+
+    /**
+     * Seeded runs can replay their ids from the seed, so a compact response does not need to keep
+     * them at all.
+     */
+    private static boolean retainsIds(TransactionGenerationRequest request) {
+        return request.getIdResponseMode() != IdResponseMode.COMPACT || request.getSeed() == null;
+    }
+
+    private static PublishRun publishRun(TransactionGenerationRequest request) {
+        return PublishRun.builder().sink(request.getSink()).wireFormat(request.getWireFormat()).build();
+    }
+
+    /**
+     * The id to replay or delete the run's capture by, for runs written to the file sink.
+     */
+    private String captureIdOf(PublishRun run) {
+        return sinks.resolve(run.getSink()) == SinkType.FILE ? run.getId() : null;
+    }
+
+    private static IdList idsOf(List<Transaction> transactions) {
+        IdList ids = new IdList();
+        transactions.forEach(transaction -> ids.add(transaction.getId()));
+        return ids;
+    }
+
+    private TransactionGenerationResponse idResponse(TransactionGenerationRequest request, IdList transactionIds,
+                                                     long count) {
+        if (request.getIdResponseMode() != IdResponseMode.COMPACT) {
+            return new TransactionGenerationResponse(transactionIds);
+        }
+
+        IdLedger ledger = transactionIds != null
+                ? ledgerService.record(transactionIds)
+                : ledgerService.replay(count, () -> generatorService.streamIds(request, 0, (int) count));
+        TransactionGenerationResponse response = new TransactionGenerationResponse();
+        response.setCount(count);
+        long firstIndex = request.getFirstIndex() != null ? request.getFirstIndex() : 0;
+        response.setIdLedger(new IdLedgerDescriptor(ledger.getId(), firstIndex,
+                IdLedgerController.LEDGERS_PATH + ledger.getId()));
+        return response;
+    }
 }
@@ -0,0 +1,118 @@
+package com.currencycloud.transactbench.dataset;
+
+import com.currencycloud.transactbench.model.Account;
+import com.currencycloud.transactbench.model.Sender;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PooledPayload;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Order-independent digest of a generated dataset: the wrapping sum of a 64-bit hash of every
+ * transaction. Workers add concurrently in any order and the same dataset always sums to the same
+ * value.
+ */
+public class DatasetChecksum {
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final LongAdder sum = new LongAdder();
+
+    public void add(Transaction transaction) {
+        sum.add(hash(transaction));
+    }
+
+    /**
+     * The checksum as 16 lower-case hex digits.
+     */
+    public String value() {
+        return String.format("%016x", sum.sum());
+    }
+
+    /**
+     * Checksum of a dataset generated in parts, from the checksums of the parts. Sums wrap, so
+     * this equals the checksum of the whole dataset generated in one place.
+     */
+    public static String combine(Collection<String> checksums) {
+        long sum = 0;
+        for (String checksum : checksums) {
+            sum += Long.parseUnsignedLong(checksum, 16);
+        }
+        return String.format("%016x", sum);
+    }
+
+    static long hash(Transaction transaction) {
+        long h = FNV_OFFSET;
+        h = hash(h, transaction.getId());
+        h = hash(h, transaction.getVersion());
+        h = hash(h, transaction.getCreditDebit());
+        h = hash(h, transaction.getAmount());
+        h = hash(h, transaction.getCurrency());
+        h = hash(h, transaction.getValueDate());
+        h = hash(h, transaction.getTrackingId());
+        h = hash(h, transaction.getReference());
+        h = hash(h, transaction.getPaymentRail());
+        h = hash(h, transaction.getProvider());
+        h = hash(h, transaction.getOriginAccount());
+        h = hash(h, transaction.getDestinationAccount());
+        h = hash(h, transaction.getSender());
+        h = hashContent(h, transaction.getTransactionContent());
+        // Spread the FNV state so the sum does not cancel structured differences
+        return DatasetRandom.mix64(h);
+    }
+
+    private static long hashContent(long h, Object content) {
+        if (content instanceof PooledPayload payload) {
+            // Pooled content is a function of its size alone, so the size stands in for the text
+            h = (h ^ 0x2FF) * FNV_PRIME;
+            return hash(h, payload.size(), false);
+        }
+        return hash(h, content != null ? content.toString() : null);
+    }
+
+    private static long hash(long h, Account account) {
+        if (account == null) {
+            return hash(h, (String) null);
+        }
+        h = hash(h, account.getAccountNumber());
+        h = hash(h, account.getBic());
+        return hash(h, account.getIban());
+    }
+
+    private static long hash(long h, Sender sender) {
+        if (sender == null) {
+            return hash(h, (String) null);
+        }
+        h = hash(h, sender.getFreeText());
+        h = hash(h, sender.getName());
+        h = hash(h, sender.getUltimateSenderName());
+        h = hash(h, sender.getAddress());
+        return hash(h, sender.getCountry());
+    }
+
+    private static long hash(long h, Integer value) {
+        return hash(h, value != null ? value : Integer.MIN_VALUE, value == null);
+    }
+
+    private static long hash(long h, int value, boolean isNull) {
+        h = (h ^ (isNull ? 1 : 0)) * FNV_PRIME;
+        for (int shift = 0; shift < 32; shift += 8) {
+            h = (h ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    private static long hash(long h, String value) {
+        if (value == null) {
+            return (h ^ 0x1FF) * FNV_PRIME;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            h = (h ^ (c & 0xFF)) * FNV_PRIME;
+            h = (h ^ (c >>> 8)) * FNV_PRIME;
+        }
+        // Field separator, so adjacent fields cannot trade characters
+        return (h ^ 0x100) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,57 @@
+package com.currencycloud.transactbench.dataset;
+
+import java.util.UUID;
+
+/**
+ * Counter-based random source for reproducible runs. The values for each transaction come from a
+ * SplitMix64 sequence keyed by the run seed and the transaction's position in the run, so a seed
+ * always yields the same dataset however the run is split across threads and in whatever order
+ * the partitions are consumed.
+ *
+ * <p>Instances are cheap and not thread-safe; every partition stream holds its own and
+ * repositions it with {@link #at(long)} before each transaction.
+ */
+public class DatasetRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private long state;
+
+    public DatasetRandom(long seed) {
+        this.seed = seed;
+        this.state = mix64(seed);
+    }
+
+    /**
+     * Moves to the start of the sequence for the transaction at {@code index} in the run.
+     */
+    public DatasetRandom at(long index) {
+        state = mix64(seed ^ mix64(index * GOLDEN_GAMMA + GOLDEN_GAMMA));
+        return this;
+    }
+
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Uniform value in [0, bound) using the high 32 bits, which is unbiased enough for the small
+     * bounds used in generation.
+     */
+    public int nextInt(int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    public UUID nextUuid() {
+        long mostSigBits = (nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
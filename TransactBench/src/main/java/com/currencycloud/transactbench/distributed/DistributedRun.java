@@ -0,0 +1,48 @@
+package com.currencycloud.transactbench.distributed;
+
+import com.currencycloud.transactbench.latency.LatencyReport;
+import lombok.Getter;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A run split across several instances: which worker runs which share, as which job. Progress is
+ * read from the workers on demand; only the merged latency histograms are kept, once every worker
+ * has finished.
+ */
+@Getter
+public class DistributedRun {
+    private final String id;
+    private final long requestedCount;
+    private final Long seed;
+    private final Instant startAt;
+    private final List<WorkerJob> workers;
+    private final Instant createdAt = Instant.now();
+    private volatile Instant finishedAt;
+    private volatile LatencyReport latencyReport;
+
+    public DistributedRun(String id, long requestedCount, Long seed, Instant startAt, List<WorkerJob> workers) {
+        this.id = id;
+        this.requestedCount = requestedCount;
+        this.seed = seed;
+        this.startAt = startAt;
+        this.workers = List.copyOf(workers);
+    }
+
+    public void finish(LatencyReport report) {
+        latencyReport = report;
+        finishedAt = Instant.now();
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    /**
+     * The share of the run one worker was given and the job it runs it as.
+     */
+    public record WorkerJob(URI worker, String jobId, long firstIndex, long count) {
+    }
+}
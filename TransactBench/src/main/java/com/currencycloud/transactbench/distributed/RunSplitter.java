@@ -0,0 +1,83 @@
+package com.currencycloud.transactbench.distributed;
+
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.id.NodeSequenceIdGenerator;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits one run into the requests of the instances taking part in it. Each share covers a
+ * contiguous range of the run's transaction indexes and keeps the seed, so a seeded run generates
+ * exactly the dataset it would on a single instance. Rates are scaled by each share's part of the
+ * count, so every instance finishes at about the same time and together they run at the requested
+ * rate; a sum of Poisson arrivals is itself Poisson, so that profile splits exactly too.
+ * <p>
+ * Shares of an unseeded run are each given their own node id, counting up from the first one, so
+ * their node sequence ids and references cannot collide whatever node ids the workers have.
+ */
+public final class RunSplitter {
+
+    private RunSplitter() {
+    }
+
+    /**
+     * One request per instance, at most {@code instances} of them and never an empty share. Every
+     * share starts at {@code startAt}; shares of an unseeded run get node ids from {@code firstNodeId} up.
+     */
+    public static List<TransactionGenerationRequest> split(TransactionGenerationRequest request, int instances,
+                                                           Instant startAt, int firstNodeId) {
+        if (instances < 1) {
+            throw new IllegalArgumentException("A distributed run needs at least one worker");
+        }
+        if (request.getTransactionId() != null) {
+            throw new IllegalArgumentException("A single-transaction run cannot be distributed");
+        }
+        long total = request.getNumberOfMessages();
+        int shares = (int) Math.max(1, Math.min(instances, total));
+        long share = total / shares;
+        long remainder = total % shares;
+        long baseIndex = request.getFirstIndex() != null ? request.getFirstIndex() : 0;
+        boolean assignNodeIds = request.getSeed() == null;
+        if (assignNodeIds && (firstNodeId < 0 || firstNodeId + shares - 1 > NodeSequenceIdGenerator.MAX_NODE_ID)) {
+            throw new IllegalArgumentException("Node ids " + firstNodeId + " to " + (firstNodeId + shares - 1)
+                    + " are not all between 0 and " + NodeSequenceIdGenerator.MAX_NODE_ID);
+        }
+
+        List<TransactionGenerationRequest> requests = new ArrayList<>(shares);
+        long firstIndex = baseIndex;
+        for (int i = 0; i < shares; i++) {
+            int count = (int) (share + (i < remainder ? 1 : 0));
+            requests.add(request.toBuilder()
+                    .numberOfMessages(count)
+                    .firstIndex(firstIndex)
+                    .startAt(startAt)
+                    .nodeId(assignNodeIds ? Integer.valueOf(firstNodeId + i) : request.getNodeId())
+                    .loadProfile(scaled(request.getLoadProfile(), (double) count / total))
+                    .build());
+            firstIndex += count;
+        }
+        return requests;
+    }
+
+    /**
+     * The profile with every rate scaled by {@code fraction}; durations and intervals are kept.
+     */
+    static LoadProfile scaled(LoadProfile profile, double fraction) {
+        if (profile == null) {
+            return null;
+        }
+        return profile.toBuilder()
+                .rate(scale(profile.getRate(), fraction))
+                .startRate(scale(profile.getStartRate(), fraction))
+                .stepIncrement(scale(profile.getStepIncrement(), fraction))
+                .burstRate(scale(profile.getBurstRate(), fraction))
+                .build();
+    }
+
+    private static Double scale(Double rate, double fraction) {
+        return rate != null ? rate * fraction : null;
+    }
+}
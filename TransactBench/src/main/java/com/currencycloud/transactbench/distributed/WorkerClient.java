@@ -0,0 +1,83 @@
+package com.currencycloud.transactbench.distributed;
+
+import com.currencycloud.transactbench.config.CoordinatorProperties;
+import com.currencycloud.transactbench.dto.JobStatusResponse;
+import com.currencycloud.transactbench.dto.JobSubmissionResponse;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.latency.HdrLogs;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Talks to the job API of the instances taking part in a distributed run. Workers are ordinary
+ * instances; a run's share is submitted to them as a plain generation job.
+ */
+@Component
+public class WorkerClient {
+    static final String JOBS_PATH = "/api/transactions/jobs";
+
+    private final RestClient restClient;
+
+    @Autowired
+    public WorkerClient(RestClient.Builder builder, CoordinatorProperties properties) {
+        this(builder.requestFactory(requestFactory(properties)).build());
+    }
+
+    WorkerClient(RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    /**
+     * Submits a share of the run and returns the worker's job id.
+     */
+    public String submit(URI worker, TransactionGenerationRequest request) {
+        JobSubmissionResponse response = restClient.post()
+                .uri(jobUri(worker, ""))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(JobSubmissionResponse.class);
+        if (response == null || response.getJobId() == null) {
+            throw new IllegalStateException("Worker " + worker + " accepted the run without a job id");
+        }
+        return response.getJobId();
+    }
+
+    public JobStatusResponse status(URI worker, String jobId) {
+        return restClient.get()
+                .uri(jobUri(worker, "/" + jobId))
+                .retrieve()
+                .body(JobStatusResponse.class);
+    }
+
+    /**
+     * The tagged latency histograms of a finished job.
+     */
+    public List<Histogram> latency(URI worker, String jobId) {
+        byte[] log = restClient.get()
+                .uri(jobUri(worker, "/" + jobId + "/latency/hlog"))
+                .retrieve()
+                .body(byte[].class);
+        return log != null ? HdrLogs.read(new ByteArrayInputStream(log)) : List.of();
+    }
+
+    private static URI jobUri(URI worker, String suffix) {
+        return UriComponentsBuilder.fromUri(worker).path(JOBS_PATH + suffix).build().toUri();
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(CoordinatorProperties properties) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(properties.getRequestTimeout());
+        factory.setReadTimeout(properties.getRequestTimeout());
+        return factory;
+    }
+}
@@ -0,0 +1,25 @@
+package com.currencycloud.transactbench.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.net.URI;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistributedRunRequest {
+
+    @NotNull(message = "Run is required")
+    @Valid
+    private TransactionGenerationRequest run;
+
+    /**
+     * Base URLs of the instances to split the run across; the configured workers when absent.
+     */
+    private List<URI> workers;
+}
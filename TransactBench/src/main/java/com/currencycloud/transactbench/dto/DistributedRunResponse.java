@@ -0,0 +1,76 @@
+package com.currencycloud.transactbench.dto;
+
+import com.currencycloud.transactbench.model.JobStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress of a distributed run: the counters and rates of every worker added up, and the status
+ * of each worker's job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistributedRunResponse {
+    private String runId;
+    private JobStatus status;
+    private long requested;
+    private long generated;
+    private long published;
+    private long confirmed;
+    private long nacked;
+    private long returned;
+    private double currentRate;
+    private double averageRate;
+    private Instant createdAt;
+    private Instant startAt;
+    private Instant finishedAt;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long seed;
+
+    /**
+     * Dataset checksum of a seeded run once every worker has completed; the same as running it on
+     * one instance.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String checksum;
+
+    /**
+     * Latency percentiles of the workers' merged histograms, available once every worker has
+     * finished.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LatencySummary latency;
+
+    private List<WorkerStatus> workers;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WorkerStatus {
+        private URI worker;
+        private String jobId;
+        private long firstIndex;
+        private long count;
+
+        /**
+         * Null while the worker cannot be reached.
+         */
+        private JobStatus status;
+
+        private long published;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String error;
+    }
+}
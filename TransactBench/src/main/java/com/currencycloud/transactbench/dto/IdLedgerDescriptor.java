@@ -0,0 +1,17 @@
+package com.currencycloud.transactbench.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Where to download the ids of a compact response, and which run indexes they cover.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdLedgerDescriptor {
+    private String ledgerId;
+    private long firstIndex;
+    private String url;
+}
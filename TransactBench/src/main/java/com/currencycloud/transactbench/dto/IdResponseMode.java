@@ -0,0 +1,8 @@
+package com.currencycloud.transactbench.dto;
+
+public enum IdResponseMode {
+    /** Every generated id is listed in the response body. */
+    INLINE,
+    /** The response describes the id range and links to a downloadable id ledger instead. */
+    COMPACT
+}
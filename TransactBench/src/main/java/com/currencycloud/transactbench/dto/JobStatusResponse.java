@@ -0,0 +1,105 @@
+package com.currencycloud.transactbench.dto;
+
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.scenario.PhaseProgress;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusResponse {
+    private String jobId;
+    private JobStatus status;
+    private String provider;
+    private String paymentRail;
+    private long requested;
+    private long generated;
+    private long published;
+    private long confirmed;
+    private long nacked;
+    private long returned;
+    private double averageConfirmLatencyMicros;
+    private double maxConfirmLatencyMicros;
+    private double currentRate;
+    private double averageRate;
+    private Long etaSeconds;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+    private List<String> nackedTransactionIds;
+    private List<String> returnedTransactionIds;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PacingReport pacing;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long seed;
+
+    /**
+     * Dataset checksum of a seeded run, available once the job has completed.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String checksum;
+
+    /**
+     * Latency percentiles of the run, available once the job has finished.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LatencySummary latency;
+
+    /**
+     * Payload sizes and serialization times of the run, available once the job has finished.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private SerializationSummary serialization;
+
+    /**
+     * Per-phase statistics of a scenario job, in phase order.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<PhaseReport> phases;
+
+    public static JobStatusResponse from(GenerationJob job) {
+        return JobStatusResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .provider(job.getProvider())
+                .paymentRail(job.getPaymentRail())
+                .requested(job.getRequestedCount())
+                .generated(job.getGeneratedCount())
+                .published(job.getPublishedCount())
+                .confirmed(job.getConfirmedCount())
+                .nacked(job.getNackedCount())
+                .returned(job.getReturnedCount())
+                .averageConfirmLatencyMicros(job.averageConfirmLatencyMicros())
+                .maxConfirmLatencyMicros(job.maxConfirmLatencyMicros())
+                .currentRate(job.currentRate())
+                .averageRate(job.averageRate())
+                .etaSeconds(job.etaSeconds())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .error(job.getError())
+                .nackedTransactionIds(job.getNackedTransactionIds())
+                .returnedTransactionIds(job.getReturnedTransactionIds())
+                .pacing(job.getPacer().isPaced() ? job.getPacer().report() : null)
+                .seed(job.getSeed())
+                .checksum(job.getChecksum())
+                .latency(job.getLatencyReport() != null ? job.getLatencyReport().summary() : null)
+                .serialization(job.getSerializationSummary())
+                .phases(job.getPhases() != null
+                        ? job.getPhases().stream().map(PhaseProgress::report).toList()
+                        : null)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.currencycloud.transactbench.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSubmissionResponse {
+    private String jobId;
+    private String statusUrl;
+}
@@ -0,0 +1,43 @@
+package com.currencycloud.transactbench.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyPercentiles {
+    private long count;
+    private double p50Micros;
+    private double p90Micros;
+    private double p99Micros;
+    private double p999Micros;
+    private double maxMicros;
+    private double meanMicros;
+
+    /**
+     * Percentiles of a histogram of nanosecond values, or {@code null} for no histogram.
+     */
+    public static LatencyPercentiles from(Histogram histogram) {
+        if (histogram == null) {
+            return null;
+        }
+        return LatencyPercentiles.builder()
+                .count(histogram.getTotalCount())
+                .p50Micros(micros(histogram.getValueAtPercentile(50.0)))
+                .p90Micros(micros(histogram.getValueAtPercentile(90.0)))
+                .p99Micros(micros(histogram.getValueAtPercentile(99.0)))
+                .p999Micros(micros(histogram.getValueAtPercentile(99.9)))
+                .maxMicros(micros(histogram.getMaxValue()))
+                .meanMicros(histogram.getTotalCount() > 0 ? histogram.getMean() / 1000.0 : 0.0)
+                .build();
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.currencycloud.transactbench.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latency percentiles of a run. The corrected figures are measured from each message's intended
+ * send time and are only reported for rate-controlled runs.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencySummary {
+    private boolean correctedForCoordinatedOmission;
+    private LatencyPercentiles publish;
+    private LatencyPercentiles confirm;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LatencyPercentiles publishCorrected;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LatencyPercentiles confirmCorrected;
+}
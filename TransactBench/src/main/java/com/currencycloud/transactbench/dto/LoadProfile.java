@@ -0,0 +1,63 @@
+package com.currencycloud.transactbench.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Open-loop arrival pattern for a run. {@code rate} is the steady target in messages per second;
+ * the remaining fields only apply to the profile types that mention them.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadProfile {
+
+    public enum Type {
+        /** Evenly spaced messages at {@code rate}. */
+        CONSTANT,
+        /** Linear ramp from {@code startRate} to {@code rate} over {@code rampSeconds}, then constant. */
+        RAMP,
+        /** Starts at {@code startRate} and adds {@code stepIncrement} every {@code stepSeconds} up to {@code rate}. */
+        STEP,
+        /** Exponentially distributed inter-arrival times with mean rate {@code rate}. */
+        POISSON,
+        /** Runs at {@code rate} and spikes to {@code burstRate} for the last {@code burstSeconds} of every {@code burstIntervalSeconds}. */
+        BURST
+    }
+
+    @NotNull(message = "Load profile type is required")
+    private Type type;
+
+    @NotNull(message = "Rate is required")
+    @Positive(message = "Rate must be positive")
+    private Double rate;
+
+    @Positive(message = "Start rate must be positive")
+    private Double startRate;
+
+    @Positive(message = "Ramp seconds must be positive")
+    private Double rampSeconds;
+
+    @Positive(message = "Step increment must be positive")
+    private Double stepIncrement;
+
+    @Positive(message = "Step seconds must be positive")
+    private Double stepSeconds;
+
+    @Positive(message = "Burst rate must be positive")
+    private Double burstRate;
+
+    @Positive(message = "Burst seconds must be positive")
+    private Double burstSeconds;
+
+    @Positive(message = "Burst interval seconds must be positive")
+    private Double burstIntervalSeconds;
+
+    @Positive(message = "Duration seconds must be positive")
+    private Double durationSeconds;
+}
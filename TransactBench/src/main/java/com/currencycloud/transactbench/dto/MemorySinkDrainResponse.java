@@ -0,0 +1,34 @@
+package com.currencycloud.transactbench.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Messages taken from the memory sink, oldest first, and how many are still queued after them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemorySinkDrainResponse {
+    private List<DrainedMessage> messages;
+    private int remaining;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DrainedMessage {
+        private String contentType;
+
+        /**
+         * The body exactly as it would have been published; base64 in JSON, since binary wire
+         * formats are not text.
+         */
+        private byte[] body;
+    }
+}
@@ -0,0 +1,16 @@
+package com.currencycloud.transactbench.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemorySinkResponse {
+    private int messages;
+    private long bytes;
+    private long dropped;
+}
@@ -0,0 +1,21 @@
+package com.currencycloud.transactbench.dto;
+
+import com.currencycloud.transactbench.dto.LoadProfile.Type;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PacingReport {
+    private Type profile;
+    private long sent;
+    private double targetRate;
+    private double intendedRate;
+    private double achievedRate;
+    private double averageLagMicros;
+    private double maxLagMicros;
+}
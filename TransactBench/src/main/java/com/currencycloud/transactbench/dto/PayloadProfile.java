@@ -0,0 +1,61 @@
+package com.currencycloud.transactbench.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Size distribution of the generated {@code transaction_content}, in bytes. The remaining fields
+ * only apply to the profile types that mention them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayloadProfile {
+
+    public enum Type {
+        /** Every message carries {@code size} bytes of content. */
+        FIXED,
+        /** Sizes spread evenly between {@code minSize} and {@code maxSize}, both inclusive. */
+        UNIFORM,
+        /** Each of the {@code buckets} sizes, chosen in proportion to its weight. */
+        HISTOGRAM
+    }
+
+    @NotNull(message = "Payload profile type is required")
+    private Type type;
+
+    @PositiveOrZero(message = "Payload size must not be negative")
+    private Integer size;
+
+    @PositiveOrZero(message = "Minimum payload size must not be negative")
+    private Integer minSize;
+
+    @PositiveOrZero(message = "Maximum payload size must not be negative")
+    private Integer maxSize;
+
+    @Valid
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+
+        @NotNull(message = "Bucket size is required")
+        @PositiveOrZero(message = "Bucket size must not be negative")
+        private Integer size;
+
+        @NotNull(message = "Bucket weight is required")
+        @Positive(message = "Bucket weight must be positive")
+        private Integer weight;
+    }
+}
@@ -0,0 +1,58 @@
+package com.currencycloud.transactbench.dto;
+
+import com.currencycloud.transactbench.model.JobStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Statistics of one phase of a scenario job. Phases that have not started yet stay queued.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhaseReport {
+    private String name;
+    private Scenario.Phase.Type type;
+    private JobStatus status;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long generated;
+    private long published;
+    private long confirmed;
+    private long nacked;
+    private long returned;
+    private double averageRate;
+    private List<ShareCount> mix;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long count;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double durationSeconds;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PacingReport pacing;
+
+    /**
+     * Latency percentiles of the phase, available once it has finished.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LatencySummary latency;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShareCount {
+        private String provider;
+        private String paymentRail;
+        private int weight;
+        private long published;
+    }
+}
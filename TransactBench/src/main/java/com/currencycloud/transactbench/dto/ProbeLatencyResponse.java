@@ -0,0 +1,20 @@
+package com.currencycloud.transactbench.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProbeLatencyResponse {
+    private boolean enabled;
+    private String queue;
+    private Instant since;
+    private long unstamped;
+    private LatencyPercentiles endToEnd;
+}
@@ -0,0 +1,43 @@
+package com.currencycloud.transactbench.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Replays a capture from the file sink's directory. A generation job written to the file sink is
+ * captured under its job id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayRequest {
+
+    public enum Timing {
+        /** Each message is sent at its captured offset from the start of the capture. */
+        ORIGINAL,
+        /** Captured offsets are divided by {@code speed}, so 10 replays ten times as fast. */
+        SCALED,
+        /** Messages are sent back-to-back, ignoring the captured timing. */
+        MAX_SPEED
+    }
+
+    @NotBlank(message = "Capture id is required")
+    private String captureId;
+
+    /**
+     * How the captured timing is followed; ORIGINAL when absent.
+     */
+    private Timing timing;
+
+    @Positive(message = "Speed must be positive")
+    private Double speed;
+
+    public ReplayRequest(String captureId) {
+        this.captureId = captureId;
+    }
+}
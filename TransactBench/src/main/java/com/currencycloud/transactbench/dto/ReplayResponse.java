@@ -0,0 +1,32 @@
+package com.currencycloud.transactbench.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayResponse {
+    private String captureId;
+    private ReplayRequest.Timing timing;
+    private double speed;
+    private int files;
+    private long published;
+
+    /**
+     * Span between the capture's start and its last message.
+     */
+    private long capturedMillis;
+
+    private long durationMillis;
+    private double achievedRate;
+
+    /**
+     * Publish latency; corrected figures are measured from each message's replay slot and are
+     * only reported for timed replays.
+     */
+    private LatencySummary latency;
+}
@@ -0,0 +1,137 @@
+package com.currencycloud.transactbench.dto;
+
+import com.currencycloud.transactbench.config.PublisherPoolProperties;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.sink.SinkType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A multi-phase load scenario run as one job: its phases run one after another, each with its own
+ * rate and provider/rail mix. The run-wide settings apply to every phase.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class Scenario {
+
+    /**
+     * Shown in logs; named scenarios default to the key they are stored under.
+     */
+    private String name;
+
+    @NotEmpty(message = "Scenario needs at least one phase")
+    @Valid
+    private List<Phase> phases;
+
+    /**
+     * Traffic mix of the phases that do not set their own.
+     */
+    @Valid
+    private List<TrafficShare> mix;
+
+    @Min(value = 1, message = "Publisher workers must be at least 1")
+    @Max(value = PublisherPoolProperties.MAX_REQUEST_WORKERS, message = "Publisher workers must be at most 256")
+    private Integer publisherWorkers;
+
+    private PublishMode publishMode;
+
+    private SinkType sink;
+
+    private WireFormat wireFormat;
+
+    @Valid
+    private PayloadProfile payloadProfile;
+
+    private IdStrategy idStrategy;
+
+    /**
+     * Makes every phase reproducible; each phase draws from its own range of transaction indexes.
+     */
+    private Long seed;
+
+    /**
+     * Day value dates are counted from; seeded scenarios default to the configured seeded base date.
+     */
+    private LocalDate valueDateBase;
+
+    /**
+     * One stage of a scenario. A phase ends after {@code count} messages or {@code durationSeconds},
+     * whichever comes first; phases without a rate publish as fast as possible and need a count.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Phase {
+
+        public enum Type {
+            /** Constant {@code rate}, kept out of the scenario's latency report. */
+            WARMUP,
+            /** Linear change from {@code startRate} to {@code rate} over {@code durationSeconds}. */
+            RAMP,
+            /** Constant {@code rate}. */
+            STEADY,
+            /** Constant {@code rate}, usually well above the surrounding phases. */
+            SPIKE,
+            /** Linear change from {@code startRate} down to {@code rate} over {@code durationSeconds}. */
+            COOLDOWN
+        }
+
+        @NotNull(message = "Phase type is required")
+        private Type type;
+
+        /**
+         * Label in the phase statistics; the lower-case type when absent.
+         */
+        private String name;
+
+        @Positive(message = "Phase count must be positive")
+        private Long count;
+
+        @Positive(message = "Phase duration seconds must be positive")
+        private Double durationSeconds;
+
+        @Positive(message = "Phase rate must be positive")
+        private Double rate;
+
+        @Positive(message = "Phase start rate must be positive")
+        private Double startRate;
+
+        @Valid
+        private List<TrafficShare> mix;
+    }
+
+    /**
+     * A provider and rail sent in proportion to {@code weight} among the shares of a mix.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrafficShare {
+
+        @NotBlank(message = "Provider is required")
+        private String provider;
+
+        @NotBlank(message = "Payment rail is required")
+        private String paymentRail;
+
+        @Positive(message = "Share weight must be positive")
+        private Integer weight = 1;
+    }
+}
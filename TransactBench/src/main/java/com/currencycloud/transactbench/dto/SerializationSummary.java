@@ -0,0 +1,27 @@
+package com.currencycloud.transactbench.dto;
+
+import com.currencycloud.transactbench.serialization.WireFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload sizes and serialization times of a run, for comparing wire formats. Sizes are of the
+ * message body alone; percentiles are within 0.1% of the recorded value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerializationSummary {
+    private WireFormat format;
+    private String contentType;
+    private long messages;
+    private long totalBytes;
+    private double meanBytes;
+    private long p50Bytes;
+    private long p99Bytes;
+    private long maxBytes;
+    private LatencyPercentiles serialization;
+}
@@ -1,14 +1,26 @@
 package com.currencycloud.transactbench.dto;
 
+import com.currencycloud.transactbench.config.PublisherPoolProperties;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.sink.SinkType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class TransactionGenerationRequest {
@@ -23,4 +35,73 @@ public class TransactionGenerationRequest {
     private Integer numberOfMessages;
 
     private UUID transactionId;
+
+    @Valid
+    private LoadProfile loadProfile;
+
+    @Min(value = 1, message = "Publisher workers must be at least 1")
+    @Max(value = PublisherPoolProperties.MAX_REQUEST_WORKERS, message = "Publisher workers must be at most 256")
+    private Integer publisherWorkers;
+
+    private PublishMode publishMode;
+
+    /**
+     * Where the run's transactions go; the configured default sink when absent.
+     */
+    private SinkType sink;
+
+    /**
+     * Encoding of message bodies; the configured default format when absent.
+     */
+    private WireFormat wireFormat;
+
+    /**
+     * Size distribution of {@code transaction_content}; absent leaves the content empty.
+     */
+    @Valid
+    private PayloadProfile payloadProfile;
+
+    private IdStrategy idStrategy;
+
+    /**
+     * Node id the run's node sequence ids and references are issued under, instead of this
+     * instance's own. Distributed runs give each share a different one.
+     */
+    @Min(value = 0, message = "Node id must not be negative")
+    @Max(value = 65535, message = "Node id must be at most 65535")
+    private Integer nodeId;
+
+    /**
+     * Makes the run reproducible: the same seed and parameters generate the same transactions,
+     * however many workers publish them.
+     */
+    private Long seed;
+
+    /**
+     * Index of the run's first transaction within a larger dataset. Instances given the same seed
+     * and disjoint index ranges generate disjoint parts of one dataset.
+     */
+    @PositiveOrZero(message = "First index must not be negative")
+    private Long firstIndex;
+
+    /**
+     * Day value dates are counted from as if it were today. Seeded runs without one use the
+     * configured seeded base date, so their dataset does not change with the day they run.
+     */
+    private LocalDate valueDateBase;
+
+    /**
+     * Jobs wait until this instant before generating, so instances submitted together start in step.
+     */
+    private Instant startAt;
+
+    private IdResponseMode idResponseMode;
+
+    public TransactionGenerationRequest(String provider, String paymentRail, Integer numberOfMessages,
+                                        UUID transactionId) {
+        this.provider = provider;
+        this.paymentRail = paymentRail;
+        this.numberOfMessages = numberOfMessages;
+        this.transactionId = transactionId;
+    }
 }
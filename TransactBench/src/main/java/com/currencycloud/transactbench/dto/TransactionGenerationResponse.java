@@ -1,5 +1,6 @@
 package com.currencycloud.transactbench.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,5 +11,42 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TransactionGenerationResponse {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<String> transactionIds;
+
+    /**
+     * Number of generated transactions, reported when the ids are not listed inline.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long count;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PacingReport pacing;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long seed;
+
+    /**
+     * Order-independent digest of the generated dataset, reported for seeded runs.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String checksum;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private IdLedgerDescriptor idLedger;
+
+    /**
+     * Id of the capture written by runs to the file sink, for /api/replays.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String captureId;
+
+    public TransactionGenerationResponse(List<String> transactionIds) {
+        this.transactionIds = transactionIds;
+    }
+
+    public TransactionGenerationResponse(List<String> transactionIds, PacingReport pacing) {
+        this.transactionIds = transactionIds;
+        this.pacing = pacing;
+    }
 }
@@ -0,0 +1,19 @@
+package com.currencycloud.transactbench.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Random version 4 UUIDs without the lock and entropy cost of {@code SecureRandom}. Ids are
+ * unpredictable enough for test traffic but must not be used where guessability matters.
+ */
+public class FastRandomIdGenerator implements IdGenerator {
+
+    @Override
+    public UUID nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,13 @@
+package com.currencycloud.transactbench.id;
+
+import java.util.UUID;
+
+/**
+ * Source of transaction and tracking ids. Implementations are shared by every generating thread,
+ * so they must be thread-safe.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID nextId();
+}
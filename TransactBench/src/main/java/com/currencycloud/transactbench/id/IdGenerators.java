@@ -0,0 +1,62 @@
+package com.currencycloud.transactbench.id;
+
+import com.currencycloud.transactbench.config.IdGeneratorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One shared generator per {@link IdStrategy}, so sequences and orderings hold across every run
+ * on this instance. Runs that are assigned a node id of their own, such as the shares of a
+ * distributed run, get a node sequence generator for that node id, shared by every run assigned it.
+ */
+@Component
+@Slf4j
+public class IdGenerators {
+    private final Map<IdStrategy, IdGenerator> generators = new EnumMap<>(IdStrategy.class);
+    private final Map<Integer, IdGenerator> assignedNodeSequences = new ConcurrentHashMap<>();
+    private final IdStrategy defaultStrategy;
+    private final int nodeId;
+
+    public IdGenerators(IdGeneratorProperties properties) {
+        this.defaultStrategy = properties.getStrategy();
+        if (properties.getNodeId() != null) {
+            this.nodeId = properties.getNodeId();
+        } else {
+            this.nodeId = ThreadLocalRandom.current().nextInt(NodeSequenceIdGenerator.MAX_NODE_ID + 1);
+            log.info("No transaction.ids.node-id configured, using random node id {}", nodeId);
+        }
+
+        generators.put(IdStrategy.SECURE_RANDOM, new SecureRandomIdGenerator());
+        generators.put(IdStrategy.FAST_RANDOM, new FastRandomIdGenerator());
+        generators.put(IdStrategy.TIME_ORDERED, new TimeOrderedIdGenerator());
+        generators.put(IdStrategy.NODE_SEQUENCE, new NodeSequenceIdGenerator(nodeId));
+    }
+
+    /**
+     * Generator for the given strategy, or for the configured default when none is given.
+     */
+    public IdGenerator forStrategy(IdStrategy strategy) {
+        return generators.get(strategy != null ? strategy : defaultStrategy);
+    }
+
+    /**
+     * Generator for the given strategy, with node sequence ids issued as node {@code nodeId}
+     * rather than this instance's own node id when one is given.
+     */
+    public IdGenerator forStrategy(IdStrategy strategy, Integer nodeId) {
+        IdStrategy resolved = strategy != null ? strategy : defaultStrategy;
+        if (resolved != IdStrategy.NODE_SEQUENCE || nodeId == null || nodeId == this.nodeId) {
+            return generators.get(resolved);
+        }
+        return assignedNodeSequences.computeIfAbsent(nodeId, NodeSequenceIdGenerator::new);
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+}
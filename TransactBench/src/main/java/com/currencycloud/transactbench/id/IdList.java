@@ -0,0 +1,148 @@
+package com.currencycloud.transactbench.id;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * Append-only list of transaction ids stored as the two {@code long} halves of each UUID, about
+ * 16 bytes per id instead of a {@code String} of more than 80. Ids are turned back into strings
+ * only when read, so a response or download that iterates the list creates them one at a time.
+ *
+ * <p>Storage is a series of fixed-size chunks, so growing never copies more than one chunk. Ids
+ * not in the canonical lowercase UUID form are kept as they are, which keeps reads exact.
+ *
+ * <p>Not thread-safe; callers appending from several threads must synchronize.
+ */
+public final class IdList extends AbstractList<String> implements RandomAccess {
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_IDS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_IDS - 1;
+    private static final int INITIAL_IDS = 16;
+    private static final int UUID_LENGTH = 36;
+
+    private long[][] chunks = new long[1][];
+    private int size;
+    private Map<Integer, String> nonUuidIds;
+
+    @Override
+    public boolean add(String id) {
+        long[] chunk = chunkForAppend();
+        int offset = (size & CHUNK_MASK) << 1;
+        if (!parseInto(id, chunk, offset)) {
+            if (nonUuidIds == null) {
+                nonUuidIds = new HashMap<>();
+            }
+            nonUuidIds.put(size, id);
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    public void add(UUID id) {
+        long[] chunk = chunkForAppend();
+        int offset = (size & CHUNK_MASK) << 1;
+        chunk[offset] = id.getMostSignificantBits();
+        chunk[offset + 1] = id.getLeastSignificantBits();
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        if (nonUuidIds != null) {
+            String id = nonUuidIds.get(index);
+            if (id != null) {
+                return id;
+            }
+        }
+        long[] chunk = chunks[index >>> CHUNK_SHIFT];
+        int offset = (index & CHUNK_MASK) << 1;
+        return new UUID(chunk[offset], chunk[offset + 1]).toString();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Independent copy of the current contents, for readers that must not see later appends.
+     */
+    public IdList copy() {
+        IdList copy = new IdList();
+        copy.chunks = new long[chunks.length][];
+        for (int i = 0; i < chunks.length && chunks[i] != null; i++) {
+            copy.chunks[i] = chunks[i].clone();
+        }
+        copy.size = size;
+        copy.nonUuidIds = nonUuidIds != null ? new HashMap<>(nonUuidIds) : null;
+        return copy;
+    }
+
+    private long[] chunkForAppend() {
+        int chunkIndex = size >>> CHUNK_SHIFT;
+        int required = ((size & CHUNK_MASK) + 1) << 1;
+        if (chunkIndex == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        long[] chunk = chunks[chunkIndex];
+        if (chunk == null) {
+            // Only the first chunk starts small; a list that fills it will need the rest too
+            chunk = new long[(chunkIndex == 0 ? INITIAL_IDS : CHUNK_IDS) << 1];
+            chunks[chunkIndex] = chunk;
+        } else if (chunk.length < required) {
+            chunk = Arrays.copyOf(chunk, Math.min(chunk.length * 2, CHUNK_IDS << 1));
+            chunks[chunkIndex] = chunk;
+        }
+        return chunk;
+    }
+
+    /**
+     * Parses a canonical lowercase UUID string into {@code target} without allocating. Returns
+     * false for anything else, including uppercase UUIDs, which would not read back identically.
+     */
+    static boolean parseInto(String id, long[] target, int offset) {
+        if (id == null || id.length() != UUID_LENGTH
+                || id.charAt(8) != '-' || id.charAt(13) != '-' || id.charAt(18) != '-' || id.charAt(23) != '-') {
+            return false;
+        }
+        long msb = 0;
+        long lsb = 0;
+        int digits = 0;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                continue;
+            }
+            int value = hexValue(id.charAt(i));
+            if (value < 0) {
+                return false;
+            }
+            if (digits++ < 16) {
+                msb = (msb << 4) | value;
+            } else {
+                lsb = (lsb << 4) | value;
+            }
+        }
+        target[offset] = msb;
+        target[offset + 1] = lsb;
+        return true;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.currencycloud.transactbench.id;
+
+public enum IdStrategy {
+    /**
+     * Version 4 UUIDs from the JDK's shared {@code SecureRandom}.
+     */
+    SECURE_RANDOM(true),
+    /**
+     * Version 4 UUIDs from thread-local, non-cryptographic randomness.
+     */
+    FAST_RANDOM(true),
+    /**
+     * Version 7 UUIDs, ordered by creation time so index inserts stay local.
+     */
+    TIME_ORDERED(false),
+    /**
+     * Version 8 UUIDs built from the node id and a per-node sequence, unique across instances.
+     */
+    NODE_SEQUENCE(false);
+
+    private final boolean seedable;
+
+    IdStrategy(boolean seedable) {
+        this.seedable = seedable;
+    }
+
+    /**
+     * Whether seeded runs can honour this strategy. Random strategies are replaced by version 4
+     * ids drawn from the run seed; time and sequence based ids can never be replayed.
+     */
+    public boolean isSeedable() {
+        return seedable;
+    }
+}
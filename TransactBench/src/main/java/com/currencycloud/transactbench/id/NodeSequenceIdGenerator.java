@@ -0,0 +1,55 @@
+package com.currencycloud.transactbench.id;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version 8 UUIDs that are unique by construction rather than by chance:
+ *
+ * <pre>
+ * | start epoch millis (48) | version (4) | sequence high (12) |
+ * | variant (2) | node id (16) | sequence low (46) |
+ * </pre>
+ *
+ * <p>The start time separates restarts of the same node, and the node id separates load
+ * generators running side by side, so ids never collide as long as each instance is given its
+ * own node id. Start stamps have millisecond resolution and never repeat within a process, so
+ * generators created in quick succession get distinct ones too.
+ */
+public class NodeSequenceIdGenerator implements IdGenerator {
+    public static final int MAX_NODE_ID = 0xFFFF;
+    private static final long SEQUENCE_LOW_MASK = (1L << 46) - 1;
+    private static final AtomicLong LAST_START = new AtomicLong();
+
+    private final long mostSigPrefix;
+    private final long leastSigPrefix;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public NodeSequenceIdGenerator(int nodeId) {
+        this(nodeId, nextStartMillis());
+    }
+
+    NodeSequenceIdGenerator(int nodeId, long startEpochMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.mostSigPrefix = ((startEpochMillis & 0xFFFFFFFFFFFFL) << 16) | 0x8000L;
+        this.leastSigPrefix = 0x8000000000000000L | ((long) nodeId << 46);
+    }
+
+    /**
+     * The current time, or one millisecond past the last start stamp handed out in this process.
+     */
+    private static long nextStartMillis() {
+        long now = System.currentTimeMillis();
+        return LAST_START.updateAndGet(last -> Math.max(now, last + 1));
+    }
+
+    @Override
+    public UUID nextId() {
+        long next = sequence.getAndIncrement();
+        long mostSigBits = mostSigPrefix | ((next >>> 46) & 0xFFFL);
+        long leastSigBits = leastSigPrefix | (next & SEQUENCE_LOW_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
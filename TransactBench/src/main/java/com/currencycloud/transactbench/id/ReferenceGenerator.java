@@ -0,0 +1,200 @@
+package com.currencycloud.transactbench.id;
+
+import com.currencycloud.transactbench.config.ReferenceFormat;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Payment references that are unique by construction within a format.
+ *
+ * <p>The reference space ({@code alphabet.length ^ length} values) is split into one equal slice per
+ * possible node id, and each node hands out its slice in sequence. Every value then goes through
+ * a fixed Feistel permutation of the space, so consecutive references look unrelated while
+ * distinct inputs still map to distinct references.
+ *
+ * <p>Positions within the slice come from a {@link ReferenceSequence}. With a persisted sequence a
+ * restart continues where the previous run of the same node stopped; with an in-memory one every
+ * start begins at the first reference again. Once a node's slice is used up the generator throws
+ * rather than repeat a reference, unless {@code reuseExhausted} is set: it then starts the slice
+ * over, so references stay unique only within the last {@link #capacityPerNode()} issued.
+ */
+@Slf4j
+public class ReferenceGenerator {
+    static final long NODE_SLOTS = NodeSequenceIdGenerator.MAX_NODE_ID + 1L;
+    private static final long MAX_SPACE = 1L << 62;
+    private static final long[] ROUND_KEYS = {
+            0x9E3779B97F4A7C15L, 0xBF58476D1CE4E5B9L, 0x94D049BB133111EBL, 0xD6E8FEB86659FD93L
+    };
+
+    private final byte[] prefix;
+    private final byte[] alphabet;
+    private final int length;
+    private final long space;
+    private final long perNode;
+    private final long nodeOffset;
+    private final int halfBits;
+    private final long halfMask;
+    private final ReferenceSequence sequence;
+    private final boolean reuseExhausted;
+
+    public ReferenceGenerator(ReferenceFormat format, int nodeId) {
+        this(format, nodeId, ReferenceSequence.inMemory(), false);
+    }
+
+    public ReferenceGenerator(ReferenceFormat format, int nodeId, ReferenceSequence sequence,
+                              boolean reuseExhausted) {
+        this.prefix = ascii(format.getPrefix() != null ? format.getPrefix() : "", "prefix");
+        this.alphabet = ascii(format.getAlphabet(), "alphabet");
+        this.length = format.getLength();
+        validateAlphabet();
+        if (length < 1) {
+            throw new IllegalArgumentException("Reference length must be at least 1");
+        }
+        if (nodeId < 0 || nodeId >= NODE_SLOTS) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + (NODE_SLOTS - 1) + ": " + nodeId);
+        }
+
+        this.space = spaceOf(alphabet.length, length);
+        this.perNode = space / NODE_SLOTS;
+        if (perNode < 1) {
+            throw new IllegalArgumentException("Reference format " + describe(format)
+                    + " is too small to give each of " + NODE_SLOTS + " nodes a share");
+        }
+        this.nodeOffset = nodeId * perNode;
+
+        int bits = 64 - Long.numberOfLeadingZeros(space - 1);
+        this.halfBits = Math.max(1, (bits + 1) / 2);
+        this.halfMask = (1L << halfBits) - 1;
+        this.sequence = sequence;
+        this.reuseExhausted = reuseExhausted;
+    }
+
+    public String next() {
+        long next = sequence.next();
+        if (next >= perNode) {
+            if (!reuseExhausted) {
+                throw new IllegalStateException("All " + perNode + " references for prefix '"
+                        + new String(prefix, StandardCharsets.US_ASCII) + "' have been used on this node;"
+                        + " configure a longer reference length or enable reference reuse");
+            }
+            if (next % perNode == 0) {
+                log.warn("References for prefix '{}' wrapped after {} on this node; earlier ones are reissued",
+                        new String(prefix, StandardCharsets.US_ASCII), perNode);
+            }
+            next %= perNode;
+        }
+
+        return format(permute(nodeOffset + next));
+    }
+
+    /**
+     * Reference for the transaction at {@code index} in a seeded run. It depends only on the
+     * index, so replaying the seed reproduces it, and distinct indexes within a run never share
+     * one. Node slices do not apply: reproducible runs repeat their references by design.
+     */
+    public String referenceAt(long index) {
+        if (index < 0 || index >= space) {
+            throw new IllegalStateException("Reference index " + index + " is outside the " + space
+                    + " references of prefix '" + new String(prefix, StandardCharsets.US_ASCII)
+                    + "'; configure a longer reference length");
+        }
+        return format(permute(index));
+    }
+
+    private String format(long value) {
+        int radix = alphabet.length;
+        byte[] reference = new byte[prefix.length + length];
+        System.arraycopy(prefix, 0, reference, 0, prefix.length);
+        for (int i = reference.length - 1; i >= prefix.length; i--) {
+            reference[i] = alphabet[(int) (value % radix)];
+            value /= radix;
+        }
+        return new String(reference, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Transaction indexes a seeded run can derive references for, all nodes together.
+     */
+    public long seededCapacity() {
+        return space;
+    }
+
+    /**
+     * References each node can issue before the format is exhausted.
+     */
+    public long capacityPerNode() {
+        return perNode;
+    }
+
+    /**
+     * Bijection on [0, space): a Feistel network over the smallest even-width bit domain covering
+     * the space, re-applied ("cycle walking") until the result falls back inside it.
+     */
+    long permute(long value) {
+        do {
+            value = feistel(value);
+        } while (value >= space);
+        return value;
+    }
+
+    private long feistel(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long key : ROUND_KEYS) {
+            long mixed = left ^ (mix(right + key) & halfMask);
+            left = right;
+            right = mixed;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static long spaceOf(int radix, int length) {
+        long space = 1;
+        for (int i = 0; i < length; i++) {
+            if (space > MAX_SPACE / radix) {
+                throw new IllegalArgumentException("Reference length " + length + " with a " + radix
+                        + "-character alphabet exceeds the supported range");
+            }
+            space *= radix;
+        }
+        return space;
+    }
+
+    private void validateAlphabet() {
+        if (alphabet.length < 2) {
+            throw new IllegalArgumentException("Reference alphabet needs at least 2 characters");
+        }
+        boolean[] seen = new boolean[128];
+        for (byte c : alphabet) {
+            if (seen[c]) {
+                throw new IllegalArgumentException("Reference alphabet repeats '" + (char) c + "'");
+            }
+            seen[c] = true;
+        }
+    }
+
+    private static byte[] ascii(String value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("Reference " + name + " is required");
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                throw new IllegalArgumentException("Reference " + name + " must be printable ASCII: " + value);
+            }
+        }
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String describe(ReferenceFormat format) {
+        return "'" + format.getPrefix() + "' + " + format.getLength() + " of '" + format.getAlphabet() + "'";
+    }
+}
@@ -0,0 +1,80 @@
+package com.currencycloud.transactbench.id;
+
+import com.currencycloud.transactbench.config.ReferenceFormat;
+import com.currencycloud.transactbench.config.ReferenceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Resolves the reference generator for a payment rail. Rails configured with identical formats
+ * share one generator, so their references cannot collide with each other either. With a state
+ * directory configured, each format keeps its reservations in its own file per node. Runs
+ * assigned a node id of their own draw from that node's slice instead of this instance's.
+ */
+@Component
+public class ReferenceGenerators {
+    private final ReferenceProperties properties;
+    private final int nodeId;
+    private final NodeGenerators own;
+    private final Map<Integer, NodeGenerators> assignedNodes = new ConcurrentHashMap<>();
+
+    public ReferenceGenerators(ReferenceProperties properties, IdGenerators idGenerators) {
+        this.properties = properties;
+        this.nodeId = idGenerators.getNodeId();
+        this.own = new NodeGenerators(properties, nodeId);
+    }
+
+    private static ReferenceSequence sequenceFor(ReferenceProperties properties, ReferenceFormat format,
+                                                 int nodeId) {
+        if (properties.getStateDirectory() == null) {
+            return ReferenceSequence.inMemory();
+        }
+        String key = format.getPrefix() + "|" + format.getLength() + "|" + format.getAlphabet();
+        String name = String.format(Locale.ROOT, "references-node%d-%08x.seq", nodeId, key.hashCode());
+        return ReferenceSequence.persisted(properties.getStateDirectory().resolve(name),
+                properties.getReservationBlock());
+    }
+
+    public ReferenceGenerator forRail(String paymentRail) {
+        return own.forRail(paymentRail);
+    }
+
+    /**
+     * Generator for the rail issuing references as node {@code nodeId}, or as this instance when
+     * it is {@code null}.
+     */
+    public ReferenceGenerator forRail(String paymentRail, Integer nodeId) {
+        if (nodeId == null || nodeId == this.nodeId) {
+            return own.forRail(paymentRail);
+        }
+        return assignedNodes.computeIfAbsent(nodeId, node -> new NodeGenerators(properties, node))
+                .forRail(paymentRail);
+    }
+
+    private static final class NodeGenerators {
+        private final ReferenceGenerator defaultGenerator;
+        private final Map<String, ReferenceGenerator> generatorsByRail = new HashMap<>();
+
+        private NodeGenerators(ReferenceProperties properties, int nodeId) {
+            Map<ReferenceFormat, ReferenceGenerator> generatorsByFormat = new HashMap<>();
+            Function<ReferenceFormat, ReferenceGenerator> create = format -> new ReferenceGenerator(
+                    format, nodeId, sequenceFor(properties, format, nodeId), properties.isReuseExhausted());
+
+            this.defaultGenerator = generatorsByFormat.computeIfAbsent(properties.getDefaultFormat(), create);
+            properties.getFormats().forEach((rail, format) -> generatorsByRail.put(
+                    rail.toUpperCase(Locale.ROOT), generatorsByFormat.computeIfAbsent(format, create)));
+        }
+
+        private ReferenceGenerator forRail(String paymentRail) {
+            if (paymentRail == null) {
+                return defaultGenerator;
+            }
+            return generatorsByRail.getOrDefault(paymentRail.toUpperCase(Locale.ROOT), defaultGenerator);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.currencycloud.transactbench.id;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Positions a reference generator hands out, reserved a block at a time. A persisted sequence
+ * records the end of every block in a state file before using it, under a file lock, so a
+ * restarted instance or a second process with the same node id continues after everything
+ * reserved before instead of starting again at 0. Unused positions of the last block before a
+ * restart are skipped, never reissued.
+ *
+ * <p>Refills take a {@link ReentrantLock} rather than a monitor, so a publish worker on a virtual
+ * thread waiting for the state file does not pin its carrier.
+ */
+public final class ReferenceSequence {
+    private final Path file;
+    private final long blockSize;
+    private final AtomicLong inMemoryEnd = new AtomicLong();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private volatile Block block = new Block(0, 0);
+
+    private ReferenceSequence(Path file, long blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Reference reservation block must be positive");
+        }
+        this.file = file;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * A sequence that starts at 0 on every start of the process.
+     */
+    public static ReferenceSequence inMemory() {
+        return new ReferenceSequence(null, 1L << 20);
+    }
+
+    /**
+     * A sequence whose reservations are recorded in {@code file}, created if missing.
+     */
+    public static ReferenceSequence persisted(Path file, long blockSize) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create reference state directory for " + file, e);
+        }
+        return new ReferenceSequence(file, blockSize);
+    }
+
+    public long next() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+            refill(current);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (block == exhausted) {
+                long start = reserve();
+                block = new Block(start, Math.addExact(start, blockSize));
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private long reserve() {
+        if (file == null) {
+            return inMemoryEnd.getAndAdd(blockSize);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            ByteBuffer content = ByteBuffer.allocate((int) Math.min(channel.size(), 64));
+            channel.read(content, 0);
+            String stored = new String(content.array(), 0, content.position(), StandardCharsets.US_ASCII).trim();
+            long start = stored.isEmpty() ? 0 : Long.parseLong(stored);
+            byte[] end = Long.toString(Math.addExact(start, blockSize)).getBytes(StandardCharsets.US_ASCII);
+            channel.truncate(0);
+            channel.write(ByteBuffer.wrap(end), 0);
+            channel.force(false);
+            return start;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot reserve references in " + file, e);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Reference state file " + file + " is corrupt", e);
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.currencycloud.transactbench.id;
+
+import java.util.UUID;
+
+public class SecureRandomIdGenerator implements IdGenerator {
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
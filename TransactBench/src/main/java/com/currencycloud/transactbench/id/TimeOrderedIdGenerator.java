@@ -0,0 +1,39 @@
+package com.currencycloud.transactbench.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by a 12-bit counter and 62 random
+ * bits. The timestamp and counter are drawn together from one atomic so ids are strictly
+ * increasing across threads; above 4096 ids in a millisecond the counter carries into the
+ * timestamp, which then runs slightly ahead of the clock until the rate drops.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+    private static final int COUNTER_BITS = 12;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastStamp = new AtomicLong();
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID nextId() {
+        long stamp = lastStamp.accumulateAndGet(clock.getAsLong() << COUNTER_BITS,
+                (previous, now) -> Math.max(previous + 1, now));
+        long millis = stamp >>> COUNTER_BITS;
+        long counter = stamp & 0xFFFL;
+
+        long mostSigBits = (millis << 16) | 0x7000L | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
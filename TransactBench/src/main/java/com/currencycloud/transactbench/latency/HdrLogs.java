@@ -0,0 +1,59 @@
+package com.currencycloud.transactbench.latency;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes histograms as an HdrHistogram interval log, readable by HistogramLogReader and the
+ * usual plotting tools, and reads them back. Each histogram becomes one interval carrying its tag.
+ */
+public final class HdrLogs {
+
+    private HdrLogs() {
+    }
+
+    /**
+     * Writes the non-null histograms, flushing but not closing {@code target}.
+     */
+    public static void write(OutputStream target, long startMillis, Histogram... histograms) {
+        PrintStream out = new PrintStream(target, false, StandardCharsets.UTF_8);
+        HistogramLogWriter writer = new HistogramLogWriter(out);
+        writer.outputLogFormatVersion();
+        writer.outputStartTime(startMillis);
+        writer.setBaseTime(startMillis);
+        writer.outputBaseTime(startMillis);
+        writer.outputLegend();
+        for (Histogram histogram : histograms) {
+            if (histogram != null) {
+                writer.outputIntervalHistogram(histogram);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads every interval of a log written by {@link #write}, tags included, without closing
+     * {@code source}.
+     */
+    public static List<Histogram> read(InputStream source) {
+        HistogramLogReader reader = new HistogramLogReader(source);
+        List<Histogram> histograms = new ArrayList<>();
+        EncodableHistogram interval;
+        while ((interval = reader.nextIntervalHistogram()) != null) {
+            if (!(interval instanceof Histogram histogram)) {
+                throw new IllegalArgumentException("Expected integer histograms in the latency log");
+            }
+            histograms.add(histogram);
+        }
+        return histograms;
+    }
+}
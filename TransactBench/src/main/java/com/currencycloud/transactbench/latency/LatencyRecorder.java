@@ -0,0 +1,59 @@
+package com.currencycloud.transactbench.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.IntervalHistogramProvider;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Collects the latency histograms of a run. Every publisher worker records into its own
+ * {@link WorkerLatency}; {@link #report()} merges them once the workers are done.
+ */
+public class LatencyRecorder {
+    // Three digits keeps every percentile within 0.1% of the recorded value
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final boolean corrected;
+    private final long startMillis = System.currentTimeMillis();
+    private final Queue<WorkerLatency> workers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param corrected also record latencies corrected for coordinated omission, which needs the
+     *                  intended send times of a rate-controlled run
+     */
+    public LatencyRecorder(boolean corrected) {
+        this.corrected = corrected;
+    }
+
+    public WorkerLatency newWorker() {
+        WorkerLatency worker = new WorkerLatency(SIGNIFICANT_DIGITS, corrected);
+        workers.add(worker);
+        return worker;
+    }
+
+    /**
+     * Merges every worker's histograms. Values recorded after this call are not included, so it
+     * is meant to be called once the run's confirms have been drained.
+     */
+    public LatencyReport report() {
+        long endMillis = System.currentTimeMillis();
+        return new LatencyReport(corrected, startMillis, endMillis,
+                merge(WorkerLatency::publish, startMillis, endMillis),
+                corrected ? merge(WorkerLatency::publishCorrected, startMillis, endMillis) : null,
+                merge(WorkerLatency::confirm, startMillis, endMillis),
+                corrected ? merge(WorkerLatency::confirmCorrected, startMillis, endMillis) : null);
+    }
+
+    private Histogram merge(Function<WorkerLatency, IntervalHistogramProvider<Histogram>> recorder,
+                            long startMillis, long endMillis) {
+        Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+        for (WorkerLatency worker : workers) {
+            merged.add(recorder.apply(worker).getIntervalHistogram());
+        }
+        merged.setStartTimeStamp(startMillis);
+        merged.setEndTimeStamp(endMillis);
+        return merged;
+    }
+}
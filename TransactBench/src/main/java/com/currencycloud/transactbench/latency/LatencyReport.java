@@ -0,0 +1,112 @@
+package com.currencycloud.transactbench.latency;
+
+import com.currencycloud.transactbench.dto.LatencyPercentiles;
+import com.currencycloud.transactbench.dto.LatencySummary;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Merged latency histograms of a finished run, in nanoseconds. Corrected histograms are only
+ * present for rate-controlled runs.
+ */
+@Getter
+public class LatencyReport {
+    public static final String PUBLISH = "publish";
+    public static final String PUBLISH_CORRECTED = "publish-corrected";
+    public static final String CONFIRM = "confirm";
+    public static final String CONFIRM_CORRECTED = "confirm-corrected";
+
+    private final boolean corrected;
+    private final long startMillis;
+    private final long endMillis;
+    private final Histogram publish;
+    private final Histogram publishCorrected;
+    private final Histogram confirm;
+    private final Histogram confirmCorrected;
+
+    LatencyReport(boolean corrected, long startMillis, long endMillis, Histogram publish,
+                  Histogram publishCorrected, Histogram confirm, Histogram confirmCorrected) {
+        this.corrected = corrected;
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.publish = tagged(publish, PUBLISH);
+        this.publishCorrected = tagged(publishCorrected, PUBLISH_CORRECTED);
+        this.confirm = tagged(confirm, CONFIRM);
+        this.confirmCorrected = tagged(confirmCorrected, CONFIRM_CORRECTED);
+    }
+
+    /**
+     * Adds up histograms of several runs by tag, for example the logs of every instance taking
+     * part in a distributed run. The corrected histograms are only kept if every run has them.
+     */
+    public static LatencyReport merge(Collection<? extends Collection<Histogram>> runs) {
+        Histogram publish = new Histogram(LatencyRecorder.SIGNIFICANT_DIGITS);
+        Histogram publishCorrected = new Histogram(LatencyRecorder.SIGNIFICANT_DIGITS);
+        Histogram confirm = new Histogram(LatencyRecorder.SIGNIFICANT_DIGITS);
+        Histogram confirmCorrected = new Histogram(LatencyRecorder.SIGNIFICANT_DIGITS);
+        boolean corrected = !runs.isEmpty();
+        long startMillis = Long.MAX_VALUE;
+        long endMillis = 0;
+        for (Collection<Histogram> run : runs) {
+            boolean runCorrected = false;
+            for (Histogram histogram : run) {
+                Histogram target = switch (String.valueOf(histogram.getTag())) {
+                    case PUBLISH -> publish;
+                    case PUBLISH_CORRECTED -> publishCorrected;
+                    case CONFIRM -> confirm;
+                    case CONFIRM_CORRECTED -> confirmCorrected;
+                    default -> throw new IllegalArgumentException(
+                            "Unknown latency histogram: " + histogram.getTag());
+                };
+                target.add(histogram);
+                runCorrected |= target == publishCorrected;
+                startMillis = Math.min(startMillis, histogram.getStartTimeStamp());
+                endMillis = Math.max(endMillis, histogram.getEndTimeStamp());
+            }
+            corrected &= runCorrected;
+        }
+        startMillis = Math.min(startMillis, endMillis);
+        return new LatencyReport(corrected, startMillis, endMillis, publish,
+                corrected ? publishCorrected : null, confirm, corrected ? confirmCorrected : null);
+    }
+
+    /**
+     * The report's histograms, tagged, in the form {@link #merge} takes them.
+     */
+    public List<Histogram> histograms() {
+        return Stream.of(publish, publishCorrected, confirm, confirmCorrected)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public LatencySummary summary() {
+        return LatencySummary.builder()
+                .correctedForCoordinatedOmission(corrected)
+                .publish(LatencyPercentiles.from(publish))
+                .publishCorrected(LatencyPercentiles.from(publishCorrected))
+                .confirm(LatencyPercentiles.from(confirm))
+                .confirmCorrected(LatencyPercentiles.from(confirmCorrected))
+                .build();
+    }
+
+    /**
+     * Writes the histograms as an HdrHistogram interval log with one tagged interval per
+     * histogram. The stream is flushed but left open.
+     */
+    public void writeHdrLog(OutputStream target) {
+        HdrLogs.write(target, startMillis, publish, publishCorrected, confirm, confirmCorrected);
+    }
+
+    private static Histogram tagged(Histogram histogram, String tag) {
+        if (histogram != null) {
+            histogram.setTag(tag);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,63 @@
+package com.currencycloud.transactbench.latency;
+
+import org.HdrHistogram.Recorder;
+import org.HdrHistogram.SingleWriterRecorder;
+
+/**
+ * Latency histograms of one publisher worker. Publish times are only recorded by the worker's own
+ * thread, while confirms arrive on connection threads, so each uses the matching wait-free
+ * recorder and nothing here takes a lock.
+ *
+ * <p>Corrected values are measured from the message's intended send time instead of the moment it
+ * was actually sent, so time spent behind schedule counts against latency rather than vanishing.
+ */
+public final class WorkerLatency {
+    private final SingleWriterRecorder publish;
+    private final SingleWriterRecorder publishCorrected;
+    private final Recorder confirm;
+    private final Recorder confirmCorrected;
+
+    WorkerLatency(int significantDigits, boolean corrected) {
+        publish = new SingleWriterRecorder(significantDigits);
+        confirm = new Recorder(significantDigits);
+        publishCorrected = corrected ? new SingleWriterRecorder(significantDigits) : null;
+        confirmCorrected = corrected ? new Recorder(significantDigits) : null;
+    }
+
+    /**
+     * Records one send call that started at {@code startNanos} and returned at {@code endNanos}.
+     */
+    public void recordPublish(long intendedNanos, long startNanos, long endNanos) {
+        publish.recordValue(Math.max(endNanos - startNanos, 0));
+        if (publishCorrected != null) {
+            publishCorrected.recordValue(Math.max(endNanos - Math.min(intendedNanos, startNanos), 0));
+        }
+    }
+
+    /**
+     * Records the broker confirm, received at {@code confirmedNanos}, of a message sent at
+     * {@code sentNanos}.
+     */
+    public void recordConfirm(long intendedNanos, long sentNanos, long confirmedNanos) {
+        confirm.recordValue(Math.max(confirmedNanos - sentNanos, 0));
+        if (confirmCorrected != null) {
+            confirmCorrected.recordValue(Math.max(confirmedNanos - Math.min(intendedNanos, sentNanos), 0));
+        }
+    }
+
+    SingleWriterRecorder publish() {
+        return publish;
+    }
+
+    SingleWriterRecorder publishCorrected() {
+        return publishCorrected;
+    }
+
+    Recorder confirm() {
+        return confirm;
+    }
+
+    Recorder confirmCorrected() {
+        return confirmCorrected;
+    }
+}
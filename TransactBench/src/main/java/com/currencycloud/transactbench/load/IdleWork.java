@@ -0,0 +1,27 @@
+package com.currencycloud.transactbench.load;
+
+/**
+ * Work a publishing thread has to do by a deadline even if its next send slot is later, such as
+ * flushing a batch whose linger time runs out while the pacer holds the thread.
+ */
+public interface IdleWork {
+
+    IdleWork NONE = new IdleWork() {
+        @Override
+        public long deadlineNanos() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public void run() {
+        }
+    };
+
+    /**
+     * The {@link System#nanoTime()} by which {@link #run()} is due, or {@link Long#MAX_VALUE} when
+     * nothing is pending.
+     */
+    long deadlineNanos();
+
+    void run();
+}
@@ -0,0 +1,226 @@
+package com.currencycloud.transactbench.load;
+
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.PacingReport;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop send scheduler shared by every publishing thread of a run. Each call to
+ * {@link #awaitNext()} claims the next slot of the schedule and blocks until its intended send
+ * time. The schedule never slows down when sends fall behind, so lateness shows up as lag
+ * instead of silently lowering the offered load.
+ */
+public class LoadPacer {
+    public static final long FINISHED = -1L;
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    // Below this the OS timer is too coarse, so the last stretch is spun instead of parked
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final LoadProfile profile;
+    private final long durationNanos;
+
+    private final AtomicLong startNanos = new AtomicLong(NOT_STARTED);
+    private final AtomicLong nextOffset = new AtomicLong();
+    private final LongAdder claimed = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder totalLagNanos = new LongAdder();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private final AtomicLong lastSentOffset = new AtomicLong();
+
+    private LoadPacer(LoadProfile profile) {
+        this.profile = profile;
+        this.durationNanos = profile != null && profile.getDurationSeconds() != null
+                ? (long) (profile.getDurationSeconds() * NANOS_PER_SECOND)
+                : Long.MAX_VALUE;
+    }
+
+    /**
+     * A pacer that never waits, used for closed-loop runs that send as fast as possible.
+     */
+    public static LoadPacer unpaced() {
+        return new LoadPacer(null);
+    }
+
+    public static LoadPacer forProfile(LoadProfile profile) {
+        if (profile == null) {
+            return unpaced();
+        }
+        validate(profile);
+        return new LoadPacer(profile);
+    }
+
+    public boolean isPaced() {
+        return profile != null;
+    }
+
+    public void start() {
+        startNanos.compareAndSet(NOT_STARTED, System.nanoTime());
+    }
+
+    /**
+     * Claims the next send slot and waits for it.
+     *
+     * @return the intended send time as nanoseconds since {@link #start()}, or {@link #FINISHED}
+     * once the profile's duration is exhausted
+     */
+    public long awaitNext() {
+        return awaitNext(IdleWork.NONE);
+    }
+
+    /**
+     * Claims the next send slot like {@link #awaitNext()}, running {@code idle} on the waiting
+     * thread whenever its deadline comes before the slot.
+     */
+    public long awaitNext(IdleWork idle) {
+        start();
+        long start = startNanos.get();
+        if (profile == null) {
+            claimed.increment();
+            return System.nanoTime() - start;
+        }
+
+        long offset;
+        do {
+            offset = nextOffset.get();
+            if (offset >= durationNanos) {
+                return FINISHED;
+            }
+        } while (!nextOffset.compareAndSet(offset, offset + gapNanos(offset)));
+        claimed.increment();
+
+        long slot = start + offset;
+        long due;
+        while ((due = idle.deadlineNanos()) != Long.MAX_VALUE && due - slot < 0) {
+            awaitNanoTime(due);
+            idle.run();
+        }
+        awaitNanoTime(slot);
+        return offset;
+    }
+
+    /**
+     * Waits until {@link System#nanoTime()} reaches {@code deadline}, parking for most of the wait
+     * and spinning through the last stretch.
+     */
+    public static void awaitNanoTime(long deadline) {
+        long remaining;
+        // Spinning on a virtual thread would hold its carrier, so those only park
+        long spinThreshold = Thread.currentThread().isVirtual() ? 0 : SPIN_THRESHOLD_NANOS;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > spinThreshold) {
+                LockSupport.parkNanos(remaining - spinThreshold);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * The {@link System#nanoTime()} at which the message scheduled at {@code intendedOffset} was
+     * due to be sent.
+     */
+    public long intendedNanos(long intendedOffset) {
+        return startNanos.get() + intendedOffset;
+    }
+
+    /**
+     * Records that the message scheduled at {@code intendedOffset} has been sent.
+     */
+    public void recordSent(long intendedOffset) {
+        long actualOffset = System.nanoTime() - startNanos.get();
+        long lag = Math.max(actualOffset - intendedOffset, 0);
+        sent.increment();
+        totalLagNanos.add(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        lastSentOffset.accumulateAndGet(actualOffset, Math::max);
+    }
+
+    /**
+     * Target rate at the given number of nanoseconds into the run.
+     */
+    public double rateAt(long offsetNanos) {
+        double seconds = (double) offsetNanos / NANOS_PER_SECOND;
+        double rate = profile.getRate();
+        return switch (profile.getType()) {
+            case CONSTANT, POISSON -> rate;
+            case RAMP -> {
+                double progress = Math.min(seconds / profile.getRampSeconds(), 1.0);
+                yield profile.getStartRate() + (rate - profile.getStartRate()) * progress;
+            }
+            case STEP -> {
+                long steps = (long) (seconds / profile.getStepSeconds());
+                yield Math.min(profile.getStartRate() + steps * profile.getStepIncrement(), rate);
+            }
+            case BURST -> {
+                double intoInterval = seconds % profile.getBurstIntervalSeconds();
+                boolean bursting = intoInterval >= profile.getBurstIntervalSeconds() - profile.getBurstSeconds();
+                yield bursting ? profile.getBurstRate() : rate;
+            }
+        };
+    }
+
+    public PacingReport report() {
+        long start = startNanos.get();
+        long sentCount = sent.sum();
+        long scheduleSpan = nextOffset.get();
+        long elapsed = lastSentOffset.get();
+        double targetRate = profile != null && start != NOT_STARTED
+                ? rateAt(Math.min(System.nanoTime() - start, durationNanos))
+                : 0.0;
+
+        return PacingReport.builder()
+                .profile(profile != null ? profile.getType() : null)
+                .sent(sentCount)
+                .targetRate(targetRate)
+                .intendedRate(profile != null ? perSecond(claimed.sum(), scheduleSpan) : 0.0)
+                .achievedRate(perSecond(sentCount, elapsed))
+                .averageLagMicros(sentCount > 0 ? totalLagNanos.sum() / 1000.0 / sentCount : 0.0)
+                .maxLagMicros(maxLagNanos.get() / 1000.0)
+                .build();
+    }
+
+    private long gapNanos(long offset) {
+        double rate = rateAt(offset);
+        if (profile.getType() == LoadProfile.Type.POISSON) {
+            double uniform = ThreadLocalRandom.current().nextDouble();
+            return Math.max(1L, (long) (-Math.log1p(-uniform) / rate * NANOS_PER_SECOND));
+        }
+        return Math.max(1L, (long) (NANOS_PER_SECOND / rate));
+    }
+
+    private static double perSecond(long count, long nanos) {
+        return nanos > 0 ? count * (double) NANOS_PER_SECOND / nanos : 0.0;
+    }
+
+    private static void validate(LoadProfile profile) {
+        if (profile.getType() == null || profile.getRate() == null) {
+            throw new IllegalArgumentException("Load profile requires a type and a rate");
+        }
+        switch (profile.getType()) {
+            case RAMP -> require(profile.getStartRate() != null && profile.getRampSeconds() != null,
+                    "RAMP load profile requires startRate and rampSeconds");
+            case STEP -> require(profile.getStartRate() != null && profile.getStepIncrement() != null
+                            && profile.getStepSeconds() != null,
+                    "STEP load profile requires startRate, stepIncrement and stepSeconds");
+            case BURST -> require(profile.getBurstRate() != null && profile.getBurstSeconds() != null
+                            && profile.getBurstIntervalSeconds() != null
+                            && profile.getBurstSeconds() < profile.getBurstIntervalSeconds(),
+                    "BURST load profile requires burstRate, and burstSeconds shorter than burstIntervalSeconds");
+            default -> {
+            }
+        }
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.currencycloud.transactbench.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The meters of one provider and payment rail. Callers look them up once per run or message and
+ * record through plain method calls, so the hot path never builds meter ids.
+ */
+public final class RailMeters {
+    private final Counter generated;
+    private final Counter published;
+    private final Counter confirmed;
+    private final Counter nacked;
+    private final Counter returned;
+    private final Timer generation;
+    private final Timer serialization;
+    private final Timer publish;
+    private final DistributionSummary payloadSize;
+    private final AtomicLong inFlightConfirms = new AtomicLong();
+
+    RailMeters(MeterRegistry registry, String provider, String paymentRail) {
+        Tags tags = Tags.of(TransactionMetrics.PROVIDER_TAG, provider, TransactionMetrics.RAIL_TAG, paymentRail);
+        generated = counter(registry, "transactbench.messages.generated", "Transactions generated", tags);
+        published = counter(registry, "transactbench.messages.published", "Messages handed to the sink", tags);
+        confirmed = counter(registry, "transactbench.messages.confirmed", "Messages confirmed by the broker", tags);
+        nacked = counter(registry, "transactbench.messages.nacked", "Messages nacked by the broker", tags);
+        returned = counter(registry, "transactbench.messages.returned", "Messages returned as unroutable", tags);
+        generation = timer(registry, "transactbench.generation", "Time to build one transaction", tags);
+        serialization = timer(registry, "transactbench.serialization", "Time to serialize one message body", tags);
+        publish = timer(registry, "transactbench.publish", "Time spent in one send call, serialization included",
+                tags);
+        payloadSize = DistributionSummary.builder("transactbench.payload.size")
+                .description("Size of one serialized message body")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("transactbench.confirms.in_flight", inFlightConfirms, AtomicLong::get)
+                .description("Messages sent and still awaiting a publisher confirm")
+                .tags(tags)
+                .register(registry);
+    }
+
+    public void recordGenerated(long nanos) {
+        generated.increment();
+        generation.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSerialized(long nanos, int bytes) {
+        serialization.record(nanos, TimeUnit.NANOSECONDS);
+        payloadSize.record(bytes);
+    }
+
+    public void recordPublished(long nanos) {
+        published.increment();
+        publish.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAwaitingConfirm() {
+        inFlightConfirms.incrementAndGet();
+    }
+
+    public void recordConfirmed() {
+        inFlightConfirms.decrementAndGet();
+        confirmed.increment();
+    }
+
+    public void recordNacked() {
+        inFlightConfirms.decrementAndGet();
+        nacked.increment();
+    }
+
+    public void recordReturned() {
+        inFlightConfirms.decrementAndGet();
+        returned.increment();
+    }
+
+    /**
+     * The message never reached the broker, so no confirm will come for it.
+     */
+    public void recordAbandoned() {
+        inFlightConfirms.decrementAndGet();
+    }
+
+    long inFlightConfirms() {
+        return inFlightConfirms.get();
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String description, Tags tags) {
+        return Counter.builder(name).description(description).tags(tags).register(registry);
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, Tags tags) {
+        return Timer.builder(name).description(description).tags(tags).register(registry);
+    }
+}
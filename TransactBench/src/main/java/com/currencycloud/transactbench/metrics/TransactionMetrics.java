@@ -0,0 +1,60 @@
+package com.currencycloud.transactbench.metrics;
+
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.model.Transaction;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Entry point for the generator and publisher meters, tagged by provider and payment rail and
+ * exported through the actuator's Prometheus endpoint.
+ */
+@Component
+public class TransactionMetrics {
+    static final String PROVIDER_TAG = "provider";
+    static final String RAIL_TAG = "rail";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry registry;
+    // Nested by provider then rail so lookups need no composite key
+    private final ConcurrentMap<String, ConcurrentMap<String, RailMeters>> meters = new ConcurrentHashMap<>();
+
+    public TransactionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public RailMeters forRail(String provider, String paymentRail) {
+        String providerTag = provider != null ? provider : UNKNOWN;
+        String railTag = paymentRail != null ? paymentRail : UNKNOWN;
+        return meters.computeIfAbsent(providerTag, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(railTag, key -> new RailMeters(registry, providerTag, railTag));
+    }
+
+    public RailMeters forTransaction(Transaction transaction) {
+        return forRail(transaction.getProvider(), transaction.getPaymentRail());
+    }
+
+    /**
+     * Gauges for work that has been accepted but not yet published: jobs waiting for an executor
+     * thread, and messages still to be published by unfinished jobs.
+     */
+    public void registerJobGauges(Collection<GenerationJob> jobs) {
+        Gauge.builder("transactbench.jobs.queued", jobs,
+                        all -> all.stream().filter(job -> job.getStatus() == JobStatus.QUEUED).count())
+                .description("Generation jobs waiting for an executor thread")
+                .register(registry);
+        Gauge.builder("transactbench.jobs.pending.messages", jobs,
+                        all -> all.stream()
+                                .filter(job -> !job.isFinished())
+                                .mapToLong(job -> Math.max(job.getRequestedCount() - job.getPublishedCount(), 0))
+                                .sum())
+                .description("Messages unfinished jobs have still to publish")
+                .register(registry);
+    }
+}
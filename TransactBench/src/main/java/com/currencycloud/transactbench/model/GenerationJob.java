@@ -0,0 +1,328 @@
+package com.currencycloud.transactbench.model;
+
+import com.currencycloud.transactbench.dataset.DatasetChecksum;
+import com.currencycloud.transactbench.dto.SerializationSummary;
+import com.currencycloud.transactbench.id.IdList;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.publish.PublishListener;
+import com.currencycloud.transactbench.scenario.PhaseProgress;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of a single asynchronous generation run. Counters are updated by publisher workers and
+ * confirm callbacks and read concurrently by status polls, so every mutable field is atomic or
+ * volatile.
+ */
+@Getter
+public class GenerationJob implements PublishListener {
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // Failed ids listed in the status response; the rest are available for download
+    private static final int MAX_LISTED_FAILED_IDS = 100;
+    // Failed ids kept for reconciliation, at 16 bytes each; the counters still cover every failure
+    private static final int MAX_TRACKED_FAILED_IDS = 1_000_000;
+
+    private final String id;
+    private final String provider;
+    private final String paymentRail;
+    private final long requestedCount;
+    private final LoadPacer pacer;
+    private final Long seed;
+    private final Instant createdAt = Instant.now();
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile LatencyReport latencyReport;
+    private volatile SerializationSummary serializationSummary;
+    private volatile List<PhaseProgress> phases;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong generated = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final DatasetChecksum checksum;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong published = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong confirmed = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong nacked = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong returned = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder totalConfirmLatencyNanos = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong maxConfirmLatencyNanos = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final IdList nackedIds = new IdList();
+    @Getter(AccessLevel.NONE)
+    private final IdList returnedIds = new IdList();
+
+    @Getter(AccessLevel.NONE)
+    private volatile long startNanos;
+    @Getter(AccessLevel.NONE)
+    private volatile long finishNanos;
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<RateSample> rateSample = new AtomicReference<>();
+
+    public GenerationJob(String id, String provider, String paymentRail, long requestedCount) {
+        this(id, provider, paymentRail, requestedCount, LoadPacer.unpaced());
+    }
+
+    public GenerationJob(String id, String provider, String paymentRail, long requestedCount, LoadPacer pacer) {
+        this(id, provider, paymentRail, requestedCount, pacer, null);
+    }
+
+    public GenerationJob(String id, String provider, String paymentRail, long requestedCount, LoadPacer pacer,
+                         Long seed) {
+        this.id = id;
+        this.provider = provider;
+        this.paymentRail = paymentRail;
+        this.requestedCount = requestedCount;
+        this.pacer = pacer;
+        this.seed = seed;
+        this.checksum = seed != null ? new DatasetChecksum() : null;
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        rateSample.set(new RateSample(startNanos, 0, 0.0));
+        startedAt = Instant.now();
+        status = JobStatus.RUNNING;
+    }
+
+    public void complete() {
+        finish();
+        status = JobStatus.COMPLETED;
+    }
+
+    /**
+     * Attaches the run's latency histograms; called before the job is marked finished so a
+     * finished job always has its report.
+     */
+    public void attachLatencyReport(LatencyReport report) {
+        latencyReport = report;
+    }
+
+    /**
+     * Attaches the run's payload sizes and serialization times, like the latency report.
+     */
+    public void attachSerializationSummary(SerializationSummary summary) {
+        serializationSummary = summary;
+    }
+
+    /**
+     * Attaches the phases of a scenario job before it starts, so status polls list every phase.
+     */
+    public void attachPhases(List<PhaseProgress> phases) {
+        this.phases = List.copyOf(phases);
+    }
+
+    public void fail(Throwable cause) {
+        error = cause.getMessage();
+        finish();
+        status = JobStatus.FAILED;
+    }
+
+    private void finish() {
+        finishNanos = System.nanoTime();
+        finishedAt = Instant.now();
+    }
+
+    public void recordGenerated() {
+        generated.incrementAndGet();
+    }
+
+    /**
+     * Counts a generated transaction and, for seeded jobs, folds it into the dataset checksum.
+     */
+    public void recordGenerated(Transaction transaction) {
+        recordGenerated();
+        if (checksum != null) {
+            checksum.add(transaction);
+        }
+    }
+
+    /**
+     * Dataset checksum of a seeded job, or null while it is still running, if it failed, or if it
+     * was not seeded.
+     */
+    public String getChecksum() {
+        return checksum != null && status == JobStatus.COMPLETED ? checksum.value() : null;
+    }
+
+    public void recordPublished() {
+        published.incrementAndGet();
+    }
+
+    public void recordConfirmed() {
+        confirmed.incrementAndGet();
+    }
+
+    @Override
+    public void onPublished(Transaction transaction) {
+        recordPublished();
+    }
+
+    @Override
+    public void onConfirmed(String transactionId, long confirmLatencyNanos) {
+        recordConfirmed();
+        totalConfirmLatencyNanos.add(confirmLatencyNanos);
+        maxConfirmLatencyNanos.accumulateAndGet(confirmLatencyNanos, Math::max);
+    }
+
+    @Override
+    public void onNacked(String transactionId, String cause) {
+        if (nacked.incrementAndGet() <= MAX_TRACKED_FAILED_IDS) {
+            track(nackedIds, transactionId);
+        }
+    }
+
+    @Override
+    public void onReturned(String transactionId, int replyCode, String replyText) {
+        if (returned.incrementAndGet() <= MAX_TRACKED_FAILED_IDS) {
+            track(returnedIds, transactionId);
+        }
+    }
+
+    public long getGeneratedCount() {
+        return generated.get();
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getConfirmedCount() {
+        return confirmed.get();
+    }
+
+    public long getNackedCount() {
+        return nacked.get();
+    }
+
+    public long getReturnedCount() {
+        return returned.get();
+    }
+
+    /**
+     * The first nacked ids, as listed in the status response.
+     */
+    public List<String> getNackedTransactionIds() {
+        return firstIds(nackedIds);
+    }
+
+    /**
+     * The first returned ids, as listed in the status response.
+     */
+    public List<String> getReturnedTransactionIds() {
+        return firstIds(returnedIds);
+    }
+
+    /**
+     * Every tracked nacked id, unaffected by failures recorded afterwards.
+     */
+    public IdList nackedIdsSnapshot() {
+        synchronized (nackedIds) {
+            return nackedIds.copy();
+        }
+    }
+
+    /**
+     * Every tracked returned id, unaffected by failures recorded afterwards.
+     */
+    public IdList returnedIdsSnapshot() {
+        synchronized (returnedIds) {
+            return returnedIds.copy();
+        }
+    }
+
+    private static void track(IdList ids, String transactionId) {
+        // Confirm and return callbacks arrive on several channel threads
+        synchronized (ids) {
+            ids.add(transactionId);
+        }
+    }
+
+    private static List<String> firstIds(IdList ids) {
+        synchronized (ids) {
+            return List.copyOf(ids.subList(0, Math.min(ids.size(), MAX_LISTED_FAILED_IDS)));
+        }
+    }
+
+    public double averageConfirmLatencyMicros() {
+        long count = confirmed.get();
+        return count > 0 ? totalConfirmLatencyNanos.sum() / 1000.0 / count : 0.0;
+    }
+
+    public double maxConfirmLatencyMicros() {
+        return maxConfirmLatencyNanos.get() / 1000.0;
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+
+    /**
+     * Messages published per second since the run started (or over the whole run once finished).
+     */
+    public double averageRate() {
+        if (startNanos == 0) {
+            return 0.0;
+        }
+        long end = isFinished() ? finishNanos : System.nanoTime();
+        return perSecond(published.get(), end - startNanos);
+    }
+
+    /**
+     * Publish rate over roughly the last second. The window is advanced by whichever status poll
+     * first observes it has elapsed, so concurrent pollers share one measurement.
+     */
+    public double currentRate() {
+        RateSample previous = rateSample.get();
+        if (previous == null || isFinished()) {
+            return 0.0;
+        }
+        long now = System.nanoTime();
+        long elapsed = now - previous.nanos();
+        if (elapsed < RATE_WINDOW_NANOS) {
+            return previous.nanos() == startNanos ? averageRate() : previous.rate();
+        }
+        long count = published.get();
+        double rate = perSecond(count - previous.count(), elapsed);
+        rateSample.compareAndSet(previous, new RateSample(now, count, rate));
+        return rate;
+    }
+
+    /**
+     * Estimated seconds until every requested message is published, or {@code null} while no rate
+     * has been observed yet.
+     */
+    public Long etaSeconds() {
+        if (isFinished()) {
+            return 0L;
+        }
+        double rate = currentRate();
+        if (rate <= 0.0) {
+            return null;
+        }
+        long remaining = Math.max(requestedCount - published.get(), 0);
+        return (long) Math.ceil(remaining / rate);
+    }
+
+    private static double perSecond(long count, long nanos) {
+        return nanos > 0 ? count * (double) TimeUnit.SECONDS.toNanos(1) / nanos : 0.0;
+    }
+
+    private record RateSample(long nanos, long count, double rate) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.currencycloud.transactbench.model;
+
+import com.currencycloud.transactbench.id.IdList;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The ids of one generation run, kept for download after the response has been sent. Seeded
+ * runs do not store anything: their ids are replayed from the seed on each download.
+ */
+@Getter
+public final class IdLedger {
+    private final String id;
+    private final long count;
+    private final Instant createdAt = Instant.now();
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Stream<String>> ids;
+
+    private IdLedger(String id, long count, Supplier<Stream<String>> ids) {
+        this.id = id;
+        this.count = count;
+        this.ids = ids;
+    }
+
+    /**
+     * Takes ownership of {@code ids}; the caller must not append to them afterwards.
+     */
+    public static IdLedger recorded(String id, IdList ids) {
+        return new IdLedger(id, ids.size(), ids::stream);
+    }
+
+    public static IdLedger replayed(String id, long count, Supplier<Stream<String>> ids) {
+        return new IdLedger(id, count, ids);
+    }
+
+    public Stream<String> ids() {
+        return ids.get();
+    }
+}
@@ -0,0 +1,31 @@
+package com.currencycloud.transactbench.model;
+
+/**
+ * Read-only {@link Account} that many generated transactions can share. Serializes and compares
+ * exactly like a plain account; every setter throws.
+ */
+public final class ImmutableAccount extends Account {
+
+    public ImmutableAccount(String accountNumber, String bic, String iban) {
+        super(accountNumber, bic, iban);
+    }
+
+    @Override
+    public void setAccountNumber(String accountNumber) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setBic(String bic) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setIban(String iban) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Shared account is read-only; copy it before modifying");
+    }
+}
@@ -0,0 +1,41 @@
+package com.currencycloud.transactbench.model;
+
+/**
+ * Read-only {@link Sender} that many generated transactions can share. Serializes and compares
+ * exactly like a plain sender; every setter throws.
+ */
+public final class ImmutableSender extends Sender {
+
+    public ImmutableSender(String freeText, String name, String ultimateSenderName, String address, String country) {
+        super(freeText, name, ultimateSenderName, address, country);
+    }
+
+    @Override
+    public void setFreeText(String freeText) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setUltimateSenderName(String ultimateSenderName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setAddress(String address) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCountry(String country) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Shared sender is read-only; copy it before modifying");
+    }
+}
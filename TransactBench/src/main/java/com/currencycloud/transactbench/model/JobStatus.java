@@ -0,0 +1,8 @@
+package com.currencycloud.transactbench.model;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
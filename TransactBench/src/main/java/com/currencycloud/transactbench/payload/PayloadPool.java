@@ -0,0 +1,48 @@
+package com.currencycloud.transactbench.payload;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The pre-generated payloads of one size distribution and their weights. Picking a payload is a
+ * search over the cumulative weights; nothing is built or copied per message.
+ *
+ * <p>Immutable and safe to share between runs and threads.
+ */
+public final class PayloadPool {
+    private final PooledPayload[] payloads;
+    private final int[] cumulativeWeights;
+
+    PayloadPool(int[] sizes, int[] weights) {
+        Map<Integer, PooledPayload> bySize = new HashMap<>();
+        this.payloads = new PooledPayload[sizes.length];
+        this.cumulativeWeights = new int[sizes.length];
+        int total = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            payloads[i] = bySize.computeIfAbsent(sizes[i], PooledPayload::ofSize);
+            total += weights[i];
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Exclusive upper bound of the draws {@link #at(int)} accepts: the total weight.
+     */
+    public int draws() {
+        return cumulativeWeights[cumulativeWeights.length - 1];
+    }
+
+    /**
+     * The payload for a draw uniform in [0, {@link #draws()}), so each size comes up in
+     * proportion to its weight.
+     */
+    public PooledPayload at(int draw) {
+        int index = Arrays.binarySearch(cumulativeWeights, draw + 1);
+        return payloads[index >= 0 ? index : -index - 1];
+    }
+
+    int size() {
+        return payloads.length;
+    }
+}
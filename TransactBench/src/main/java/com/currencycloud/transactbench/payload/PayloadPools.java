@@ -0,0 +1,134 @@
+package com.currencycloud.transactbench.payload;
+
+import com.currencycloud.transactbench.config.PayloadProperties;
+import com.currencycloud.transactbench.dto.PayloadProfile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns payload profiles into pools of pre-generated content. Runs asking for the same
+ * distribution share one pool, so repeated large-message runs generate their content once.
+ */
+@Component
+public class PayloadPools {
+    private final PayloadProperties properties;
+    private final Map<Shape, PayloadPool> pools;
+
+    public PayloadPools(PayloadProperties properties) {
+        if (properties.getUniformSteps() < 1) {
+            throw new IllegalArgumentException("Uniform payload steps must be positive");
+        }
+        this.properties = properties;
+        this.pools = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Shape, PayloadPool> eldest) {
+                return size() > properties.getCachedPools();
+            }
+        };
+    }
+
+    /**
+     * The pool for a profile, generating its content on first use; null when there is no profile,
+     * which leaves {@code transaction_content} empty.
+     */
+    public PayloadPool forProfile(PayloadProfile profile) {
+        if (profile == null) {
+            return null;
+        }
+        Shape shape = shapeOf(profile);
+        synchronized (pools) {
+            return pools.computeIfAbsent(shape, s -> new PayloadPool(s.sizes(), s.weights()));
+        }
+    }
+
+    int cachedPools() {
+        synchronized (pools) {
+            return pools.size();
+        }
+    }
+
+    private Shape shapeOf(PayloadProfile profile) {
+        if (profile.getType() == null) {
+            throw new IllegalArgumentException("Payload profile type is required");
+        }
+        return switch (profile.getType()) {
+            case FIXED -> new Shape(new int[]{checkSize(profile.getSize(), "size")}, new int[]{1});
+            case UNIFORM -> uniform(checkSize(profile.getMinSize(), "minSize"),
+                    checkSize(profile.getMaxSize(), "maxSize"));
+            case HISTOGRAM -> histogram(profile.getBuckets());
+        };
+    }
+
+    /**
+     * Quantizes the range to evenly spaced sizes of equal weight, which keeps the mean and bounds
+     * of a continuous uniform distribution with a bounded amount of pre-generated content.
+     */
+    private Shape uniform(int minSize, int maxSize) {
+        if (minSize > maxSize) {
+            throw new IllegalArgumentException("UNIFORM payload profile requires minSize <= maxSize");
+        }
+        int steps = (int) Math.min(properties.getUniformSteps(), (long) maxSize - minSize + 1);
+        int[] sizes = new int[steps];
+        for (int i = 0; i < steps; i++) {
+            sizes[i] = steps == 1 ? minSize : (int) (minSize + ((long) maxSize - minSize) * i / (steps - 1));
+        }
+        int[] weights = new int[steps];
+        Arrays.fill(weights, 1);
+        return new Shape(sizes, weights);
+    }
+
+    private Shape histogram(List<PayloadProfile.Bucket> buckets) {
+        if (buckets == null || buckets.isEmpty()) {
+            throw new IllegalArgumentException("HISTOGRAM payload profile requires buckets");
+        }
+        int[] sizes = new int[buckets.size()];
+        int[] weights = new int[buckets.size()];
+        long total = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            PayloadProfile.Bucket bucket = buckets.get(i);
+            sizes[i] = checkSize(bucket.getSize(), "bucket size");
+            if (bucket.getWeight() == null || bucket.getWeight() < 1) {
+                throw new IllegalArgumentException("Payload bucket weights must be positive");
+            }
+            weights[i] = bucket.getWeight();
+            total += weights[i];
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Payload bucket weights must not sum to more than "
+                    + Integer.MAX_VALUE);
+        }
+        return new Shape(sizes, weights);
+    }
+
+    private int checkSize(Integer size, String field) {
+        if (size == null) {
+            throw new IllegalArgumentException("Payload profile requires " + field);
+        }
+        if (size < 0 || size > properties.getMaxSize().toBytes()) {
+            throw new IllegalArgumentException("Payload " + field + " must be between 0 and "
+                    + properties.getMaxSize().toBytes() + " bytes");
+        }
+        return size;
+    }
+
+    /**
+     * Cache key: the sizes and weights a profile resolves to, so equivalent profiles share a pool.
+     */
+    private record Shape(int[] sizes, int[] weights) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Shape shape
+                    && Arrays.equals(sizes, shape.sizes) && Arrays.equals(weights, shape.weights);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(sizes) + Arrays.hashCode(weights);
+        }
+    }
+}
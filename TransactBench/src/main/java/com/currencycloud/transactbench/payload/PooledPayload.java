@@ -0,0 +1,74 @@
+package com.currencycloud.transactbench.payload;
+
+import com.currencycloud.transactbench.dataset.DatasetRandom;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pre-generated {@code transaction_content} of a fixed size, shared by every transaction that
+ * draws it. The text is ASCII letters and digits, so it is as many bytes as characters and needs
+ * no escaping; its JSON string encoding is built once and copied into each body as it is.
+ *
+ * <p>The text is a prefix of one fixed sequence, so it depends on nothing but its size and seeded
+ * runs replay the same content on every instance.
+ */
+public final class PooledPayload {
+    private static final long CONTENT_SEED = 0x7472616E73616374L;
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+    private final String text;
+    private final byte[] json;
+
+    private PooledPayload(String text) {
+        this.text = text;
+        this.json = ('"' + text + '"').getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static PooledPayload ofSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Payload size must not be negative");
+        }
+        DatasetRandom random = new DatasetRandom(CONTENT_SEED);
+        char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new PooledPayload(new String(chars));
+    }
+
+    /**
+     * Serializers other than the streaming writer see the content as a plain string.
+     */
+    @JsonValue
+    public String text() {
+        return text;
+    }
+
+    /**
+     * The quoted JSON string, shared by every caller; it must not be modified.
+     */
+    public byte[] json() {
+        return json;
+    }
+
+    public int size() {
+        return text.length();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PooledPayload payload && text.equals(payload.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,69 @@
+package com.currencycloud.transactbench.probe;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consumes messages and records the time from their send stamp to their arrival. Bodies are never
+ * deserialized, so the probe keeps up with the publisher on a single consumer.
+ *
+ * <p>Consumers record into a wait-free recorder; readers fold its intervals into the cumulative
+ * histogram, which is the only state guarded by a lock.
+ */
+@Component
+public class EndToEndLatencyProbe implements MessageListener {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final AtomicLong unstamped = new AtomicLong();
+    private Histogram cumulative = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram interval;
+    private long startMillis = System.currentTimeMillis();
+
+    @Override
+    public void onMessage(Message message) {
+        Long sentAt = SendTimestamps.sentAt(message);
+        if (sentAt == null) {
+            unstamped.incrementAndGet();
+            return;
+        }
+        // Clocks of different hosts can disagree slightly; a negative latency is recorded as zero
+        recorder.recordValue(Math.max(SendTimestamps.epochNanos() - sentAt, 0));
+    }
+
+    /**
+     * End-to-end latencies in nanoseconds since the probe started or was last reset.
+     */
+    public synchronized Histogram snapshot() {
+        interval = recorder.getIntervalHistogram(interval);
+        cumulative.add(interval);
+        Histogram copy = cumulative.copy();
+        copy.setStartTimeStamp(startMillis);
+        copy.setEndTimeStamp(System.currentTimeMillis());
+        copy.setTag("end-to-end");
+        return copy;
+    }
+
+    public synchronized void reset() {
+        recorder.reset();
+        cumulative.reset();
+        unstamped.set(0);
+        startMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Messages received without a send stamp, for example those sent by other publishers.
+     */
+    public long getUnstampedCount() {
+        return unstamped.get();
+    }
+
+    public synchronized long getStartMillis() {
+        return startMillis;
+    }
+}
@@ -0,0 +1,36 @@
+package com.currencycloud.transactbench.probe;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+
+import java.time.Instant;
+
+/**
+ * Stamps each outgoing message with its send time, in nanoseconds since the epoch, just before it
+ * is written to the channel. The probe subtracts this from its own clock on receipt, so the value
+ * only compares meaningfully between hosts whose clocks are synchronised.
+ */
+public final class SendTimestamps implements MessagePostProcessor {
+    public static final String HEADER = "x-sent-at-nanos";
+
+    @Override
+    public Message postProcessMessage(Message message) {
+        message.getMessageProperties().setHeader(HEADER, epochNanos());
+        return message;
+    }
+
+    /**
+     * Wall-clock time at the resolution of the system clock, typically microseconds.
+     */
+    public static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    /**
+     * The send time stamped on {@code message}, or {@code null} if it has none.
+     */
+    public static Long sentAt(Message message) {
+        return message.getMessageProperties().getHeader(HEADER) instanceof Number sent ? sent.longValue() : null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.currencycloud.transactbench.publish;
+
+public enum ConfirmMode {
+    /** Fire and forget; the broker never acknowledges individual messages. */
+    NONE,
+    /** Correlated publisher confirms and mandatory returns, pipelined up to the in-flight window. */
+    ASYNC
+}
@@ -0,0 +1,153 @@
+package com.currencycloud.transactbench.publish;
+
+import com.currencycloud.transactbench.latency.WorkerLatency;
+import com.currencycloud.transactbench.metrics.RailMeters;
+import lombok.Getter;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds the number of unconfirmed messages a single publisher channel may have outstanding.
+ * Sends block once the window is full and resume as confirms arrive, so confirms are pipelined
+ * rather than awaited one message at a time.
+ */
+public class ConfirmWindow {
+    private final int size;
+    private final Semaphore permits;
+    private final PublishListener listener;
+    private final WorkerLatency latency;
+
+    public ConfirmWindow(int size, PublishListener listener) {
+        this(size, listener, null);
+    }
+
+    /**
+     * @param latency histograms to record each confirm's latency in, or {@code null}
+     */
+    public ConfirmWindow(int size, PublishListener listener, WorkerLatency latency) {
+        this.size = size;
+        this.permits = new Semaphore(size);
+        this.listener = listener;
+        this.latency = latency;
+    }
+
+    /**
+     * Waits for room in the window and returns the correlation to send the message with.
+     */
+    public TransactionCorrelation track(String transactionId) throws InterruptedException {
+        return track(transactionId, null);
+    }
+
+    /**
+     * As {@link #track(String)}, also counting the message against the rail's in-flight gauge
+     * until its confirm, nack or return arrives.
+     */
+    public TransactionCorrelation track(String transactionId, RailMeters meters) throws InterruptedException {
+        return track(transactionId, meters, Long.MAX_VALUE);
+    }
+
+    /**
+     * As {@link #track(String, RailMeters)}, for a message that was due to be sent at
+     * {@code intendedNanos} so its corrected confirm latency includes any lag behind schedule.
+     */
+    public TransactionCorrelation track(String transactionId, RailMeters meters, long intendedNanos)
+            throws InterruptedException {
+        permits.acquire();
+        if (meters != null) {
+            meters.recordAwaitingConfirm();
+        }
+        return new TransactionCorrelation(transactionId, System.nanoTime(), intendedNanos, this, meters);
+    }
+
+    /**
+     * Gives back the slot of a message that never reached the broker.
+     */
+    public void abandon(TransactionCorrelation correlation) {
+        if (correlation.completed.compareAndSet(false, true)) {
+            if (correlation.meters != null) {
+                correlation.meters.recordAbandoned();
+            }
+            permits.release();
+        }
+    }
+
+    public boolean awaitDrained(Duration timeout) throws InterruptedException {
+        if (permits.tryAcquire(size, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            permits.release(size);
+            return true;
+        }
+        return false;
+    }
+
+    public int inFlight() {
+        return size - permits.availablePermits();
+    }
+
+    /**
+     * Confirm callback shared by every channel of a template; routes each confirm back to the
+     * window that sent the message.
+     */
+    public static void handleConfirm(CorrelationData correlationData, boolean ack, String cause) {
+        if (correlationData instanceof TransactionCorrelation correlation) {
+            correlation.window.complete(correlation, ack, cause);
+        }
+    }
+
+    private void complete(TransactionCorrelation correlation, boolean ack, String cause) {
+        if (!correlation.completed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            ReturnedMessage returned = correlation.getReturned();
+            RailMeters meters = correlation.meters;
+            if (returned != null) {
+                if (meters != null) {
+                    meters.recordReturned();
+                }
+                listener.onReturned(correlation.getTransactionId(), returned.getReplyCode(), returned.getReplyText());
+            } else if (ack) {
+                long confirmedNanos = System.nanoTime();
+                if (meters != null) {
+                    meters.recordConfirmed();
+                }
+                if (latency != null) {
+                    latency.recordConfirm(correlation.intendedNanos, correlation.getSentNanos(), confirmedNanos);
+                }
+                listener.onConfirmed(correlation.getTransactionId(), confirmedNanos - correlation.getSentNanos());
+            } else {
+                if (meters != null) {
+                    meters.recordNacked();
+                }
+                listener.onNacked(correlation.getTransactionId(), cause);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public static class TransactionCorrelation extends CorrelationData {
+        @Getter
+        private final String transactionId;
+        @Getter
+        private final long sentNanos;
+        private final long intendedNanos;
+        private final ConfirmWindow window;
+        private final RailMeters meters;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private TransactionCorrelation(String transactionId, long sentNanos, long intendedNanos,
+                                       ConfirmWindow window, RailMeters meters) {
+            super(transactionId);
+            this.transactionId = transactionId;
+            this.sentNanos = sentNanos;
+            this.intendedNanos = intendedNanos;
+            this.window = window;
+            this.meters = meters;
+        }
+    }
+}
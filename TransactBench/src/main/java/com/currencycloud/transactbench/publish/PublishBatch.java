@@ -0,0 +1,68 @@
+package com.currencycloud.transactbench.publish;
+
+import com.currencycloud.transactbench.model.Transaction;
+
+import java.util.Arrays;
+
+/**
+ * Reusable per-worker buffer of transactions waiting to be sent together, along with the
+ * intended send offset of each so pacing lag is still measured per message.
+ */
+public class PublishBatch {
+    private final Transaction[] transactions;
+    private final long[] intendedOffsets;
+    private final long lingerNanos;
+    private int size;
+    private long firstAddedNanos;
+
+    public PublishBatch(int capacity, long lingerNanos) {
+        this.transactions = new Transaction[capacity];
+        this.intendedOffsets = new long[capacity];
+        this.lingerNanos = lingerNanos;
+    }
+
+    public void add(Transaction transaction, long intendedOffset) {
+        if (size == 0) {
+            firstAddedNanos = System.nanoTime();
+        }
+        transactions[size] = transaction;
+        intendedOffsets[size] = intendedOffset;
+        size++;
+    }
+
+    /**
+     * True once the batch is full or its oldest message has waited for the linger time.
+     */
+    public boolean isReady() {
+        return size == transactions.length || (size > 0 && System.nanoTime() - firstAddedNanos >= lingerNanos);
+    }
+
+    /**
+     * The {@link System#nanoTime()} at which the oldest message will have waited for the linger
+     * time, or {@link Long#MAX_VALUE} while the batch is empty.
+     */
+    public long lingerDeadlineNanos() {
+        return size > 0 ? firstAddedNanos + lingerNanos : Long.MAX_VALUE;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Transaction transactionAt(int index) {
+        return transactions[index];
+    }
+
+    public long intendedOffsetAt(int index) {
+        return intendedOffsets[index];
+    }
+
+    public void clear() {
+        Arrays.fill(transactions, 0, size, null);
+        size = 0;
+    }
+}
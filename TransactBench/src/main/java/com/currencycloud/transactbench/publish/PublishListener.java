@@ -0,0 +1,22 @@
+package com.currencycloud.transactbench.publish;
+
+import com.currencycloud.transactbench.model.Transaction;
+
+/**
+ * Receives the outcome of every message a publisher sends. Confirm, nack and return callbacks
+ * arrive on AMQP connection threads, so implementations must be thread-safe.
+ */
+@FunctionalInterface
+public interface PublishListener {
+
+    void onPublished(Transaction transaction);
+
+    default void onConfirmed(String transactionId, long confirmLatencyNanos) {
+    }
+
+    default void onNacked(String transactionId, String cause) {
+    }
+
+    default void onReturned(String transactionId, int replyCode, String replyText) {
+    }
+}
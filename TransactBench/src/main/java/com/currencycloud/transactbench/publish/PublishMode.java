@@ -0,0 +1,8 @@
+package com.currencycloud.transactbench.publish;
+
+public enum PublishMode {
+    /** Each message is sent as soon as its send slot comes up. */
+    PER_MESSAGE,
+    /** Messages are sent back-to-back in groups, with one confirm wait per group. */
+    BATCH
+}
@@ -0,0 +1,38 @@
+package com.currencycloud.transactbench.publish;
+
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.serialization.SerializationRecorder;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.sink.SinkType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * The per-run choices and recorders of one publish. Choices left unset fall back to the
+ * configured defaults; the recorders are read by the caller once the run is done.
+ */
+@Getter
+@Builder
+public class PublishRun {
+    /**
+     * Identifies the run to sinks that keep output per run.
+     */
+    @Builder.Default
+    private final String id = UUID.randomUUID().toString();
+
+    private final PublishMode mode;
+
+    private final SinkType sink;
+
+    private final WireFormat wireFormat;
+
+    /**
+     * Recorder the workers' latency histograms are added to; a new one when unset.
+     */
+    private final LatencyRecorder latency;
+
+    @Builder.Default
+    private final SerializationRecorder serialization = new SerializationRecorder();
+}
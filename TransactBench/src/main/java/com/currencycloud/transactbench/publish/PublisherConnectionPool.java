@@ -0,0 +1,104 @@
+package com.currencycloud.transactbench.publish;
+
+import com.currencycloud.transactbench.probe.SendTimestamps;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fixed set of AMQP connections reserved for the parallel publisher. Connection {@code i} tries
+ * broker address {@code i mod n} first, so connections spread across the cluster and fail over to
+ * the remaining addresses. Workers are assigned to connections round-robin.
+ */
+@Slf4j
+public class PublisherConnectionPool implements DisposableBean {
+    private final List<CachingConnectionFactory> connectionFactories = new ArrayList<>();
+    private final List<RabbitTemplate> templates = new ArrayList<>();
+    private final int workers;
+    private final ConfirmMode confirmMode;
+
+    public PublisherConnectionPool(List<String> addresses, String username, String password, String virtualHost,
+                                   int connections, int channelsPerConnection, int workers,
+                                   MessageConverter messageConverter) {
+        this(addresses, username, password, virtualHost, connections, channelsPerConnection, workers,
+                messageConverter, ConfirmMode.NONE);
+    }
+
+    public PublisherConnectionPool(List<String> addresses, String username, String password, String virtualHost,
+                                   int connections, int channelsPerConnection, int workers,
+                                   MessageConverter messageConverter, ConfirmMode confirmMode) {
+        if (addresses.isEmpty()) {
+            throw new IllegalArgumentException("At least one broker address is required");
+        }
+        this.workers = workers;
+        this.confirmMode = confirmMode;
+
+        for (int i = 0; i < connections; i++) {
+            CachingConnectionFactory connectionFactory = new CachingConnectionFactory();
+            connectionFactory.setAddresses(String.join(",", rotate(addresses, i)));
+            connectionFactory.setUsername(username);
+            connectionFactory.setPassword(password);
+            if (virtualHost != null) {
+                connectionFactory.setVirtualHost(virtualHost);
+            }
+            connectionFactory.setChannelCacheSize(channelsPerConnection);
+            int connectionIndex = i;
+            connectionFactory.setConnectionNameStrategy(factory -> "transactbench-publisher-" + connectionIndex);
+            if (confirmMode == ConfirmMode.ASYNC) {
+                connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+                connectionFactory.setPublisherReturns(true);
+            }
+            connectionFactories.add(connectionFactory);
+
+            RabbitTemplate template = new RabbitTemplate(connectionFactory);
+            template.setMessageConverter(messageConverter);
+            template.addBeforePublishPostProcessors(new SendTimestamps());
+            if (confirmMode == ConfirmMode.ASYNC) {
+                template.setMandatory(true);
+                template.setConfirmCallback(ConfirmWindow::handleConfirm);
+            }
+            templates.add(template);
+        }
+
+        log.info("Publisher pool sized for {} workers over {} connections, {} channels each, confirms: {}, addresses: {}",
+                workers, connections, channelsPerConnection, confirmMode, addresses);
+    }
+
+    public RabbitTemplate templateForWorker(int worker) {
+        return templates.get(worker % templates.size());
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public ConfirmMode getConfirmMode() {
+        return confirmMode;
+    }
+
+    public int getConnections() {
+        return connectionFactories.size();
+    }
+
+    List<CachingConnectionFactory> getConnectionFactories() {
+        return connectionFactories;
+    }
+
+    @Override
+    public void destroy() {
+        connectionFactories.forEach(CachingConnectionFactory::destroy);
+    }
+
+    static List<String> rotate(List<String> addresses, int distance) {
+        List<String> rotated = new ArrayList<>(addresses.size());
+        for (int i = 0; i < addresses.size(); i++) {
+            rotated.add(addresses.get((i + distance) % addresses.size()));
+        }
+        return rotated;
+    }
+}
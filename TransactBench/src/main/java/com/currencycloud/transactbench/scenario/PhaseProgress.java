@@ -0,0 +1,183 @@
+package com.currencycloud.transactbench.scenario;
+
+import com.currencycloud.transactbench.dto.PhaseReport;
+import com.currencycloud.transactbench.dto.Scenario;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishListener;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of one scenario phase. Publisher workers report to the phase, which forwards every
+ * event to the scenario's job so the job keeps its run-wide totals.
+ */
+@Getter
+public class PhaseProgress implements PublishListener {
+    private final String name;
+    private final Scenario.Phase.Type type;
+    private final Long count;
+    private final Double durationSeconds;
+    private final List<Scenario.TrafficShare> mix;
+
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile LoadPacer pacer;
+    private volatile LatencyReport latencyReport;
+
+    @Getter(AccessLevel.NONE)
+    private final GenerationJob job;
+    @Getter(AccessLevel.NONE)
+    private final LongAdder generated = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder published = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder confirmed = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder nacked = new LongAdder();
+    @Getter(AccessLevel.NONE)
+    private final LongAdder returned = new LongAdder();
+    // Looked up by provider and then rail, so counting a message allocates nothing
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, LongAdder>> publishedByShare = new HashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private volatile long startNanos;
+    @Getter(AccessLevel.NONE)
+    private volatile long finishNanos;
+
+    public PhaseProgress(String name, Scenario.Phase.Type type, Long count, Double durationSeconds,
+                         List<Scenario.TrafficShare> mix, GenerationJob job) {
+        this.name = name;
+        this.type = type;
+        this.count = count;
+        this.durationSeconds = durationSeconds;
+        this.mix = List.copyOf(mix);
+        this.job = job;
+        for (Scenario.TrafficShare share : mix) {
+            publishedByShare.computeIfAbsent(share.getProvider(), provider -> new HashMap<>())
+                    .putIfAbsent(share.getPaymentRail(), new LongAdder());
+        }
+    }
+
+    public void start(LoadPacer pacer) {
+        this.pacer = pacer;
+        startNanos = System.nanoTime();
+        startedAt = Instant.now();
+        status = JobStatus.RUNNING;
+    }
+
+    public void complete(LatencyReport report) {
+        finish(report);
+        status = JobStatus.COMPLETED;
+    }
+
+    public void fail(LatencyReport report) {
+        finish(report);
+        status = JobStatus.FAILED;
+    }
+
+    private void finish(LatencyReport report) {
+        latencyReport = report;
+        finishNanos = System.nanoTime();
+        finishedAt = Instant.now();
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+
+    /**
+     * Counts a generated transaction here and in the job, including the job's dataset checksum.
+     */
+    public void recordGenerated(Transaction transaction) {
+        generated.increment();
+        job.recordGenerated(transaction);
+    }
+
+    @Override
+    public void onPublished(Transaction transaction) {
+        published.increment();
+        Map<String, LongAdder> rails = publishedByShare.get(transaction.getProvider());
+        LongAdder share = rails != null ? rails.get(transaction.getPaymentRail()) : null;
+        if (share != null) {
+            share.increment();
+        }
+        job.onPublished(transaction);
+    }
+
+    @Override
+    public void onConfirmed(String transactionId, long confirmLatencyNanos) {
+        confirmed.increment();
+        job.onConfirmed(transactionId, confirmLatencyNanos);
+    }
+
+    @Override
+    public void onNacked(String transactionId, String cause) {
+        nacked.increment();
+        job.onNacked(transactionId, cause);
+    }
+
+    @Override
+    public void onReturned(String transactionId, int replyCode, String replyText) {
+        returned.increment();
+        job.onReturned(transactionId, replyCode, replyText);
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Messages published per second since the phase started, or over the whole phase once finished.
+     */
+    public double averageRate() {
+        if (startNanos == 0) {
+            return 0.0;
+        }
+        long end = isFinished() ? finishNanos : System.nanoTime();
+        long nanos = end - startNanos;
+        return nanos > 0 ? published.sum() * (double) TimeUnit.SECONDS.toNanos(1) / nanos : 0.0;
+    }
+
+    public PhaseReport report() {
+        List<PhaseReport.ShareCount> shares = new ArrayList<>(mix.size());
+        for (Scenario.TrafficShare share : mix) {
+            long sharePublished = publishedByShare.get(share.getProvider()).get(share.getPaymentRail()).sum();
+            shares.add(new PhaseReport.ShareCount(share.getProvider(), share.getPaymentRail(),
+                    share.getWeight(), sharePublished));
+        }
+        LoadPacer phasePacer = pacer;
+        LatencyReport latency = latencyReport;
+        return PhaseReport.builder()
+                .name(name)
+                .type(type)
+                .status(status)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .count(count)
+                .durationSeconds(durationSeconds)
+                .generated(generated.sum())
+                .published(published.sum())
+                .confirmed(confirmed.sum())
+                .nacked(nacked.sum())
+                .returned(returned.sum())
+                .averageRate(averageRate())
+                .mix(shares)
+                .pacing(phasePacer != null && phasePacer.isPaced() ? phasePacer.report() : null)
+                .latency(latency != null ? latency.summary() : null)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Message converter for the binary {@link WireFormat}s. Transactions are written with the Jackson
+ * mapper of the format, so field names and null handling follow the same annotations as JSON.
+ *
+ * <p>Messages carry the format's content type and the {@code __TypeId__} header Jackson's JSON
+ * converter sets. AVRO bodies are plain datum encodings without a container header; their
+ * {@value #SCHEMA_FINGERPRINT_HEADER} header names the writer schema by its 64-bit parsing
+ * fingerprint. Serialization time and body size are recorded per rail, as for JSON.
+ */
+public class BinaryTransactionConverter implements MessageConverter {
+    public static final String SCHEMA_FINGERPRINT_HEADER = "x-avro-schema-fingerprint";
+    static final String AVRO_SCHEMA_RESOURCE = "/avro/transaction.avsc";
+    private static final String TRANSACTION_TYPE_ID = Transaction.class.getName();
+
+    private final WireFormat format;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final Map<String, Object> headers;
+    private final TransactionMetrics metrics;
+
+    private BinaryTransactionConverter(WireFormat format, ObjectWriter writer, ObjectReader reader,
+                                       Map<String, Object> headers, TransactionMetrics metrics) {
+        this.format = format;
+        this.writer = writer;
+        this.reader = reader;
+        this.headers = headers;
+        this.metrics = metrics;
+    }
+
+    public static BinaryTransactionConverter smile(TransactionMetrics metrics) {
+        return schemaless(WireFormat.SMILE, new SmileMapper(), metrics);
+    }
+
+    public static BinaryTransactionConverter cbor(TransactionMetrics metrics) {
+        return schemaless(WireFormat.CBOR, new CBORMapper(), metrics);
+    }
+
+    public static BinaryTransactionConverter avro(TransactionMetrics metrics) {
+        AvroMapper mapper = new AvroMapper();
+        AvroSchema schema = new AvroSchema(loadAvroSchema());
+        return new BinaryTransactionConverter(WireFormat.AVRO,
+                mapper.writer(schema).forType(Transaction.class),
+                mapper.readerFor(Transaction.class).with(schema),
+                Map.of(SCHEMA_FINGERPRINT_HEADER, fingerprint(schema.getAvroSchema())), metrics);
+    }
+
+    private static BinaryTransactionConverter schemaless(WireFormat format, ObjectMapper mapper,
+                                                         TransactionMetrics metrics) {
+        return new BinaryTransactionConverter(format, mapper.writerFor(Transaction.class),
+                mapper.readerFor(Transaction.class), Map.of(), metrics);
+    }
+
+    /**
+     * The writer schema of AVRO transaction messages.
+     */
+    public static Schema loadAvroSchema() {
+        try (InputStream in = BinaryTransactionConverter.class.getResourceAsStream(AVRO_SCHEMA_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing Avro schema " + AVRO_SCHEMA_RESOURCE);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read Avro schema " + AVRO_SCHEMA_RESOURCE, e);
+        }
+    }
+
+    /**
+     * The {@value #SCHEMA_FINGERPRINT_HEADER} header value of the given schema: its 64-bit parsing
+     * fingerprint in hex.
+     */
+    public static String fingerprint(Schema schema) {
+        return Long.toHexString(SchemaNormalization.parsingFingerprint64(schema));
+    }
+
+    public WireFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (!(object instanceof Transaction transaction)) {
+            throw new MessageConversionException(format + " converter only writes transactions, not "
+                    + (object != null ? object.getClass().getName() : "null"));
+        }
+
+        long start = System.nanoTime();
+        byte[] body;
+        try {
+            body = writer.writeValueAsBytes(transaction);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to write transaction " + transaction.getId()
+                    + " as " + format, e);
+        }
+        messageProperties.setContentType(format.getContentType());
+        messageProperties.setContentLength(body.length);
+        messageProperties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, TRANSACTION_TYPE_ID);
+        headers.forEach(messageProperties::setHeader);
+        metrics.forTransaction(transaction).recordSerialized(System.nanoTime() - start, body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        try {
+            return reader.readValue(message.getBody());
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to read " + format + " transaction", e);
+        }
+    }
+}
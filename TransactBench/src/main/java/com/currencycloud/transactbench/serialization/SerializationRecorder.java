@@ -0,0 +1,62 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.dto.LatencyPercentiles;
+import com.currencycloud.transactbench.dto.SerializationSummary;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Collects the payload sizes and serialization times of a run. Every publisher worker serializes
+ * through its own {@link TransactionSerializer}; {@link #summary()} merges them once the workers
+ * are done.
+ */
+public class SerializationRecorder {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Queue<TransactionSerializer> workers = new ConcurrentLinkedQueue<>();
+    private volatile WireFormat format = WireFormat.JSON;
+
+    /**
+     * @param converter converter of the run's wire format; every worker of a run uses the same one
+     */
+    public TransactionSerializer newWorker(WireFormat format, MessageConverter converter) {
+        this.format = format;
+        TransactionSerializer worker = new TransactionSerializer(format, converter, SIGNIFICANT_DIGITS);
+        workers.add(worker);
+        return worker;
+    }
+
+    /**
+     * Merges every worker's histograms. Values recorded after this call are not included.
+     */
+    public SerializationSummary summary() {
+        Histogram sizes = merge(TransactionSerializer::sizes);
+        Histogram times = merge(TransactionSerializer::times);
+        long messages = sizes.getTotalCount();
+        long totalBytes = workers.stream().mapToLong(TransactionSerializer::totalBytes).sum();
+        return SerializationSummary.builder()
+                .format(format)
+                .contentType(format.getContentType())
+                .messages(messages)
+                .totalBytes(totalBytes)
+                .meanBytes(messages > 0 ? (double) totalBytes / messages : 0.0)
+                .p50Bytes(sizes.getValueAtPercentile(50.0))
+                .p99Bytes(sizes.getValueAtPercentile(99.0))
+                .maxBytes(sizes.getMaxValue())
+                .serialization(LatencyPercentiles.from(times))
+                .build();
+    }
+
+    private Histogram merge(Function<TransactionSerializer, SingleWriterRecorder> recorder) {
+        Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+        for (TransactionSerializer worker : workers) {
+            merged.add(recorder.apply(worker).getIntervalHistogram());
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,384 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.model.Account;
+import com.currencycloud.transactbench.model.ImmutableAccount;
+import com.currencycloud.transactbench.model.ImmutableSender;
+import com.currencycloud.transactbench.model.Sender;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PooledPayload;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Streaming JSON writer for the fixed {@link Transaction} schema.
+ *
+ * <p>Output is byte-for-byte what the Jackson converter produces for the same object: the same
+ * property order (Jackson emits renamed properties after the plain ones), the same null handling
+ * ({@link Account} omits nulls, everything else writes them) and the same escaping (control
+ * characters and UTF-16 surrogates as upper-case {@code \\uXXXX}, other non-ASCII characters as
+ * raw UTF-8).
+ *
+ * <p>Each thread writes into its own reusable buffer, so the only per-message allocation is the
+ * final body array. The provider/sender and rail/account sections are constant for a given
+ * provider and rail, so they are encoded once and copied in as pre-built fragments.
+ */
+public class TransactionJsonWriter {
+    static final int MAX_CACHED_FRAGMENTS = 1024;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = ascii("null");
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] VERSION = ascii(",\"version\":");
+    private static final byte[] AMOUNT = ascii(",\"amount\":");
+    private static final byte[] CURRENCY = ascii(",\"currency\":");
+    private static final byte[] REFERENCE = ascii(",\"reference\":");
+    private static final byte[] PROVIDER = ascii(",\"provider\":");
+    private static final byte[] SENDER = ascii(",\"sender\":");
+    private static final byte[] CREDIT_DEBIT = ascii(",\"credit_debit\":");
+    private static final byte[] VALUE_DATE = ascii(",\"value_date\":");
+    private static final byte[] TRACKING_ID = ascii(",\"tracking_id\":");
+    private static final byte[] PAYMENT_RAIL = ascii(",\"payment_rail\":");
+    private static final byte[] ORIGIN_ACCOUNT = ascii(",\"origin_account\":");
+    private static final byte[] DESTINATION_ACCOUNT = ascii(",\"destination_account\":");
+    private static final byte[] TRANSACTION_CONTENT = ascii(",\"transaction_content\":");
+
+    private static final byte[] SENDER_NAME = ascii("{\"name\":");
+    private static final byte[] SENDER_ADDRESS = ascii(",\"address\":");
+    private static final byte[] SENDER_COUNTRY = ascii(",\"country\":");
+    private static final byte[] SENDER_FREE_TEXT = ascii(",\"free_text\":");
+    private static final byte[] SENDER_ULTIMATE_NAME = ascii(",\"ultimate_sender_name\":");
+
+    private static final byte[] ACCOUNT_NUMBER = ascii("\"account_number\":");
+    private static final byte[] ACCOUNT_BIC = ascii("\"bic\":");
+    private static final byte[] ACCOUNT_IBAN = ascii("\"iban\":");
+
+    private final ConcurrentMap<FragmentKey, Fragments> fragments = new ConcurrentHashMap<>();
+    private final ThreadLocal<WriterState> states = ThreadLocal.withInitial(WriterState::new);
+
+    /**
+     * The fixed schema only covers string, pooled or absent content; anything else has to go
+     * through Jackson.
+     */
+    public boolean supports(Transaction transaction) {
+        Object content = transaction.getTransactionContent();
+        return content == null || content instanceof String || content instanceof PooledPayload;
+    }
+
+    public byte[] write(Transaction transaction) {
+        if (!supports(transaction)) {
+            throw new IllegalArgumentException("Unsupported transaction_content type: "
+                    + transaction.getTransactionContent().getClass().getName());
+        }
+        WriterState state = states.get();
+        JsonBuffer out = state.buffer;
+        out.reset();
+
+        Fragments constant = fragmentsFor(state, transaction);
+
+        out.write(ID);
+        out.writeString(transaction.getId());
+        out.write(VERSION);
+        out.writeInteger(transaction.getVersion());
+        out.write(AMOUNT);
+        out.writeInteger(transaction.getAmount());
+        out.write(CURRENCY);
+        out.writeString(transaction.getCurrency());
+        out.write(REFERENCE);
+        out.writeString(transaction.getReference());
+        out.write(constant.providerAndSender);
+        out.write(CREDIT_DEBIT);
+        out.writeString(transaction.getCreditDebit());
+        out.write(VALUE_DATE);
+        out.writeString(transaction.getValueDate());
+        out.write(TRACKING_ID);
+        out.writeString(transaction.getTrackingId());
+        out.write(constant.railAndAccounts);
+        out.write(TRANSACTION_CONTENT);
+        if (transaction.getTransactionContent() instanceof PooledPayload payload) {
+            // Encoded when the pool was built, so large payloads cost one copy
+            out.write(payload.json());
+        } else {
+            out.writeString((String) transaction.getTransactionContent());
+        }
+        out.writeByte('}');
+
+        byte[] body = out.toByteArray();
+        out.trim();
+        return body;
+    }
+
+    int cachedFragmentCount() {
+        return fragments.size();
+    }
+
+    private Fragments fragmentsFor(WriterState state, Transaction transaction) {
+        FragmentKey last = state.lastKey;
+        if (last != null && last.matches(transaction)) {
+            return state.lastFragments;
+        }
+
+        FragmentKey key = FragmentKey.snapshotOf(transaction);
+        Fragments cached = fragments.get(key);
+        if (cached == null) {
+            cached = encodeFragments(transaction);
+            if (fragments.size() < MAX_CACHED_FRAGMENTS) {
+                Fragments raced = fragments.putIfAbsent(key, cached);
+                if (raced != null) {
+                    cached = raced;
+                }
+            }
+        }
+        state.lastKey = key;
+        state.lastFragments = cached;
+        return cached;
+    }
+
+    private static Fragments encodeFragments(Transaction transaction) {
+        JsonBuffer out = new JsonBuffer(256);
+        out.write(PROVIDER);
+        out.writeString(transaction.getProvider());
+        out.write(SENDER);
+        writeSender(out, transaction.getSender());
+        byte[] providerAndSender = out.toByteArray();
+
+        out.reset();
+        out.write(PAYMENT_RAIL);
+        out.writeString(transaction.getPaymentRail());
+        out.write(ORIGIN_ACCOUNT);
+        writeAccount(out, transaction.getOriginAccount());
+        out.write(DESTINATION_ACCOUNT);
+        writeAccount(out, transaction.getDestinationAccount());
+        return new Fragments(providerAndSender, out.toByteArray());
+    }
+
+    private static void writeSender(JsonBuffer out, Sender sender) {
+        if (sender == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write(SENDER_NAME);
+        out.writeString(sender.getName());
+        out.write(SENDER_ADDRESS);
+        out.writeString(sender.getAddress());
+        out.write(SENDER_COUNTRY);
+        out.writeString(sender.getCountry());
+        out.write(SENDER_FREE_TEXT);
+        out.writeString(sender.getFreeText());
+        out.write(SENDER_ULTIMATE_NAME);
+        out.writeString(sender.getUltimateSenderName());
+        out.writeByte('}');
+    }
+
+    private static void writeAccount(JsonBuffer out, Account account) {
+        if (account == null) {
+            out.write(NULL);
+            return;
+        }
+        out.writeByte('{');
+        boolean first = writeOptional(out, ACCOUNT_BIC, account.getBic(), true);
+        first = writeOptional(out, ACCOUNT_IBAN, account.getIban(), first);
+        writeOptional(out, ACCOUNT_NUMBER, account.getAccountNumber(), first);
+        out.writeByte('}');
+    }
+
+    private static boolean writeOptional(JsonBuffer out, byte[] name, String value, boolean first) {
+        if (value == null) {
+            return first;
+        }
+        if (!first) {
+            out.writeByte(',');
+        }
+        out.write(name);
+        out.writeString(value);
+        return false;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class WriterState {
+        private final JsonBuffer buffer = new JsonBuffer(INITIAL_BUFFER_SIZE);
+        private FragmentKey lastKey;
+        private Fragments lastFragments;
+    }
+
+    private record Fragments(byte[] providerAndSender, byte[] railAndAccounts) {
+    }
+
+    /**
+     * Cache key holding private copies of the accounts and sender, so a caller mutating its own
+     * objects later can never make a cached fragment stale. Read-only shared instances are kept
+     * as they are, which also lets {@link #matches} succeed on the identity check.
+     */
+    private record FragmentKey(String provider, String paymentRail, Account origin, Account destination,
+                               Sender sender) {
+
+        static FragmentKey snapshotOf(Transaction transaction) {
+            return new FragmentKey(transaction.getProvider(), transaction.getPaymentRail(),
+                    copy(transaction.getOriginAccount()), copy(transaction.getDestinationAccount()),
+                    copy(transaction.getSender()));
+        }
+
+        boolean matches(Transaction transaction) {
+            return Objects.equals(provider, transaction.getProvider())
+                    && Objects.equals(paymentRail, transaction.getPaymentRail())
+                    && Objects.equals(origin, transaction.getOriginAccount())
+                    && Objects.equals(destination, transaction.getDestinationAccount())
+                    && Objects.equals(sender, transaction.getSender());
+        }
+
+        private static Account copy(Account account) {
+            return account == null || account instanceof ImmutableAccount ? account
+                    : new Account(account.getAccountNumber(), account.getBic(), account.getIban());
+        }
+
+        private static Sender copy(Sender sender) {
+            return sender == null || sender instanceof ImmutableSender ? sender
+                    : new Sender(sender.getFreeText(), sender.getName(), sender.getUltimateSenderName(),
+                            sender.getAddress(), sender.getCountry());
+        }
+    }
+
+    /**
+     * Growable byte buffer with the JSON string and number encoding used above.
+     */
+    static final class JsonBuffer {
+        private byte[] bytes;
+        private int length;
+
+        JsonBuffer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void reset() {
+            length = 0;
+        }
+
+        /**
+         * Drops an oversized buffer after a large message so one outlier does not pin memory.
+         */
+        void trim() {
+            if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+                bytes = new byte[INITIAL_BUFFER_SIZE];
+            }
+            length = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            bytes[length++] = (byte) b;
+        }
+
+        void write(byte[] source) {
+            ensureCapacity(source.length);
+            System.arraycopy(source, 0, bytes, length, source.length);
+            length += source.length;
+        }
+
+        void writeInteger(Integer value) {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            // 11 bytes covers "-2147483648"
+            ensureCapacity(11);
+            long remaining = value;
+            if (remaining < 0) {
+                bytes[length++] = '-';
+                remaining = -remaining;
+            }
+            int start = length;
+            do {
+                bytes[length++] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            } while (remaining != 0);
+            for (int i = start, j = length - 1; i < j; i++, j--) {
+                byte swap = bytes[i];
+                bytes[i] = bytes[j];
+                bytes[j] = swap;
+            }
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            int chars = value.length();
+            // Worst case is six bytes per char (\\uXXXX) plus the quotes
+            ensureCapacity(chars * 6 + 2);
+            byte[] out = bytes;
+            int pos = length;
+            out[pos++] = '"';
+            for (int i = 0; i < chars; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 0x20 && c != '"' && c != '\\') {
+                        out[pos++] = (byte) c;
+                    } else {
+                        pos = writeEscape(out, pos, c);
+                    }
+                } else if (c < 0x800) {
+                    out[pos++] = (byte) (0xC0 | (c >> 6));
+                    out[pos++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    pos = writeUnicodeEscape(out, pos, c);
+                } else {
+                    out[pos++] = (byte) (0xE0 | (c >> 12));
+                    out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    out[pos++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            out[pos++] = '"';
+            length = pos;
+        }
+
+        private static int writeEscape(byte[] out, int pos, char c) {
+            char shortForm = switch (c) {
+                case '"' -> '"';
+                case '\\' -> '\\';
+                case '\b' -> 'b';
+                case '\t' -> 't';
+                case '\f' -> 'f';
+                case '\n' -> 'n';
+                case '\r' -> 'r';
+                default -> 0;
+            };
+            if (shortForm == 0) {
+                return writeUnicodeEscape(out, pos, c);
+            }
+            out[pos++] = '\\';
+            out[pos++] = (byte) shortForm;
+            return pos;
+        }
+
+        private static int writeUnicodeEscape(byte[] out, int pos, char c) {
+            out[pos++] = '\\';
+            out[pos++] = 'u';
+            out[pos++] = HEX[(c >> 12) & 0xF];
+            out[pos++] = HEX[(c >> 8) & 0xF];
+            out[pos++] = HEX[(c >> 4) & 0xF];
+            out[pos++] = HEX[c & 0xF];
+            return pos;
+        }
+
+        private void ensureCapacity(int extra) {
+            int required = length + extra;
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+            }
+        }
+    }
+}
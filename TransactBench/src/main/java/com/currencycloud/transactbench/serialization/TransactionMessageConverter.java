@@ -0,0 +1,67 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Message converter that writes {@link Transaction} bodies with {@link TransactionJsonWriter} and
+ * hands everything else, including all inbound conversion, to the wrapped Jackson converter.
+ *
+ * <p>Messages carry the same content type, encoding and {@code __TypeId__} header the Jackson
+ * converter sets, so consumers cannot tell the two apart. Without a writer every body comes from
+ * the delegate. Either way, the time spent serializing each transaction and
+ * the size of its body are recorded per rail.
+ */
+public class TransactionMessageConverter implements MessageConverter {
+    private static final String TRANSACTION_TYPE_ID = Transaction.class.getName();
+
+    private final TransactionJsonWriter writer;
+    private final MessageConverter delegate;
+    private final TransactionMetrics metrics;
+
+    /**
+     * @param writer streaming writer for transaction bodies, or {@code null} to serialize
+     *               everything with the delegate
+     */
+    public TransactionMessageConverter(TransactionJsonWriter writer, MessageConverter delegate,
+                                       TransactionMetrics metrics) {
+        this.writer = writer;
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (!(object instanceof Transaction transaction)) {
+            return delegate.toMessage(object, messageProperties);
+        }
+
+        long start = System.nanoTime();
+        Message message = writer != null && writer.supports(transaction)
+                ? write(transaction, messageProperties)
+                : delegate.toMessage(transaction, messageProperties);
+        metrics.forTransaction(transaction).recordSerialized(System.nanoTime() - start, message.getBody().length);
+        return message;
+    }
+
+    private Message write(Transaction transaction, MessageProperties messageProperties) {
+        byte[] body = writer.write(transaction);
+        messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        messageProperties.setContentEncoding(StandardCharsets.UTF_8.name());
+        messageProperties.setContentLength(body.length);
+        messageProperties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, TRANSACTION_TYPE_ID);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        return delegate.fromMessage(message);
+    }
+}
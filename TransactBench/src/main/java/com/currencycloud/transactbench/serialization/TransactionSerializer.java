@@ -0,0 +1,55 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.model.Transaction;
+import org.HdrHistogram.SingleWriterRecorder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Turns the transactions of one publisher worker into messages of the run's wire format, and
+ * records the body size and serialization time of each into the worker's own histograms. Used by
+ * that worker's thread only.
+ */
+public final class TransactionSerializer {
+    private final WireFormat format;
+    private final MessageConverter converter;
+    private final SingleWriterRecorder sizes;
+    private final SingleWriterRecorder times;
+    private long totalBytes;
+
+    TransactionSerializer(WireFormat format, MessageConverter converter, int significantDigits) {
+        this.format = format;
+        this.converter = converter;
+        this.sizes = new SingleWriterRecorder(significantDigits);
+        this.times = new SingleWriterRecorder(significantDigits);
+    }
+
+    public WireFormat getFormat() {
+        return format;
+    }
+
+    public Message toMessage(Transaction transaction) {
+        long start = System.nanoTime();
+        Message message = converter.toMessage(transaction, new MessageProperties());
+        times.recordValue(Math.max(System.nanoTime() - start, 0));
+        sizes.recordValue(message.getBody().length);
+        totalBytes += message.getBody().length;
+        return message;
+    }
+
+    /**
+     * Exact byte count so far; only read once the worker is done.
+     */
+    long totalBytes() {
+        return totalBytes;
+    }
+
+    SingleWriterRecorder sizes() {
+        return sizes;
+    }
+
+    SingleWriterRecorder times() {
+        return times;
+    }
+}
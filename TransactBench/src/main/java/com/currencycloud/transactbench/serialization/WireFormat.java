@@ -0,0 +1,28 @@
+package com.currencycloud.transactbench.serialization;
+
+/**
+ * Encoding of transaction message bodies, chosen per run. Every format is self-describing except
+ * AVRO, whose consumers need the writer schema in {@code avro/transaction.avsc}.
+ *
+ * <p>Capture files store the format by ordinal, so new formats go at the end.
+ */
+public enum WireFormat {
+    /** Text JSON, as consumers of {@code funds.new_transaction} read today. */
+    JSON("application/json"),
+    /** Jackson's binary JSON; same data model as JSON with back-references for repeated names. */
+    SMILE("application/x-jackson-smile"),
+    /** RFC 8949 Concise Binary Object Representation. */
+    CBOR("application/cbor"),
+    /** Schema-based Avro binary encoding; field names are not sent at all. */
+    AVRO("application/avro");
+
+    private final String contentType;
+
+    WireFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,59 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The message converter of each {@link WireFormat}, chosen per run. JSON uses the application's
+ * {@code jsonMessageConverter}, so it honours {@code rabbitmq.message.serializer}.
+ */
+@Component
+public class WireFormats {
+    private final Map<WireFormat, MessageConverter> converters = new EnumMap<>(WireFormat.class);
+    private final WireFormat defaultFormat;
+
+    public WireFormats(MessageConverter jsonMessageConverter, TransactionMetrics metrics,
+                       @Value("${rabbitmq.message.format:json}") String defaultFormat) {
+        this.defaultFormat = parse(defaultFormat);
+        converters.put(WireFormat.JSON, jsonMessageConverter);
+        converters.put(WireFormat.SMILE, BinaryTransactionConverter.smile(metrics));
+        converters.put(WireFormat.CBOR, BinaryTransactionConverter.cbor(metrics));
+        converters.put(WireFormat.AVRO, BinaryTransactionConverter.avro(metrics));
+    }
+
+    /**
+     * The given format, or the configured default when none is given.
+     */
+    public WireFormat resolve(WireFormat format) {
+        return format != null ? format : defaultFormat;
+    }
+
+    /**
+     * Converter for the given format, or for the configured default when none is given.
+     */
+    public MessageConverter converterFor(WireFormat format) {
+        return converters.get(resolve(format));
+    }
+
+    /**
+     * A serializer for one worker of a run, recording into the run's {@code recorder}.
+     */
+    public TransactionSerializer newWorker(WireFormat format, SerializationRecorder recorder) {
+        WireFormat resolved = resolve(format);
+        return recorder.newWorker(resolved, converters.get(resolved));
+    }
+
+    private static WireFormat parse(String format) {
+        try {
+            return WireFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown rabbitmq.message.format: " + format);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.config.CoordinatorProperties;
+import com.currencycloud.transactbench.dataset.DatasetChecksum;
+import com.currencycloud.transactbench.distributed.DistributedRun;
+import com.currencycloud.transactbench.distributed.DistributedRun.WorkerJob;
+import com.currencycloud.transactbench.distributed.RunSplitter;
+import com.currencycloud.transactbench.distributed.WorkerClient;
+import com.currencycloud.transactbench.dto.DistributedRunRequest;
+import com.currencycloud.transactbench.dto.DistributedRunResponse;
+import com.currencycloud.transactbench.dto.DistributedRunResponse.WorkerStatus;
+import com.currencycloud.transactbench.dto.JobStatusResponse;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.id.NodeSequenceIdGenerator;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.model.JobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
+
+/**
+ * Coordinator side of distributed runs. A run is split across worker instances, each share is
+ * submitted to its worker as an ordinary job starting at one shared instant, and the workers'
+ * counters and histograms are added up whenever the run is looked at.
+ */
+@Service
+@Slf4j
+public class DistributedRunService {
+    private final WorkerClient workerClient;
+    private final CoordinatorProperties properties;
+    private final Map<String, DistributedRun> runs = new ConcurrentHashMap<>();
+
+    @Value("${transaction.jobs.retention:PT1H}")
+    private Duration retention = Duration.ofHours(1);
+
+    public DistributedRunService(WorkerClient workerClient, CoordinatorProperties properties) {
+        this.workerClient = workerClient;
+        this.properties = properties;
+    }
+
+    /**
+     * Splits the run and submits every share, returning once all workers have accepted theirs.
+     * A worker rejecting its share fails the submission with an {@link IllegalArgumentException};
+     * one that cannot be reached with an {@link IllegalStateException}. Shares already accepted
+     * by other workers still run.
+     */
+    public DistributedRun submit(DistributedRunRequest request) {
+        List<URI> workers = request.getWorkers() != null && !request.getWorkers().isEmpty()
+                ? request.getWorkers()
+                : properties.getWorkers();
+        if (workers.isEmpty()) {
+            throw new IllegalArgumentException("A distributed run needs at least one worker");
+        }
+        evictExpiredRuns();
+
+        Instant startAt = Instant.now().plus(properties.getStartDelay());
+        List<TransactionGenerationRequest> shares = RunSplitter.split(request.getRun(), workers.size(), startAt,
+                firstNodeId(request.getRun(), workers.size()));
+        List<WorkerJob> jobs = new ArrayList<>(shares.size());
+        for (int i = 0; i < shares.size(); i++) {
+            TransactionGenerationRequest share = shares.get(i);
+            URI worker = workers.get(i);
+            jobs.add(new WorkerJob(worker, submitShare(worker, share, jobs), share.getFirstIndex(),
+                    share.getNumberOfMessages()));
+        }
+
+        TransactionGenerationRequest run = request.getRun();
+        DistributedRun distributedRun = new DistributedRun(UUID.randomUUID().toString(), run.getNumberOfMessages(),
+                run.getSeed(), startAt, jobs);
+        runs.put(distributedRun.getId(), distributedRun);
+        log.info("Submitted distributed run {} for {} transactions across {} workers, starting at {}",
+                distributedRun.getId(), run.getNumberOfMessages(), jobs.size(), startAt);
+        return distributedRun;
+    }
+
+    /**
+     * The run's own node id if it has one, otherwise a random one leaving room for a node id per worker.
+     */
+    private static int firstNodeId(TransactionGenerationRequest run, int workers) {
+        if (run.getNodeId() != null) {
+            return run.getNodeId();
+        }
+        return ThreadLocalRandom.current().nextInt(NodeSequenceIdGenerator.MAX_NODE_ID + 2 - workers);
+    }
+
+    public Optional<DistributedRun> getRun(String runId) {
+        return Optional.ofNullable(runs.get(runId));
+    }
+
+    /**
+     * Reads every worker's job status and adds them up. The first look after every worker has
+     * finished also collects and merges their latency histograms.
+     */
+    public Optional<DistributedRunResponse> getStatus(String runId) {
+        return getRun(runId).map(this::status);
+    }
+
+    DistributedRunResponse status(DistributedRun run) {
+        List<JobStatusResponse> statuses = new ArrayList<>(run.getWorkers().size());
+        List<WorkerStatus> workers = new ArrayList<>(run.getWorkers().size());
+        for (WorkerJob job : run.getWorkers()) {
+            JobStatusResponse status = null;
+            String error = null;
+            try {
+                status = workerClient.status(job.worker(), job.jobId());
+                error = status != null ? status.getError() : null;
+            } catch (RestClientException e) {
+                error = "Worker unreachable: " + e.getMessage();
+            }
+            statuses.add(status);
+            workers.add(WorkerStatus.builder()
+                    .worker(job.worker())
+                    .jobId(job.jobId())
+                    .firstIndex(job.firstIndex())
+                    .count(job.count())
+                    .status(status != null ? status.getStatus() : null)
+                    .published(status != null ? status.getPublished() : 0)
+                    .error(error)
+                    .build());
+        }
+
+        JobStatus status = overallStatus(statuses);
+        if (!run.isFinished() && (status == JobStatus.COMPLETED || status == JobStatus.FAILED)) {
+            run.finish(mergeLatency(run));
+        }
+        return DistributedRunResponse.builder()
+                .runId(run.getId())
+                .status(status)
+                .requested(run.getRequestedCount())
+                .generated(sum(statuses, JobStatusResponse::getGenerated))
+                .published(sum(statuses, JobStatusResponse::getPublished))
+                .confirmed(sum(statuses, JobStatusResponse::getConfirmed))
+                .nacked(sum(statuses, JobStatusResponse::getNacked))
+                .returned(sum(statuses, JobStatusResponse::getReturned))
+                .currentRate(statuses.stream().filter(Objects::nonNull)
+                        .mapToDouble(JobStatusResponse::getCurrentRate).sum())
+                .averageRate(statuses.stream().filter(Objects::nonNull)
+                        .mapToDouble(JobStatusResponse::getAverageRate).sum())
+                .createdAt(run.getCreatedAt())
+                .startAt(run.getStartAt())
+                .finishedAt(run.getFinishedAt())
+                .seed(run.getSeed())
+                .checksum(status == JobStatus.COMPLETED && run.getSeed() != null ? checksum(statuses) : null)
+                .latency(run.getLatencyReport() != null ? run.getLatencyReport().summary() : null)
+                .workers(workers)
+                .build();
+    }
+
+    private String submitShare(URI worker, TransactionGenerationRequest share, List<WorkerJob> submitted) {
+        try {
+            return workerClient.submit(worker, share);
+        } catch (RestClientResponseException e) {
+            logAbandoned(submitted);
+            if (e.getStatusCode().is4xxClientError()) {
+                throw new IllegalArgumentException("Worker " + worker + " rejected its share of the run: "
+                        + e.getStatusCode(), e);
+            }
+            throw new IllegalStateException("Worker " + worker + " failed to accept its share of the run: "
+                    + e.getStatusCode(), e);
+        } catch (RestClientException e) {
+            logAbandoned(submitted);
+            throw new IllegalStateException("Worker " + worker + " could not be reached: " + e.getMessage(), e);
+        }
+    }
+
+    private static void logAbandoned(List<WorkerJob> submitted) {
+        if (!submitted.isEmpty()) {
+            log.warn("Distributed run not submitted; jobs already accepted will still run: {}", submitted);
+        }
+    }
+
+    /**
+     * Queued until every worker has started, finished once every worker has, and failed if any of
+     * them failed. Unreachable workers count as still running.
+     */
+    private static JobStatus overallStatus(List<JobStatusResponse> statuses) {
+        boolean allQueued = true;
+        boolean allFinished = true;
+        boolean anyFailed = false;
+        for (JobStatusResponse status : statuses) {
+            JobStatus jobStatus = status != null ? status.getStatus() : null;
+            allQueued &= jobStatus == JobStatus.QUEUED;
+            allFinished &= jobStatus == JobStatus.COMPLETED || jobStatus == JobStatus.FAILED;
+            anyFailed |= jobStatus == JobStatus.FAILED;
+        }
+        if (allFinished) {
+            return anyFailed ? JobStatus.FAILED : JobStatus.COMPLETED;
+        }
+        return allQueued ? JobStatus.QUEUED : JobStatus.RUNNING;
+    }
+
+    /**
+     * Adds up the latency histograms of every worker, or null if any of them cannot be read.
+     */
+    private LatencyReport mergeLatency(DistributedRun run) {
+        List<List<Histogram>> logs = new ArrayList<>(run.getWorkers().size());
+        for (WorkerJob job : run.getWorkers()) {
+            try {
+                logs.add(workerClient.latency(job.worker(), job.jobId()));
+            } catch (RestClientException e) {
+                log.warn("Could not read the latency of job {} on {}; run {} has no merged latency",
+                        job.jobId(), job.worker(), run.getId(), e);
+                return null;
+            }
+        }
+        return LatencyReport.merge(logs);
+    }
+
+    private static String checksum(List<JobStatusResponse> statuses) {
+        List<String> checksums = statuses.stream().map(JobStatusResponse::getChecksum).toList();
+        return checksums.contains(null) ? null : DatasetChecksum.combine(checksums);
+    }
+
+    private static long sum(List<JobStatusResponse> statuses, ToLongFunction<JobStatusResponse> counter) {
+        return statuses.stream().filter(Objects::nonNull).mapToLong(counter).sum();
+    }
+
+    private void evictExpiredRuns() {
+        Instant cutoff = Instant.now().minus(retention);
+        runs.values().removeIf(run -> run.isFinished() && run.getFinishedAt().isBefore(cutoff));
+    }
+}
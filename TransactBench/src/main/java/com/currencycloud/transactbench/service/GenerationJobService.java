@@ -0,0 +1,178 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishRun;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class GenerationJobService {
+    private final TransactionGeneratorService generatorService;
+    private final ParallelPublisherService publisherService;
+    private final TransactionConfigProperties configProperties;
+    private final TaskExecutor jobExecutor;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${transaction.jobs.retention:PT1H}")
+    private Duration retention = Duration.ofHours(1);
+
+    /**
+     * Furthest ahead a job may ask to start; a waiting job holds one job executor thread.
+     */
+    @Value("${transaction.jobs.max-start-delay:PT5M}")
+    private Duration maxStartDelay = Duration.ofMinutes(5);
+
+    public GenerationJobService(TransactionGeneratorService generatorService,
+                                ParallelPublisherService publisherService,
+                                TransactionConfigProperties configProperties,
+                                @Qualifier("generationJobExecutor") TaskExecutor jobExecutor,
+                                TransactionMetrics metrics) {
+        this.generatorService = generatorService;
+        this.publisherService = publisherService;
+        this.configProperties = configProperties;
+        this.jobExecutor = jobExecutor;
+        metrics.registerJobGauges(jobs.values());
+    }
+
+    /**
+     * Registers a job and hands it to the job executor, returning before any message is generated.
+     * Configuration is validated up front so unknown providers are rejected synchronously, and the
+     * payload content is generated before the job is queued. A start further ahead than the
+     * maximum start delay, or a seeded index range past the rail's references, is rejected.
+     */
+    public GenerationJob submit(TransactionGenerationRequest request) {
+        configProperties.getConfig(request.getProvider(), request.getPaymentRail());
+        validateStartAt(request.getStartAt());
+        LoadPacer pacer = LoadPacer.forProfile(request.getLoadProfile());
+        TransactionGeneratorService.validateSeeding(request);
+        generatorService.validateIndexRange(request);
+        generatorService.preparePayloads(request);
+
+        long requested = request.getTransactionId() != null ? 1 : request.getNumberOfMessages();
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), request.getProvider(),
+                request.getPaymentRail(), requested, pacer, request.getSeed());
+        enqueue(job, () -> run(job, request));
+
+        log.info("Submitted job {} for {} transactions, provider: {}, paymentRail: {}",
+                job.getId(), requested, request.getProvider(), request.getPaymentRail());
+        return job;
+    }
+
+    /**
+     * Registers a job whose work is more than one generation request, such as a scenario, and
+     * hands the work to the job executor. The job is unregistered again if the queue is full.
+     */
+    void enqueue(GenerationJob job, Runnable work) {
+        evictExpiredJobs();
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(work);
+        } catch (RuntimeException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+    }
+
+    public Optional<GenerationJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    void run(GenerationJob job, TransactionGenerationRequest request) {
+        awaitStart(job, request.getStartAt());
+        job.start();
+        log.info("Starting job {}", job.getId());
+        // Rate-controlled runs know each message's intended send time, so they can be corrected
+        LatencyRecorder latency = new LatencyRecorder(job.getPacer().isPaced());
+        PublishRun run = PublishRun.builder()
+                .id(job.getId())
+                .mode(request.getPublishMode())
+                .sink(request.getSink())
+                .wireFormat(request.getWireFormat())
+                .latency(latency)
+                .build();
+        try {
+            publisherService.publish(partition(job, request), job.getPacer(), job, run);
+            job.attachLatencyReport(latency.report());
+            job.attachSerializationSummary(run.getSerialization().summary());
+            job.complete();
+            log.info("Job {} completed, published {} transactions", job.getId(), job.getPublishedCount());
+        } catch (Exception e) {
+            job.attachLatencyReport(latency.report());
+            job.attachSerializationSummary(run.getSerialization().summary());
+            job.fail(e);
+            log.error("Job {} failed after publishing {} transactions", job.getId(), job.getPublishedCount(), e);
+        }
+    }
+
+    private void validateStartAt(Instant startAt) {
+        if (startAt != null && startAt.isAfter(Instant.now().plus(maxStartDelay))) {
+            throw new IllegalArgumentException("Start at " + startAt + " is more than " + maxStartDelay
+                    + " ahead");
+        }
+    }
+
+    /**
+     * Holds a job queued until its requested start, so jobs submitted to several instances begin
+     * together. A start already in the past does not delay the job.
+     */
+    private static void awaitStart(GenerationJob job, Instant startAt) {
+        if (startAt == null) {
+            return;
+        }
+        long delayNanos = Duration.between(Instant.now(), startAt).toNanos();
+        if (delayNanos > 0) {
+            log.info("Job {} waiting {} ms for its start at {}", job.getId(), delayNanos / 1_000_000, startAt);
+            LoadPacer.awaitNanoTime(System.nanoTime() + delayNanos);
+        } else if (delayNanos < 0) {
+            log.warn("Job {} started {} ms after its requested start", job.getId(), -delayNanos / 1_000_000);
+        }
+    }
+
+    /**
+     * Splits the run into one lazily generated stream per publisher worker, each covering a
+     * contiguous range of the run's transaction indexes.
+     */
+    private List<Stream<Transaction>> partition(GenerationJob job, TransactionGenerationRequest request) {
+        int workers = request.getPublisherWorkers() != null
+                ? request.getPublisherWorkers()
+                : publisherService.defaultWorkers();
+        workers = (int) Math.max(1, Math.min(workers, job.getRequestedCount()));
+
+        long share = job.getRequestedCount() / workers;
+        long remainder = job.getRequestedCount() % workers;
+        List<Stream<Transaction>> partitions = new ArrayList<>(workers);
+        long firstIndex = 0;
+        for (int worker = 0; worker < workers; worker++) {
+            int count = (int) (share + (worker < remainder ? 1 : 0));
+            partitions.add(generatorService.streamTransactions(request, firstIndex, count)
+                    .peek(job::recordGenerated));
+            firstIndex += count;
+        }
+        return partitions;
+    }
+
+    private void evictExpiredJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,52 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.id.IdList;
+import com.currencycloud.transactbench.model.IdLedger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Holds the id ledgers behind compact responses until they expire.
+ */
+@Service
+@Slf4j
+public class IdLedgerService {
+    private final Map<String, IdLedger> ledgers = new ConcurrentHashMap<>();
+
+    @Value("${transaction.ledgers.retention:PT1H}")
+    private Duration retention = Duration.ofHours(1);
+
+    public IdLedger record(IdList ids) {
+        return register(IdLedger.recorded(UUID.randomUUID().toString(), ids));
+    }
+
+    public IdLedger replay(long count, Supplier<Stream<String>> ids) {
+        return register(IdLedger.replayed(UUID.randomUUID().toString(), count, ids));
+    }
+
+    public Optional<IdLedger> getLedger(String ledgerId) {
+        return Optional.ofNullable(ledgers.get(ledgerId));
+    }
+
+    private IdLedger register(IdLedger ledger) {
+        evictExpiredLedgers();
+        ledgers.put(ledger.getId(), ledger);
+        log.info("Registered id ledger {} with {} ids", ledger.getId(), ledger.getCount());
+        return ledger;
+    }
+
+    private void evictExpiredLedgers() {
+        Instant cutoff = Instant.now().minus(retention);
+        ledgers.values().removeIf(ledger -> ledger.getCreatedAt().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,173 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.config.PublisherPoolProperties;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishListener;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.publish.PublisherConnectionPool;
+import com.currencycloud.transactbench.serialization.SerializationRecorder;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.serialization.WireFormats;
+import com.currencycloud.transactbench.sink.SinkContext;
+import com.currencycloud.transactbench.sink.SinkType;
+import com.currencycloud.transactbench.sink.TransactionSink;
+import com.currencycloud.transactbench.sink.TransactionSinks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Publishes a run with one thread per partition, each writing to the run's {@link TransactionSink}
+ * for the whole run. All workers share the run's pacer so the combined send rate follows the load
+ * profile.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} each worker is a virtual thread, so a worker
+ * blocked on the socket or on its confirm window does not hold a platform thread.
+ * <p>
+ * Each worker records its send and confirm latencies into its own histograms of the run's
+ * {@link LatencyRecorder}, and serializes through its own serializer of the run's
+ * {@link SerializationRecorder}, so recording never contends across workers.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParallelPublisherService {
+    private final PublisherConnectionPool connectionPool;
+    private final PublisherPoolProperties poolProperties;
+    private final TransactionSinks sinks;
+    private final WireFormats wireFormats;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public int defaultWorkers() {
+        return connectionPool.getWorkers();
+    }
+
+    public long publish(List<Stream<Transaction>> partitions, LoadPacer pacer, PublishListener listener) {
+        return publish(partitions, pacer, listener, (PublishMode) null);
+    }
+
+    /**
+     * @param requestedMode publishing mode for this run, or {@code null} for the configured default
+     */
+    public long publish(List<Stream<Transaction>> partitions, LoadPacer pacer, PublishListener listener,
+                        PublishMode requestedMode) {
+        return publish(partitions, pacer, listener, requestedMode, new LatencyRecorder(pacer.isPaced()));
+    }
+
+    /**
+     * @param requestedMode publishing mode for this run, or {@code null} for the configured default
+     * @param latency       recorder the workers' latency histograms are added to
+     */
+    public long publish(List<Stream<Transaction>> partitions, LoadPacer pacer, PublishListener listener,
+                        PublishMode requestedMode, LatencyRecorder latency) {
+        return publish(partitions, pacer, listener, PublishRun.builder().mode(requestedMode).latency(latency).build());
+    }
+
+    /**
+     * Publishes with the run's mode, sink and wire format, recording into its recorders.
+     */
+    public long publish(List<Stream<Transaction>> partitions, LoadPacer pacer, PublishListener listener,
+                        PublishRun run) {
+        PublishMode mode = run.getMode() != null ? run.getMode() : poolProperties.getMode();
+        TransactionSink sink = sinks.forType(run.getSink());
+        LatencyRecorder latency = run.getLatency() != null ? run.getLatency() : new LatencyRecorder(pacer.isPaced());
+        WireFormat wireFormat = wireFormats.resolve(run.getWireFormat());
+        if (sink.getType() == SinkType.AMQP) {
+            log.info("Publishing {} with {} workers over {} connections, mode: {}, confirms: {}", wireFormat,
+                    partitions.size(), connectionPool.getConnections(), mode, connectionPool.getConfirmMode());
+        } else {
+            log.info("Publishing {} with {} workers to the {} sink", wireFormat, partitions.size(), sink.getType());
+        }
+
+        AtomicBoolean stopped = new AtomicBoolean();
+        long published = 0;
+        pacer.start();
+
+        try (ExecutorService workers = newWorkerExecutor(partitions.size())) {
+            List<Future<Long>> results = new ArrayList<>(partitions.size());
+            for (int worker = 0; worker < partitions.size(); worker++) {
+                Stream<Transaction> partition = partitions.get(worker);
+                int workerIndex = worker;
+                SinkContext context = new SinkContext(run.getId(), pacer, listener, mode, latency.newWorker(),
+                        wireFormats.newWorker(wireFormat, run.getSerialization()));
+                results.add(workers.submit(() -> runWorker(workerIndex, partition, sink, context, stopped)));
+            }
+
+            RuntimeException failure = null;
+            for (Future<Long> result : results) {
+                try {
+                    published += result.get();
+                } catch (ExecutionException e) {
+                    stopped.set(true);
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException runtime
+                                ? runtime
+                                : new RuntimeException("Publisher worker failed", e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    stopped.set(true);
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for publisher workers", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        log.info("Successfully published {} transactions with {} workers", published, partitions.size());
+        return published;
+    }
+
+    private ExecutorService newWorkerExecutor(int workers) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("publisher-worker-", 0).factory());
+        }
+        ThreadFactory threadFactory = Thread.ofPlatform().name("publisher-worker-", 0).factory();
+        return Executors.newFixedThreadPool(workers, threadFactory);
+    }
+
+    private long runWorker(int worker, Stream<Transaction> partition, TransactionSink sink, SinkContext context,
+                           AtomicBoolean stopped) {
+        LoadPacer pacer = context.pacer();
+        long published;
+        try {
+            published = sink.run(worker, context, writer -> {
+                long count = 0;
+                try (partition) {
+                    Iterator<Transaction> iterator = partition.iterator();
+                    long intendedOffset;
+                    while (!stopped.get() && iterator.hasNext()
+                            && (intendedOffset = pacer.awaitNext(writer)) != LoadPacer.FINISHED) {
+                        writer.write(iterator.next(), intendedOffset);
+                        count++;
+                    }
+                }
+                return count;
+            });
+        } catch (RuntimeException | Error e) {
+            // Stop the other workers now rather than when the coordinating thread reaches this one
+            stopped.set(true);
+            throw e;
+        }
+        log.debug("Publisher worker {} published {} transactions", worker, published);
+        return published;
+    }
+}
@@ -0,0 +1,213 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.capture.CaptureReader;
+import com.currencycloud.transactbench.dto.ReplayRequest;
+import com.currencycloud.transactbench.dto.ReplayResponse;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.latency.WorkerLatency;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.serialization.BinaryTransactionConverter;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.sink.FileTransactionSink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes a capture again, one thread per capture file. Every file shares the replay's start, so
+ * with timed replays the files' messages interleave as they were captured. Records are read
+ * straight from the file's memory mapping; the only copy is into the body of the outgoing message.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReplayService {
+    private final FileTransactionSink fileSink;
+    private final TransactionPublisherService publisherService;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Replays the capture, returning once every message has been sent, or nothing if there is
+     * no capture with the request's id.
+     */
+    public Optional<ReplayResponse> replay(ReplayRequest request) throws IOException {
+        ReplayRequest.Timing timing = request.getTiming() != null ? request.getTiming() : ReplayRequest.Timing.ORIGINAL;
+        double speed = speedFor(timing, request.getSpeed());
+        List<Path> files = fileSink.filesFor(request.getCaptureId());
+        if (files.isEmpty()) {
+            return Optional.empty();
+        }
+        log.info("Replaying capture {} from {} files, timing: {}, speed: {}",
+                request.getCaptureId(), files.size(), timing, speed);
+
+        // Timed replays know each message's slot, so their latency can be corrected
+        LatencyRecorder latency = new LatencyRecorder(speed > 0);
+        AtomicBoolean stopped = new AtomicBoolean();
+        long published = 0;
+        long capturedNanos = 0;
+        long start = System.nanoTime();
+
+        try (ExecutorService workers = newWorkerExecutor(files.size())) {
+            List<Future<FileReplay>> results = new ArrayList<>(files.size());
+            for (Path file : files) {
+                WorkerLatency workerLatency = latency.newWorker();
+                results.add(workers.submit(() -> replayFile(file, start, speed, workerLatency, stopped)));
+            }
+
+            RuntimeException failure = null;
+            for (Future<FileReplay> result : results) {
+                try {
+                    FileReplay replayed = result.get();
+                    published += replayed.published();
+                    capturedNanos = Math.max(capturedNanos, replayed.lastTimestampNanos());
+                } catch (ExecutionException e) {
+                    stopped.set(true);
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException runtime
+                                ? runtime
+                                : new RuntimeException("Replay worker failed", e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    stopped.set(true);
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for replay workers", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        long durationNanos = System.nanoTime() - start;
+        LatencyReport report = latency.report();
+        log.info("Replayed {} messages of capture {} in {} ms",
+                published, request.getCaptureId(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        return Optional.of(ReplayResponse.builder()
+                .captureId(request.getCaptureId())
+                .timing(timing)
+                .speed(speed)
+                .files(files.size())
+                .published(published)
+                .capturedMillis(TimeUnit.NANOSECONDS.toMillis(capturedNanos))
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .achievedRate(durationNanos > 0 ? published * 1e9 / durationNanos : 0)
+                .latency(report.summary())
+                .build());
+    }
+
+    /**
+     * Deletes the capture's files, returning false if there was no capture with that id.
+     */
+    public boolean deleteCapture(String captureId) throws IOException {
+        return fileSink.deleteCapture(captureId) > 0;
+    }
+
+    /**
+     * The factor captured offsets are divided by, or zero for replays that ignore them.
+     */
+    static double speedFor(ReplayRequest.Timing timing, Double speed) {
+        return switch (timing) {
+            case ORIGINAL -> 1.0;
+            case MAX_SPEED -> 0.0;
+            case SCALED -> {
+                if (speed == null || !(speed > 0)) {
+                    throw new IllegalArgumentException("Scaled replays need a positive speed");
+                }
+                yield speed;
+            }
+        };
+    }
+
+    private ExecutorService newWorkerExecutor(int workers) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("replay-worker-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("replay-worker-", 0).factory());
+    }
+
+    private FileReplay replayFile(Path file, long start, double speed, WorkerLatency latency,
+                                  AtomicBoolean stopped) {
+        long published = 0;
+        long lastTimestamp = 0;
+        try (CaptureReader reader = new CaptureReader(file)) {
+            WireFormat format = reader.getWireFormat();
+            Map<String, Object> headers = formatHeaders(format);
+            while (!stopped.get() && reader.next()) {
+                lastTimestamp = reader.timestampNanos();
+                long intended = speed > 0 ? start + (long) (lastTimestamp / speed) : System.nanoTime();
+                LoadPacer.awaitNanoTime(intended);
+
+                ByteBuffer record = reader.body();
+                byte[] body = new byte[record.remaining()];
+                record.get(body);
+                Message message = new Message(body, messageProperties(format, headers, body.length));
+
+                long sendStart = System.nanoTime();
+                publisherService.publishMessage(message);
+                latency.recordPublish(intended, sendStart, System.nanoTime());
+                published++;
+            }
+        } catch (IOException e) {
+            stopped.set(true);
+            throw new UncheckedIOException("Failed to read capture file " + file, e);
+        } catch (RuntimeException | Error e) {
+            // Stop the other files' workers now rather than when the coordinating thread reaches this one
+            stopped.set(true);
+            throw e;
+        }
+        log.debug("Replayed {} messages from {}", published, file);
+        return new FileReplay(published, lastTimestamp);
+    }
+
+    /**
+     * The properties the message converter of the capture's wire format gives a transaction, so
+     * consumers cannot tell a replayed message from a generated one.
+     */
+    private static MessageProperties messageProperties(WireFormat format, Map<String, Object> headers,
+                                                       int contentLength) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(format.getContentType());
+        if (format == WireFormat.JSON) {
+            properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        }
+        properties.setContentLength(contentLength);
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, Transaction.class.getName());
+        headers.forEach(properties::setHeader);
+        return properties;
+    }
+
+    private static Map<String, Object> formatHeaders(WireFormat format) {
+        if (format != WireFormat.AVRO) {
+            return Map.of();
+        }
+        return Map.of(BinaryTransactionConverter.SCHEMA_FINGERPRINT_HEADER,
+                BinaryTransactionConverter.fingerprint(BinaryTransactionConverter.loadAvroSchema()));
+    }
+
+    private record FileReplay(long published, long lastTimestampNanos) {
+    }
+}
@@ -0,0 +1,329 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.config.ScenarioProperties;
+import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.Scenario;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.scenario.PhaseProgress;
+import com.currencycloud.transactbench.serialization.SerializationRecorder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Runs multi-phase scenarios as generation jobs. Every phase gets its own pacer, latency recorder
+ * and counters; the job adds them up, so it reports like any other job plus one entry per phase.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScenarioService {
+    static final String SCENARIO_PROVIDER = "scenario";
+
+    private static final ObjectMapper YAML = YAMLMapper.builder()
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+            .findAndAddModules()
+            .build();
+
+    private final GenerationJobService jobService;
+    private final TransactionGeneratorService generatorService;
+    private final ParallelPublisherService publisherService;
+    private final TransactionConfigProperties configProperties;
+    private final ScenarioProperties scenarioProperties;
+    private final Validator validator;
+
+    public Map<String, Scenario> getScenarios() {
+        return scenarioProperties.getScenarios();
+    }
+
+    /**
+     * Submits the named scenario.
+     *
+     * @throws IllegalArgumentException if there is no scenario of that name or it is invalid
+     */
+    public GenerationJob submit(String name) {
+        Scenario scenario = scenarioProperties.getScenarios().get(name);
+        if (scenario == null) {
+            throw new IllegalArgumentException("Scenario not found: " + name);
+        }
+        return submit(scenario.getName() != null ? scenario : scenario.toBuilder().name(name).build());
+    }
+
+    /**
+     * Parses a scenario written in YAML, with the same fields as its JSON form.
+     *
+     * @throws IllegalArgumentException if the document is not a scenario
+     */
+    public static Scenario parse(String yaml) {
+        try {
+            return YAML.readValue(yaml, Scenario.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid scenario: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Validates every phase and hands the scenario to the job executor, returning before any
+     * message is generated. Payload content is generated up front, as for single-request jobs.
+     */
+    public GenerationJob submit(Scenario scenario) {
+        validate(scenario);
+        List<PhasePlan> phases = plan(scenario);
+        generatorService.preparePayloads(phases.get(0).requests().get(0));
+
+        long expected = phases.stream().mapToLong(PhasePlan::expectedCount).sum();
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), SCENARIO_PROVIDER,
+                scenarioName(scenario), expected, LoadPacer.unpaced(), scenario.getSeed());
+        job.attachPhases(phases.stream()
+                .map(phase -> new PhaseProgress(phase.name(), phase.phase().getType(), phase.phase().getCount(),
+                        phase.phase().getDurationSeconds(), phase.mix(), job))
+                .toList());
+        jobService.enqueue(job, () -> run(job, scenario, phases));
+
+        log.info("Submitted scenario {} as job {} with {} phases and about {} transactions",
+                scenarioName(scenario), job.getId(), phases.size(), expected);
+        return job;
+    }
+
+    void run(GenerationJob job, Scenario scenario, List<PhasePlan> phases) {
+        job.start();
+        log.info("Starting scenario {} as job {}", scenarioName(scenario), job.getId());
+        SerializationRecorder serialization = new SerializationRecorder();
+        List<LatencyReport> measured = new ArrayList<>();
+        try {
+            for (int number = 0; number < phases.size(); number++) {
+                LatencyReport report = runPhase(job, scenario, phases.get(number), number, serialization);
+                if (phases.get(number).phase().getType() != Scenario.Phase.Type.WARMUP) {
+                    measured.add(report);
+                }
+            }
+            job.attachLatencyReport(combine(measured));
+            job.attachSerializationSummary(serialization.summary());
+            job.complete();
+            log.info("Scenario job {} completed, published {} transactions", job.getId(), job.getPublishedCount());
+        } catch (Exception e) {
+            job.attachLatencyReport(combine(measured));
+            job.attachSerializationSummary(serialization.summary());
+            job.fail(e);
+            log.error("Scenario job {} failed after publishing {} transactions",
+                    job.getId(), job.getPublishedCount(), e);
+        }
+    }
+
+    private LatencyReport runPhase(GenerationJob job, Scenario scenario, PhasePlan phase, int number,
+                                   SerializationRecorder serialization) {
+        PhaseProgress progress = job.getPhases().get(number);
+        LoadPacer pacer = LoadPacer.forProfile(phase.loadProfile());
+        LatencyRecorder latency = new LatencyRecorder(pacer.isPaced());
+        PublishRun run = PublishRun.builder()
+                .id(job.getId() + "-" + (number + 1))
+                .mode(scenario.getPublishMode())
+                .sink(scenario.getSink())
+                .wireFormat(scenario.getWireFormat())
+                .latency(latency)
+                .serialization(serialization)
+                .build();
+        log.info("Scenario job {} starting phase {} ({})", job.getId(), progress.getName(), progress.getType());
+        progress.start(pacer);
+        try {
+            publisherService.publish(partition(scenario, phase, progress), pacer, progress, run);
+        } catch (RuntimeException e) {
+            progress.fail(latency.report());
+            throw e;
+        }
+        LatencyReport report = latency.report();
+        progress.complete(report);
+        log.info("Scenario job {} finished phase {}, published {} transactions",
+                job.getId(), progress.getName(), progress.getPublishedCount());
+        return report;
+    }
+
+    /**
+     * One lazily generated stream per publisher worker. The workers take indexes from a shared
+     * counter, so a phase ended by its duration still covers a contiguous range of indexes, and
+     * never more than its block.
+     */
+    private List<Stream<Transaction>> partition(Scenario scenario, PhasePlan phase, PhaseProgress progress) {
+        int workers = (int) Math.max(1, Math.min(workers(scenario), phase.indexCount()));
+        long end = phase.firstIndex() + phase.indexCount();
+        AtomicLong nextIndex = new AtomicLong(phase.firstIndex());
+        List<Stream<Transaction>> partitions = new ArrayList<>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            LongStream indexes = LongStream.generate(nextIndex::getAndIncrement).takeWhile(index -> index < end);
+            partitions.add(generatorService.streamMix(phase.requests(), phase.weights(), indexes)
+                    .peek(progress::recordGenerated));
+        }
+        return partitions;
+    }
+
+    private void validate(Scenario scenario) {
+        Set<ConstraintViolation<Scenario>> violations = validator.validate(scenario);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * Resolves each phase's mix, pacer profile and block of transaction indexes, rejecting anything
+     * a phase could only fail on once the job is running. Blocks follow one another, so a seeded
+     * scenario uses the indexes its phases can actually reach.
+     */
+    private List<PhasePlan> plan(Scenario scenario) {
+        List<PhasePlan> plans = new ArrayList<>(scenario.getPhases().size());
+        int workers = workers(scenario);
+        long firstIndex = 0;
+        for (Scenario.Phase phase : scenario.getPhases()) {
+            String name = phase.getName() != null ? phase.getName() : phase.getType().name().toLowerCase(Locale.ROOT);
+            List<Scenario.TrafficShare> mix = phase.getMix() != null && !phase.getMix().isEmpty()
+                    ? phase.getMix()
+                    : scenario.getMix();
+            if (mix == null || mix.isEmpty()) {
+                throw new IllegalArgumentException("Phase " + name + " has no traffic mix");
+            }
+
+            Set<String> routes = new HashSet<>();
+            List<TransactionGenerationRequest> requests = new ArrayList<>(mix.size());
+            int[] weights = new int[mix.size()];
+            for (int i = 0; i < mix.size(); i++) {
+                Scenario.TrafficShare share = mix.get(i);
+                if (!routes.add(share.getProvider() + "/" + share.getPaymentRail())) {
+                    throw new IllegalArgumentException("Phase " + name + " lists " + share.getProvider()
+                            + "/" + share.getPaymentRail() + " more than once");
+                }
+                TransactionGenerationRequest request = request(scenario, share);
+                configProperties.getConfig(request.getProvider(), request.getPaymentRail());
+                TransactionGeneratorService.validateSeeding(request);
+                requests.add(request);
+                weights[i] = share.getWeight() != null ? share.getWeight() : 1;
+            }
+
+            LoadProfile profile = loadProfile(name, phase);
+            LoadPacer.forProfile(profile);
+            long indexCount = indexCount(phase, workers);
+            long endIndex = Math.addExact(firstIndex, indexCount);
+            for (TransactionGenerationRequest request : requests) {
+                generatorService.validateIndexRange(request, endIndex);
+            }
+            plans.add(new PhasePlan(name, phase, List.copyOf(mix), profile, List.copyOf(requests), weights,
+                    expectedCount(phase), firstIndex, indexCount));
+            firstIndex = endIndex;
+        }
+        return plans;
+    }
+
+    private int workers(Scenario scenario) {
+        return scenario.getPublisherWorkers() != null
+                ? scenario.getPublisherWorkers()
+                : publisherService.defaultWorkers();
+    }
+
+    /**
+     * Size of a phase's block of indexes: its count, or for a timed phase its expected count with
+     * room for the pacer's rounding and one index claimed ahead by each worker. A timed phase that
+     * reaches the end of its block stops there.
+     */
+    static long indexCount(Scenario.Phase phase, int workers) {
+        if (phase.getDurationSeconds() == null) {
+            return phase.getCount();
+        }
+        long expected = expectedCount(phase);
+        long timed = expected + expected / 100 + workers + 1;
+        return phase.getCount() != null ? Math.min(phase.getCount(), timed) : timed;
+    }
+
+    private static TransactionGenerationRequest request(Scenario scenario, Scenario.TrafficShare share) {
+        return TransactionGenerationRequest.builder()
+                .provider(share.getProvider())
+                .paymentRail(share.getPaymentRail())
+                .numberOfMessages(1)
+                .payloadProfile(scenario.getPayloadProfile())
+                .idStrategy(scenario.getIdStrategy())
+                .seed(scenario.getSeed())
+                .valueDateBase(scenario.getValueDateBase())
+                .build();
+    }
+
+    /**
+     * The pacer profile of a phase: a linear ramp for ramp and cooldown phases, a constant rate
+     * otherwise, and none for phases that publish as fast as they can.
+     */
+    static LoadProfile loadProfile(String name, Scenario.Phase phase) {
+        if (phase.getCount() == null && phase.getDurationSeconds() == null) {
+            throw new IllegalArgumentException("Phase " + name + " needs a count or durationSeconds");
+        }
+        boolean ramp = phase.getType() == Scenario.Phase.Type.RAMP || phase.getType() == Scenario.Phase.Type.COOLDOWN;
+        if (ramp && (phase.getStartRate() == null || phase.getRate() == null || phase.getDurationSeconds() == null)) {
+            throw new IllegalArgumentException("Phase " + name + " needs startRate, rate and durationSeconds");
+        }
+        if (phase.getRate() == null) {
+            if (phase.getDurationSeconds() != null) {
+                throw new IllegalArgumentException("Phase " + name + " needs a rate to run for durationSeconds");
+            }
+            return null;
+        }
+        return LoadProfile.builder()
+                .type(ramp ? LoadProfile.Type.RAMP : LoadProfile.Type.CONSTANT)
+                .rate(phase.getRate())
+                .startRate(ramp ? phase.getStartRate() : null)
+                .rampSeconds(ramp ? phase.getDurationSeconds() : null)
+                .durationSeconds(phase.getDurationSeconds())
+                .build();
+    }
+
+    /**
+     * Messages the phase is expected to publish: its count, or what its rate adds up to over its
+     * duration if that is fewer.
+     */
+    static long expectedCount(Scenario.Phase phase) {
+        long count = phase.getCount() != null ? phase.getCount() : Long.MAX_VALUE;
+        if (phase.getDurationSeconds() == null || phase.getRate() == null) {
+            return count;
+        }
+        double averageRate = phase.getStartRate() != null
+                && (phase.getType() == Scenario.Phase.Type.RAMP || phase.getType() == Scenario.Phase.Type.COOLDOWN)
+                ? (phase.getStartRate() + phase.getRate()) / 2
+                : phase.getRate();
+        return Math.min(count, (long) Math.ceil(averageRate * phase.getDurationSeconds()));
+    }
+
+    private static LatencyReport combine(List<LatencyReport> reports) {
+        return LatencyReport.merge(reports.stream().map(LatencyReport::histograms).toList());
+    }
+
+    private static String scenarioName(Scenario scenario) {
+        return scenario.getName() != null ? scenario.getName() : "inline";
+    }
+
+    record PhasePlan(String name, Scenario.Phase phase, List<Scenario.TrafficShare> mix, LoadProfile loadProfile,
+                     List<TransactionGenerationRequest> requests, int[] weights, long expectedCount,
+                     long firstIndex, long indexCount) {
+    }
+}
@@ -1,108 +1,315 @@
 package com.currencycloud.transactbench.service;
 
+import com.currencycloud.transactbench.calendar.CurrencyValueDates;
+import com.currencycloud.transactbench.calendar.ValueDateCalendar;
+import com.currencycloud.transactbench.calendar.ValueDateTable;
 import com.currencycloud.transactbench.config.ProviderConfig;
 import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import com.currencycloud.transactbench.dataset.DatasetRandom;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.id.IdGenerator;
+import com.currencycloud.transactbench.id.IdGenerators;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.id.ReferenceGenerator;
+import com.currencycloud.transactbench.id.ReferenceGenerators;
+import com.currencycloud.transactbench.metrics.RailMeters;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
 import com.currencycloud.transactbench.model.Account;
+import com.currencycloud.transactbench.model.ImmutableAccount;
+import com.currencycloud.transactbench.model.ImmutableSender;
 import com.currencycloud.transactbench.model.Sender;
 import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PayloadPool;
+import com.currencycloud.transactbench.payload.PayloadPools;
+import com.currencycloud.transactbench.payload.PooledPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionGeneratorService {
+    private static final Account ORIGIN_ACCOUNT =
+            new ImmutableAccount("FR26TCCL20786956994877", "CMBRFR2BARK", "FR26TCCL20786956994877");
+    private static final long MIX_SALT = 0x6D69785F73686172L;
+
     private final TransactionConfigProperties configProperties;
-    private static final Random random = new Random();
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private final IdGenerators idGenerators;
+    private final ReferenceGenerators referenceGenerators;
+    private final ValueDateCalendar valueDateCalendar;
+    private final TransactionMetrics metrics;
+    private final PayloadPools payloadPools;
+    private final ConcurrentMap<PartyKey, Parties> parties = new ConcurrentHashMap<>();
 
     public List<Transaction> generateTransactions(String provider, String paymentRail, int count, UUID transactionId) {
-        String transactionIdStr = transactionId != null ? transactionId.toString() : null;
-        log.info("Generating {} transactions for provider: {}, paymentRail: {}", count, provider, paymentRail);
+        return generateTransactions(new TransactionGenerationRequest(provider, paymentRail, count, transactionId));
+    }
 
-        ProviderConfig config = configProperties.getConfig(provider, paymentRail);
-        List<Transaction> transactions = new ArrayList<>();
-
-        if(transactionId != null) {
-          Transaction transaction = buildTransaction(provider, paymentRail, config, transactionIdStr);
-          transactions.add(transaction);
-        }else {
-          for (int i = 0; i < count; i++) {
-            Transaction transaction = buildTransaction(provider, paymentRail, config,
-                transactionIdStr);
-            transactions.add(transaction);
-          }
-        }
+    public List<Transaction> generateTransactions(TransactionGenerationRequest request) {
+        log.info("Generating {} transactions for provider: {}, paymentRail: {}",
+                request.getNumberOfMessages(), request.getProvider(), request.getPaymentRail());
+
+        List<Transaction> transactions = streamTransactions(request, 0, request.getNumberOfMessages())
+                .collect(Collectors.toCollection(ArrayList::new));
 
         log.info("Generated {} transactions successfully", transactions.size());
         return transactions;
     }
 
-    private Transaction buildTransaction(String provider, String paymentRail, ProviderConfig config, String transactionId) {
-        String actualTransactionId = transactionId != null ? transactionId : UUID.randomUUID().toString();
+    /**
+     * Lazily generates transactions one at a time as the returned stream is consumed, so callers
+     * can publish while generating without holding the whole run in memory. The provider
+     * configuration is resolved eagerly so invalid requests fail before anything is consumed.
+     */
+    public Stream<Transaction> streamTransactions(String provider, String paymentRail, int count, UUID transactionId) {
+        return streamTransactions(new TransactionGenerationRequest(provider, paymentRail, count, transactionId), 0, count);
+    }
+
+    /**
+     * Streams the {@code count} transactions of the request's run starting at {@code firstIndex},
+     * counted from the request's own first index. Callers splitting a run pass contiguous ranges;
+     * with a seed, each transaction depends only on the seed and its index, so the split does not
+     * change the dataset.
+     */
+    public Stream<Transaction> streamTransactions(TransactionGenerationRequest request, long firstIndex, int count) {
+        RunTemplate template = templateFor(request);
+        long total = template.transactionId() != null ? 1 : Math.max(count, 0);
+
+        long start = (request.getFirstIndex() != null ? request.getFirstIndex() : 0) + firstIndex;
+        return LongStream.range(start, start + total)
+                .mapToObj(index -> buildTransaction(template, index));
+    }
+
+    /**
+     * Replays the ids of a seeded run's {@code count} transactions starting at {@code firstIndex},
+     * counted from the request's own first index, without building or metering the transactions.
+     * Each id is the first value drawn for its index, so it matches what the run published.
+     */
+    public Stream<String> streamIds(TransactionGenerationRequest request, long firstIndex, int count) {
+        if (request.getSeed() == null) {
+            throw new IllegalArgumentException("Only seeded runs can replay their ids");
+        }
+        if (request.getTransactionId() != null) {
+            return Stream.of(request.getTransactionId().toString());
+        }
+        DatasetRandom random = new DatasetRandom(request.getSeed());
+        long start = (request.getFirstIndex() != null ? request.getFirstIndex() : 0) + firstIndex;
+        return LongStream.range(start, start + Math.max(count, 0))
+                .mapToObj(index -> random.at(index).nextUuid().toString());
+    }
+
+    /**
+     * Streams one transaction per index of {@code indexes}, each built for one of the requests
+     * chosen in proportion to {@code weights}. The requests differ only in provider and rail; with
+     * a seed, both the choice and the transaction depend only on the seed and the index.
+     */
+    public Stream<Transaction> streamMix(List<TransactionGenerationRequest> requests, int[] weights,
+                                         LongStream indexes) {
+        if (requests.isEmpty() || requests.size() != weights.length) {
+            throw new IllegalArgumentException("Traffic mix needs one positive weight per provider and rail");
+        }
+        RunTemplate[] templates = new RunTemplate[requests.size()];
+        int[] cumulativeWeights = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < templates.length; i++) {
+            if (weights[i] <= 0) {
+                throw new IllegalArgumentException("Traffic mix weights must be positive");
+            }
+            templates[i] = templateFor(requests.get(i));
+            total = Math.addExact(total, weights[i]);
+            cumulativeWeights[i] = total;
+        }
+
+        Long seed = requests.get(0).getSeed();
+        // Kept apart from the templates' sources so the choice does not shift the transaction's draws
+        DatasetRandom selector = seed != null ? new DatasetRandom(seed ^ MIX_SALT) : null;
+        int draws = total;
+        return indexes.mapToObj(index -> {
+            int draw = nextInt(selector != null ? selector.at(index) : null, draws);
+            return buildTransaction(templates[share(cumulativeWeights, draw)], index);
+        });
+    }
+
+    private static int share(int[] cumulativeWeights, int draw) {
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (draw < cumulativeWeights[middle]) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private RunTemplate templateFor(TransactionGenerationRequest request) {
+        validateSeeding(request);
+        String provider = request.getProvider();
+        String paymentRail = request.getPaymentRail();
+        ProviderConfig config = configProperties.getConfig(provider, paymentRail);
+        String transactionId = request.getTransactionId() != null ? request.getTransactionId().toString() : null;
+
+        return new RunTemplate(provider, paymentRail, config, transactionId,
+                idGenerators.forStrategy(request.getIdStrategy(), request.getNodeId()),
+                referenceGenerators.forRail(paymentRail, request.getNodeId()),
+                partiesFor(config), valueDatesFor(request, config.getCurrency()),
+                payloadPools.forProfile(request.getPayloadProfile()),
+                request.getSeed() != null ? new DatasetRandom(request.getSeed()) : null,
+                metrics.forRail(provider, paymentRail));
+    }
+
+    private CurrencyValueDates valueDatesFor(TransactionGenerationRequest request, String currency) {
+        if (request.getSeed() == null && request.getValueDateBase() == null) {
+            return valueDateCalendar.datesFor(currency);
+        }
+        return valueDateCalendar.datesAt(currency, request.getValueDateBase());
+    }
 
-        return Transaction.builder()
-                .id(actualTransactionId)
+    /**
+     * Rejects id strategies that cannot be replayed from a seed.
+     */
+    public static void validateSeeding(TransactionGenerationRequest request) {
+        IdStrategy strategy = request.getIdStrategy();
+        if (request.getSeed() != null && strategy != null && !strategy.isSeedable()) {
+            throw new IllegalArgumentException("Id strategy " + strategy + " cannot be reproduced from a seed");
+        }
+    }
+
+    /**
+     * Rejects a seeded request whose own transactions, from its first index on, would run past the
+     * references its rail can derive from an index.
+     */
+    public void validateIndexRange(TransactionGenerationRequest request) {
+        long firstIndex = request.getFirstIndex() != null ? request.getFirstIndex() : 0;
+        long count = request.getTransactionId() != null ? 1 : request.getNumberOfMessages();
+        validateIndexRange(request, Math.addExact(firstIndex, count));
+    }
+
+    /**
+     * Rejects a seeded request whose transaction indexes would run up to {@code endIndex}, exclusive,
+     * past the references its rail can derive from an index.
+     */
+    public void validateIndexRange(TransactionGenerationRequest request, long endIndex) {
+        if (request.getSeed() == null) {
+            return;
+        }
+        long capacity = referenceGenerators.forRail(request.getPaymentRail()).seededCapacity();
+        if (endIndex > capacity) {
+            throw new IllegalArgumentException("Seeded run needs " + endIndex + " transaction indexes but "
+                    + request.getPaymentRail() + " references only cover " + capacity);
+        }
+    }
+
+    /**
+     * Validates the request's payload profile and generates its content, so a run that asks for
+     * large payloads is rejected or ready before its first message.
+     */
+    public void preparePayloads(TransactionGenerationRequest request) {
+        payloadPools.forProfile(request.getPayloadProfile());
+    }
+
+    private Transaction buildTransaction(RunTemplate template, long index) {
+        long start = System.nanoTime();
+        DatasetRandom seeded = template.random() != null ? template.random().at(index) : null;
+
+        // Values are drawn in a fixed order so seeded runs replay exactly
+        String id = template.transactionId() != null ? template.transactionId() : nextId(template, seeded);
+        String trackingId = nextId(template, seeded);
+        int amount = generateRandomAmount(seeded);
+        String valueDate = pickValueDate(template.valueDates(), seeded);
+        String reference = seeded != null
+                ? template.references().referenceAt(index)
+                : template.references().next();
+        PooledPayload content = template.payloads() != null
+                ? template.payloads().at(nextInt(seeded, template.payloads().draws()))
+                : null;
+
+        Transaction transaction = Transaction.builder()
+                .id(id)
                 .version(2)
                 .creditDebit("credit")
-                .amount(generateRandomAmount())
-                .currency(config.getCurrency())
-                .valueDate(generateFutureDate())
-                .trackingId(UUID.randomUUID().toString())
-                .reference(generateReference())
-                .paymentRail(paymentRail)
-                .provider(provider)
-                .originAccount(buildOriginAccount())
-                .destinationAccount(buildDestinationAccount(config.getDestinationAccountNumber()))
-                .sender(buildSender(config.getSenderName(), config.getCountry()))
-                .transactionContent(null)
+                .amount(amount)
+                .currency(template.config().getCurrency())
+                .valueDate(valueDate)
+                .trackingId(trackingId)
+                .reference(reference)
+                .paymentRail(template.paymentRail())
+                .provider(template.provider())
+                .originAccount(ORIGIN_ACCOUNT)
+                .destinationAccount(template.parties().destinationAccount())
+                .sender(template.parties().sender())
+                .transactionContent(content)
                 .build();
+        template.meters().recordGenerated(System.nanoTime() - start);
+        return transaction;
+    }
+
+    private static String nextId(RunTemplate template, DatasetRandom seeded) {
+        return (seeded != null ? seeded.nextUuid() : template.ids().nextId()).toString();
+    }
+
+    private static int nextInt(DatasetRandom seeded, int bound) {
+        return seeded != null ? seeded.nextInt(bound) : ThreadLocalRandom.current().nextInt(bound);
     }
 
-    private int generateRandomAmount() {
+    private int generateRandomAmount(DatasetRandom seeded) {
         // Generate random amount between 100 and 10000
-        return 100 + random.nextInt(9901);
+        return 100 + nextInt(seeded, 9901);
     }
 
-    private String generateFutureDate() {
-        // Generate a date between 1 and 90 days in the future
-        int daysInFuture = 1 + random.nextInt(90);
-        return LocalDate.now().plusDays(daysInFuture).format(DATE_FORMATTER);
+    private String pickValueDate(CurrencyValueDates valueDates, DatasetRandom seeded) {
+        // A settlement day of the currency within the value-date horizon
+        ValueDateTable table = valueDates.current();
+        return table.dateAt(nextInt(seeded, table.size()));
     }
 
-    private String generateReference() {
-        return "REF-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    /**
+     * Accounts and senders only depend on the provider configuration, so every transaction built
+     * from the same configuration shares one read-only instance of each.
+     */
+    private Parties partiesFor(ProviderConfig config) {
+        PartyKey key = new PartyKey(config.getDestinationAccountNumber(), config.getSenderName(), config.getCountry());
+        return parties.computeIfAbsent(key, TransactionGeneratorService::buildParties);
     }
 
-    private Account buildOriginAccount() {
-        return Account.builder()
-                .accountNumber("FR26TCCL20786956994877")
-                .bic("CMBRFR2BARK")
-                .iban("FR26TCCL20786956994877")
-                .build();
+    private static Parties buildParties(PartyKey key) {
+        Account destinationAccount = new ImmutableAccount(key.destinationAccountNumber(), null, null);
+        Sender sender = new ImmutableSender(
+                "unstructuredOne, unstructuredTwo",
+                key.senderName(),
+                "ultimateDebtorName",
+                "address line1, address line2, address line3, address line4",
+                key.country());
+        return new Parties(destinationAccount, sender);
     }
 
-    private Account buildDestinationAccount(String accountNumber) {
-        return Account.builder()
-                .accountNumber(accountNumber)
-                .build();
+    /**
+     * Everything about a run that is fixed before the first transaction is built. The random
+     * source is only set for seeded runs and belongs to this stream alone; the payload pool only
+     * when the request has a payload profile.
+     */
+    private record RunTemplate(String provider, String paymentRail, ProviderConfig config, String transactionId,
+                               IdGenerator ids, ReferenceGenerator references, Parties parties,
+                               CurrencyValueDates valueDates, PayloadPool payloads, DatasetRandom random,
+                               RailMeters meters) {
     }
 
-    private Sender buildSender(String senderName, String country) {
-        return Sender.builder()
-                .freeText("unstructuredOne, unstructuredTwo")
-                .name(senderName)
-                .ultimateSenderName("ultimateDebtorName")
-                .address("address line1, address line2, address line3, address line4")
-                .country(country)
-                .build();
+    private record PartyKey(String destinationAccountNumber, String senderName, String country) {
+    }
+
+    private record Parties(Account destinationAccount, Sender sender) {
     }
 }
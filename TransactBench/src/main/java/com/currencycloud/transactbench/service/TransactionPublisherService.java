@@ -1,19 +1,39 @@
 package com.currencycloud.transactbench.service;
 
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
 import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.serialization.TransactionSerializer;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.serialization.WireFormats;
+import com.currencycloud.transactbench.sink.SinkContext;
+import com.currencycloud.transactbench.sink.SinkType;
+import com.currencycloud.transactbench.sink.SinkWriter;
+import com.currencycloud.transactbench.sink.TransactionSinks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionPublisherService {
     private final RabbitTemplate rabbitTemplate;
+    private final TransactionMetrics metrics;
+    private final TransactionSinks sinks;
+    private final WireFormats wireFormats;
 
     @Value("${rabbitmq.exchange.name:transaction-exchange}")
     private String exchangeName;
@@ -22,18 +42,123 @@ public class TransactionPublisherService {
     private String routingKey;
 
     public void publishTransactions(List<Transaction> transactions) {
-        log.info("Publishing {} transactions to RabbitMQ", transactions.size());
-
-        for (Transaction transaction : transactions) {
-            try {
-                rabbitTemplate.convertAndSend(exchangeName, routingKey, transaction);
-                log.debug("Published transaction with ID: {}", transaction.getId());
-            } catch (Exception e) {
-                log.error("Failed to publish transaction with ID: {}", transaction.getId(), e);
-                throw new RuntimeException("Failed to publish transaction: " + transaction.getId(), e);
+        publishTransactions(transactions, PublishRun.builder().build());
+    }
+
+    /**
+     * Publishes with the run's sink and wire format; the publishing mode does not apply inline.
+     */
+    public void publishTransactions(List<Transaction> transactions, PublishRun run) {
+        log.info("Publishing {} transactions", transactions.size());
+        write(transactions.iterator(), LoadPacer.unpaced(), run, transaction -> { });
+        log.info("Successfully published {} transactions", transactions.size());
+    }
+
+    /**
+     * Publishes transactions as they are pulled from the stream, so only the message currently
+     * in flight is held in memory. The callback is invoked after each successful publish.
+     */
+    public long publishTransactionStream(Stream<Transaction> transactions, Consumer<Transaction> onPublished) {
+        return publishTransactionStream(transactions, LoadPacer.unpaced(), onPublished);
+    }
+
+    /**
+     * Publishes the stream on the pacer's schedule. Each message waits for its send slot, and the
+     * stream ends early once the pacer's duration is used up.
+     */
+    public long publishTransactionStream(Stream<Transaction> transactions, LoadPacer pacer,
+                                         Consumer<Transaction> onPublished) {
+        return publishTransactionStream(transactions, pacer, PublishRun.builder().build(), onPublished);
+    }
+
+    /**
+     * Publishes the stream with the run's sink and wire format; the publishing mode does not apply
+     * inline.
+     */
+    public long publishTransactionStream(Stream<Transaction> transactions, LoadPacer pacer, PublishRun run,
+                                         Consumer<Transaction> onPublished) {
+        log.info("Publishing transaction stream");
+
+        long published;
+        try (transactions) {
+            published = write(transactions.iterator(), pacer, run, onPublished);
+        }
+
+        log.info("Successfully published {} transactions", published);
+        return published;
+    }
+
+    /**
+     * Writes on the calling thread. AMQP goes through the shared template without confirms, as
+     * requests handled inline always have; other sinks are run as a single worker.
+     */
+    private long write(Iterator<Transaction> transactions, LoadPacer pacer, PublishRun run,
+                       Consumer<Transaction> onPublished) {
+        ToLongFunction<SinkWriter> work = writer -> {
+            long count = 0;
+            long intendedOffset;
+            while (transactions.hasNext() && (intendedOffset = pacer.awaitNext(writer)) != LoadPacer.FINISHED) {
+                writer.write(transactions.next(), intendedOffset);
+                count++;
             }
+            return count;
+        };
+
+        TransactionSerializer serializer = wireFormats.newWorker(run.getWireFormat(), run.getSerialization());
+        pacer.start();
+        if (sinks.resolve(run.getSink()) == SinkType.AMQP) {
+            // JSON is what the template converts to, so only other formats are serialized here
+            boolean templateFormat = serializer.getFormat() == WireFormat.JSON;
+            return work.applyAsLong((transaction, intendedOffset) -> {
+                if (templateFormat) {
+                    publishTransaction(transaction);
+                } else {
+                    publishTransaction(transaction, serializer);
+                }
+                pacer.recordSent(intendedOffset);
+                onPublished.accept(transaction);
+            });
         }
+        LatencyRecorder latency = run.getLatency() != null ? run.getLatency() : new LatencyRecorder(pacer.isPaced());
+        SinkContext context = new SinkContext(run.getId(), pacer, onPublished::accept, PublishMode.PER_MESSAGE,
+                latency.newWorker(), serializer);
+        return sinks.forType(run.getSink()).run(0, context, work);
+    }
 
-        log.info("Successfully published {} transactions", transactions.size());
+    /**
+     * Publishes an already serialized message, such as one replayed from a capture, to the same
+     * exchange and routing key as transactions.
+     */
+    public void publishMessage(Message message) {
+        try {
+            rabbitTemplate.send(exchangeName, routingKey, message);
+        } catch (Exception e) {
+            log.error("Failed to publish message", e);
+            throw new RuntimeException("Failed to publish message", e);
+        }
+    }
+
+    private void publishTransaction(Transaction transaction, TransactionSerializer serializer) {
+        try {
+            long start = System.nanoTime();
+            rabbitTemplate.send(exchangeName, routingKey, serializer.toMessage(transaction));
+            metrics.forTransaction(transaction).recordPublished(System.nanoTime() - start);
+            log.debug("Published transaction with ID: {} as {}", transaction.getId(), serializer.getFormat());
+        } catch (Exception e) {
+            log.error("Failed to publish transaction with ID: {}", transaction.getId(), e);
+            throw new RuntimeException("Failed to publish transaction: " + transaction.getId(), e);
+        }
+    }
+
+    public void publishTransaction(Transaction transaction) {
+        try {
+            long start = System.nanoTime();
+            rabbitTemplate.convertAndSend(exchangeName, routingKey, transaction);
+            metrics.forTransaction(transaction).recordPublished(System.nanoTime() - start);
+            log.debug("Published transaction with ID: {}", transaction.getId());
+        } catch (Exception e) {
+            log.error("Failed to publish transaction with ID: {}", transaction.getId(), e);
+            throw new RuntimeException("Failed to publish transaction: " + transaction.getId(), e);
+        }
     }
 }
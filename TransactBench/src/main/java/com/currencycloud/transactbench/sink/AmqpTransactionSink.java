@@ -0,0 +1,174 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.config.PublisherPoolProperties;
+import com.currencycloud.transactbench.latency.WorkerLatency;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.RailMeters;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.ConfirmMode;
+import com.currencycloud.transactbench.publish.ConfirmWindow;
+import com.currencycloud.transactbench.publish.ConfirmWindow.TransactionCorrelation;
+import com.currencycloud.transactbench.publish.PublishBatch;
+import com.currencycloud.transactbench.publish.PublishListener;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.publish.PublisherConnectionPool;
+import com.currencycloud.transactbench.serialization.TransactionSerializer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes to RabbitMQ. Each worker holds a dedicated channel on one of the pool's connections
+ * for the whole run. In ASYNC confirm mode each worker keeps at most {@code maxInFlight}
+ * unconfirmed messages and drains them before releasing its channel.
+ * <p>
+ * BATCH mode buffers up to {@code batchSize} messages (or {@code batchLinger}), sends them
+ * back-to-back and then waits once for the whole group's confirms. Every transaction is still a
+ * separate AMQP message. A partial batch is also flushed while its worker waits on the pacer once
+ * the linger time is up, so paced runs with gaps longer than the linger do not hold it back.
+ * <p>
+ * Bodies are serialized by the worker's {@link TransactionSerializer} in the run's wire format,
+ * not by the template's converter, and the send timer still includes serialization.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AmqpTransactionSink implements TransactionSink {
+    private final PublisherConnectionPool connectionPool;
+    private final PublisherPoolProperties poolProperties;
+    private final TransactionMetrics metrics;
+
+    @Value("${rabbitmq.exchange.name:transaction-exchange}")
+    private String exchangeName;
+
+    @Value("${rabbitmq.routing.key:new_transaction_message}")
+    private String routingKey;
+
+    @Override
+    public SinkType getType() {
+        return SinkType.AMQP;
+    }
+
+    @Override
+    public long run(int worker, SinkContext context, ToLongFunction<SinkWriter> work) {
+        PublishBatch batch = context.mode() == PublishMode.BATCH
+                ? new PublishBatch(poolProperties.getBatchSize(), poolProperties.getBatchLinger().toNanos())
+                : null;
+        // A batch must fit in the window, otherwise it would block waiting for its own confirms
+        int windowSize = batch != null
+                ? Math.max(poolProperties.getMaxInFlight(), poolProperties.getBatchSize())
+                : poolProperties.getMaxInFlight();
+        ConfirmWindow confirmWindow = connectionPool.getConfirmMode() == ConfirmMode.ASYNC
+                ? new ConfirmWindow(windowSize, context.listener(), context.latency())
+                : null;
+        LoadPacer pacer = context.pacer();
+        PublishListener listener = context.listener();
+        WorkerLatency latency = context.latency();
+        TransactionSerializer serializer = context.serializer();
+
+        // invoke() pins one channel to this thread until the worker's work is done
+        Long published = connectionPool.templateForWorker(worker).invoke(operations -> {
+            long count = work.applyAsLong(new SinkWriter() {
+                @Override
+                public void write(Transaction transaction, long intendedOffset) {
+                    if (batch == null) {
+                        send(operations, transaction, pacer.intendedNanos(intendedOffset), confirmWindow, latency,
+                                serializer);
+                        pacer.recordSent(intendedOffset);
+                        listener.onPublished(transaction);
+                    } else {
+                        batch.add(transaction, intendedOffset);
+                        if (batch.isReady()) {
+                            flush(worker, operations, batch, confirmWindow, pacer, listener, latency, serializer);
+                        }
+                    }
+                }
+
+                @Override
+                public long deadlineNanos() {
+                    return batch != null ? batch.lingerDeadlineNanos() : Long.MAX_VALUE;
+                }
+
+                @Override
+                public void run() {
+                    if (batch != null && batch.isReady()) {
+                        flush(worker, operations, batch, confirmWindow, pacer, listener, latency, serializer);
+                    }
+                }
+            });
+            if (batch != null && !batch.isEmpty()) {
+                flush(worker, operations, batch, confirmWindow, pacer, listener, latency, serializer);
+            }
+            if (confirmWindow != null) {
+                awaitConfirms(worker, confirmWindow);
+            }
+            return count;
+        });
+        return published != null ? published : 0L;
+    }
+
+    private void flush(int worker, RabbitOperations operations, PublishBatch batch, ConfirmWindow confirmWindow,
+                       LoadPacer pacer, PublishListener listener, WorkerLatency latency,
+                       TransactionSerializer serializer) {
+        for (int i = 0; i < batch.size(); i++) {
+            Transaction transaction = batch.transactionAt(i);
+            send(operations, transaction, pacer.intendedNanos(batch.intendedOffsetAt(i)), confirmWindow, latency,
+                    serializer);
+            pacer.recordSent(batch.intendedOffsetAt(i));
+            listener.onPublished(transaction);
+        }
+        log.debug("Publisher worker {} flushed a batch of {} transactions", worker, batch.size());
+        batch.clear();
+        if (confirmWindow != null) {
+            awaitConfirms(worker, confirmWindow);
+        }
+    }
+
+    private void send(RabbitOperations operations, Transaction transaction, long intendedNanos,
+                      ConfirmWindow confirmWindow, WorkerLatency latency, TransactionSerializer serializer) {
+        RailMeters meters = metrics.forTransaction(transaction);
+        TransactionCorrelation correlation = null;
+        try {
+            long start;
+            if (confirmWindow == null) {
+                start = System.nanoTime();
+                operations.send(exchangeName, routingKey, serializer.toMessage(transaction));
+            } else {
+                // The window wait is back-pressure, not publish time, so it is left out of the timer;
+                // the corrected histogram still sees it through the intended send time
+                correlation = confirmWindow.track(transaction.getId(), meters, intendedNanos);
+                start = System.nanoTime();
+                operations.send(exchangeName, routingKey, serializer.toMessage(transaction), correlation);
+            }
+            long end = System.nanoTime();
+            meters.recordPublished(end - start);
+            latency.recordPublish(intendedNanos, start, end);
+        } catch (Exception e) {
+            if (correlation != null) {
+                confirmWindow.abandon(correlation);
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Failed to publish transaction with ID: {}", transaction.getId(), e);
+            throw new RuntimeException("Failed to publish transaction: " + transaction.getId(), e);
+        }
+    }
+
+    private void awaitConfirms(int worker, ConfirmWindow confirmWindow) {
+        try {
+            if (!confirmWindow.awaitDrained(poolProperties.getConfirmTimeout())) {
+                throw new RuntimeException("Timed out waiting for " + confirmWindow.inFlight()
+                        + " publisher confirms on worker " + worker);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for publisher confirms", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.RailMeters;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.ToLongFunction;
+
+/**
+ * Base for sinks that take each transaction synchronously and have nothing to acknowledge. The
+ * write is timed and recorded exactly as the AMQP sink records a send; the publishing mode is
+ * ignored, since batching only changes how acknowledgements are awaited.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public abstract class DirectTransactionSink implements TransactionSink {
+    private final TransactionMetrics metrics;
+
+    @Override
+    public long run(int worker, SinkContext context, ToLongFunction<SinkWriter> work) {
+        LoadPacer pacer = context.pacer();
+        long runStart = pacer.intendedNanos(0);
+        try (Output output = open(worker, context)) {
+            return work.applyAsLong((transaction, intendedOffset) -> {
+                RailMeters meters = metrics.forTransaction(transaction);
+                long intendedNanos = pacer.intendedNanos(intendedOffset);
+                long start = System.nanoTime();
+                try {
+                    output.write(transaction, start - runStart);
+                } catch (IOException | RuntimeException e) {
+                    log.error("Failed to write transaction with ID: {} to {} sink", transaction.getId(), getType(), e);
+                    throw new RuntimeException("Failed to publish transaction: " + transaction.getId(), e);
+                }
+                long end = System.nanoTime();
+                meters.recordPublished(end - start);
+                context.latency().recordPublish(intendedNanos, start, end);
+                pacer.recordSent(intendedOffset);
+                context.listener().onPublished(transaction);
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open or close " + getType() + " sink for worker " + worker, e);
+        }
+    }
+
+    /**
+     * Opens the output one worker writes to for the rest of the run.
+     */
+    protected abstract Output open(int worker, SinkContext context) throws IOException;
+
+    /**
+     * Where one worker's transactions go. Used by that worker's thread only.
+     */
+    protected interface Output extends Closeable {
+
+        /**
+         * @param sentNanos nanoseconds from the start of the run to this write
+         */
+        void write(Transaction transaction, long sentNanos) throws IOException;
+
+        @Override
+        default void close() throws IOException {
+        }
+    }
+}
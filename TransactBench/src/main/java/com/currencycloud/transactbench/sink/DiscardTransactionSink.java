@@ -0,0 +1,26 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops every transaction without serializing it, so a run measures the generator's own ceiling.
+ */
+@Component
+public class DiscardTransactionSink extends DirectTransactionSink {
+
+    public DiscardTransactionSink(TransactionMetrics metrics) {
+        super(metrics);
+    }
+
+    @Override
+    public SinkType getType() {
+        return SinkType.DISCARD;
+    }
+
+    @Override
+    protected Output open(int worker, SinkContext context) {
+        return (transaction, sentNanos) -> {
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.capture.CaptureFormat;
+import com.currencycloud.transactbench.capture.CaptureWriter;
+import com.currencycloud.transactbench.config.SinkProperties;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes each serialized message body, with its send time, to a per-worker capture file of the
+ * run. A write costs little more than serialization, since {@link CaptureWriter} copies into
+ * memory-mapped regions of the file. The capture of a run can be replayed as often as needed.
+ */
+@Component
+@Slf4j
+public class FileTransactionSink extends DirectTransactionSink {
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration retention;
+
+    public FileTransactionSink(TransactionMetrics metrics, SinkProperties properties) {
+        super(metrics);
+        properties.validate();
+        this.directory = properties.getFile().getDirectory();
+        this.segmentSize = (int) properties.getFile().getSegmentSize().toBytes();
+        this.retention = properties.getFile().getRetention();
+    }
+
+    @Override
+    public SinkType getType() {
+        return SinkType.FILE;
+    }
+
+    /**
+     * The file worker {@code worker} of run {@code runId} writes to.
+     */
+    public Path fileFor(String runId, int worker) {
+        return directory.resolve(runId + "-" + worker + CaptureFormat.EXTENSION);
+    }
+
+    /**
+     * Every capture file of run {@code runId}, in worker order.
+     */
+    public List<Path> filesFor(String runId) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                file -> workerOf(runId, file) >= 0)) {
+            stream.forEach(files::add);
+        }
+        files.sort((a, b) -> Integer.compare(workerOf(runId, a), workerOf(runId, b)));
+        return files;
+    }
+
+    /**
+     * Deletes every file of capture {@code captureId}, returning how many there were.
+     */
+    public int deleteCapture(String captureId) throws IOException {
+        List<Path> files = filesFor(captureId);
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+        if (!files.isEmpty()) {
+            log.info("Deleted {} files of capture {}", files.size(), captureId);
+        }
+        return files.size();
+    }
+
+    /**
+     * Deletes capture files last written before the retention period.
+     */
+    void evictExpiredCaptures() throws IOException {
+        FileTime cutoff = FileTime.from(Instant.now().minus(retention));
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + CaptureFormat.EXTENSION)) {
+            for (Path file : stream) {
+                if (Files.getLastModifiedTime(file).compareTo(cutoff) < 0) {
+                    Files.deleteIfExists(file);
+                    log.debug("Deleted expired capture file {}", file);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected Output open(int worker, SinkContext context) throws IOException {
+        Files.createDirectories(directory);
+        if (worker == 0) {
+            evictExpiredCaptures();
+        }
+        Path file = fileFor(context.runId(), worker);
+        log.debug("File sink worker {} writing to {}", worker, file);
+        // Workers of a run share its start, so their timestamps line up on replay
+        long startEpochMillis = System.currentTimeMillis()
+                - (System.nanoTime() - context.pacer().intendedNanos(0)) / 1_000_000;
+        CaptureWriter writer = new CaptureWriter(file, segmentSize, startEpochMillis,
+                context.serializer().getFormat());
+        return new Output() {
+            @Override
+            public void write(Transaction transaction, long sentNanos) throws IOException {
+                writer.append(sentNanos, context.serializer().toMessage(transaction).getBody());
+            }
+
+            @Override
+            public void close() throws IOException {
+                writer.close();
+            }
+        };
+    }
+
+    /**
+     * The worker index in the name of one of run {@code runId}'s files, or -1 for any other file.
+     */
+    private static int workerOf(String runId, Path file) {
+        String name = file.getFileName().toString();
+        String prefix = runId + "-";
+        if (!name.startsWith(prefix) || !name.endsWith(CaptureFormat.EXTENSION)) {
+            return -1;
+        }
+        String worker = name.substring(prefix.length(), name.length() - CaptureFormat.EXTENSION.length());
+        if (worker.isEmpty() || !worker.chars().allMatch(Character::isDigit) || worker.length() > 9) {
+            return -1;
+        }
+        return Integer.parseInt(worker);
+    }
+}
@@ -0,0 +1,130 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.config.SinkProperties;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.probe.SendTimestamps;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Converts each transaction to the message the broker would receive, send stamp included, and
+ * queues it in process. The queue is bounded by message count and by the bytes of the queued
+ * bodies, and never blocks a run: when either bound is reached the oldest message is dropped and
+ * counted, so a run without an in-process consumer still measures the full generate and serialize
+ * path. Each new run starts with an empty queue, so messages of a finished run stay on the heap
+ * only until the next one; {@code /api/sinks/memory} drains or clears them sooner.
+ */
+@Component
+public class MemoryTransactionSink extends DirectTransactionSink {
+    private final SendTimestamps sendTimestamps = new SendTimestamps();
+    private final BlockingQueue<Message> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final long maxBytes;
+    private String currentRunId;
+
+    public MemoryTransactionSink(TransactionMetrics metrics, SinkProperties properties) {
+        super(metrics);
+        properties.validate();
+        this.queue = new ArrayBlockingQueue<>(properties.getMemory().getCapacity());
+        this.maxBytes = properties.getMemory().getMaxBytes().toBytes();
+    }
+
+    @Override
+    public SinkType getType() {
+        return SinkType.MEMORY;
+    }
+
+    @Override
+    protected Output open(int worker, SinkContext context) {
+        startRun(context.runId());
+        return (transaction, sentNanos) -> {
+            Message message = sendTimestamps.postProcessMessage(
+                    context.serializer().toMessage(transaction));
+            while (!queue.offer(message)) {
+                dropOldest();
+            }
+            long bytes = queuedBytes.addAndGet(message.getBody().length);
+            while (bytes > maxBytes && queue.size() > 1) {
+                dropOldest();
+                bytes = queuedBytes.get();
+            }
+        };
+    }
+
+    /**
+     * Empties the queue when the first worker of a new run opens it; later workers of the same
+     * run wait here until that is done, so none of their messages are cleared.
+     */
+    private synchronized void startRun(String runId) {
+        if (!Objects.equals(runId, currentRunId)) {
+            currentRunId = runId;
+            clear();
+        }
+    }
+
+    private void dropOldest() {
+        Message oldest = queue.poll();
+        if (oldest != null) {
+            queuedBytes.addAndGet(-oldest.getBody().length);
+            dropped.increment();
+        }
+    }
+
+    /**
+     * The oldest queued message, or {@code null} if the queue is empty.
+     */
+    public Message poll() {
+        Message message = queue.poll();
+        if (message != null) {
+            queuedBytes.addAndGet(-message.getBody().length);
+        }
+        return message;
+    }
+
+    /**
+     * Moves up to {@code maxMessages} of the oldest queued messages to {@code target}, returning how many.
+     */
+    public int drainTo(Collection<? super Message> target, int maxMessages) {
+        List<Message> drained = new ArrayList<>(Math.min(maxMessages, queue.size()));
+        int count = queue.drainTo(drained, maxMessages);
+        queuedBytes.addAndGet(-drained.stream().mapToLong(message -> message.getBody().length).sum());
+        target.addAll(drained);
+        return count;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Body bytes of the queued messages.
+     */
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    /**
+     * Messages dropped because the queue was full, since startup or the last {@link #clear()}.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public void clear() {
+        Message message;
+        while ((message = queue.poll()) != null) {
+            queuedBytes.addAndGet(-message.getBody().length);
+        }
+        dropped.reset();
+    }
+}
@@ -0,0 +1,20 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.latency.WorkerLatency;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.publish.PublishListener;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.serialization.TransactionSerializer;
+
+/**
+ * What one worker of a run shares with its sink.
+ *
+ * @param runId      identifies the run, for sinks that keep output per run
+ * @param mode       publishing mode of the run; only sinks that batch acknowledgements use it
+ * @param latency    the worker's own latency histograms
+ * @param serializer the worker's serializer for the run's wire format; sinks that send or store
+ *                   message bodies use it so every sink reports the same payload statistics
+ */
+public record SinkContext(String runId, LoadPacer pacer, PublishListener listener, PublishMode mode,
+                          WorkerLatency latency, TransactionSerializer serializer) {
+}
@@ -0,0 +1,20 @@
+package com.currencycloud.transactbench.sink;
+
+public enum SinkType {
+    /**
+     * Published to RabbitMQ through the publisher connection pool.
+     */
+    AMQP,
+    /**
+     * Serialized and appended to a memory-mapped file per worker.
+     */
+    FILE,
+    /**
+     * Serialized and offered to a bounded in-process queue.
+     */
+    MEMORY,
+    /**
+     * Dropped before serialization, so a run measures generation alone.
+     */
+    DISCARD
+}
@@ -0,0 +1,29 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.load.IdleWork;
+import com.currencycloud.transactbench.model.Transaction;
+
+/**
+ * Hands transactions to a sink from a single worker thread. Workers pass the writer to
+ * {@link com.currencycloud.transactbench.load.LoadPacer#awaitNext(IdleWork)}, so a sink that
+ * buffers can flush while the worker waits for its next send slot.
+ */
+@FunctionalInterface
+public interface SinkWriter extends IdleWork {
+
+    /**
+     * Writes {@code transaction}, whose send slot was {@code intendedOffset} on the run's pacer.
+     * The sink records the send with the pacer and notifies the listener once the transaction is
+     * written, which for buffering sinks may be after this returns.
+     */
+    void write(Transaction transaction, long intendedOffset);
+
+    @Override
+    default long deadlineNanos() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    default void run() {
+    }
+}
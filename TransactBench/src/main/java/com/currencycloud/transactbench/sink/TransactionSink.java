@@ -0,0 +1,19 @@
+package com.currencycloud.transactbench.sink;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Destination of generated transactions. Every sink records the same publish meters and latency
+ * histograms, so runs against different sinks compare directly.
+ */
+public interface TransactionSink {
+
+    SinkType getType();
+
+    /**
+     * Runs {@code work} with a writer bound to the calling thread and returns its result. The
+     * writer is only valid inside {@code work}; everything written through it has been flushed,
+     * and acknowledged where the sink has acknowledgements, by the time this returns.
+     */
+    long run(int worker, SinkContext context, ToLongFunction<SinkWriter> work);
+}
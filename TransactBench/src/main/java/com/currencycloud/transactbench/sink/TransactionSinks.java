@@ -0,0 +1,42 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.config.SinkProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The sink of each {@link SinkType}, chosen per run.
+ */
+@Component
+public class TransactionSinks {
+    private final Map<SinkType, TransactionSink> sinks = new EnumMap<>(SinkType.class);
+    private final SinkType defaultType;
+
+    public TransactionSinks(List<TransactionSink> sinks, SinkProperties properties) {
+        properties.validate();
+        sinks.forEach(sink -> this.sinks.put(sink.getType(), sink));
+        this.defaultType = properties.getDefaultType();
+    }
+
+    /**
+     * The given type, or the configured default when none is given.
+     */
+    public SinkType resolve(SinkType type) {
+        return type != null ? type : defaultType;
+    }
+
+    /**
+     * Sink of the given type, or of the configured default when none is given.
+     */
+    public TransactionSink forType(SinkType type) {
+        SinkType resolved = resolve(type);
+        TransactionSink sink = sinks.get(resolved);
+        if (sink == null) {
+            throw new IllegalArgumentException("No sink available for type " + resolved);
+        }
+        return sink;
+    }
+}
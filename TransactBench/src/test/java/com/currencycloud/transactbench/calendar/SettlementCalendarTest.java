@@ -0,0 +1,80 @@
+package com.currencycloud.transactbench.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettlementCalendarTest {
+
+    @Test
+    void easterSunday_ShouldMatchKnownDates() {
+        // When & Then
+        assertThat(SettlementCalendar.easterSunday(2024)).isEqualTo(LocalDate.of(2024, 3, 31));
+        assertThat(SettlementCalendar.easterSunday(2025)).isEqualTo(LocalDate.of(2025, 4, 20));
+        assertThat(SettlementCalendar.easterSunday(2026)).isEqualTo(LocalDate.of(2026, 4, 5));
+    }
+
+    @Test
+    void target2_ShouldCloseOnEasterAndFixedDaysWithoutSubstitution() {
+        // When
+        Set<LocalDate> holidays = holidays(SettlementCalendar.TARGET2, 2022);
+
+        // Then
+        assertThat(holidays).containsExactlyInAnyOrder(
+                LocalDate.of(2022, 1, 1), LocalDate.of(2022, 4, 15), LocalDate.of(2022, 4, 18),
+                LocalDate.of(2022, 5, 1), LocalDate.of(2022, 12, 25), LocalDate.of(2022, 12, 26));
+    }
+
+    @Test
+    void uk_ShouldSubstituteWeekendChristmasAndBoxingDay() {
+        // When
+        Set<LocalDate> holidays = holidays(SettlementCalendar.UK, 2022);
+
+        // Then
+        assertThat(holidays).contains(LocalDate.of(2022, 1, 3), LocalDate.of(2022, 5, 2), LocalDate.of(2022, 5, 30),
+                LocalDate.of(2022, 8, 29), LocalDate.of(2022, 12, 26), LocalDate.of(2022, 12, 27));
+        assertThat(holidays).doesNotContain(LocalDate.of(2022, 12, 25));
+    }
+
+    @Test
+    void fedwire_ShouldMoveSundayHolidaysToMondayAndSkipSaturdayOnes() {
+        // When
+        Set<LocalDate> holidays2022 = holidays(SettlementCalendar.FEDWIRE, 2022);
+        Set<LocalDate> holidays2021 = holidays(SettlementCalendar.FEDWIRE, 2021);
+
+        // Then
+        assertThat(holidays2022).contains(LocalDate.of(2022, 6, 20), LocalDate.of(2022, 12, 26),
+                LocalDate.of(2022, 11, 24), LocalDate.of(2022, 1, 17));
+        assertThat(holidays2021).doesNotContain(LocalDate.of(2021, 12, 24), LocalDate.of(2021, 12, 25));
+    }
+
+    @Test
+    void canada_ShouldIncludeVictoriaDayAndTruthAndReconciliationDay() {
+        // When
+        Set<LocalDate> holidays = holidays(SettlementCalendar.CANADA, 2021);
+
+        // Then
+        assertThat(holidays).contains(LocalDate.of(2021, 5, 24), LocalDate.of(2021, 9, 30),
+                LocalDate.of(2021, 10, 11), LocalDate.of(2021, 12, 27), LocalDate.of(2021, 12, 28));
+    }
+
+    @Test
+    void forCurrency_ShouldMapConfiguredCurrenciesAndFallBack() {
+        // When & Then
+        assertThat(SettlementCalendar.forCurrency("eur")).isEqualTo(SettlementCalendar.TARGET2);
+        assertThat(SettlementCalendar.forCurrency("GBP")).isEqualTo(SettlementCalendar.UK);
+        assertThat(SettlementCalendar.forCurrency("USD")).isEqualTo(SettlementCalendar.FEDWIRE);
+        assertThat(SettlementCalendar.forCurrency("CAD")).isEqualTo(SettlementCalendar.CANADA);
+        assertThat(SettlementCalendar.forCurrency("JPY")).isEqualTo(SettlementCalendar.WEEKENDS_ONLY);
+    }
+
+    private static Set<LocalDate> holidays(SettlementCalendar calendar, int year) {
+        Set<LocalDate> holidays = new HashSet<>();
+        calendar.addHolidays(year, holidays);
+        return holidays;
+    }
+}
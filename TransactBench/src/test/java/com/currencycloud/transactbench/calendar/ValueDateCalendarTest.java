@@ -0,0 +1,140 @@
+package com.currencycloud.transactbench.calendar;
+
+import com.currencycloud.transactbench.config.ValueDateProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValueDateCalendarTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-12-19T10:00:00Z"));
+
+    @Test
+    void datesFor_ShouldReturnSameHolderForCurrencyIgnoringCase() {
+        // Given
+        ValueDateCalendar calendar = new ValueDateCalendar(new ValueDateProperties(), clock);
+
+        // When & Then
+        assertThat(calendar.datesFor("eur")).isSameAs(calendar.datesFor("EUR"));
+        assertThat(calendar.datesFor("EUR").current().getToday()).isEqualTo(LocalDate.of(2025, 12, 19));
+    }
+
+    @Test
+    void refresh_ShouldSwapTablesForNewDay() {
+        // Given
+        ValueDateCalendar calendar = new ValueDateCalendar(new ValueDateProperties(), clock);
+        CurrencyValueDates euro = calendar.datesFor("EUR");
+        ValueDateTable before = euro.current();
+
+        // When
+        clock.instant = Instant.parse("2025-12-20T00:00:00Z");
+        calendar.refresh();
+
+        // Then
+        assertThat(euro.current()).isNotSameAs(before);
+        assertThat(euro.current().getToday()).isEqualTo(LocalDate.of(2025, 12, 20));
+        assertThat(euro.current().dateAt(0)).isEqualTo("2025-12-22");
+    }
+
+    @Test
+    void refresh_ShouldKeepTable_WhenDayHasNotChanged() {
+        // Given
+        ValueDateCalendar calendar = new ValueDateCalendar(new ValueDateProperties(), clock);
+        ValueDateTable before = calendar.datesFor("GBP").current();
+
+        // When
+        calendar.refresh();
+
+        // Then
+        assertThat(calendar.datesFor("GBP").current()).isSameAs(before);
+    }
+
+    @Test
+    void datesFor_ShouldApplyConfiguredExtraHolidays() {
+        // Given
+        ValueDateProperties properties = new ValueDateProperties();
+        properties.getExtraHolidays().put("eur", List.of("2025-12-22"));
+        ValueDateCalendar calendar = new ValueDateCalendar(properties, clock);
+
+        // When
+        ValueDateTable table = calendar.datesFor("EUR").current();
+
+        // Then
+        assertThat(table.dateAt(0)).isEqualTo("2025-12-23");
+    }
+
+    @Test
+    void datesAt_ShouldBuildFromConfiguredSeededBaseDate_WhateverTheDay() {
+        // Given
+        ValueDateProperties properties = new ValueDateProperties();
+        properties.setSeededBaseDate(LocalDate.of(2026, 1, 1));
+        ValueDateCalendar calendar = new ValueDateCalendar(properties, clock);
+        ValueDateTable before = calendar.datesAt("eur", null).current();
+
+        // When
+        clock.instant = Instant.parse("2026-03-10T00:00:00Z");
+        calendar.refresh();
+        ValueDateTable after = calendar.datesAt("EUR", null).current();
+
+        // Then
+        assertThat(after).isSameAs(before);
+        assertThat(after.getToday()).isEqualTo(LocalDate.of(2026, 1, 1));
+        assertThat(after.dateAt(0)).isEqualTo("2026-01-02");
+    }
+
+    @Test
+    void datesAt_ShouldUseRequestedBaseDate() {
+        // Given
+        ValueDateCalendar calendar = new ValueDateCalendar(new ValueDateProperties(), clock);
+
+        // When
+        CurrencyValueDates dates = calendar.datesAt("GBP", LocalDate.of(2030, 6, 3));
+
+        // Then
+        assertThat(dates.current().getToday()).isEqualTo(LocalDate.of(2030, 6, 3));
+        assertThat(dates).isNotSameAs(calendar.datesFor("GBP"));
+    }
+
+    @Test
+    void constructor_ShouldRejectHorizonOutOfRange() {
+        // Given
+        ValueDateProperties properties = new ValueDateProperties();
+        properties.setHorizonDays(0);
+
+        // When & Then
+        assertThatThrownBy(() -> new ValueDateCalendar(properties, clock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("horizon");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
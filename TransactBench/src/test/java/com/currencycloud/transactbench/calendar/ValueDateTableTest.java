@@ -0,0 +1,76 @@
+package com.currencycloud.transactbench.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueDateTableTest {
+
+    @Test
+    void build_ShouldContainOnlyBusinessDaysWithinHorizon() {
+        // Given
+        LocalDate today = LocalDate.of(2025, 12, 19);
+
+        // When
+        ValueDateTable table = ValueDateTable.build(SettlementCalendar.TARGET2, Set.of(), today, 14);
+
+        // Then
+        assertThat(dates(table)).containsExactly(
+                "2025-12-22", "2025-12-23", "2025-12-24", "2025-12-29", "2025-12-30", "2025-12-31",
+                "2026-01-02");
+        assertThat(table.getToday()).isEqualTo(today);
+    }
+
+    @Test
+    void build_ShouldSkipExtraHolidays() {
+        // Given
+        LocalDate today = LocalDate.of(2025, 12, 19);
+
+        // When
+        ValueDateTable table = ValueDateTable.build(SettlementCalendar.TARGET2,
+                Set.of(LocalDate.of(2025, 12, 24), LocalDate.of(2025, 12, 31)), today, 14);
+
+        // Then
+        assertThat(dates(table)).doesNotContain("2025-12-24", "2025-12-31");
+    }
+
+    @Test
+    void build_ShouldExtendPastHorizon_WhenWholeHorizonIsClosed() {
+        // Given a Friday with a one-day horizon that only reaches Saturday
+        LocalDate friday = LocalDate.of(2026, 1, 2);
+
+        // When
+        ValueDateTable table = ValueDateTable.build(SettlementCalendar.WEEKENDS_ONLY, Set.of(), friday, 1);
+
+        // Then
+        assertThat(dates(table)).containsExactly("2026-01-05");
+    }
+
+    @Test
+    void build_ShouldCoverYearBoundaryHolidays() {
+        // Given
+        LocalDate today = LocalDate.of(2026, 12, 1);
+
+        // When
+        ValueDateTable table = ValueDateTable.build(SettlementCalendar.FEDWIRE, Set.of(), today, 90);
+
+        // Then
+        assertThat(dates(table)).doesNotContain("2026-12-25", "2027-01-01", "2027-01-18", "2027-02-15");
+        assertThat(dates(table)).allSatisfy(date ->
+                assertThat(LocalDate.parse(date).getDayOfWeek()).isNotIn(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+    }
+
+    private static List<String> dates(ValueDateTable table) {
+        List<String> dates = new ArrayList<>();
+        for (int i = 0; i < table.size(); i++) {
+            dates.add(table.dateAt(i));
+        }
+        return dates;
+    }
+}
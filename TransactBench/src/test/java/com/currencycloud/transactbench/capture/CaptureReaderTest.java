@@ -0,0 +1,119 @@
+package com.currencycloud.transactbench.capture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CaptureReaderTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void next_ShouldReadBackEveryRecordInOrder_AcrossWindows() throws IOException {
+        // Given
+        Path file = capture(500);
+
+        // When & Then
+        try (CaptureReader reader = new CaptureReader(file, 128)) {
+            assertThat(reader.getStartEpochMillis()).isEqualTo(1_700_000_000_000L);
+            for (int i = 0; i < 500; i++) {
+                assertThat(reader.next()).isTrue();
+                assertThat(reader.timestampNanos()).isEqualTo(i * 1_000L);
+                assertThat(StandardCharsets.UTF_8.decode(reader.body()).toString()).isEqualTo("message-" + i);
+            }
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void body_ShouldBeReadOnlyView() throws IOException {
+        // Given
+        Path file = capture(1);
+
+        // When & Then
+        try (CaptureReader reader = new CaptureReader(file)) {
+            reader.next();
+            assertThat(reader.body().isReadOnly()).isTrue();
+        }
+    }
+
+    @Test
+    void next_ShouldStopAtRecordCutShort() throws IOException {
+        // Given
+        Path file = capture(3);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 2);
+        }
+
+        // When & Then
+        try (CaptureReader reader = new CaptureReader(file)) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void next_ShouldStopAtZeroFilledTail_LeftByUnclosedWriter() throws IOException {
+        // Given
+        Path file = capture(3);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(4096));
+        }
+
+        // When & Then
+        try (CaptureReader reader = new CaptureReader(file)) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void constructor_ShouldReject_WhenFileIsNotACapture() throws IOException {
+        // Given
+        Path file = directory.resolve("other.ndjson");
+        Files.write(file, "{\"id\":\"txn-001\"}\n{\"id\":\"txn-002\"}\n".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThatThrownBy(() -> new CaptureReader(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a capture file");
+    }
+
+    @Test
+    void constructor_ShouldReject_WhenVersionIsUnknown() throws IOException {
+        // Given
+        Path file = directory.resolve("future" + CaptureFormat.EXTENSION);
+        ByteBuffer header = ByteBuffer.allocate(CaptureFormat.HEADER_BYTES)
+                .putInt(CaptureFormat.MAGIC).putShort((short) 99).putShort((short) 0).putLong(0);
+        Files.write(file, header.array());
+
+        // When & Then
+        assertThatThrownBy(() -> new CaptureReader(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unsupported capture version 99");
+    }
+
+    private Path capture(int records) throws IOException {
+        Path file = directory.resolve("capture" + CaptureFormat.EXTENSION);
+        try (CaptureWriter writer = new CaptureWriter(file, 256, 1_700_000_000_000L)) {
+            for (int i = 0; i < records; i++) {
+                writer.append(i * 1_000L, ("message-" + i).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,97 @@
+package com.currencycloud.transactbench.capture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CaptureWriterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void append_ShouldWriteHeaderThenLengthTimestampAndBodyPerRecord() throws IOException {
+        // Given
+        Path file = directory.resolve("capture" + CaptureFormat.EXTENSION);
+
+        // When
+        try (CaptureWriter writer = new CaptureWriter(file, 4096, 1_700_000_000_000L)) {
+            writer.append(42, "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Then
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertThat(bytes.getInt()).isEqualTo(CaptureFormat.MAGIC);
+        assertThat(bytes.getShort()).isEqualTo(CaptureFormat.VERSION);
+        assertThat(bytes.getShort()).isZero();
+        assertThat(bytes.getLong()).isEqualTo(1_700_000_000_000L);
+        assertThat(bytes.getInt()).isEqualTo(8);
+        assertThat(bytes.getLong()).isEqualTo(42);
+        byte[] body = new byte[8];
+        bytes.get(body);
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}");
+        assertThat(bytes.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void close_ShouldCutFileToWrittenLength_WhenRecordsSpanSeveralSegments() throws IOException {
+        // Given
+        Path file = directory.resolve("capture" + CaptureFormat.EXTENSION);
+        byte[] body = new byte[100];
+
+        // When
+        long size;
+        try (CaptureWriter writer = new CaptureWriter(file, 256, 0)) {
+            for (int i = 0; i < 20; i++) {
+                writer.append(i, body);
+            }
+            size = writer.size();
+        }
+
+        // Then
+        long expected = CaptureFormat.HEADER_BYTES + 20L * (CaptureFormat.RECORD_HEADER_BYTES + body.length);
+        assertThat(size).isEqualTo(expected);
+        assertThat(Files.size(file)).isEqualTo(expected);
+    }
+
+    @Test
+    void append_ShouldMapRecordWhole_WhenLargerThanSegment() throws IOException {
+        // Given
+        Path file = directory.resolve("capture" + CaptureFormat.EXTENSION);
+        byte[] body = new byte[1000];
+        body[999] = 7;
+
+        // When
+        try (CaptureWriter writer = new CaptureWriter(file, 64, 0)) {
+            writer.append(1, body);
+        }
+
+        // Then
+        try (CaptureReader reader = new CaptureReader(file)) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.body().remaining()).isEqualTo(1000);
+            assertThat(reader.body().get(999)).isEqualTo((byte) 7);
+        }
+    }
+
+    @Test
+    void append_ShouldRejectEmptyBody() throws IOException {
+        // Given
+        Path file = directory.resolve("capture" + CaptureFormat.EXTENSION);
+
+        // When & Then
+        try (CaptureWriter writer = new CaptureWriter(file, 64, 0)) {
+            assertThatThrownBy(() -> writer.append(1, new byte[0]))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("non-empty body");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.currencycloud.transactbench.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProbePropertiesTest {
+
+    @Test
+    void validate_ShouldAcceptDefaults() {
+        assertThatCode(() -> new ProbeProperties().validate()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void validate_ShouldRejectAckBatchLargerThanPrefetch() {
+        // Given
+        ProbeProperties properties = new ProbeProperties();
+        properties.setPrefetch(50);
+        properties.setAckBatchSize(100);
+
+        // When & Then
+        assertThatThrownBy(properties::validate)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot exceed prefetch 50");
+    }
+
+    @Test
+    void validate_ShouldRejectNonPositiveSettings() {
+        // Given
+        ProbeProperties properties = new ProbeProperties();
+        properties.setConsumers(0);
+
+        // When & Then
+        assertThatThrownBy(properties::validate).isInstanceOf(IllegalArgumentException.class);
+    }
+}
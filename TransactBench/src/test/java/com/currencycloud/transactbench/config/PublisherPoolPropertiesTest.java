@@ -0,0 +1,73 @@
+package com.currencycloud.transactbench.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublisherPoolPropertiesTest {
+
+    @Test
+    void resolveWorkers_ShouldDefaultToAvailableCores() {
+        // Given
+        PublisherPoolProperties properties = new PublisherPoolProperties();
+
+        // When & Then
+        assertThat(properties.resolveWorkers()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void resolveConnections_ShouldDefaultToOnePerFourWorkers() {
+        // Given
+        PublisherPoolProperties properties = new PublisherPoolProperties();
+        properties.setWorkers(10);
+
+        // When & Then
+        assertThat(properties.resolveConnections()).isEqualTo(3);
+    }
+
+    @Test
+    void resolve_ShouldUseExplicitSizing_WhenConfigured() {
+        // Given
+        PublisherPoolProperties properties = new PublisherPoolProperties();
+        properties.setWorkers(16);
+        properties.setConnections(2);
+
+        // When & Then
+        assertThat(properties.resolveWorkers()).isEqualTo(16);
+        assertThat(properties.resolveConnections()).isEqualTo(2);
+        assertThat(properties.resolveChannelsPerConnection()).isEqualTo(128);
+    }
+
+    @Test
+    void resolveConnections_ShouldBeAtLeastOne() {
+        // Given
+        PublisherPoolProperties properties = new PublisherPoolProperties();
+        properties.setWorkers(1);
+
+        // When & Then
+        assertThat(properties.resolveConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void resolveChannelsPerConnection_ShouldCoverMostWorkersARequestMayAskFor() {
+        // Given
+        PublisherPoolProperties properties = new PublisherPoolProperties();
+        properties.setWorkers(10);
+
+        // When & Then
+        assertThat(properties.resolveChannelsPerConnection() * properties.resolveConnections())
+                .isGreaterThanOrEqualTo(PublisherPoolProperties.MAX_REQUEST_WORKERS);
+        assertThat(properties.resolveChannelsPerConnection()).isEqualTo(86);
+    }
+
+    @Test
+    void resolveChannelsPerConnection_ShouldCoverConfiguredWorkers_WhenAboveRequestMaximum() {
+        // Given
+        PublisherPoolProperties properties = new PublisherPoolProperties();
+        properties.setWorkers(512);
+        properties.setConnections(4);
+
+        // When & Then
+        assertThat(properties.resolveChannelsPerConnection()).isEqualTo(128);
+    }
+}
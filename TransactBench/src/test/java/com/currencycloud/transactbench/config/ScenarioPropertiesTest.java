@@ -0,0 +1,40 @@
+package com.currencycloud.transactbench.config;
+
+import com.currencycloud.transactbench.dto.Scenario;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScenarioPropertiesTest {
+
+    @Test
+    void shippedScenarios_ShouldBindPhasesAndMixes() throws IOException {
+        // Given
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                .load("transaction-scenarios", new ClassPathResource("transaction-scenarios.yml"));
+
+        // When
+        ScenarioProperties properties = new Binder(ConfigurationPropertySources.from(sources))
+                .bind("transaction", ScenarioProperties.class)
+                .get();
+
+        // Then
+        Scenario peak = properties.getScenarios().get("sepa-peak");
+        assertThat(peak.getPhases()).extracting(Scenario.Phase::getType).containsExactly(
+                Scenario.Phase.Type.WARMUP, Scenario.Phase.Type.RAMP, Scenario.Phase.Type.STEADY,
+                Scenario.Phase.Type.SPIKE, Scenario.Phase.Type.COOLDOWN);
+        assertThat(peak.getMix()).extracting(Scenario.TrafficShare::getWeight).containsExactly(6, 3, 1);
+        assertThat(peak.getPhases().get(3).getMix()).singleElement()
+                .satisfies(share -> assertThat(share.getWeight()).isEqualTo(1));
+        assertThat(peak.getPhases().get(4).getStartRate()).isEqualTo(1000.0);
+        assertThat(properties.getScenarios()).containsKey("smoke");
+    }
+}
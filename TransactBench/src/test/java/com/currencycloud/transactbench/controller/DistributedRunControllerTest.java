@@ -0,0 +1,134 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.distributed.DistributedRun;
+import com.currencycloud.transactbench.dto.DistributedRunRequest;
+import com.currencycloud.transactbench.dto.DistributedRunResponse;
+import com.currencycloud.transactbench.dto.JobSubmissionResponse;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.service.DistributedRunService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedRunControllerTest {
+
+    @Mock
+    private DistributedRunService runService;
+
+    @InjectMocks
+    private DistributedRunController runController;
+
+    private DistributedRunRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new DistributedRunRequest(new TransactionGenerationRequest("lhv", "SEPA", 1000, null), null);
+    }
+
+    @Test
+    void submitRun_ShouldReturnAcceptedWithRunId() {
+        // Given
+        when(runService.submit(request)).thenReturn(new DistributedRun("run-1", 1000, null, Instant.now(), List.of()));
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = runController.submitRun(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getJobId()).isEqualTo("run-1");
+        assertThat(response.getHeaders().getLocation()).hasToString("/api/distributed-runs/run-1");
+    }
+
+    @Test
+    void submitRun_ShouldReturnBadRequest_WhenRunIsRejected() {
+        // Given
+        when(runService.submit(request)).thenThrow(new IllegalArgumentException("No workers"));
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = runController.submitRun(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void submitRun_ShouldReturnBadGateway_WhenAWorkerIsUnreachable() {
+        // Given
+        when(runService.submit(request)).thenThrow(new IllegalStateException("Worker could not be reached"));
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = runController.submitRun(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    @Test
+    void getRun_ShouldReturnAggregatedStatus() {
+        // Given
+        DistributedRunResponse status = DistributedRunResponse.builder()
+                .runId("run-1").status(JobStatus.RUNNING).published(10).build();
+        when(runService.getStatus("run-1")).thenReturn(Optional.of(status));
+
+        // When
+        ResponseEntity<DistributedRunResponse> response = runController.getRun("run-1");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(status);
+    }
+
+    @Test
+    void getRun_ShouldReturnNotFound_WhenRunIsUnknown() {
+        // Given
+        when(runService.getStatus("missing")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(runController.getRun("missing").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getLatencyLog_ShouldStreamMergedHistograms_WhenRunHasFinished() throws Exception {
+        // Given
+        DistributedRun run = new DistributedRun("run-1", 1000, null, Instant.now(), List.of());
+        run.finish(new LatencyRecorder(false).report());
+        when(runService.getRun("run-1")).thenReturn(Optional.of(run));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = runController.getLatencyLog("run-1");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("Tag=publish");
+    }
+
+    @Test
+    void getLatencyLog_ShouldReturnNotFound_WhileRunIsInProgress() {
+        // Given
+        when(runService.getRun("run-1"))
+                .thenReturn(Optional.of(new DistributedRun("run-1", 1000, null, Instant.now(), List.of())));
+
+        // When & Then
+        assertThat(runController.getLatencyLog("run-1").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
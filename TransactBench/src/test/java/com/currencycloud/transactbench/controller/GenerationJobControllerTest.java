@@ -0,0 +1,212 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.dto.JobStatusResponse;
+import com.currencycloud.transactbench.dto.JobSubmissionResponse;
+import com.currencycloud.transactbench.dto.LatencySummary;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.service.GenerationJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GenerationJobControllerTest {
+
+    @Mock
+    private GenerationJobService jobService;
+
+    @InjectMocks
+    private GenerationJobController jobController;
+
+    private TransactionGenerationRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new TransactionGenerationRequest("provider1", "sepa", 1000, null);
+    }
+
+    @Test
+    void submitJob_ShouldReturnAcceptedWithJobId() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 1000);
+        when(jobService.submit(request)).thenReturn(job);
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = jobController.submitJob(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getJobId()).isEqualTo("job-1");
+        assertThat(response.getBody().getStatusUrl()).isEqualTo("/api/transactions/jobs/job-1");
+        assertThat(response.getHeaders().getLocation()).hasToString("/api/transactions/jobs/job-1");
+    }
+
+    @Test
+    void submitJob_ShouldReturnBadRequest_WhenInvalidConfiguration() {
+        // Given
+        when(jobService.submit(request)).thenThrow(new IllegalArgumentException("Provider not found"));
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = jobController.submitJob(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void submitJob_ShouldReturnServiceUnavailable_WhenJobQueueIsFull() {
+        // Given
+        when(jobService.submit(request)).thenThrow(new TaskRejectedException("queue full"));
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = jobController.submitJob(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void getJob_ShouldReturnProgress_WhenJobExists() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 1000);
+        job.start();
+        job.recordGenerated();
+        job.recordPublished();
+        when(jobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        // When
+        ResponseEntity<JobStatusResponse> response = jobController.getJob("job-1");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(response.getBody().getRequested()).isEqualTo(1000);
+        assertThat(response.getBody().getGenerated()).isEqualTo(1);
+        assertThat(response.getBody().getPublished()).isEqualTo(1);
+        assertThat(response.getBody().getConfirmed()).isZero();
+    }
+
+    @Test
+    void getJob_ShouldReturnNotFound_WhenJobUnknown() {
+        // Given
+        when(jobService.getJob("missing")).thenReturn(Optional.empty());
+
+        // When
+        ResponseEntity<JobStatusResponse> response = jobController.getJob("missing");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getNackedIds_ShouldDownloadEveryTrackedNack() throws Exception {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 1000);
+        for (int i = 0; i < 150; i++) {
+            job.onNacked("txn-" + i, "broker nack");
+        }
+        when(jobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getNackedIds("job-1");
+        String[] lines = write(response.getBody()).split("\n");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(lines).hasSize(150).startsWith("txn-0").endsWith("txn-149");
+    }
+
+    @Test
+    void getReturnedIds_ShouldReturnNotFound_WhenJobUnknown() {
+        // Given
+        when(jobService.getJob("missing")).thenReturn(Optional.empty());
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getReturnedIds("missing");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getLatency_ShouldDownloadSummary_WhenJobFinished() {
+        // Given
+        GenerationJob job = finishedJobWithLatency();
+        when(jobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        // When
+        ResponseEntity<LatencySummary> response = jobController.getLatency("job-1");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("job-1-latency.json");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getPublish().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getLatency_ShouldReturnNotFound_WhenJobStillRunning() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 1000);
+        job.start();
+        when(jobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        // When
+        ResponseEntity<LatencySummary> response = jobController.getLatency("job-1");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getLatencyLog_ShouldDownloadHdrIntervalLog_WhenJobFinished() throws Exception {
+        // Given
+        GenerationJob job = finishedJobWithLatency();
+        when(jobService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = jobController.getLatencyLog("job-1");
+        String log = write(response.getBody());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("job-1-latency.hlog");
+        assertThat(log).contains("#[StartTime: ").contains("Tag=publish,").contains("Tag=confirm,");
+    }
+
+    private static GenerationJob finishedJobWithLatency() {
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 1);
+        job.start();
+        LatencyRecorder recorder = new LatencyRecorder(false);
+        recorder.newWorker().recordPublish(0, 0, 1_000);
+        job.attachLatencyReport(recorder.report());
+        job.complete();
+        return job;
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.id.IdList;
+import com.currencycloud.transactbench.model.IdLedger;
+import com.currencycloud.transactbench.service.IdLedgerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdLedgerControllerTest {
+
+    @Mock
+    private IdLedgerService ledgerService;
+
+    @InjectMocks
+    private IdLedgerController ledgerController;
+
+    @Test
+    void downloadLedger_ShouldStreamOneIdPerLine_WhenLedgerExists() throws Exception {
+        // Given
+        when(ledgerService.getLedger("ledger-1"))
+                .thenReturn(Optional.of(IdLedger.recorded("ledger-1", ids("txn-001", "txn-002"))));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = ledgerController.downloadLedger("ledger-1");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.TEXT_PLAIN);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("ledger-1.ids");
+        assertThat(write(response.getBody())).isEqualTo("txn-001\ntxn-002\n");
+    }
+
+    @Test
+    void downloadLedger_ShouldReplayIdsOnEachDownload_WhenLedgerIsReplayed() throws Exception {
+        // Given
+        when(ledgerService.getLedger("ledger-1"))
+                .thenReturn(Optional.of(IdLedger.replayed("ledger-1", 2, () -> Stream.of("a", "b"))));
+
+        // When
+        String first = write(ledgerController.downloadLedger("ledger-1").getBody());
+        String second = write(ledgerController.downloadLedger("ledger-1").getBody());
+
+        // Then
+        assertThat(first).isEqualTo("a\nb\n");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void downloadLedger_ShouldReturnNotFound_WhenLedgerUnknown() {
+        // Given
+        when(ledgerService.getLedger("missing")).thenReturn(Optional.empty());
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = ledgerController.downloadLedger("missing");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private static IdList ids(String... values) {
+        IdList ids = new IdList();
+        ids.addAll(List.of(values));
+        return ids;
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,93 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.dto.MemorySinkDrainResponse;
+import com.currencycloud.transactbench.dto.MemorySinkResponse;
+import com.currencycloud.transactbench.sink.MemoryTransactionSink;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemorySinkControllerTest {
+
+    private final MemoryTransactionSink memorySink = mock(MemoryTransactionSink.class);
+    private final MemorySinkController controller = new MemorySinkController(memorySink);
+
+    @Test
+    void getStatus_ShouldReportQueuedMessagesBytesAndDrops() {
+        // Given
+        when(memorySink.size()).thenReturn(3);
+        when(memorySink.getQueuedBytes()).thenReturn(1_200L);
+        when(memorySink.getDroppedCount()).thenReturn(7L);
+
+        // When
+        ResponseEntity<MemorySinkResponse> response = controller.getStatus();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(new MemorySinkResponse(3, 1_200L, 7L));
+    }
+
+    @Test
+    void clear_ShouldEmptySinkAndReturnWhatItHeld() {
+        // Given
+        when(memorySink.size()).thenReturn(2);
+
+        // When
+        ResponseEntity<MemorySinkResponse> response = controller.clear();
+
+        // Then
+        verify(memorySink).clear();
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessages()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drain_ShouldReturnOldestBodiesAndRemainingCount() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType("application/json");
+        Message message = new Message("{\"id\":\"txn-001\"}".getBytes(StandardCharsets.UTF_8), properties);
+        doAnswer(invocation -> {
+            ((Collection<Message>) invocation.getArgument(0)).add(message);
+            return 1;
+        }).when(memorySink).drainTo(any(), anyInt());
+        when(memorySink.size()).thenReturn(5, 4);
+
+        // When
+        ResponseEntity<MemorySinkDrainResponse> response = controller.drain(1);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getRemaining()).isEqualTo(4);
+        assertThat(response.getBody().getMessages()).singleElement().satisfies(drained -> {
+            assertThat(drained.getContentType()).isEqualTo("application/json");
+            assertThat(new String(drained.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":\"txn-001\"}");
+        });
+        verify(memorySink).drainTo(any(), eq(1));
+    }
+
+    @Test
+    void drain_ShouldReturnBadRequest_WhenMaxIsOutOfRange() {
+        // When & Then
+        assertThat(controller.drain(0).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(controller.drain(MemorySinkController.MAX_DRAIN + 1).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(memorySink, never()).drainTo(any(), anyInt());
+    }
+}
@@ -0,0 +1,68 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.config.ProbeProperties;
+import com.currencycloud.transactbench.dto.ProbeLatencyResponse;
+import com.currencycloud.transactbench.probe.EndToEndLatencyProbe;
+import com.currencycloud.transactbench.probe.SendTimestamps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProbeControllerTest {
+
+    private final EndToEndLatencyProbe probe = new EndToEndLatencyProbe();
+    private final ProbeProperties probeProperties = new ProbeProperties();
+    private final ProbeController probeController = new ProbeController(probe, probeProperties);
+
+    @BeforeEach
+    void setUp() {
+        probeProperties.setEnabled(true);
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SendTimestamps.HEADER, SendTimestamps.epochNanos());
+        probe.onMessage(new Message(new byte[0], properties));
+    }
+
+    @Test
+    void getLatency_ShouldReportEndToEndPercentiles() {
+        // When
+        ResponseEntity<ProbeLatencyResponse> response = probeController.getLatency();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().isEnabled()).isTrue();
+        assertThat(response.getBody().getQueue()).isEqualTo("funds.new_transaction.probe");
+        assertThat(response.getBody().getEndToEnd().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getLatencyLog_ShouldDownloadTaggedHistogram() throws Exception {
+        // When
+        ResponseEntity<StreamingResponseBody> response = probeController.getLatencyLog();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // Then
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("probe-latency.hlog");
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("Tag=end-to-end,");
+    }
+
+    @Test
+    void reset_ShouldClearRecordedLatencies() {
+        // When
+        ResponseEntity<Void> response = probeController.reset();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(probeController.getLatency().getBody().getEndToEnd().getCount()).isZero();
+    }
+}
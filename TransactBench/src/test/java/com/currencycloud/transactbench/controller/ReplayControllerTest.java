@@ -0,0 +1,105 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.dto.ReplayRequest;
+import com.currencycloud.transactbench.dto.ReplayResponse;
+import com.currencycloud.transactbench.service.ReplayService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplayControllerTest {
+
+    @Mock
+    private ReplayService replayService;
+
+    @InjectMocks
+    private ReplayController replayController;
+
+    private final ReplayRequest request = new ReplayRequest("capture-1");
+
+    @Test
+    void replay_ShouldReturnReplaySummary_WhenCaptureExists() throws IOException {
+        // Given
+        ReplayResponse summary = ReplayResponse.builder().captureId("capture-1").published(10).build();
+        when(replayService.replay(request)).thenReturn(Optional.of(summary));
+
+        // When
+        ResponseEntity<ReplayResponse> response = replayController.replay(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(summary);
+    }
+
+    @Test
+    void replay_ShouldReturnNotFound_WhenCaptureDoesNotExist() throws IOException {
+        // Given
+        when(replayService.replay(request)).thenReturn(Optional.empty());
+
+        // When
+        ResponseEntity<ReplayResponse> response = replayController.replay(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void replay_ShouldReturnBadRequest_WhenTimingIsInvalid() throws IOException {
+        // Given
+        when(replayService.replay(request))
+                .thenThrow(new IllegalArgumentException("Scaled replays need a positive speed"));
+
+        // When
+        ResponseEntity<ReplayResponse> response = replayController.replay(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void replay_ShouldReturnInternalServerError_WhenPublishingFails() throws IOException {
+        // Given
+        when(replayService.replay(request)).thenThrow(new RuntimeException("Failed to publish message"));
+
+        // When
+        ResponseEntity<ReplayResponse> response = replayController.replay(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void deleteCapture_ShouldReturnNoContent_WhenCaptureExists() throws IOException {
+        // Given
+        when(replayService.deleteCapture("capture-1")).thenReturn(true);
+
+        // When
+        ResponseEntity<Void> response = replayController.deleteCapture("capture-1");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    void deleteCapture_ShouldReturnNotFound_WhenCaptureDoesNotExist() throws IOException {
+        // Given
+        when(replayService.deleteCapture("capture-1")).thenReturn(false);
+
+        // When
+        ResponseEntity<Void> response = replayController.deleteCapture("capture-1");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
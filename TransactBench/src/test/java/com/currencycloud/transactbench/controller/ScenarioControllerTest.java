@@ -0,0 +1,143 @@
+package com.currencycloud.transactbench.controller;
+
+import com.currencycloud.transactbench.dto.JobSubmissionResponse;
+import com.currencycloud.transactbench.dto.Scenario;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.service.ScenarioService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioControllerTest {
+
+    @Mock
+    private ScenarioService scenarioService;
+
+    @InjectMocks
+    private ScenarioController scenarioController;
+
+    private Scenario scenario;
+    private GenerationJob job;
+
+    @BeforeEach
+    void setUp() {
+        scenario = Scenario.builder()
+                .mix(List.of(new Scenario.TrafficShare("lhv", "SEPA", 1)))
+                .phases(List.of(Scenario.Phase.builder().type(Scenario.Phase.Type.STEADY).count(10L).build()))
+                .build();
+        job = new GenerationJob("job-1", "scenario", "smoke", 10);
+    }
+
+    @Test
+    void submitNamed_ShouldReturnAcceptedWithJobStatusUrl() {
+        // Given
+        when(scenarioService.getScenarios()).thenReturn(Map.of("smoke", scenario));
+        when(scenarioService.submit("smoke")).thenReturn(job);
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = scenarioController.submitNamed("smoke");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody().getJobId()).isEqualTo("job-1");
+        assertThat(response.getHeaders().getLocation()).hasToString("/api/transactions/jobs/job-1");
+    }
+
+    @Test
+    void submitNamed_ShouldReturnNotFound_WhenScenarioIsUnknown() {
+        // Given
+        when(scenarioService.getScenarios()).thenReturn(Map.of());
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = scenarioController.submitNamed("missing");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        verify(scenarioService, never()).submit(any(String.class));
+    }
+
+    @Test
+    void submitInline_ShouldReturnBadRequest_WhenScenarioIsInvalid() {
+        // Given
+        when(scenarioService.submit(scenario))
+                .thenThrow(new IllegalArgumentException("Phase steady has no traffic mix"));
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = scenarioController.submitInline(scenario);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void submitInline_ShouldReturnServiceUnavailable_WhenQueueIsFull() {
+        // Given
+        when(scenarioService.submit(scenario)).thenThrow(new TaskRejectedException("Queue full"));
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = scenarioController.submitInline(scenario);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void submitInlineYaml_ShouldParseAndSubmitScenario() {
+        // Given
+        when(scenarioService.submit(any(Scenario.class))).thenReturn(job);
+        String yaml = """
+                mix:
+                  - provider: lhv
+                    paymentRail: SEPA
+                phases:
+                  - type: spike
+                    rate: 500
+                    durationSeconds: 5
+                """;
+
+        // When
+        ResponseEntity<JobSubmissionResponse> response = scenarioController.submitInlineYaml(yaml);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        verify(scenarioService).submit(argThat((Scenario submitted) ->
+                submitted.getPhases().get(0).getType() == Scenario.Phase.Type.SPIKE));
+    }
+
+    @Test
+    void submitInlineYaml_ShouldReturnBadRequest_WhenYamlIsMalformed() {
+        // When
+        ResponseEntity<JobSubmissionResponse> response = scenarioController.submitInlineYaml("phases: [unclosed");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(scenarioService, never()).submit(any(Scenario.class));
+    }
+
+    @Test
+    void getScenario_ShouldReturnStoredScenario_OrNotFound() {
+        // Given
+        when(scenarioService.getScenarios()).thenReturn(Map.of("smoke", scenario));
+
+        // When & Then
+        assertThat(scenarioController.getScenario("smoke").getBody()).isSameAs(scenario);
+        assertThat(scenarioController.getScenario("missing").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -1,27 +1,47 @@
 package com.currencycloud.transactbench.controller;
 
+import com.currencycloud.transactbench.dto.IdResponseMode;
+import com.currencycloud.transactbench.dto.LoadProfile;
 import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
 import com.currencycloud.transactbench.dto.TransactionGenerationResponse;
+import com.currencycloud.transactbench.load.LoadPacer;
 import com.currencycloud.transactbench.model.Account;
+import com.currencycloud.transactbench.model.IdLedger;
 import com.currencycloud.transactbench.model.Sender;
 import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.service.IdLedgerService;
 import com.currencycloud.transactbench.service.TransactionGeneratorService;
 import com.currencycloud.transactbench.service.TransactionPublisherService;
+import com.currencycloud.transactbench.sink.SinkType;
+import com.currencycloud.transactbench.sink.TransactionSinks;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -34,6 +54,15 @@ class TransactionControllerTest {
     @Mock
     private TransactionPublisherService publisherService;
 
+    @Mock
+    private IdLedgerService ledgerService;
+
+    @Mock
+    private TransactionSinks sinks;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private TransactionController transactionController;
 
@@ -49,9 +78,9 @@ class TransactionControllerTest {
     @Test
     void generateTransactions_ShouldReturnCreatedWithTransactionIds_WhenSuccessful() {
         // Given
-        when(generatorService.generateTransactions(anyString(), anyString(), anyInt(),isNull()))
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
                 .thenReturn(mockTransactions);
-        doNothing().when(publisherService).publishTransactions(any());
+        doNothing().when(publisherService).publishTransactions(any(), any());
 
         // When
         ResponseEntity<TransactionGenerationResponse> response =
@@ -64,14 +93,31 @@ class TransactionControllerTest {
         assertThat(response.getBody().getTransactionIds())
                 .containsExactly("txn-001", "txn-002");
 
-        verify(generatorService).generateTransactions("provider1", "sepa", 2, null);
-        verify(publisherService).publishTransactions(mockTransactions);
+        verify(generatorService).generateTransactions(request);
+        verify(publisherService).publishTransactions(eq(mockTransactions), any(PublishRun.class));
+    }
+
+    @Test
+    void generateTransactions_ShouldReturnBadRequestBeforePublishing_WhenSeededIndexRangePassesReferences() {
+        // Given
+        request.setSeed(7L);
+        request.setFirstIndex(Long.MAX_VALUE - 1);
+        doThrow(new IllegalArgumentException("references only cover"))
+                .when(generatorService).validateIndexRange(request);
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+                transactionController.generateTransactions(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(publisherService);
     }
 
     @Test
     void generateTransactions_ShouldReturnBadRequest_WhenInvalidConfiguration() {
         // Given
-        when(generatorService.generateTransactions(anyString(), anyString(), anyInt(), isNull()))
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
                 .thenThrow(new IllegalArgumentException("Provider not found"));
 
         // When
@@ -82,14 +128,14 @@ class TransactionControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         assertThat(response.getBody()).isNull();
 
-        verify(generatorService).generateTransactions("provider1", "sepa", 2, null);
-        verify(publisherService, never()).publishTransactions(any());
+        verify(generatorService).generateTransactions(request);
+        verify(publisherService, never()).publishTransactions(any(), any());
     }
 
     @Test
     void generateTransactions_ShouldReturnInternalServerError_WhenGeneratorServiceThrowsException() {
         // Given
-        when(generatorService.generateTransactions(anyString(), anyString(), anyInt(), isNull()))
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
                 .thenThrow(new RuntimeException("Unexpected error"));
 
         // When
@@ -100,17 +146,17 @@ class TransactionControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
         assertThat(response.getBody()).isNull();
 
-        verify(generatorService).generateTransactions("provider1", "sepa", 2, null);
-        verify(publisherService, never()).publishTransactions(any());
+        verify(generatorService).generateTransactions(request);
+        verify(publisherService, never()).publishTransactions(any(), any());
     }
 
     @Test
     void generateTransactions_ShouldReturnInternalServerError_WhenPublisherServiceThrowsException() {
         // Given
-        when(generatorService.generateTransactions(anyString(), anyString(), anyInt(), isNull()))
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
                 .thenReturn(mockTransactions);
         doThrow(new RuntimeException("Failed to publish"))
-                .when(publisherService).publishTransactions(any());
+                .when(publisherService).publishTransactions(any(), any());
 
         // When
         ResponseEntity<TransactionGenerationResponse> response =
@@ -120,16 +166,16 @@ class TransactionControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
         assertThat(response.getBody()).isNull();
 
-        verify(generatorService).generateTransactions("provider1", "sepa", 2, null);
-        verify(publisherService).publishTransactions(mockTransactions);
+        verify(generatorService).generateTransactions(request);
+        verify(publisherService).publishTransactions(eq(mockTransactions), any(PublishRun.class));
     }
 
     @Test
     void generateTransactions_ShouldHandleEmptyTransactionList() {
         // Given
-        when(generatorService.generateTransactions(anyString(), anyString(), anyInt(), isNull()))
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
                 .thenReturn(Arrays.asList());
-        doNothing().when(publisherService).publishTransactions(any());
+        doNothing().when(publisherService).publishTransactions(any(), any());
 
         // When
         ResponseEntity<TransactionGenerationResponse> response =
@@ -140,8 +186,60 @@ class TransactionControllerTest {
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getTransactionIds()).isEmpty();
 
-        verify(generatorService).generateTransactions("provider1", "sepa", 2, null);
-        verify(publisherService).publishTransactions(any());
+        verify(generatorService).generateTransactions(request);
+        verify(publisherService).publishTransactions(any(), any());
+    }
+
+    @Test
+    void generateTransactions_ShouldPublishToRequestedSinkInRequestedWireFormat() {
+        // Given
+        request.setSink(SinkType.MEMORY);
+        request.setWireFormat(WireFormat.AVRO);
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
+                .thenReturn(mockTransactions);
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+                transactionController.generateTransactions(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        verify(publisherService).publishTransactions(eq(mockTransactions),
+                argThat(run -> run.getSink() == SinkType.MEMORY && run.getWireFormat() == WireFormat.AVRO));
+    }
+
+    @Test
+    void generateTransactions_ShouldReturnCaptureIdOfRun_WhenWrittenToFileSink() {
+        // Given
+        request.setSink(SinkType.FILE);
+        when(sinks.resolve(SinkType.FILE)).thenReturn(SinkType.FILE);
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
+                .thenReturn(mockTransactions);
+        ArgumentCaptor<PublishRun> run = ArgumentCaptor.forClass(PublishRun.class);
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+                transactionController.generateTransactions(request);
+
+        // Then
+        verify(publisherService).publishTransactions(eq(mockTransactions), run.capture());
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCaptureId()).isNotNull().isEqualTo(run.getValue().getId());
+    }
+
+    @Test
+    void generateTransactions_ShouldOmitCaptureId_WhenNotWrittenToFileSink() {
+        // Given
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
+                .thenReturn(mockTransactions);
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+                transactionController.generateTransactions(request);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCaptureId()).isNull();
     }
 
   @Test
@@ -149,9 +247,9 @@ class TransactionControllerTest {
     // Given
     TransactionGenerationRequest largeRequest =
         new TransactionGenerationRequest("provider1", "sepa", 1000, null);
-    when(generatorService.generateTransactions(anyString(), anyString(), anyInt(), isNull()))
+    when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
         .thenReturn(mockTransactions);
-    doNothing().when(publisherService).publishTransactions(any());
+    doNothing().when(publisherService).publishTransactions(any(), any());
 
     // When
     ResponseEntity<TransactionGenerationResponse> response =
@@ -161,10 +259,218 @@ class TransactionControllerTest {
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
     assertThat(response.getBody()).isNotNull();
 
-    verify(generatorService).generateTransactions("provider1", "sepa", 1000, null);
-    verify(publisherService).publishTransactions(mockTransactions);
+    verify(generatorService).generateTransactions(largeRequest);
+    verify(publisherService).publishTransactions(eq(mockTransactions), any(PublishRun.class));
   }
 
+    @Test
+    void generateTransactions_ShouldStreamAndReturnIds_WhenCountReachesStreamingThreshold() {
+        // Given
+        TransactionGenerationRequest streamingRequest =
+            new TransactionGenerationRequest("provider1", "sepa", 10000, null);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+            .thenReturn(mockTransactions.stream());
+        when(publisherService.publishTransactionStream(any(), any(LoadPacer.class), any(), any())).thenAnswer(invocation -> {
+            Consumer<Transaction> onPublished = invocation.getArgument(3);
+            mockTransactions.forEach(onPublished);
+            return (long) mockTransactions.size();
+        });
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+            transactionController.generateTransactions(streamingRequest);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTransactionIds()).containsExactly("txn-001", "txn-002");
+
+        verify(generatorService).streamTransactions(streamingRequest, 0, 10000);
+        verify(generatorService, never()).generateTransactions(any(TransactionGenerationRequest.class));
+        verify(publisherService, never()).publishTransactions(any(), any());
+    }
+
+    @Test
+    void generateTransactions_ShouldUsePacedStreamAndReportPacing_WhenLoadProfileProvided() {
+        // Given
+        request.setLoadProfile(LoadProfile.builder().type(LoadProfile.Type.CONSTANT).rate(1000.0).build());
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+            .thenReturn(mockTransactions.stream());
+        when(publisherService.publishTransactionStream(any(), any(LoadPacer.class), any(), any())).thenReturn(2L);
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+            transactionController.generateTransactions(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getPacing()).isNotNull();
+        assertThat(response.getBody().getPacing().getProfile()).isEqualTo(LoadProfile.Type.CONSTANT);
+        verify(generatorService, never()).generateTransactions(any(TransactionGenerationRequest.class));
+    }
+
+    @Test
+    void generateTransactions_ShouldReturnBadRequest_WhenLoadProfileIncomplete() {
+        // Given
+        request.setLoadProfile(LoadProfile.builder().type(LoadProfile.Type.STEP).rate(1000.0).build());
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+            transactionController.generateTransactions(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(publisherService, never()).publishTransactionStream(any(), any(LoadPacer.class), any(), any());
+    }
+
+    @Test
+    void generateTransactions_ShouldEchoSeedAndChecksum_WhenSeedProvided() {
+        // Given
+        request.setSeed(7L);
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
+                .thenReturn(mockTransactions);
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+                transactionController.generateTransactions(request);
+
+        // Then
+        assertThat(response.getBody().getSeed()).isEqualTo(7L);
+        assertThat(response.getBody().getChecksum()).matches("[0-9a-f]{16}");
+    }
+
+    @Test
+    void generateTransactions_ShouldRecordLedgerInsteadOfListingIds_WhenCompact() {
+        // Given
+        request.setIdResponseMode(IdResponseMode.COMPACT);
+        when(generatorService.generateTransactions(any(TransactionGenerationRequest.class)))
+                .thenReturn(mockTransactions);
+        when(ledgerService.record(any())).thenAnswer(invocation -> IdLedger.recorded("ledger-1", invocation.getArgument(0)));
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+                transactionController.generateTransactions(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody().getTransactionIds()).isNull();
+        assertThat(response.getBody().getCount()).isEqualTo(2L);
+        assertThat(response.getBody().getIdLedger().getLedgerId()).isEqualTo("ledger-1");
+        assertThat(response.getBody().getIdLedger().getFirstIndex()).isZero();
+        assertThat(response.getBody().getIdLedger().getUrl()).isEqualTo("/api/transactions/ledgers/ledger-1");
+        verify(ledgerService).record(argThat(ids -> ids.equals(List.of("txn-001", "txn-002"))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generateTransactions_ShouldReplayLedgerFromSeed_WhenCompactSeededStream() {
+        // Given
+        TransactionGenerationRequest streamingRequest =
+                new TransactionGenerationRequest("provider1", "sepa", 10000, null);
+        streamingRequest.setSeed(7L);
+        streamingRequest.setFirstIndex(500_000L);
+        streamingRequest.setIdResponseMode(IdResponseMode.COMPACT);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenAnswer(invocation -> mockTransactions.stream());
+        when(publisherService.publishTransactionStream(any(), any(LoadPacer.class), any(), any())).thenAnswer(invocation -> {
+            Consumer<Transaction> onPublished = invocation.getArgument(3);
+            mockTransactions.forEach(onPublished);
+            return (long) mockTransactions.size();
+        });
+        when(generatorService.streamIds(streamingRequest, 0, 2))
+                .thenAnswer(invocation -> Stream.of("txn-001", "txn-002"));
+        ArgumentCaptor<Supplier<Stream<String>>> ids = ArgumentCaptor.forClass(Supplier.class);
+        when(ledgerService.replay(eq(2L), ids.capture()))
+                .thenAnswer(invocation -> IdLedger.replayed("ledger-1", 2, invocation.getArgument(1)));
+
+        // When
+        ResponseEntity<TransactionGenerationResponse> response =
+                transactionController.generateTransactions(streamingRequest);
+
+        // Then
+        assertThat(response.getBody().getTransactionIds()).isNull();
+        assertThat(response.getBody().getCount()).isEqualTo(2L);
+        assertThat(response.getBody().getSeed()).isEqualTo(7L);
+        assertThat(response.getBody().getChecksum()).matches("[0-9a-f]{16}");
+        assertThat(ids.getValue().get()).containsExactly("txn-001", "txn-002");
+        assertThat(response.getBody().getIdLedger().getFirstIndex()).isEqualTo(500_000L);
+        verify(ledgerService, never()).record(any());
+        verify(generatorService).streamTransactions(streamingRequest, 0, 10000);
+        verify(generatorService).streamIds(streamingRequest, 0, 2);
+        verify(generatorService, never()).streamTransactions(streamingRequest, 0, 2);
+    }
+
+    @Test
+    void generateTransactionStream_ShouldWriteIdLinesThenSummary() throws Exception {
+        // Given
+        request.setSeed(7L);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(mockTransactions.stream());
+        when(publisherService.publishTransactionStream(any(), any(LoadPacer.class), any(), any())).thenAnswer(invocation -> {
+            Consumer<Transaction> onPublished = invocation.getArgument(3);
+            mockTransactions.forEach(onPublished);
+            return (long) mockTransactions.size();
+        });
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = transactionController.generateTransactionStream(request);
+        String[] lines = write(response.getBody()).split("\n");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("{\"transactionId\":\"txn-001\"}");
+        assertThat(lines[1]).isEqualTo("{\"transactionId\":\"txn-002\"}");
+        TransactionGenerationResponse summary = objectMapper.readValue(lines[2], TransactionGenerationResponse.class);
+        assertThat(summary.getTransactionIds()).isNull();
+        assertThat(summary.getCount()).isEqualTo(2L);
+        assertThat(summary.getSeed()).isEqualTo(7L);
+        assertThat(summary.getChecksum()).matches("[0-9a-f]{16}");
+        verify(generatorService).streamTransactions(request, 0, 2);
+    }
+
+    @Test
+    void generateTransactionStream_ShouldReturnBadRequest_WhenInvalidConfiguration() {
+        // Given
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenThrow(new IllegalArgumentException("Provider not found"));
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = transactionController.generateTransactionStream(request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNull();
+        verify(publisherService, never()).publishTransactionStream(any(), any(LoadPacer.class), any(), any());
+    }
+
+    @Test
+    void generateTransactionStream_ShouldEndWithErrorLine_WhenPublishingFails() throws Exception {
+        // Given
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(mockTransactions.stream());
+        when(publisherService.publishTransactionStream(any(), any(LoadPacer.class), any(), any())).thenAnswer(invocation -> {
+            Consumer<Transaction> onPublished = invocation.getArgument(3);
+            onPublished.accept(mockTransactions.get(0));
+            throw new RuntimeException("Broker unavailable");
+        });
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = transactionController.generateTransactionStream(request);
+        String body = write(response.getBody());
+
+        // Then
+        assertThat(body).isEqualTo("{\"transactionId\":\"txn-001\"}\n{\"error\":\"Broker unavailable\"}\n");
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
     private List<Transaction> createMockTransactions() {
         Account originAccount = Account.builder()
                 .accountNumber("FR26TCCL20786956994877")
@@ -0,0 +1,93 @@
+package com.currencycloud.transactbench.dataset;
+
+import com.currencycloud.transactbench.model.Account;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PooledPayload;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetChecksumTest {
+
+    @Test
+    void value_ShouldNotDependOnOrderOrThreads() {
+        // Given
+        List<Transaction> transactions = IntStream.range(0, 1_000)
+                .mapToObj(i -> Transaction.builder().id("txn-" + i).amount(i).build())
+                .toList();
+        DatasetChecksum sequential = new DatasetChecksum();
+        DatasetChecksum parallel = new DatasetChecksum();
+
+        // When
+        transactions.forEach(sequential::add);
+        transactions.reversed().parallelStream().forEach(parallel::add);
+
+        // Then
+        assertThat(parallel.value()).isEqualTo(sequential.value());
+    }
+
+    @Test
+    void value_ShouldChange_WhenAnyFieldChanges() {
+        // Given
+        Transaction original = Transaction.builder().id("txn-1").amount(100)
+                .originAccount(Account.builder().iban("FR26").build()).build();
+        Transaction changed = Transaction.builder().id("txn-1").amount(100)
+                .originAccount(Account.builder().iban("FR27").build()).build();
+
+        // When & Then
+        assertThat(DatasetChecksum.hash(original)).isNotEqualTo(DatasetChecksum.hash(changed));
+    }
+
+    @Test
+    void hash_ShouldDependOnPooledContentSize() {
+        // Given
+        Transaction small = Transaction.builder().id("txn-1").transactionContent(PooledPayload.ofSize(100)).build();
+        Transaction same = Transaction.builder().id("txn-1").transactionContent(PooledPayload.ofSize(100)).build();
+        Transaction large = Transaction.builder().id("txn-1").transactionContent(PooledPayload.ofSize(101)).build();
+        Transaction empty = Transaction.builder().id("txn-1").build();
+
+        // When & Then
+        assertThat(DatasetChecksum.hash(same)).isEqualTo(DatasetChecksum.hash(small));
+        assertThat(DatasetChecksum.hash(large)).isNotEqualTo(DatasetChecksum.hash(small));
+        assertThat(DatasetChecksum.hash(empty)).isNotEqualTo(DatasetChecksum.hash(small));
+    }
+
+    @Test
+    void combine_ShouldEqualChecksumOfWholeDataset() {
+        // Given
+        List<Transaction> transactions = IntStream.range(0, 100)
+                .mapToObj(i -> Transaction.builder().id("txn-" + i).amount(i).build())
+                .toList();
+        DatasetChecksum whole = new DatasetChecksum();
+        DatasetChecksum first = new DatasetChecksum();
+        DatasetChecksum second = new DatasetChecksum();
+        transactions.forEach(whole::add);
+        transactions.subList(0, 37).forEach(first::add);
+        transactions.subList(37, 100).forEach(second::add);
+
+        // When
+        String combined = DatasetChecksum.combine(List.of(first.value(), second.value()));
+
+        // Then
+        assertThat(combined).isEqualTo(whole.value());
+    }
+
+    @Test
+    void hash_ShouldSeparateAdjacentFields() {
+        // Given
+        Transaction first = Transaction.builder().id("ab").currency("c").build();
+        Transaction second = Transaction.builder().id("a").currency("bc").build();
+
+        // When & Then
+        assertThat(DatasetChecksum.hash(first)).isNotEqualTo(DatasetChecksum.hash(second));
+    }
+
+    @Test
+    void value_ShouldBeSixteenHexDigits_WhenEmpty() {
+        // When & Then
+        assertThat(new DatasetChecksum().value()).isEqualTo("0000000000000000");
+    }
+}
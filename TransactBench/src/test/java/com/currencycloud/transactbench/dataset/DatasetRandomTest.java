@@ -0,0 +1,63 @@
+package com.currencycloud.transactbench.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetRandomTest {
+
+    @Test
+    void at_ShouldReplaySameValues_ForSameSeedAndIndex() {
+        // Given
+        DatasetRandom first = new DatasetRandom(42L);
+        DatasetRandom second = new DatasetRandom(42L);
+
+        // When
+        first.at(10).nextLong();
+        long firstValue = first.at(1_000).nextLong();
+        long secondValue = second.at(1_000).nextLong();
+
+        // Then
+        assertThat(firstValue).isEqualTo(secondValue);
+    }
+
+    @Test
+    void at_ShouldGiveDifferentSequences_ForDifferentIndexesAndSeeds() {
+        // Given
+        DatasetRandom random = new DatasetRandom(42L);
+        DatasetRandom otherSeed = new DatasetRandom(43L);
+
+        // When & Then
+        assertThat(random.at(1).nextLong()).isNotEqualTo(random.at(2).nextLong());
+        assertThat(random.at(1).nextLong()).isNotEqualTo(otherSeed.at(1).nextLong());
+    }
+
+    @Test
+    void nextInt_ShouldStayWithinBound() {
+        // Given
+        DatasetRandom random = new DatasetRandom(7L).at(0);
+        int[] counts = new int[10];
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            counts[random.nextInt(10)]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertThat(count).isBetween(9_000, 11_000);
+        }
+    }
+
+    @Test
+    void nextUuid_ShouldProduceVersion4Ids() {
+        // When
+        UUID id = new DatasetRandom(1L).at(0).nextUuid();
+
+        // Then
+        assertThat(id.version()).isEqualTo(4);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+}
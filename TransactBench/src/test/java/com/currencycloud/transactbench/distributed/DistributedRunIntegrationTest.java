@@ -0,0 +1,94 @@
+package com.currencycloud.transactbench.distributed;
+
+import com.currencycloud.transactbench.dto.DistributedRunRequest;
+import com.currencycloud.transactbench.dto.DistributedRunResponse;
+import com.currencycloud.transactbench.dto.JobStatusResponse;
+import com.currencycloud.transactbench.dto.JobSubmissionResponse;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.sink.SinkType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a coordinator and its workers over HTTP in one instance: the instance is listed as each of
+ * the workers, so every share goes through the same job API a separate JVM would serve. Pointing
+ * {@code workers} at other instances started with {@code --server.port} runs the same flow across
+ * JVMs.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "transaction.coordinator.start-delay=200ms")
+class DistributedRunIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RestClient.Builder restClientBuilder;
+
+    private RestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = restClientBuilder.baseUrl("http://localhost:" + port).build();
+    }
+
+    @Test
+    void distributedRun_ShouldGenerateSameDatasetAsSingleInstanceRun() {
+        // Given
+        URI self = URI.create("http://localhost:" + port);
+        TransactionGenerationRequest run = new TransactionGenerationRequest("lhv", "SEPA", 3001, null);
+        run.setSeed(42L);
+        run.setSink(SinkType.MEMORY);
+        run.setPublisherWorkers(2);
+
+        // When
+        JobSubmissionResponse submitted = client.post().uri("/api/distributed-runs")
+                .body(new DistributedRunRequest(run, List.of(self, self, self)))
+                .retrieve().body(JobSubmissionResponse.class);
+        DistributedRunResponse distributed = await(() -> client.get().uri(submitted.getStatusUrl())
+                .retrieve().body(DistributedRunResponse.class), DistributedRunResponse::getStatus);
+
+        JobSubmissionResponse single = client.post().uri("/api/transactions/jobs")
+                .body(run).retrieve().body(JobSubmissionResponse.class);
+        JobStatusResponse singleStatus = await(() -> client.get().uri(single.getStatusUrl())
+                .retrieve().body(JobStatusResponse.class), JobStatusResponse::getStatus);
+
+        // Then
+        assertThat(distributed.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(distributed.getPublished()).isEqualTo(3001);
+        assertThat(distributed.getWorkers()).extracting(DistributedRunResponse.WorkerStatus::getCount)
+                .containsExactly(1001L, 1000L, 1000L);
+        assertThat(distributed.getLatency().getPublish().getCount()).isEqualTo(3001);
+        assertThat(distributed.getChecksum()).isNotNull().isEqualTo(singleStatus.getChecksum());
+    }
+
+    private static <T> T await(Supplier<T> poll, Function<T, JobStatus> status) {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(30));
+        T response = poll.get();
+        while (status.apply(response) != JobStatus.COMPLETED && status.apply(response) != JobStatus.FAILED
+                && Instant.now().isBefore(deadline)) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            response = poll.get();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,146 @@
+package com.currencycloud.transactbench.distributed;
+
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class RunSplitterTest {
+
+    private static final Instant START = Instant.parse("2026-10-17T12:00:00Z");
+
+    @Test
+    void split_ShouldCoverRunWithContiguousIndexRanges() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 10, null);
+        request.setSeed(42L);
+
+        // When
+        List<TransactionGenerationRequest> shares = RunSplitter.split(request, 3, START, 0);
+
+        // Then
+        assertThat(shares).extracting(TransactionGenerationRequest::getNumberOfMessages).containsExactly(4, 3, 3);
+        assertThat(shares).extracting(TransactionGenerationRequest::getFirstIndex).containsExactly(0L, 4L, 7L);
+        assertThat(shares).allSatisfy(share -> {
+            assertThat(share.getSeed()).isEqualTo(42L);
+            assertThat(share.getStartAt()).isEqualTo(START);
+            assertThat(share.getProvider()).isEqualTo("lhv");
+        });
+        assertThat(request.getFirstIndex()).isNull();
+    }
+
+    @Test
+    void split_ShouldOffsetShares_WhenRunHasFirstIndex() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 4, null);
+        request.setFirstIndex(100L);
+
+        // When
+        List<TransactionGenerationRequest> shares = RunSplitter.split(request, 2, START, 0);
+
+        // Then
+        assertThat(shares).extracting(TransactionGenerationRequest::getFirstIndex).containsExactly(100L, 102L);
+    }
+
+    @Test
+    void split_ShouldNotCreateEmptyShares_WhenWorkersOutnumberMessages() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 2, null);
+
+        // When
+        List<TransactionGenerationRequest> shares = RunSplitter.split(request, 5, START, 0);
+
+        // Then
+        assertThat(shares).extracting(TransactionGenerationRequest::getNumberOfMessages).containsExactly(1, 1);
+    }
+
+    @Test
+    void split_ShouldScaleRatesByShareOfCount() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 4000, null);
+        request.setLoadProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.BURST)
+                .rate(1000.0)
+                .burstRate(4000.0)
+                .burstSeconds(1.0)
+                .burstIntervalSeconds(10.0)
+                .build());
+
+        // When
+        List<TransactionGenerationRequest> shares = RunSplitter.split(request, 4, START, 0);
+
+        // Then
+        assertThat(shares).allSatisfy(share -> {
+            assertThat(share.getLoadProfile().getRate()).isCloseTo(250.0, within(1e-9));
+            assertThat(share.getLoadProfile().getBurstRate()).isCloseTo(1000.0, within(1e-9));
+            assertThat(share.getLoadProfile().getBurstSeconds()).isEqualTo(1.0);
+            assertThat(share.getLoadProfile().getBurstIntervalSeconds()).isEqualTo(10.0);
+            assertThat(share.getLoadProfile().getStartRate()).isNull();
+        });
+        assertThat(request.getLoadProfile().getRate()).isEqualTo(1000.0);
+    }
+
+    @Test
+    void split_ShouldGiveSharesDistinctNodeIds_WhenRunIsUnseeded() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 10, null);
+
+        // When
+        List<TransactionGenerationRequest> shares = RunSplitter.split(request, 3, START, 7);
+
+        // Then
+        assertThat(shares).extracting(TransactionGenerationRequest::getNodeId).containsExactly(7, 8, 9);
+    }
+
+    @Test
+    void split_ShouldKeepNodeId_WhenRunIsSeeded() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 10, null);
+        request.setSeed(42L);
+
+        // When
+        List<TransactionGenerationRequest> shares = RunSplitter.split(request, 3, START, 7);
+
+        // Then
+        assertThat(shares).extracting(TransactionGenerationRequest::getNodeId).containsOnlyNulls();
+    }
+
+    @Test
+    void split_ShouldReject_WhenNodeIdsWouldPassMaximum() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 10, null);
+
+        // When & Then
+        assertThatThrownBy(() -> RunSplitter.split(request, 3, START, 65534))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Node ids");
+    }
+
+    @Test
+    void split_ShouldReject_WhenRunIsASingleTransaction() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 1, UUID.randomUUID());
+
+        // When & Then
+        assertThatThrownBy(() -> RunSplitter.split(request, 2, START, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("single-transaction");
+    }
+
+    @Test
+    void split_ShouldReject_WhenThereAreNoWorkers() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("lhv", "SEPA", 10, null);
+
+        // When & Then
+        assertThatThrownBy(() -> RunSplitter.split(request, 0, START, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.currencycloud.transactbench.distributed;
+
+import com.currencycloud.transactbench.dto.JobStatusResponse;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.model.JobStatus;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class WorkerClientTest {
+
+    private static final URI WORKER = URI.create("http://worker-1:8080");
+
+    private MockRestServiceServer server;
+    private WorkerClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new WorkerClient(builder.build());
+    }
+
+    @Test
+    void submit_ShouldPostShareToJobsApiAndReturnJobId() {
+        // Given
+        TransactionGenerationRequest share = new TransactionGenerationRequest("lhv", "SEPA", 5, null);
+        share.setFirstIndex(10L);
+        share.setStartAt(Instant.parse("2026-10-17T12:00:00Z"));
+        server.expect(requestTo("http://worker-1:8080/api/transactions/jobs"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.firstIndex").value(10))
+                .andExpect(jsonPath("$.startAt").exists())
+                .andRespond(withStatus(HttpStatus.ACCEPTED).contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"jobId\":\"job-1\",\"statusUrl\":\"/api/transactions/jobs/job-1\"}"));
+
+        // When
+        String jobId = client.submit(WORKER, share);
+
+        // Then
+        assertThat(jobId).isEqualTo("job-1");
+        server.verify();
+    }
+
+    @Test
+    void submit_ShouldThrow_WhenWorkerRejectsShare() {
+        // Given
+        server.expect(requestTo("http://worker-1:8080/api/transactions/jobs"))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+        // When & Then
+        assertThatThrownBy(() -> client.submit(WORKER, new TransactionGenerationRequest("x", "y", 1, null)))
+                .isInstanceOf(HttpClientErrorException.BadRequest.class);
+    }
+
+    @Test
+    void status_ShouldReadWorkersJobStatus() {
+        // Given
+        server.expect(requestTo("http://worker-1:8080/api/transactions/jobs/job-1"))
+                .andRespond(withSuccess("{\"jobId\":\"job-1\",\"status\":\"RUNNING\",\"published\":7,"
+                        + "\"checksum\":\"00000000000000ff\"}", MediaType.APPLICATION_JSON));
+
+        // When
+        JobStatusResponse status = client.status(WORKER, "job-1");
+
+        // Then
+        assertThat(status.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(status.getPublished()).isEqualTo(7);
+        assertThat(status.getChecksum()).isEqualTo("00000000000000ff");
+    }
+
+    @Test
+    void latency_ShouldReadTaggedHistogramsFromWorkersLog() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(false);
+        recorder.newWorker().recordPublish(0, 0, 1_000);
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        recorder.report().writeHdrLog(log);
+        server.expect(requestTo("http://worker-1:8080/api/transactions/jobs/job-1/latency/hlog"))
+                .andRespond(withSuccess(log.toByteArray(), MediaType.TEXT_PLAIN));
+
+        // When
+        List<Histogram> histograms = client.latency(WORKER, "job-1");
+
+        // Then
+        assertThat(histograms).extracting(Histogram::getTag)
+                .containsExactly(LatencyReport.PUBLISH, LatencyReport.CONFIRM);
+        assertThat(histograms.get(0).getTotalCount()).isEqualTo(1);
+    }
+}
@@ -1,11 +1,13 @@
 package com.currencycloud.transactbench.dto;
 
+import com.currencycloud.transactbench.id.IdList;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -330,4 +332,19 @@ class TransactionGenerationResponseTest {
         // Then
         assertThat(response.getTransactionIds()).containsExactly("txn-003", "txn-001", "txn-005", "txn-002", "txn-004");
     }
+
+    @Test
+    void serialization_ShouldWriteIdListAsStrings() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        IdList ids = new IdList();
+        ids.add(id);
+        ids.add("txn-002");
+
+        // When
+        String json = objectMapper.writeValueAsString(new TransactionGenerationResponse(ids));
+
+        // Then
+        assertThat(json).isEqualTo("{\"transactionIds\":[\"" + id + "\",\"txn-002\"]}");
+    }
 }
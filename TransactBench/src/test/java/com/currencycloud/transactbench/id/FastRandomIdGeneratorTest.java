@@ -0,0 +1,38 @@
+package com.currencycloud.transactbench.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastRandomIdGeneratorTest {
+
+    private final FastRandomIdGenerator generator = new FastRandomIdGenerator();
+
+    @Test
+    void nextId_ShouldProduceVersion4RfcVariantIds() {
+        // When
+        UUID id = generator.nextId();
+
+        // Then
+        assertThat(id.version()).isEqualTo(4);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void nextId_ShouldProduceUniqueIds() {
+        // Given
+        Set<UUID> ids = new HashSet<>();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Then
+        assertThat(ids).hasSize(10_000);
+    }
+}
@@ -0,0 +1,66 @@
+package com.currencycloud.transactbench.id;
+
+import com.currencycloud.transactbench.config.IdGeneratorProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdGeneratorsTest {
+
+    @Test
+    void forStrategy_ShouldReturnConfiguredDefault_WhenStrategyIsNull() {
+        // Given
+        IdGeneratorProperties properties = new IdGeneratorProperties();
+        properties.setStrategy(IdStrategy.NODE_SEQUENCE);
+        properties.setNodeId(42);
+        IdGenerators generators = new IdGenerators(properties);
+
+        // When
+        IdGenerator generator = generators.forStrategy(null);
+
+        // Then
+        assertThat(generator).isInstanceOf(NodeSequenceIdGenerator.class);
+        assertThat(generators.getNodeId()).isEqualTo(42);
+    }
+
+    @Test
+    void forStrategy_ShouldReturnSameSharedInstance_ForEachStrategy() {
+        // Given
+        IdGenerators generators = new IdGenerators(new IdGeneratorProperties());
+
+        // When & Then
+        for (IdStrategy strategy : IdStrategy.values()) {
+            assertThat(generators.forStrategy(strategy)).isSameAs(generators.forStrategy(strategy));
+        }
+        assertThat(generators.forStrategy(IdStrategy.FAST_RANDOM)).isInstanceOf(FastRandomIdGenerator.class);
+        assertThat(generators.forStrategy(IdStrategy.TIME_ORDERED)).isInstanceOf(TimeOrderedIdGenerator.class);
+    }
+
+    @Test
+    void forStrategy_ShouldIssueIdsAsAssignedNode_WhenNodeIdIsGiven() {
+        // Given
+        IdGeneratorProperties properties = new IdGeneratorProperties();
+        properties.setNodeId(1);
+        IdGenerators generators = new IdGenerators(properties);
+
+        // When
+        IdGenerator assigned = generators.forStrategy(IdStrategy.NODE_SEQUENCE, 7);
+
+        // Then
+        assertThat((assigned.nextId().getLeastSignificantBits() >>> 46) & 0xFFFF).isEqualTo(7);
+        assertThat(generators.forStrategy(IdStrategy.NODE_SEQUENCE, 7)).isSameAs(assigned);
+        assertThat(generators.forStrategy(IdStrategy.NODE_SEQUENCE, 1))
+                .isSameAs(generators.forStrategy(IdStrategy.NODE_SEQUENCE));
+        assertThat(generators.forStrategy(IdStrategy.FAST_RANDOM, 7))
+                .isSameAs(generators.forStrategy(IdStrategy.FAST_RANDOM));
+    }
+
+    @Test
+    void constructor_ShouldPickNodeIdInRange_WhenNotConfigured() {
+        // When
+        IdGenerators generators = new IdGenerators(new IdGeneratorProperties());
+
+        // Then
+        assertThat(generators.getNodeId()).isBetween(0, NodeSequenceIdGenerator.MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,114 @@
+package com.currencycloud.transactbench.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class IdListTest {
+
+    @Test
+    void add_ShouldReadBackIdenticalIds_AcrossChunkBoundaries() {
+        // Given
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            expected.add(UUID.randomUUID().toString());
+        }
+        IdList ids = new IdList();
+
+        // When
+        expected.forEach(ids::add);
+
+        // Then
+        assertThat(ids).hasSize(40_000).isEqualTo(expected);
+    }
+
+    @Test
+    void add_ShouldKeepNonCanonicalIdsVerbatim() {
+        // Given
+        String upper = UUID.randomUUID().toString().toUpperCase();
+        String canonical = UUID.randomUUID().toString();
+        IdList ids = new IdList();
+
+        // When
+        ids.add("txn-001");
+        ids.add(upper);
+        ids.add(canonical);
+        ids.add("0b6f1c9e-2a47-4d7e-9a51-3c8d2f6e7a1g");
+
+        // Then
+        assertThat(ids).containsExactly("txn-001", upper, canonical, "0b6f1c9e-2a47-4d7e-9a51-3c8d2f6e7a1g");
+    }
+
+    @Test
+    void addUuid_ShouldStoreWithoutFormatting() {
+        // Given
+        UUID id = UUID.randomUUID();
+        IdList ids = new IdList();
+
+        // When
+        ids.add(id);
+
+        // Then
+        assertThat(ids.get(0)).isEqualTo(id.toString());
+    }
+
+    @Test
+    void copy_ShouldNotSeeLaterAppends() {
+        // Given
+        IdList ids = new IdList();
+        ids.add("txn-001");
+        ids.add(UUID.randomUUID());
+
+        // When
+        IdList copy = ids.copy();
+        ids.add("txn-003");
+
+        // Then
+        assertThat(copy).hasSize(2).containsExactly(ids.get(0), ids.get(1));
+    }
+
+    @Test
+    void get_ShouldRejectIndexOutOfBounds() {
+        // Given
+        IdList ids = new IdList();
+        ids.add(UUID.randomUUID());
+
+        // When & Then
+        assertThatThrownBy(() -> ids.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> ids.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void add_ShouldAllocateAboutSixteenBytesPerUuid() {
+        // Given
+        assumeThat(ManagementFactory.getThreadMXBean()).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        int count = 200_000;
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            strings[i] = UUID.randomUUID().toString();
+        }
+
+        // When
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        IdList ids = new IdList();
+        for (String id : strings) {
+            ids.add(id);
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        // Then: the strings alone take more than 80 bytes each
+        assertThat(ids).hasSize(count);
+        assertThat((double) allocated / count).isLessThan(20.0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.currencycloud.transactbench.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NodeSequenceIdGeneratorTest {
+
+    @Test
+    void nextId_ShouldEncodeStartTimeNodeAndSequence() {
+        // Given
+        NodeSequenceIdGenerator generator = new NodeSequenceIdGenerator(0x1234, 1_767_225_600_123L);
+
+        // When
+        generator.nextId();
+        UUID second = generator.nextId();
+
+        // Then
+        assertThat(second.version()).isEqualTo(8);
+        assertThat(second.variant()).isEqualTo(2);
+        assertThat(second.getMostSignificantBits() >>> 16).isEqualTo(1_767_225_600_123L);
+        assertThat((second.getLeastSignificantBits() >>> 46) & 0xFFFF).isEqualTo(0x1234);
+        assertThat(second.getLeastSignificantBits() & ((1L << 46) - 1)).isEqualTo(1);
+    }
+
+    @Test
+    void nextId_ShouldDiffer_BetweenNodesWithSameSequence() {
+        // Given
+        NodeSequenceIdGenerator nodeOne = new NodeSequenceIdGenerator(1, 1_767_225_600_123L);
+        NodeSequenceIdGenerator nodeTwo = new NodeSequenceIdGenerator(2, 1_767_225_600_123L);
+
+        // When & Then
+        assertThat(nodeOne.nextId()).isNotEqualTo(nodeTwo.nextId());
+    }
+
+    @Test
+    void nextId_ShouldDiffer_BetweenStartsOneMillisecondApart() {
+        // Given
+        NodeSequenceIdGenerator firstStart = new NodeSequenceIdGenerator(1, 1_767_225_600_123L);
+        NodeSequenceIdGenerator secondStart = new NodeSequenceIdGenerator(1, 1_767_225_600_124L);
+
+        // When & Then
+        assertThat(firstStart.nextId()).isNotEqualTo(secondStart.nextId());
+    }
+
+    @Test
+    void nextId_ShouldDiffer_BetweenGeneratorsStartedBackToBackOnOneNode() {
+        // Given
+        Set<UUID> ids = new HashSet<>();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            ids.add(new NodeSequenceIdGenerator(1).nextId());
+        }
+
+        // Then
+        assertThat(ids).hasSize(100);
+    }
+
+    @Test
+    void constructor_ShouldRejectOutOfRangeNodeId() {
+        // When & Then
+        assertThatThrownBy(() -> new NodeSequenceIdGenerator(NodeSequenceIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Node id");
+    }
+}
@@ -0,0 +1,158 @@
+package com.currencycloud.transactbench.id;
+
+import com.currencycloud.transactbench.config.ReferenceFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceGeneratorTest {
+
+    @Test
+    void next_ShouldMatchDefaultReferenceFormat() {
+        // Given
+        ReferenceGenerator generator = new ReferenceGenerator(new ReferenceFormat(), 7);
+
+        // When
+        String reference = generator.next();
+
+        // Then
+        assertThat(reference).matches("REF-[A-Z0-9]{8}");
+    }
+
+    @Test
+    void next_ShouldUseConfiguredPrefixLengthAndAlphabet() {
+        // Given
+        ReferenceGenerator generator = new ReferenceGenerator(new ReferenceFormat("FW", 10, "0123456789"), 1);
+
+        // When
+        String reference = generator.next();
+
+        // Then
+        assertThat(reference).matches("FW[0-9]{10}");
+    }
+
+    @Test
+    void next_ShouldNotCollide_BetweenNodesUntilExhausted() {
+        // Given
+        ReferenceFormat binary = new ReferenceFormat("", 20, "01");
+        ReferenceGenerator nodeOne = new ReferenceGenerator(binary, 1);
+        ReferenceGenerator nodeTwo = new ReferenceGenerator(binary, 2);
+        Set<String> references = new HashSet<>();
+
+        // When
+        for (long i = 0; i < nodeOne.capacityPerNode(); i++) {
+            references.add(nodeOne.next());
+            references.add(nodeTwo.next());
+        }
+
+        // Then
+        assertThat(nodeOne.capacityPerNode()).isEqualTo(16);
+        assertThat(references).hasSize(32);
+        assertThatThrownBy(nodeOne::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("longer reference length");
+    }
+
+    @Test
+    void next_ShouldContinueAfterPreviousRun_WhenRestartedWithPersistedSequence(@TempDir Path stateDirectory) {
+        // Given
+        ReferenceFormat binary = new ReferenceFormat("", 20, "01");
+        Path state = stateDirectory.resolve("node7.seq");
+        ReferenceGenerator firstRun = new ReferenceGenerator(binary, 7, ReferenceSequence.persisted(state, 3), false);
+        Set<String> references = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            references.add(firstRun.next());
+        }
+
+        // When
+        ReferenceGenerator restarted = new ReferenceGenerator(binary, 7, ReferenceSequence.persisted(state, 3), false);
+        for (int i = 0; i < 10; i++) {
+            references.add(restarted.next());
+        }
+
+        // Then
+        assertThat(references).hasSize(15);
+        assertThatThrownBy(restarted::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("longer reference length");
+    }
+
+    @Test
+    void next_ShouldRepeatFromFirstReference_WhenRestartedWithInMemorySequence() {
+        // Given
+        ReferenceFormat binary = new ReferenceFormat("", 20, "01");
+        String first = new ReferenceGenerator(binary, 7).next();
+
+        // When
+        String afterRestart = new ReferenceGenerator(binary, 7).next();
+
+        // Then
+        assertThat(afterRestart).isEqualTo(first);
+    }
+
+    @Test
+    void next_ShouldStartSliceOver_WhenReuseExhaustedIsEnabled() {
+        // Given
+        ReferenceFormat binary = new ReferenceFormat("", 20, "01");
+        ReferenceGenerator generator = new ReferenceGenerator(binary, 1, ReferenceSequence.inMemory(), true);
+        Set<String> slice = new HashSet<>();
+        for (long i = 0; i < generator.capacityPerNode(); i++) {
+            slice.add(generator.next());
+        }
+
+        // When
+        String reused = generator.next();
+
+        // Then
+        assertThat(slice).hasSize(16);
+        assertThat(slice).contains(reused);
+        assertThat(reused).isEqualTo(new ReferenceGenerator(binary, 1).next());
+    }
+
+    @Test
+    void permute_ShouldBeBijectionOverWholeSpace() {
+        // Given
+        ReferenceGenerator generator = new ReferenceGenerator(new ReferenceFormat("", 4, "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ"
+                .substring(0, 20)), 0);
+        Set<Long> images = new HashSet<>();
+
+        // When
+        for (long value = 0; value < 160_000; value++) {
+            images.add(generator.permute(value));
+        }
+
+        // Then
+        assertThat(images).hasSize(160_000);
+        assertThat(images).allSatisfy(image -> assertThat(image).isBetween(0L, 159_999L));
+    }
+
+    @Test
+    void constructor_ShouldRejectFormatTooSmallForAllNodes() {
+        // When & Then
+        assertThatThrownBy(() -> new ReferenceGenerator(new ReferenceFormat("R", 4, "0123456789"), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("too small");
+    }
+
+    @Test
+    void constructor_ShouldRejectRepeatedAlphabetCharacters() {
+        // When & Then
+        assertThatThrownBy(() -> new ReferenceGenerator(new ReferenceFormat("R", 20, "0120"), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("repeats");
+    }
+
+    @Test
+    void constructor_ShouldRejectLengthBeyondSupportedRange() {
+        // When & Then
+        assertThatThrownBy(() -> new ReferenceGenerator(new ReferenceFormat("R", 12, ReferenceFormat.ALPHANUMERIC), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("supported range");
+    }
+}
@@ -0,0 +1,102 @@
+package com.currencycloud.transactbench.id;
+
+import com.currencycloud.transactbench.config.IdGeneratorProperties;
+import com.currencycloud.transactbench.config.ReferenceFormat;
+import com.currencycloud.transactbench.config.ReferenceProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceGeneratorsTest {
+
+    private final IdGenerators idGenerators = new IdGenerators(new IdGeneratorProperties());
+
+    @Test
+    void forRail_ShouldUseRailFormat_MatchingCaseInsensitively() {
+        // Given
+        ReferenceProperties properties = new ReferenceProperties();
+        properties.getFormats().put("FEDWIRE", new ReferenceFormat("FW", 10, "0123456789"));
+        ReferenceGenerators generators = new ReferenceGenerators(properties, idGenerators);
+
+        // When
+        String reference = generators.forRail("fedwire").next();
+
+        // Then
+        assertThat(reference).matches("FW[0-9]{10}");
+    }
+
+    @Test
+    void forRail_ShouldFallBackToDefaultFormat_ForUnconfiguredRail() {
+        // Given
+        ReferenceGenerators generators = new ReferenceGenerators(new ReferenceProperties(), idGenerators);
+
+        // When & Then
+        assertThat(generators.forRail("SEPA").next()).matches("REF-[A-Z0-9]{8}");
+        assertThat(generators.forRail(null)).isSameAs(generators.forRail("SEPA"));
+    }
+
+    @Test
+    void forRail_ShouldShareGenerator_WhenRailsHaveIdenticalFormats() {
+        // Given
+        ReferenceProperties properties = new ReferenceProperties();
+        properties.getFormats().put("SEPA", new ReferenceFormat("EU-", 9, ReferenceFormat.ALPHANUMERIC));
+        properties.getFormats().put("INST", new ReferenceFormat("EU-", 9, ReferenceFormat.ALPHANUMERIC));
+        ReferenceGenerators generators = new ReferenceGenerators(properties, idGenerators);
+
+        // When & Then
+        assertThat(generators.forRail("SEPA")).isSameAs(generators.forRail("INST"));
+    }
+
+    @Test
+    void forRail_ShouldNotOverlap_BetweenAssignedNodes() {
+        // Given
+        ReferenceProperties properties = new ReferenceProperties();
+        properties.setDefaultFormat(new ReferenceFormat("R", 8, "0123456789"));
+        ReferenceGenerators generators = new ReferenceGenerators(properties, idGenerators);
+        Set<String> references = new HashSet<>();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            references.add(generators.forRail("SEPA", 1).next());
+            references.add(generators.forRail("SEPA", 2).next());
+        }
+
+        // Then
+        assertThat(references).hasSize(200);
+        assertThat(generators.forRail("SEPA", 1)).isSameAs(generators.forRail("SEPA", 1));
+        assertThat(generators.forRail("SEPA", null)).isSameAs(generators.forRail("SEPA"));
+    }
+
+    @Test
+    void forRail_ShouldNotReissueReferences_AfterRestartWithStateDirectory(@TempDir Path stateDirectory)
+            throws Exception {
+        // Given
+        ReferenceProperties properties = new ReferenceProperties();
+        properties.setStateDirectory(stateDirectory);
+        properties.setReservationBlock(4);
+        Set<String> references = new HashSet<>();
+        ReferenceGenerators firstRun = new ReferenceGenerators(properties, idGenerators);
+        for (int i = 0; i < 6; i++) {
+            references.add(firstRun.forRail("SEPA").next());
+        }
+
+        // When
+        ReferenceGenerators restarted = new ReferenceGenerators(properties, idGenerators);
+        for (int i = 0; i < 6; i++) {
+            references.add(restarted.forRail("SEPA").next());
+        }
+
+        // Then
+        assertThat(references).hasSize(12);
+        try (var files = Files.list(stateDirectory)) {
+            assertThat(files).singleElement().satisfies(file -> assertThat(file.getFileName().toString())
+                    .startsWith("references-node" + idGenerators.getNodeId() + "-"));
+        }
+    }
+}
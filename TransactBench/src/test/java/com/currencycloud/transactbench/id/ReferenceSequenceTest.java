@@ -0,0 +1,103 @@
+package com.currencycloud.transactbench.id;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceSequenceTest {
+
+    @Test
+    void next_ShouldCountFromZero_WhenInMemory() {
+        // Given
+        ReferenceSequence sequence = ReferenceSequence.inMemory();
+
+        // When & Then
+        assertThat(sequence.next()).isZero();
+        assertThat(sequence.next()).isEqualTo(1);
+    }
+
+    @Test
+    void next_ShouldRecordEachReservedBlockBeforeUsingIt(@TempDir Path stateDirectory) throws Exception {
+        // Given
+        Path state = stateDirectory.resolve("nested").resolve("node1.seq");
+        ReferenceSequence sequence = ReferenceSequence.persisted(state, 4);
+
+        // When
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            values.add(sequence.next());
+        }
+
+        // Then
+        assertThat(values).containsExactly(0L, 1L, 2L, 3L, 4L);
+        assertThat(Files.readString(state)).isEqualTo("8");
+    }
+
+    @Test
+    void next_ShouldGiveConcurrentSequencesOnOneFileDisjointBlocks(@TempDir Path stateDirectory) {
+        // Given
+        Path state = stateDirectory.resolve("node1.seq");
+        ReferenceSequence first = ReferenceSequence.persisted(state, 2);
+        ReferenceSequence second = ReferenceSequence.persisted(state, 2);
+
+        // When
+        List<Long> values = List.of(first.next(), second.next(), first.next(), first.next(), second.next());
+
+        // Then
+        assertThat(values).containsExactly(0L, 2L, 1L, 4L, 3L);
+    }
+
+    @Test
+    void next_ShouldHandOutEachValueOnce_AcrossVirtualThreadsRefillingFromFile(@TempDir Path stateDirectory)
+            throws Exception {
+        // Given
+        ReferenceSequence sequence = ReferenceSequence.persisted(stateDirectory.resolve("node1.seq"), 8);
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+
+        // When
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int thread = 0; thread < 16; thread++) {
+                threads.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        values.add(sequence.next());
+                    }
+                });
+            }
+        }
+
+        // Then
+        assertThat(values).hasSize(1600);
+        assertThat(Long.parseLong(Files.readString(stateDirectory.resolve("node1.seq")))).isGreaterThanOrEqualTo(1600);
+    }
+
+    @Test
+    void next_ShouldRejectCorruptStateFile(@TempDir Path stateDirectory) throws Exception {
+        // Given
+        Path state = Files.writeString(stateDirectory.resolve("node1.seq"), "not a number");
+        ReferenceSequence sequence = ReferenceSequence.persisted(state, 2);
+
+        // When & Then
+        assertThatThrownBy(sequence::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("corrupt");
+    }
+
+    @Test
+    void persisted_ShouldRejectNonPositiveBlock(@TempDir Path stateDirectory) {
+        // When & Then
+        assertThatThrownBy(() -> ReferenceSequence.persisted(stateDirectory.resolve("node1.seq"), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be positive");
+    }
+}
@@ -0,0 +1,60 @@
+package com.currencycloud.transactbench.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void nextId_ShouldEmbedTimestampAndVersion7() {
+        // Given
+        long millis = 1_767_225_600_000L;
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> millis);
+
+        // When
+        UUID id = generator.nextId();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(millis);
+    }
+
+    @Test
+    void nextId_ShouldBeStrictlyIncreasing_WithinSameMillisecond() {
+        // Given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> 1_000L);
+
+        // When
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Then
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(),
+                    ids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+
+    @Test
+    void nextId_ShouldNotGoBackwards_WhenClockSteps() {
+        // Given
+        long[] now = {2_000L};
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> now[0]);
+        UUID before = generator.nextId();
+
+        // When
+        now[0] = 1_000L;
+        UUID after = generator.nextId();
+
+        // Then
+        assertThat(after.getMostSignificantBits()).isGreaterThan(before.getMostSignificantBits());
+    }
+}
@@ -0,0 +1,106 @@
+package com.currencycloud.transactbench.latency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyRecorderTest {
+
+    private static final long MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+
+    @Test
+    void report_ShouldMergeEveryWorkersHistograms() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(false);
+        WorkerLatency first = recorder.newWorker();
+        WorkerLatency second = recorder.newWorker();
+
+        // When
+        first.recordPublish(0, 1_000, 1_000 + 100 * MICRO);
+        second.recordPublish(0, 1_000, 1_000 + 300 * MICRO);
+        second.recordConfirm(0, 1_000, 1_000 + 2_000 * MICRO);
+        LatencyReport report = recorder.report();
+
+        // Then
+        assertThat(report.getPublish().getTotalCount()).isEqualTo(2);
+        assertThat(report.getPublish().getMaxValue()).isBetween(299 * MICRO, 301 * MICRO);
+        assertThat(report.getConfirm().getTotalCount()).isEqualTo(1);
+        assertThat(report.isCorrected()).isFalse();
+        assertThat(report.getPublishCorrected()).isNull();
+        assertThat(report.getConfirmCorrected()).isNull();
+    }
+
+    @Test
+    void recordPublish_ShouldMeasureCorrectedLatencyFromIntendedSendTime_WhenCorrected() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(true);
+        WorkerLatency worker = recorder.newWorker();
+        long intended = 1_000_000;
+        long start = intended + 900 * MICRO;
+
+        // When
+        worker.recordPublish(intended, start, start + 100 * MICRO);
+        LatencyReport report = recorder.report();
+
+        // Then
+        assertThat(report.getPublish().getMaxValue()).isBetween(99 * MICRO, 101 * MICRO);
+        assertThat(report.getPublishCorrected().getMaxValue()).isBetween(999 * MICRO, 1_001 * MICRO);
+    }
+
+    @Test
+    void recordConfirm_ShouldMeasureCorrectedLatencyFromIntendedSendTime_WhenCorrected() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(true);
+        WorkerLatency worker = recorder.newWorker();
+        long intended = 1_000_000;
+        long sent = intended + 500 * MICRO;
+
+        // When
+        worker.recordConfirm(intended, sent, sent + 1_000 * MICRO);
+        LatencyReport report = recorder.report();
+
+        // Then
+        assertThat(report.getConfirm().getMaxValue()).isBetween(999 * MICRO, 1_001 * MICRO);
+        assertThat(report.getConfirmCorrected().getMaxValue()).isBetween(1_499 * MICRO, 1_501 * MICRO);
+    }
+
+    @Test
+    void recordPublish_ShouldNotCorrectBelowServiceTime_WhenSentAheadOfSchedule() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(true);
+        WorkerLatency worker = recorder.newWorker();
+
+        // When
+        worker.recordPublish(5_000 * MICRO, 1_000 * MICRO, 1_200 * MICRO);
+        LatencyReport report = recorder.report();
+
+        // Then
+        assertThat(report.getPublishCorrected().getMaxValue()).isBetween(199 * MICRO, 201 * MICRO);
+    }
+
+    @Test
+    void recordConfirm_ShouldBeSafeFromSeveralThreads() throws Exception {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(false);
+        WorkerLatency worker = recorder.newWorker();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    worker.recordConfirm(0, 0, (i + 1) * MICRO);
+                }
+            });
+        }
+
+        // When
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        LatencyReport report = recorder.report();
+
+        // Then
+        assertThat(report.getConfirm().getTotalCount()).isEqualTo(40_000);
+    }
+}
@@ -0,0 +1,152 @@
+package com.currencycloud.transactbench.latency;
+
+import com.currencycloud.transactbench.dto.LatencySummary;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyReportTest {
+
+    private static final long MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+
+    @Test
+    void summary_ShouldReportPercentilesInMicros() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(false);
+        WorkerLatency worker = recorder.newWorker();
+        for (int i = 1; i <= 1000; i++) {
+            worker.recordPublish(0, 0, i * MICRO);
+        }
+
+        // When
+        LatencySummary summary = recorder.report().summary();
+
+        // Then
+        assertThat(summary.isCorrectedForCoordinatedOmission()).isFalse();
+        assertThat(summary.getPublish().getCount()).isEqualTo(1000);
+        assertThat(summary.getPublish().getP50Micros()).isCloseTo(500, within(1.0));
+        assertThat(summary.getPublish().getP90Micros()).isCloseTo(900, within(1.0));
+        assertThat(summary.getPublish().getP99Micros()).isCloseTo(990, within(1.0));
+        assertThat(summary.getPublish().getP999Micros()).isCloseTo(999, within(1.0));
+        assertThat(summary.getPublish().getMaxMicros()).isCloseTo(1000, within(1.0));
+        assertThat(summary.getPublish().getMeanMicros()).isCloseTo(500.5, within(1.0));
+        assertThat(summary.getConfirm().getCount()).isZero();
+        assertThat(summary.getPublishCorrected()).isNull();
+    }
+
+    @Test
+    void summary_ShouldIncludeCorrectedPercentiles_WhenCorrected() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(true);
+        recorder.newWorker().recordPublish(0, 10 * MICRO, 20 * MICRO);
+
+        // When
+        LatencySummary summary = recorder.report().summary();
+
+        // Then
+        assertThat(summary.isCorrectedForCoordinatedOmission()).isTrue();
+        assertThat(summary.getPublishCorrected().getMaxMicros()).isCloseTo(20, within(0.1));
+        assertThat(summary.getConfirmCorrected().getCount()).isZero();
+    }
+
+    @Test
+    void writeHdrLog_ShouldWriteOneTaggedIntervalPerHistogram() {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(true);
+        WorkerLatency worker = recorder.newWorker();
+        worker.recordPublish(0, 10 * MICRO, 20 * MICRO);
+        worker.recordConfirm(0, 10 * MICRO, 110 * MICRO);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        recorder.report().writeHdrLog(out);
+
+        // Then
+        HistogramLogReader reader = new HistogramLogReader(new ByteArrayInputStream(out.toByteArray()));
+        List<String> tags = new ArrayList<>();
+        EncodableHistogram histogram;
+        while ((histogram = reader.nextIntervalHistogram()) != null) {
+            tags.add(histogram.getTag());
+        }
+        assertThat(tags).containsExactly(LatencyReport.PUBLISH, LatencyReport.PUBLISH_CORRECTED,
+                LatencyReport.CONFIRM, LatencyReport.CONFIRM_CORRECTED);
+    }
+
+    @Test
+    void merge_ShouldAddUpHistogramsReadBackFromEveryRunsLog() {
+        // Given
+        List<List<Histogram>> runs = new ArrayList<>();
+        for (int run = 1; run <= 2; run++) {
+            LatencyRecorder recorder = new LatencyRecorder(true);
+            WorkerLatency worker = recorder.newWorker();
+            worker.recordPublish(0, 0, run * 100 * MICRO);
+            worker.recordConfirm(0, 0, run * 1000 * MICRO);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            recorder.report().writeHdrLog(out);
+            runs.add(HdrLogs.read(new ByteArrayInputStream(out.toByteArray())));
+        }
+
+        // When
+        LatencySummary summary = LatencyReport.merge(runs).summary();
+
+        // Then
+        assertThat(summary.isCorrectedForCoordinatedOmission()).isTrue();
+        assertThat(summary.getPublish().getCount()).isEqualTo(2);
+        assertThat(summary.getPublish().getMaxMicros()).isCloseTo(200, within(0.5));
+        assertThat(summary.getConfirm().getMaxMicros()).isCloseTo(2000, within(2.0));
+        assertThat(summary.getConfirmCorrected().getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void merge_ShouldDropCorrectedHistograms_WhenAnyRunIsUncorrected() {
+        // Given
+        LatencyRecorder corrected = new LatencyRecorder(true);
+        corrected.newWorker().recordPublish(0, 0, 10 * MICRO);
+        LatencyRecorder uncorrected = new LatencyRecorder(false);
+        uncorrected.newWorker().recordPublish(0, 0, 20 * MICRO);
+
+        // When
+        LatencySummary summary = LatencyReport.merge(List.of(
+                histograms(corrected.report()), histograms(uncorrected.report()))).summary();
+
+        // Then
+        assertThat(summary.isCorrectedForCoordinatedOmission()).isFalse();
+        assertThat(summary.getPublish().getCount()).isEqualTo(2);
+        assertThat(summary.getPublishCorrected()).isNull();
+    }
+
+    @Test
+    void histograms_ShouldMergeInProcess_WithoutGoingThroughALog() {
+        // Given
+        LatencyRecorder first = new LatencyRecorder(true);
+        first.newWorker().recordPublish(0, 0, 10 * MICRO);
+        LatencyRecorder second = new LatencyRecorder(true);
+        second.newWorker().recordPublish(0, 0, 30 * MICRO);
+
+        // When
+        List<Histogram> firstHistograms = first.report().histograms();
+        LatencySummary summary = LatencyReport.merge(List.of(firstHistograms, second.report().histograms())).summary();
+
+        // Then
+        assertThat(firstHistograms).hasSize(4);
+        assertThat(summary.isCorrectedForCoordinatedOmission()).isTrue();
+        assertThat(summary.getPublish().getCount()).isEqualTo(2);
+        assertThat(summary.getPublishCorrected().getMaxMicros()).isCloseTo(30, within(0.1));
+    }
+
+    private static List<Histogram> histograms(LatencyReport report) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        report.writeHdrLog(out);
+        return HdrLogs.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
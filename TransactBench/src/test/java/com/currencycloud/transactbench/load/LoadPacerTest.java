@@ -0,0 +1,260 @@
+package com.currencycloud.transactbench.load;
+
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.PacingReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LoadPacerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void unpaced_ShouldNeverWaitOrFinish() {
+        // Given
+        LoadPacer pacer = LoadPacer.unpaced();
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            pacer.recordSent(pacer.awaitNext());
+        }
+
+        // Then
+        assertThat(pacer.isPaced()).isFalse();
+        assertThat(System.nanoTime() - start).isLessThan(SECOND);
+        assertThat(pacer.report().getSent()).isEqualTo(10_000);
+    }
+
+    @Test
+    void constant_ShouldSpaceMessagesEvenly() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(constant(1000.0));
+
+        // When
+        long first = pacer.awaitNext();
+        long second = pacer.awaitNext();
+        long third = pacer.awaitNext();
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(third).isEqualTo(TimeUnit.MILLISECONDS.toNanos(2));
+    }
+
+    @Test
+    void constant_ShouldHoldTargetRate() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(constant(2000.0));
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            pacer.recordSent(pacer.awaitNext());
+        }
+        PacingReport report = pacer.report();
+
+        // Then
+        assertThat(report.getProfile()).isEqualTo(LoadProfile.Type.CONSTANT);
+        assertThat(report.getIntendedRate()).isCloseTo(2000.0, within(1.0));
+        assertThat(report.getAchievedRate()).isCloseTo(2000.0, within(200.0));
+        assertThat(report.getTargetRate()).isEqualTo(2000.0);
+    }
+
+    @Test
+    void ramp_ShouldInterpolateBetweenStartAndTargetRate() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.RAMP).startRate(100.0).rate(1100.0).rampSeconds(10.0).build());
+
+        // When & Then
+        assertThat(pacer.rateAt(0)).isEqualTo(100.0);
+        assertThat(pacer.rateAt(5 * SECOND)).isEqualTo(600.0);
+        assertThat(pacer.rateAt(10 * SECOND)).isEqualTo(1100.0);
+        assertThat(pacer.rateAt(60 * SECOND)).isEqualTo(1100.0);
+    }
+
+    @Test
+    void step_ShouldIncreaseRateEveryStepUpToTarget() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.STEP).startRate(100.0).stepIncrement(100.0).stepSeconds(2.0)
+                .rate(300.0).build());
+
+        // When & Then
+        assertThat(pacer.rateAt(SECOND)).isEqualTo(100.0);
+        assertThat(pacer.rateAt(3 * SECOND)).isEqualTo(200.0);
+        assertThat(pacer.rateAt(5 * SECOND)).isEqualTo(300.0);
+        assertThat(pacer.rateAt(100 * SECOND)).isEqualTo(300.0);
+    }
+
+    @Test
+    void burst_ShouldSpikeAtEndOfEachInterval() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.BURST).rate(100.0).burstRate(5000.0).burstSeconds(1.0)
+                .burstIntervalSeconds(10.0).build());
+
+        // When & Then
+        assertThat(pacer.rateAt(5 * SECOND)).isEqualTo(100.0);
+        assertThat(pacer.rateAt(9 * SECOND + 500_000_000L)).isEqualTo(5000.0);
+        assertThat(pacer.rateAt(12 * SECOND)).isEqualTo(100.0);
+        assertThat(pacer.rateAt(19 * SECOND + 1)).isEqualTo(5000.0);
+    }
+
+    @Test
+    void poisson_ShouldProduceVariableGapsWithConfiguredMeanRate() throws Exception {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.POISSON).rate(1_000_000.0).build());
+
+        // When
+        long previous = pacer.awaitNext();
+        long minGap = Long.MAX_VALUE;
+        long maxGap = 0;
+        for (int i = 0; i < 20_000; i++) {
+            long next = pacer.awaitNext();
+            minGap = Math.min(minGap, next - previous);
+            maxGap = Math.max(maxGap, next - previous);
+            previous = next;
+        }
+
+        // Then
+        assertThat(maxGap).isGreaterThan(minGap * 5);
+        assertThat(pacer.report().getIntendedRate()).isCloseTo(1_000_000.0, within(50_000.0));
+    }
+
+    @Test
+    void intendedNanos_ShouldPlaceOffsetOnTheRunsClock() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.CONSTANT).rate(1000.0).build());
+        long before = System.nanoTime();
+
+        // When
+        long offset = pacer.awaitNext();
+        long second = pacer.awaitNext();
+
+        // Then
+        assertThat(pacer.intendedNanos(second) - pacer.intendedNanos(offset))
+                .isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(pacer.intendedNanos(offset)).isBetween(before, System.nanoTime());
+    }
+
+    @Test
+    void awaitNext_ShouldReturnFinished_WhenDurationExhausted() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.CONSTANT).rate(1000.0).durationSeconds(0.01).build());
+
+        // When
+        int slots = 0;
+        while (pacer.awaitNext() != LoadPacer.FINISHED) {
+            slots++;
+        }
+
+        // Then
+        assertThat(slots).isEqualTo(10);
+    }
+
+    @Test
+    void awaitNext_ShouldRunIdleWorkAtItsDeadline_WhenItComesBeforeTheSlot() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(constant(5.0));
+        pacer.awaitNext();
+        long[] ranAt = new long[1];
+        long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+        IdleWork idle = new IdleWork() {
+            @Override
+            public long deadlineNanos() {
+                return ranAt[0] == 0 ? due : Long.MAX_VALUE;
+            }
+
+            @Override
+            public void run() {
+                ranAt[0] = System.nanoTime();
+            }
+        };
+
+        // When
+        long offset = pacer.awaitNext(idle);
+
+        // Then
+        assertThat(ranAt[0]).isGreaterThanOrEqualTo(due).isLessThan(pacer.intendedNanos(offset));
+        assertThat(System.nanoTime()).isGreaterThanOrEqualTo(pacer.intendedNanos(offset));
+    }
+
+    @Test
+    void awaitNext_ShouldHandOutDistinctSlotsAcrossThreads() throws Exception {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.CONSTANT).rate(100_000.0).durationSeconds(0.05).build());
+        Runnable worker = () -> {
+            while (pacer.awaitNext() != LoadPacer.FINISHED) {
+                pacer.recordSent(0);
+            }
+        };
+
+        // When
+        Thread first = Thread.ofPlatform().start(worker);
+        Thread second = Thread.ofPlatform().start(worker);
+        first.join();
+        second.join();
+
+        // Then
+        assertThat(pacer.report().getSent()).isEqualTo(5000);
+    }
+
+    @Test
+    void awaitNext_ShouldHoldScheduleByParking_OnVirtualThreads() throws Exception {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(constant(1000.0));
+        long[] elapsed = new long[1];
+
+        // When
+        Thread.ofVirtual().start(() -> {
+            long start = System.nanoTime();
+            for (int i = 0; i < 50; i++) {
+                pacer.recordSent(pacer.awaitNext());
+            }
+            elapsed[0] = System.nanoTime() - start;
+        }).join();
+
+        // Then: the 50th slot is 49ms in, parking must not wake the worker early
+        assertThat(elapsed[0]).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(49));
+        assertThat(pacer.report().getSent()).isEqualTo(50);
+    }
+
+    @Test
+    void forProfile_ShouldRejectIncompleteProfiles() {
+        assertThatThrownBy(() -> LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.RAMP).rate(100.0).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("RAMP");
+        assertThatThrownBy(() -> LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.BURST).rate(100.0).burstRate(500.0).burstSeconds(10.0)
+                .burstIntervalSeconds(5.0).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("BURST");
+    }
+
+    @Test
+    void awaitNanoTime_ShouldReturnNoEarlierThanDeadline() {
+        // Given
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20);
+
+        // When
+        LoadPacer.awaitNanoTime(deadline);
+
+        // Then
+        assertThat(System.nanoTime()).isGreaterThanOrEqualTo(deadline);
+    }
+
+    private static LoadProfile constant(double rate) {
+        return LoadProfile.builder().type(LoadProfile.Type.CONSTANT).rate(rate).build();
+    }
+}
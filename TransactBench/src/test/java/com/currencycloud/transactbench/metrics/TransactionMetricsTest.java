@@ -0,0 +1,81 @@
+package com.currencycloud.transactbench.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionMetrics metrics = new TransactionMetrics(meterRegistry);
+
+    @Test
+    void forRail_ShouldReturnSameMeters_ForSameProviderAndRail() {
+        // When
+        RailMeters first = metrics.forRail("provider1", "sepa");
+        RailMeters second = metrics.forRail("provider1", "sepa");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(metrics.forRail("provider1", "swift")).isNotSameAs(first);
+        assertThat(metrics.forRail("provider2", "sepa")).isNotSameAs(first);
+    }
+
+    @Test
+    void forRail_ShouldTagMetersWithProviderAndRail() {
+        // Given
+        RailMeters meters = metrics.forRail("provider1", "sepa");
+
+        // When
+        meters.recordGenerated(1_000);
+        meters.recordSerialized(2_000, 512);
+        meters.recordPublished(3_000);
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.messages.generated")
+                .tags("provider", "provider1", "rail", "sepa").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.messages.published")
+                .tags("provider", "provider1", "rail", "sepa").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.generation").timer().totalTime(TimeUnit.NANOSECONDS))
+                .isEqualTo(1_000);
+        assertThat(meterRegistry.get("transactbench.serialization").timer().totalTime(TimeUnit.NANOSECONDS))
+                .isEqualTo(2_000);
+        assertThat(meterRegistry.get("transactbench.payload.size").summary().totalAmount()).isEqualTo(512);
+        assertThat(meterRegistry.get("transactbench.publish").timer().totalTime(TimeUnit.NANOSECONDS))
+                .isEqualTo(3_000);
+    }
+
+    @Test
+    void forRail_ShouldTagAsUnknown_WhenProviderOrRailMissing() {
+        // When
+        metrics.forRail(null, null).recordGenerated(1);
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.messages.generated")
+                .tags("provider", "unknown", "rail", "unknown").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordAwaitingConfirm_ShouldBeReleasedByEachOutcome() {
+        // Given
+        RailMeters meters = metrics.forRail("provider1", "sepa");
+        for (int i = 0; i < 5; i++) {
+            meters.recordAwaitingConfirm();
+        }
+
+        // When
+        meters.recordConfirmed();
+        meters.recordNacked();
+        meters.recordReturned();
+        meters.recordAbandoned();
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.confirms.in_flight").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.messages.confirmed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.messages.nacked").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.messages.returned").counter().count()).isEqualTo(1);
+    }
+}
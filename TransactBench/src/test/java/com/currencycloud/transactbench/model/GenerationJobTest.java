@@ -0,0 +1,153 @@
+package com.currencycloud.transactbench.model;
+
+import com.currencycloud.transactbench.id.IdList;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationJobTest {
+
+    @Test
+    void newJob_ShouldBeQueuedWithZeroCounters() {
+        // When
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 100);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(job.getGeneratedCount()).isZero();
+        assertThat(job.getPublishedCount()).isZero();
+        assertThat(job.getConfirmedCount()).isZero();
+        assertThat(job.currentRate()).isZero();
+        assertThat(job.etaSeconds()).isNull();
+    }
+
+    @Test
+    void recordMethods_ShouldIncrementCounters() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 100);
+        job.start();
+
+        // When
+        job.recordGenerated();
+        job.recordGenerated();
+        job.recordPublished();
+        job.recordConfirmed();
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(job.getGeneratedCount()).isEqualTo(2);
+        assertThat(job.getPublishedCount()).isEqualTo(1);
+        assertThat(job.getConfirmedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void etaSeconds_ShouldBeDerivedFromRate_WhenRunning() throws InterruptedException {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 1_000_000);
+        job.start();
+        for (int i = 0; i < 1000; i++) {
+            job.recordPublished();
+        }
+        Thread.sleep(20);
+
+        // When
+        double rate = job.currentRate();
+        Long eta = job.etaSeconds();
+
+        // Then
+        assertThat(rate).isPositive();
+        assertThat(eta).isNotNull().isPositive();
+    }
+
+    @Test
+    void complete_ShouldFreezeAverageRateAndZeroEta() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 2);
+        job.start();
+        job.recordPublished();
+        job.recordPublished();
+
+        // When
+        job.complete();
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.isFinished()).isTrue();
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(job.averageRate()).isPositive();
+        assertThat(job.currentRate()).isZero();
+        assertThat(job.etaSeconds()).isZero();
+    }
+
+    @Test
+    void fail_ShouldRecordErrorMessage() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 2);
+        job.start();
+
+        // When
+        job.fail(new RuntimeException("connection refused"));
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getError()).isEqualTo("connection refused");
+    }
+
+    @Test
+    void publishListenerCallbacks_ShouldTrackConfirmsNacksAndReturns() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 4);
+        job.start();
+
+        // When
+        job.onPublished(Transaction.builder().id("txn-001").build());
+        job.onConfirmed("txn-001", 2_000_000);
+        job.onConfirmed("txn-002", 4_000_000);
+        job.onNacked("txn-003", "broker nack");
+        job.onReturned("txn-004", 312, "NO_ROUTE");
+
+        // Then
+        assertThat(job.getPublishedCount()).isEqualTo(1);
+        assertThat(job.getConfirmedCount()).isEqualTo(2);
+        assertThat(job.getNackedCount()).isEqualTo(1);
+        assertThat(job.getReturnedCount()).isEqualTo(1);
+        assertThat(job.getNackedTransactionIds()).containsExactly("txn-003");
+        assertThat(job.getReturnedTransactionIds()).containsExactly("txn-004");
+        assertThat(job.averageConfirmLatencyMicros()).isEqualTo(3000.0);
+        assertThat(job.maxConfirmLatencyMicros()).isEqualTo(4000.0);
+    }
+
+    @Test
+    void onNacked_ShouldListFirstIdsButTrackEveryNack() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 500);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            job.onNacked("txn-" + i, "broker nack");
+        }
+
+        // Then
+        assertThat(job.getNackedCount()).isEqualTo(500);
+        assertThat(job.getNackedTransactionIds()).hasSize(100).startsWith("txn-0");
+        assertThat(job.nackedIdsSnapshot()).hasSize(500).endsWith("txn-499");
+    }
+
+    @Test
+    void returnedIdsSnapshot_ShouldNotSeeLaterReturns() {
+        // Given
+        GenerationJob job = new GenerationJob("job-1", "provider1", "sepa", 10);
+        String first = UUID.randomUUID().toString();
+        job.onReturned(first, 312, "NO_ROUTE");
+
+        // When
+        IdList snapshot = job.returnedIdsSnapshot();
+        job.onReturned(UUID.randomUUID().toString(), 312, "NO_ROUTE");
+
+        // Then
+        assertThat(snapshot).containsExactly(first);
+        assertThat(job.getReturnedTransactionIds()).hasSize(2).startsWith(first);
+    }
+}
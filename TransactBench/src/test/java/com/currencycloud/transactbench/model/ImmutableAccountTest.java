@@ -0,0 +1,49 @@
+package com.currencycloud.transactbench.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImmutableAccountTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void constructor_ShouldExposeAllFields() {
+        // When
+        ImmutableAccount account = new ImmutableAccount("FR26TCCL20786956994877", "CMBRFR2BARK", "FR76300");
+
+        // Then
+        assertThat(account.getAccountNumber()).isEqualTo("FR26TCCL20786956994877");
+        assertThat(account.getBic()).isEqualTo("CMBRFR2BARK");
+        assertThat(account.getIban()).isEqualTo("FR76300");
+    }
+
+    @Test
+    void setters_ShouldThrow() {
+        // Given
+        ImmutableAccount account = new ImmutableAccount("DE89370400440532013000", null, null);
+
+        // When & Then
+        assertThatThrownBy(() -> account.setAccountNumber("other"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> account.setBic("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> account.setIban("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(account.getAccountNumber()).isEqualTo("DE89370400440532013000");
+    }
+
+    @Test
+    void equalsAndSerialization_ShouldMatchPlainAccount() throws Exception {
+        // Given
+        ImmutableAccount shared = new ImmutableAccount("DE89370400440532013000", null, null);
+        Account plain = Account.builder().accountNumber("DE89370400440532013000").build();
+
+        // When & Then
+        assertThat(shared).isEqualTo(plain);
+        assertThat(plain).isEqualTo(shared);
+        assertThat(shared.hashCode()).isEqualTo(plain.hashCode());
+        assertThat(objectMapper.writeValueAsString(shared)).isEqualTo(objectMapper.writeValueAsString(plain));
+    }
+}
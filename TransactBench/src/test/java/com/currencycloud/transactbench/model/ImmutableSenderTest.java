@@ -0,0 +1,51 @@
+package com.currencycloud.transactbench.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImmutableSenderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void setters_ShouldThrow() {
+        // Given
+        ImmutableSender sender = sender();
+
+        // When & Then
+        assertThatThrownBy(() -> sender.setFreeText("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> sender.setName("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> sender.setUltimateSenderName("other"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> sender.setAddress("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> sender.setCountry("other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(sender.getName()).isEqualTo("John Smith");
+    }
+
+    @Test
+    void equalsAndSerialization_ShouldMatchPlainSender() throws Exception {
+        // Given
+        ImmutableSender shared = sender();
+        Sender plain = Sender.builder()
+                .freeText("unstructuredOne, unstructuredTwo")
+                .name("John Smith")
+                .ultimateSenderName("ultimateDebtorName")
+                .address("address line1")
+                .country("FR")
+                .build();
+
+        // When & Then
+        assertThat(shared).isEqualTo(plain);
+        assertThat(plain).isEqualTo(shared);
+        assertThat(shared.hashCode()).isEqualTo(plain.hashCode());
+        assertThat(objectMapper.writeValueAsString(shared)).isEqualTo(objectMapper.writeValueAsString(plain));
+    }
+
+    private static ImmutableSender sender() {
+        return new ImmutableSender("unstructuredOne, unstructuredTwo", "John Smith", "ultimateDebtorName",
+                "address line1", "FR");
+    }
+}
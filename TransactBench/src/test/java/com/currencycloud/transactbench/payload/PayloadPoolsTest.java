@@ -0,0 +1,190 @@
+package com.currencycloud.transactbench.payload;
+
+import com.currencycloud.transactbench.config.PayloadProperties;
+import com.currencycloud.transactbench.dto.PayloadProfile;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadPoolsTest {
+
+    private final PayloadProperties properties = new PayloadProperties();
+    private final PayloadPools pools = new PayloadPools(properties);
+
+    @Test
+    void forProfile_ShouldReturnNull_WhenThereIsNoProfile() {
+        // When & Then
+        assertThat(pools.forProfile(null)).isNull();
+    }
+
+    @Test
+    void forProfile_ShouldAlwaysPickTheSameSize_WhenProfileIsFixed() {
+        // Given
+        PayloadProfile profile = PayloadProfile.builder().type(PayloadProfile.Type.FIXED).size(2048).build();
+
+        // When
+        PayloadPool pool = pools.forProfile(profile);
+
+        // Then
+        assertThat(pool.draws()).isEqualTo(1);
+        assertThat(pool.at(0).size()).isEqualTo(2048);
+    }
+
+    @Test
+    void forProfile_ShouldCoverRangeInEqualSteps_WhenProfileIsUniform() {
+        // Given
+        properties.setUniformSteps(5);
+        PayloadProfile profile = PayloadProfile.builder()
+                .type(PayloadProfile.Type.UNIFORM).minSize(1000).maxSize(2000).build();
+
+        // When
+        PayloadPool pool = pools.forProfile(profile);
+
+        // Then
+        assertThat(IntStream.range(0, pool.draws()).map(draw -> pool.at(draw).size()))
+                .containsExactly(1000, 1250, 1500, 1750, 2000);
+    }
+
+    @Test
+    void forProfile_ShouldUseEverySize_WhenUniformRangeIsNarrowerThanSteps() {
+        // Given
+        PayloadProfile profile = PayloadProfile.builder()
+                .type(PayloadProfile.Type.UNIFORM).minSize(10).maxSize(12).build();
+
+        // When
+        PayloadPool pool = pools.forProfile(profile);
+
+        // Then
+        assertThat(IntStream.range(0, pool.draws()).map(draw -> pool.at(draw).size()))
+                .containsExactly(10, 11, 12);
+    }
+
+    @Test
+    void forProfile_ShouldPickBucketsInProportionToWeight_WhenProfileIsHistogram() {
+        // Given
+        PayloadProfile profile = PayloadProfile.builder()
+                .type(PayloadProfile.Type.HISTOGRAM)
+                .buckets(List.of(new PayloadProfile.Bucket(1024, 3), new PayloadProfile.Bucket(65536, 1)))
+                .build();
+
+        // When
+        PayloadPool pool = pools.forProfile(profile);
+        Map<Integer, Long> counts = IntStream.range(0, pool.draws())
+                .mapToObj(draw -> pool.at(draw).size())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        // Then
+        assertThat(counts).containsOnly(Map.entry(1024, 3L), Map.entry(65536, 1L));
+    }
+
+    @Test
+    void forProfile_ShouldShareContent_WhenBucketsRepeatASize() {
+        // Given
+        PayloadProfile profile = PayloadProfile.builder()
+                .type(PayloadProfile.Type.HISTOGRAM)
+                .buckets(List.of(new PayloadProfile.Bucket(512, 1), new PayloadProfile.Bucket(512, 1)))
+                .build();
+
+        // When
+        PayloadPool pool = pools.forProfile(profile);
+
+        // Then
+        assertThat(pool.at(0)).isSameAs(pool.at(1));
+    }
+
+    @Test
+    void forProfile_ShouldReuseThePool_ForEquivalentProfiles() {
+        // Given
+        PayloadProfile fixed = PayloadProfile.builder().type(PayloadProfile.Type.FIXED).size(100).build();
+        PayloadProfile histogram = PayloadProfile.builder()
+                .type(PayloadProfile.Type.HISTOGRAM).buckets(List.of(new PayloadProfile.Bucket(100, 1))).build();
+
+        // When
+        PayloadPool first = pools.forProfile(fixed);
+        PayloadPool second = pools.forProfile(histogram);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(pools.cachedPools()).isEqualTo(1);
+    }
+
+    @Test
+    void forProfile_ShouldDropLeastRecentlyUsedPool_WhenCacheIsFull() {
+        // Given
+        properties.setCachedPools(2);
+        PayloadPool first = pools.forProfile(fixed(1));
+        pools.forProfile(fixed(2));
+        pools.forProfile(fixed(1));
+
+        // When
+        pools.forProfile(fixed(3));
+
+        // Then
+        assertThat(pools.cachedPools()).isEqualTo(2);
+        assertThat(pools.forProfile(fixed(1))).isSameAs(first);
+    }
+
+    @Test
+    void forProfile_ShouldReject_WhenSizeExceedsMaximum() {
+        // Given
+        properties.setMaxSize(DataSize.ofKilobytes(64));
+
+        // When & Then
+        assertThatThrownBy(() -> pools.forProfile(fixed(64 * 1024 + 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("65536");
+    }
+
+    @Test
+    void forProfile_ShouldReject_WhenRequiredFieldsAreMissing() {
+        // When & Then
+        assertThatThrownBy(() -> pools.forProfile(PayloadProfile.builder().type(PayloadProfile.Type.FIXED).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("size");
+        assertThatThrownBy(() -> pools.forProfile(PayloadProfile.builder()
+                .type(PayloadProfile.Type.HISTOGRAM).buckets(List.of()).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("buckets");
+        assertThatThrownBy(() -> pools.forProfile(new PayloadProfile()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("type");
+    }
+
+    @Test
+    void forProfile_ShouldReject_WhenUniformRangeIsInverted() {
+        // Given
+        PayloadProfile profile = PayloadProfile.builder()
+                .type(PayloadProfile.Type.UNIFORM).minSize(2000).maxSize(1000).build();
+
+        // When & Then
+        assertThatThrownBy(() -> pools.forProfile(profile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("minSize <= maxSize");
+    }
+
+    @Test
+    void forProfile_ShouldReject_WhenBucketWeightsOverflow() {
+        // Given
+        PayloadProfile profile = PayloadProfile.builder()
+                .type(PayloadProfile.Type.HISTOGRAM)
+                .buckets(List.of(new PayloadProfile.Bucket(1, Integer.MAX_VALUE), new PayloadProfile.Bucket(2, 1)))
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> pools.forProfile(profile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("weights");
+    }
+
+    private static PayloadProfile fixed(int size) {
+        return PayloadProfile.builder().type(PayloadProfile.Type.FIXED).size(size).build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.currencycloud.transactbench.payload;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledPayloadTest {
+
+    @Test
+    void ofSize_ShouldGenerateAsciiTextOfExactlyThatManyBytes() {
+        // When
+        PooledPayload payload = PooledPayload.ofSize(4096);
+
+        // Then
+        assertThat(payload.size()).isEqualTo(4096);
+        assertThat(payload.text().getBytes(StandardCharsets.UTF_8)).hasSize(4096);
+        assertThat(payload.text()).matches("[A-Za-z0-9]*");
+    }
+
+    @Test
+    void ofSize_ShouldDependOnSizeAlone() {
+        // When
+        PooledPayload small = PooledPayload.ofSize(100);
+        PooledPayload large = PooledPayload.ofSize(1000);
+
+        // Then
+        assertThat(PooledPayload.ofSize(100)).isEqualTo(small);
+        assertThat(large.text()).startsWith(small.text());
+    }
+
+    @Test
+    void json_ShouldBeTheQuotedText() {
+        // Given
+        PooledPayload payload = PooledPayload.ofSize(64);
+
+        // When
+        String json = new String(payload.json(), StandardCharsets.US_ASCII);
+
+        // Then
+        assertThat(json).isEqualTo('"' + payload.text() + '"');
+    }
+
+    @Test
+    void ofSize_ShouldAllowEmptyContent() {
+        // When
+        PooledPayload payload = PooledPayload.ofSize(0);
+
+        // Then
+        assertThat(payload.text()).isEmpty();
+        assertThat(payload.json()).containsExactly('"', '"');
+    }
+
+    @Test
+    void ofSize_ShouldReject_WhenSizeIsNegative() {
+        // When & Then
+        assertThatThrownBy(() -> PooledPayload.ofSize(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
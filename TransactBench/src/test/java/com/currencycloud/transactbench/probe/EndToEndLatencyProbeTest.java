@@ -0,0 +1,84 @@
+package com.currencycloud.transactbench.probe;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndToEndLatencyProbeTest {
+
+    private final EndToEndLatencyProbe probe = new EndToEndLatencyProbe();
+
+    @Test
+    void onMessage_ShouldRecordTimeSinceSendStamp() {
+        // Given
+        long sentAt = SendTimestamps.epochNanos() - TimeUnit.MILLISECONDS.toNanos(20);
+
+        // When
+        probe.onMessage(stamped(sentAt));
+        Histogram histogram = probe.snapshot();
+
+        // Then
+        assertThat(histogram.getTotalCount()).isEqualTo(1);
+        assertThat(histogram.getMaxValue()).isBetween(TimeUnit.MILLISECONDS.toNanos(19), TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void onMessage_ShouldRecordZero_WhenStampIsAheadOfLocalClock() {
+        // When
+        probe.onMessage(stamped(SendTimestamps.epochNanos() + TimeUnit.SECONDS.toNanos(1)));
+
+        // Then
+        assertThat(probe.snapshot().getMaxValue()).isZero();
+    }
+
+    @Test
+    void onMessage_ShouldCountUnstampedMessagesWithoutRecording() {
+        // When
+        probe.onMessage(new Message(new byte[0], new MessageProperties()));
+
+        // Then
+        assertThat(probe.getUnstampedCount()).isEqualTo(1);
+        assertThat(probe.snapshot().getTotalCount()).isZero();
+    }
+
+    @Test
+    void snapshot_ShouldAccumulateAcrossReads() {
+        // Given
+        probe.onMessage(stamped(SendTimestamps.epochNanos()));
+        probe.snapshot();
+
+        // When
+        probe.onMessage(stamped(SendTimestamps.epochNanos()));
+        Histogram histogram = probe.snapshot();
+
+        // Then
+        assertThat(histogram.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void reset_ShouldStartANewMeasurement() {
+        // Given
+        probe.onMessage(stamped(SendTimestamps.epochNanos()));
+        probe.onMessage(new Message(new byte[0], new MessageProperties()));
+        probe.snapshot();
+        probe.onMessage(stamped(SendTimestamps.epochNanos()));
+
+        // When
+        probe.reset();
+
+        // Then
+        assertThat(probe.snapshot().getTotalCount()).isZero();
+        assertThat(probe.getUnstampedCount()).isZero();
+    }
+
+    private static Message stamped(long sentAt) {
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SendTimestamps.HEADER, sentAt);
+        return new Message(new byte[0], properties);
+    }
+}
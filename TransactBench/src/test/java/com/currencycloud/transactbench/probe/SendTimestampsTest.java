@@ -0,0 +1,57 @@
+package com.currencycloud.transactbench.probe;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SendTimestampsTest {
+
+    @Test
+    void postProcessMessage_ShouldStampCurrentEpochNanos() {
+        // Given
+        Message message = new Message(new byte[0], new MessageProperties());
+        long before = SendTimestamps.epochNanos();
+
+        // When
+        Message stamped = new SendTimestamps().postProcessMessage(message);
+
+        // Then
+        assertThat(stamped).isSameAs(message);
+        assertThat(SendTimestamps.sentAt(stamped)).isBetween(before, SendTimestamps.epochNanos());
+    }
+
+    @Test
+    void epochNanos_ShouldMatchWallClock() {
+        // When
+        long nanos = SendTimestamps.epochNanos();
+
+        // Then
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        assertThat(millis).isCloseTo(Instant.now().toEpochMilli(), within(1000L));
+    }
+
+    @Test
+    void sentAt_ShouldReturnNull_WhenMessageIsNotStamped() {
+        // Given
+        Message message = new Message(new byte[0], new MessageProperties());
+
+        // When & Then
+        assertThat(SendTimestamps.sentAt(message)).isNull();
+    }
+
+    @Test
+    void sentAt_ShouldAcceptIntegerHeaders() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setHeader(SendTimestamps.HEADER, 42);
+
+        // When & Then
+        assertThat(SendTimestamps.sentAt(new Message(new byte[0], properties))).isEqualTo(42L);
+    }
+}
@@ -0,0 +1,165 @@
+package com.currencycloud.transactbench.publish;
+
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.metrics.RailMeters;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.publish.ConfirmWindow.TransactionCorrelation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmWindowTest {
+
+    @Mock
+    private PublishListener listener;
+
+    @Test
+    void track_ShouldOccupySlotUntilConfirmed() throws Exception {
+        // Given
+        ConfirmWindow window = new ConfirmWindow(2, listener);
+
+        // When
+        TransactionCorrelation correlation = window.track("txn-001");
+
+        // Then
+        assertThat(window.inFlight()).isEqualTo(1);
+        assertThat(correlation.getId()).isEqualTo("txn-001");
+
+        ConfirmWindow.handleConfirm(correlation, true, null);
+        assertThat(window.inFlight()).isZero();
+        verify(listener).onConfirmed(eq("txn-001"), anyLong());
+    }
+
+    @Test
+    void handleConfirm_ShouldReportNackWithCause() throws Exception {
+        // Given
+        ConfirmWindow window = new ConfirmWindow(1, listener);
+        TransactionCorrelation correlation = window.track("txn-001");
+
+        // When
+        ConfirmWindow.handleConfirm(correlation, false, "channel closed");
+
+        // Then
+        verify(listener).onNacked("txn-001", "channel closed");
+        verify(listener, never()).onConfirmed(anyString(), anyLong());
+        assertThat(window.inFlight()).isZero();
+    }
+
+    @Test
+    void handleConfirm_ShouldReleaseSlotOnlyOnce_WhenConfirmArrivesTwice() throws Exception {
+        // Given
+        ConfirmWindow window = new ConfirmWindow(2, listener);
+        TransactionCorrelation first = window.track("txn-001");
+        window.track("txn-002");
+
+        // When
+        ConfirmWindow.handleConfirm(first, true, null);
+        ConfirmWindow.handleConfirm(first, true, null);
+
+        // Then
+        assertThat(window.inFlight()).isEqualTo(1);
+        verify(listener, times(1)).onConfirmed(eq("txn-001"), anyLong());
+    }
+
+    @Test
+    void track_ShouldCountMessageInFlightUntilConfirmOrAbandon_WhenMetersGiven() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RailMeters meters = new TransactionMetrics(meterRegistry).forRail("provider1", "sepa");
+        ConfirmWindow window = new ConfirmWindow(3, listener);
+        TransactionCorrelation confirmed = window.track("txn-001", meters);
+        TransactionCorrelation nacked = window.track("txn-002", meters);
+        TransactionCorrelation abandoned = window.track("txn-003", meters);
+        assertThat(meterRegistry.get("transactbench.confirms.in_flight").gauge().value()).isEqualTo(3);
+
+        // When
+        ConfirmWindow.handleConfirm(confirmed, true, null);
+        ConfirmWindow.handleConfirm(nacked, false, "channel closed");
+        window.abandon(abandoned);
+        ConfirmWindow.handleConfirm(abandoned, true, null);
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.confirms.in_flight").gauge().value()).isZero();
+        assertThat(meterRegistry.get("transactbench.messages.confirmed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.messages.nacked").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void handleConfirm_ShouldRecordConfirmLatencyFromIntendedSendTime_WhenLatencyGiven() throws Exception {
+        // Given
+        LatencyRecorder recorder = new LatencyRecorder(true);
+        ConfirmWindow window = new ConfirmWindow(2, listener, recorder.newWorker());
+        long intended = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(50);
+        TransactionCorrelation confirmed = window.track("txn-001", null, intended);
+        TransactionCorrelation nacked = window.track("txn-002", null, intended);
+
+        // When
+        ConfirmWindow.handleConfirm(confirmed, true, null);
+        ConfirmWindow.handleConfirm(nacked, false, "channel closed");
+        LatencyReport report = recorder.report();
+
+        // Then
+        assertThat(report.getConfirm().getTotalCount()).isEqualTo(1);
+        assertThat(report.getConfirm().getMaxValue()).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(report.getConfirmCorrected().getMaxValue())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(49));
+    }
+
+    @Test
+    void handleConfirm_ShouldIgnoreForeignCorrelationData() {
+        // When
+        ConfirmWindow.handleConfirm(new CorrelationData("other"), true, null);
+
+        // Then
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void abandon_ShouldFreeSlotWithoutNotifying() throws Exception {
+        // Given
+        ConfirmWindow window = new ConfirmWindow(1, listener);
+        TransactionCorrelation correlation = window.track("txn-001");
+
+        // When
+        window.abandon(correlation);
+
+        // Then
+        assertThat(window.inFlight()).isZero();
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void awaitDrained_ShouldTimeOut_WhenConfirmsOutstanding() throws Exception {
+        // Given
+        ConfirmWindow window = new ConfirmWindow(3, listener);
+        window.track("txn-001");
+
+        // When & Then
+        assertThat(window.awaitDrained(Duration.ofMillis(20))).isFalse();
+    }
+
+    @Test
+    void awaitDrained_ShouldReturnOnceAllConfirmsArrive() throws Exception {
+        // Given
+        ConfirmWindow window = new ConfirmWindow(3, listener);
+        TransactionCorrelation correlation = window.track("txn-001");
+        Thread.ofPlatform().start(() -> ConfirmWindow.handleConfirm(correlation, true, null));
+
+        // When & Then
+        assertThat(window.awaitDrained(Duration.ofSeconds(5))).isTrue();
+        assertThat(window.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,82 @@
+package com.currencycloud.transactbench.publish;
+
+import com.currencycloud.transactbench.model.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublishBatchTest {
+
+    @Test
+    void isReady_ShouldBeTrue_WhenBatchIsFull() {
+        // Given
+        PublishBatch batch = new PublishBatch(2, TimeUnit.HOURS.toNanos(1));
+
+        // When
+        batch.add(Transaction.builder().id("txn-001").build(), 10);
+        boolean readyAfterOne = batch.isReady();
+        batch.add(Transaction.builder().id("txn-002").build(), 20);
+
+        // Then
+        assertThat(readyAfterOne).isFalse();
+        assertThat(batch.isReady()).isTrue();
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.transactionAt(1).getId()).isEqualTo("txn-002");
+        assertThat(batch.intendedOffsetAt(1)).isEqualTo(20);
+    }
+
+    @Test
+    void isReady_ShouldBeTrue_WhenLingerElapsed() throws InterruptedException {
+        // Given
+        PublishBatch batch = new PublishBatch(100, TimeUnit.MILLISECONDS.toNanos(5));
+        batch.add(Transaction.builder().id("txn-001").build(), 0);
+
+        // When
+        Thread.sleep(10);
+
+        // Then
+        assertThat(batch.isReady()).isTrue();
+    }
+
+    @Test
+    void lingerDeadlineNanos_ShouldFollowOldestMessage() {
+        // Given
+        PublishBatch batch = new PublishBatch(100, TimeUnit.MILLISECONDS.toNanos(5));
+        long before = System.nanoTime();
+
+        // When
+        batch.add(Transaction.builder().id("txn-001").build(), 0);
+        long deadline = batch.lingerDeadlineNanos();
+        batch.clear();
+
+        // Then
+        assertThat(deadline - before).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(batch.lingerDeadlineNanos()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void isReady_ShouldBeFalse_WhenEmpty() {
+        // Given
+        PublishBatch batch = new PublishBatch(1, 0);
+
+        // When & Then
+        assertThat(batch.isEmpty()).isTrue();
+        assertThat(batch.isReady()).isFalse();
+    }
+
+    @Test
+    void clear_ShouldEmptyBatchForReuse() {
+        // Given
+        PublishBatch batch = new PublishBatch(2, 0);
+        batch.add(Transaction.builder().id("txn-001").build(), 0);
+
+        // When
+        batch.clear();
+
+        // Then
+        assertThat(batch.isEmpty()).isTrue();
+        assertThat(batch.transactionAt(0)).isNull();
+    }
+}
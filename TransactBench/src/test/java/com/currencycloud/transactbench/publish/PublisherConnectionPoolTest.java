@@ -0,0 +1,79 @@
+package com.currencycloud.transactbench.publish;
+
+import com.currencycloud.transactbench.probe.SendTimestamps;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublisherConnectionPoolTest {
+
+    private static final List<String> ADDRESSES = List.of("rabbit-1:5672", "rabbit-2:5672", "rabbit-3:5672");
+
+    @Test
+    void constructor_ShouldCreateOneFactoryPerConnection() {
+        // When
+        PublisherConnectionPool pool = createPool(ADDRESSES, 3, 8);
+
+        // Then
+        List<CachingConnectionFactory> factories = pool.getConnectionFactories();
+        assertThat(factories).hasSize(3);
+        assertThat(factories).allMatch(factory -> factory.getChannelCacheSize() == 3);
+        pool.destroy();
+    }
+
+    @Test
+    void rotate_ShouldStartEachConnectionOnADifferentBroker() {
+        // When & Then
+        assertThat(PublisherConnectionPool.rotate(ADDRESSES, 0))
+                .containsExactly("rabbit-1:5672", "rabbit-2:5672", "rabbit-3:5672");
+        assertThat(PublisherConnectionPool.rotate(ADDRESSES, 1))
+                .containsExactly("rabbit-2:5672", "rabbit-3:5672", "rabbit-1:5672");
+        assertThat(PublisherConnectionPool.rotate(ADDRESSES, 4))
+                .containsExactly("rabbit-2:5672", "rabbit-3:5672", "rabbit-1:5672");
+    }
+
+    @Test
+    void templateForWorker_ShouldAssignWorkersRoundRobin() {
+        // Given
+        PublisherConnectionPool pool = createPool(ADDRESSES, 2, 4);
+
+        // When & Then
+        assertThat(pool.templateForWorker(0).getConnectionFactory()).isSameAs(pool.getConnectionFactories().get(0));
+        assertThat(pool.templateForWorker(1).getConnectionFactory()).isSameAs(pool.getConnectionFactories().get(1));
+        assertThat(pool.templateForWorker(2).getConnectionFactory()).isSameAs(pool.getConnectionFactories().get(0));
+        assertThat(pool.templateForWorker(3).getConnectionFactory()).isSameAs(pool.getConnectionFactories().get(1));
+        assertThat(pool.getWorkers()).isEqualTo(4);
+        assertThat(pool.getConnections()).isEqualTo(2);
+        pool.destroy();
+    }
+
+    @Test
+    void constructor_ShouldStampSendTimeOnEveryTemplate() {
+        // When
+        PublisherConnectionPool pool = createPool(ADDRESSES, 2, 2);
+
+        // Then
+        assertThat(pool.templateForWorker(0).getBeforePublishPostProcessors())
+                .singleElement().isInstanceOf(SendTimestamps.class);
+        assertThat(pool.templateForWorker(1).getBeforePublishPostProcessors())
+                .singleElement().isInstanceOf(SendTimestamps.class);
+        pool.destroy();
+    }
+
+    @Test
+    void constructor_ShouldRejectEmptyAddressList() {
+        assertThatThrownBy(() -> createPool(List.of(), 1, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("broker address");
+    }
+
+    private static PublisherConnectionPool createPool(List<String> addresses, int connections, int workers) {
+        return new PublisherConnectionPool(addresses, "guest", "guest", "/", connections,
+                (workers + connections - 1) / connections, workers, new Jackson2JsonMessageConverter());
+    }
+}
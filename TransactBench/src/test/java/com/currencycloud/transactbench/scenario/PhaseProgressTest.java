@@ -0,0 +1,111 @@
+package com.currencycloud.transactbench.scenario;
+
+import com.currencycloud.transactbench.dto.JobStatusResponse;
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.PhaseReport;
+import com.currencycloud.transactbench.dto.Scenario;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PhaseProgressTest {
+
+    private GenerationJob job;
+    private PhaseProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        job = new GenerationJob("job-1", "scenario", "peak", 10, LoadPacer.unpaced(), 7L);
+        progress = new PhaseProgress("spike", Scenario.Phase.Type.SPIKE, 10L, null, List.of(
+                new Scenario.TrafficShare("lhv", "SEPA", 3),
+                new Scenario.TrafficShare("lhv", "INST", 1)), job);
+    }
+
+    @Test
+    void events_ShouldBeCountedInPhaseAndForwardedToJob() {
+        // Given
+        Transaction sepa = transaction("txn-1", "SEPA");
+        Transaction inst = transaction("txn-2", "INST");
+
+        // When
+        progress.recordGenerated(sepa);
+        progress.recordGenerated(inst);
+        progress.onPublished(sepa);
+        progress.onPublished(inst);
+        progress.onConfirmed("txn-1", 1_000);
+        progress.onNacked("txn-2", "rejected");
+
+        // Then
+        PhaseReport report = progress.report();
+        assertThat(report.getGenerated()).isEqualTo(2);
+        assertThat(report.getPublished()).isEqualTo(2);
+        assertThat(report.getConfirmed()).isEqualTo(1);
+        assertThat(report.getNacked()).isEqualTo(1);
+        assertThat(job.getGeneratedCount()).isEqualTo(2);
+        assertThat(job.getPublishedCount()).isEqualTo(2);
+        assertThat(job.getConfirmedCount()).isEqualTo(1);
+        assertThat(job.getNackedTransactionIds()).containsExactly("txn-2");
+    }
+
+    @Test
+    void report_ShouldCountPublishedMessagesPerShare() {
+        // When
+        progress.onPublished(transaction("txn-1", "SEPA"));
+        progress.onPublished(transaction("txn-2", "SEPA"));
+        progress.onPublished(transaction("txn-3", "INST"));
+        progress.onPublished(transaction("txn-4", "TIPS"));
+
+        // Then
+        assertThat(progress.report().getMix())
+                .extracting(PhaseReport.ShareCount::getPaymentRail, PhaseReport.ShareCount::getWeight,
+                        PhaseReport.ShareCount::getPublished)
+                .containsExactly(
+                        tuple("SEPA", 3, 2L),
+                        tuple("INST", 1, 1L));
+        assertThat(progress.getPublishedCount()).isEqualTo(4);
+    }
+
+    @Test
+    void report_ShouldCarryStatusPacingAndLatency_OnceFinished() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(
+                LoadProfile.builder().type(LoadProfile.Type.CONSTANT).rate(100.0).build());
+        assertThat(progress.report().getStatus()).isEqualTo(JobStatus.QUEUED);
+
+        // When
+        progress.start(pacer);
+        progress.complete(new LatencyRecorder(true).report());
+
+        // Then
+        PhaseReport report = progress.report();
+        assertThat(report.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(report.getStartedAt()).isNotNull();
+        assertThat(report.getFinishedAt()).isNotNull();
+        assertThat(report.getPacing()).isNotNull();
+        assertThat(report.getLatency().isCorrectedForCoordinatedOmission()).isTrue();
+    }
+
+    @Test
+    void jobStatus_ShouldListPhases_OnlyForScenarioJobs() {
+        // Given
+        GenerationJob plainJob = new GenerationJob("job-2", "lhv", "SEPA", 10);
+        job.attachPhases(List.of(progress));
+
+        // When & Then
+        assertThat(JobStatusResponse.from(job).getPhases()).extracting(PhaseReport::getName).containsExactly("spike");
+        assertThat(JobStatusResponse.from(plainJob).getPhases()).isNull();
+    }
+
+    private static Transaction transaction(String id, String paymentRail) {
+        return Transaction.builder().id(id).provider("lhv").paymentRail(paymentRail).build();
+    }
+}
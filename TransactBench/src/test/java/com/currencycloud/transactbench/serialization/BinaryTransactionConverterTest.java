@@ -0,0 +1,140 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PooledPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryTransactionConverterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionMetrics metrics = new TransactionMetrics(meterRegistry);
+
+    @ParameterizedTest
+    @EnumSource(value = WireFormat.class, names = {"SMILE", "CBOR", "AVRO"})
+    void toMessage_ShouldRoundTripTransactionWithFormatsContentType(WireFormat format) {
+        // Given
+        BinaryTransactionConverter converter = converterFor(format);
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+
+        // When
+        Message message = converter.toMessage(transaction, new MessageProperties());
+
+        // Then
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(format.getContentType());
+        assertThat(message.getMessageProperties().getContentLength()).isEqualTo(message.getBody().length);
+        assertThat(message.getMessageProperties().<String>getHeader("__TypeId__"))
+                .isEqualTo(Transaction.class.getName());
+        assertThat(converter.fromMessage(message)).isEqualTo(transaction);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = WireFormat.class, names = {"SMILE", "CBOR", "AVRO"})
+    void toMessage_ShouldWriteSmallerBodiesThanJson(WireFormat format) {
+        // Given
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+        int jsonBytes = new Jackson2JsonMessageConverter().toMessage(transaction, new MessageProperties())
+                .getBody().length;
+
+        // When
+        Message message = converterFor(format).toMessage(transaction, new MessageProperties());
+
+        // Then
+        assertThat(message.getBody().length).isLessThan(jsonBytes);
+    }
+
+    @Test
+    void toMessage_ShouldNameWriterSchema_WhenFormatIsAvro() {
+        // Given
+        BinaryTransactionConverter converter = BinaryTransactionConverter.avro(metrics);
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1);
+
+        // When
+        Message message = converter.toMessage(transaction, new MessageProperties());
+
+        // Then
+        assertThat(message.getMessageProperties().getHeaders())
+                .containsEntry(BinaryTransactionConverter.SCHEMA_FINGERPRINT_HEADER,
+                        BinaryTransactionConverter.fingerprint(BinaryTransactionConverter.loadAvroSchema()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = WireFormat.class, names = {"SMILE", "CBOR", "AVRO"})
+    void toMessage_ShouldWritePooledContentAsText(WireFormat format) {
+        // Given
+        BinaryTransactionConverter converter = converterFor(format);
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1);
+        PooledPayload content = PooledPayload.ofSize(32 * 1024);
+        transaction.setTransactionContent(content);
+
+        // When
+        Message message = converter.toMessage(transaction, new MessageProperties());
+        Transaction converted = (Transaction) converter.fromMessage(message);
+
+        // Then
+        assertThat(message.getBody().length).isGreaterThan(32 * 1024);
+        assertThat(converted.getTransactionContent()).isEqualTo(content.text());
+    }
+
+    @Test
+    void toMessage_ShouldKeepTextContent_WhenFormatIsAvro() {
+        // Given
+        BinaryTransactionConverter converter = BinaryTransactionConverter.avro(metrics);
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1);
+        transaction.setTransactionContent("opaque payload");
+
+        // When
+        Object converted = converter.fromMessage(converter.toMessage(transaction, new MessageProperties()));
+
+        // Then
+        assertThat(converted).isEqualTo(transaction);
+    }
+
+    @Test
+    void toMessage_ShouldRecordSerializationTimeAndPayloadSizePerRail() {
+        // Given
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+
+        // When
+        Message message = BinaryTransactionConverter.cbor(metrics).toMessage(transaction, new MessageProperties());
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.serialization")
+                .tags("provider", transaction.getProvider(), "rail", transaction.getPaymentRail())
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.payload.size").summary().totalAmount())
+                .isEqualTo(message.getBody().length);
+    }
+
+    @Test
+    void toMessage_ShouldReject_WhenObjectIsNotATransaction() {
+        // Given
+        BinaryTransactionConverter converter = BinaryTransactionConverter.smile(metrics);
+
+        // When & Then
+        assertThatThrownBy(() -> converter.toMessage(Map.of("id", "txn-001"), new MessageProperties()))
+                .isInstanceOf(MessageConversionException.class)
+                .hasMessageContaining("only writes transactions");
+    }
+
+    private BinaryTransactionConverter converterFor(WireFormat format) {
+        return switch (format) {
+            case SMILE -> BinaryTransactionConverter.smile(metrics);
+            case CBOR -> BinaryTransactionConverter.cbor(metrics);
+            case AVRO -> BinaryTransactionConverter.avro(metrics);
+            case JSON -> throw new IllegalArgumentException("JSON has no binary converter");
+        };
+    }
+}
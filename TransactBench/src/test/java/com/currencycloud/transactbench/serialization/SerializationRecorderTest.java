@@ -0,0 +1,51 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.dto.SerializationSummary;
+import com.currencycloud.transactbench.model.Transaction;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializationRecorderTest {
+
+    private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+
+    @Test
+    void summary_ShouldMergeEveryWorkersSizesAndTimes() {
+        // Given
+        SerializationRecorder recorder = new SerializationRecorder();
+        TransactionSerializer first = recorder.newWorker(WireFormat.JSON, converter);
+        TransactionSerializer second = recorder.newWorker(WireFormat.JSON, converter);
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+        int bodyBytes = converter.toMessage(transaction, new MessageProperties()).getBody().length;
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            first.toMessage(transaction);
+        }
+        second.toMessage(transaction);
+        SerializationSummary summary = recorder.summary();
+
+        // Then
+        assertThat(summary.getFormat()).isEqualTo(WireFormat.JSON);
+        assertThat(summary.getContentType()).isEqualTo("application/json");
+        assertThat(summary.getMessages()).isEqualTo(4);
+        assertThat(summary.getTotalBytes()).isEqualTo(4L * bodyBytes);
+        assertThat(summary.getMeanBytes()).isEqualTo(bodyBytes);
+        assertThat(summary.getMaxBytes()).isEqualTo(bodyBytes);
+        assertThat(summary.getSerialization().getCount()).isEqualTo(4);
+    }
+
+    @Test
+    void summary_ShouldReportNoMessages_WhenNothingWasSerialized() {
+        // When
+        SerializationSummary summary = new SerializationRecorder().summary();
+
+        // Then
+        assertThat(summary.getMessages()).isZero();
+        assertThat(summary.getTotalBytes()).isZero();
+        assertThat(summary.getMeanBytes()).isZero();
+    }
+}
@@ -0,0 +1,193 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.model.Account;
+import com.currencycloud.transactbench.model.ImmutableAccount;
+import com.currencycloud.transactbench.model.ImmutableSender;
+import com.currencycloud.transactbench.model.Sender;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PooledPayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TransactionJsonWriter writer = new TransactionJsonWriter();
+
+    @Test
+    void write_ShouldMatchJackson_ForGeneratedTransaction() throws Exception {
+        // Given
+        Transaction transaction = fullTransaction("txn-001", 1234);
+
+        // When
+        byte[] body = writer.write(transaction);
+
+        // Then
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(transaction));
+    }
+
+    @Test
+    void write_ShouldMatchJackson_WhenFieldsAreNull() throws Exception {
+        // Given
+        Transaction empty = new Transaction();
+        Transaction partial = Transaction.builder()
+                .id("txn-002")
+                .originAccount(Account.builder().iban("FR26TCCL20786956994877").build())
+                .destinationAccount(new Account())
+                .sender(new Sender())
+                .build();
+
+        // When & Then
+        assertThat(writer.write(empty)).isEqualTo(objectMapper.writeValueAsBytes(empty));
+        assertThat(writer.write(partial)).isEqualTo(objectMapper.writeValueAsBytes(partial));
+    }
+
+    @Test
+    void write_ShouldMatchJackson_ForEscapedAndNonAsciiCharacters() throws Exception {
+        // Given
+        StringBuilder everyAscii = new StringBuilder();
+        for (char c = 0; c < 0x80; c++) {
+            everyAscii.append(c);
+        }
+        Transaction transaction = fullTransaction(everyAscii.toString(), -2147483648);
+        transaction.setReference("é ß € 日本 😀 lone \uD800 end");
+        transaction.setTransactionContent("line1\nline2\t\"quoted\"\\");
+
+        // When
+        byte[] body = writer.write(transaction);
+
+        // Then
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(transaction));
+    }
+
+    @Test
+    void write_ShouldMatchJackson_WhenConstantSectionsChangeBetweenMessages() throws Exception {
+        // Given
+        Transaction first = fullTransaction("txn-001", 100);
+        Transaction second = fullTransaction("txn-002", 200);
+        second.setProvider("cfsb");
+        second.setPaymentRail("ACH");
+        second.getSender().setName("Robert Johnson");
+
+        // When
+        byte[] firstBody = writer.write(first);
+        byte[] secondBody = writer.write(second);
+        byte[] firstAgain = writer.write(first);
+
+        // Then
+        assertThat(firstBody).isEqualTo(objectMapper.writeValueAsBytes(first));
+        assertThat(secondBody).isEqualTo(objectMapper.writeValueAsBytes(second));
+        assertThat(firstAgain).isEqualTo(firstBody);
+        assertThat(writer.cachedFragmentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void write_ShouldNotReuseStaleFragment_WhenCallerMutatesSender() throws Exception {
+        // Given
+        Transaction transaction = fullTransaction("txn-001", 100);
+        writer.write(transaction);
+
+        // When
+        transaction.getSender().setCountry("GB");
+        byte[] body = writer.write(transaction);
+
+        // Then
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(transaction));
+    }
+
+    @Test
+    void write_ShouldMatchJackson_ForSharedReadOnlyParties() throws Exception {
+        // Given
+        Transaction transaction = fullTransaction("txn-001", 100);
+        transaction.setOriginAccount(new ImmutableAccount("FR26TCCL20786956994877", "CMBRFR2BARK", null));
+        transaction.setSender(new ImmutableSender("free", "John Smith", null, "address", "FR"));
+
+        // When
+        byte[] first = writer.write(transaction);
+        byte[] second = writer.write(transaction);
+
+        // Then
+        assertThat(first).isEqualTo(objectMapper.writeValueAsBytes(transaction));
+        assertThat(second).isEqualTo(first);
+        assertThat(writer.cachedFragmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void write_ShouldStillEncode_WhenFragmentCacheIsFull() throws Exception {
+        // Given
+        for (int i = 0; i < TransactionJsonWriter.MAX_CACHED_FRAGMENTS + 10; i++) {
+            Transaction transaction = fullTransaction("txn-" + i, i);
+            transaction.setProvider("provider-" + i);
+            writer.write(transaction);
+        }
+        Transaction uncached = fullTransaction("txn-last", 1);
+        uncached.setProvider("uncached");
+
+        // When
+        byte[] body = writer.write(uncached);
+
+        // Then
+        assertThat(writer.cachedFragmentCount()).isEqualTo(TransactionJsonWriter.MAX_CACHED_FRAGMENTS);
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(uncached));
+    }
+
+    @Test
+    void write_ShouldMatchJackson_WhenContentIsPooled() throws Exception {
+        // Given
+        Transaction transaction = fullTransaction("txn-001", 100);
+        transaction.setTransactionContent(PooledPayload.ofSize(16 * 1024));
+
+        // When
+        byte[] body = writer.write(transaction);
+
+        // Then
+        assertThat(writer.supports(transaction)).isTrue();
+        assertThat(body).isEqualTo(objectMapper.writeValueAsBytes(transaction));
+    }
+
+    @Test
+    void supports_ShouldRejectStructuredContent() {
+        // Given
+        Transaction transaction = fullTransaction("txn-001", 100);
+        transaction.setTransactionContent(Map.of("key", "value"));
+
+        // When & Then
+        assertThat(writer.supports(transaction)).isFalse();
+        assertThatThrownBy(() -> writer.write(transaction))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("transaction_content");
+    }
+
+    static Transaction fullTransaction(String id, int amount) {
+        return Transaction.builder()
+                .id(id)
+                .version(2)
+                .creditDebit("credit")
+                .amount(amount)
+                .currency("EUR")
+                .valueDate("2026-01-15")
+                .trackingId("0b6f1c9e-2a47-4d7e-9a51-3c8d2f6e7a10")
+                .reference("REF-1A2B3C4D")
+                .paymentRail("SEPA")
+                .provider("lhv")
+                .originAccount(Account.builder()
+                        .accountNumber("FR26TCCL20786956994877")
+                        .bic("CMBRFR2BARK")
+                        .iban("FR26TCCL20786956994877")
+                        .build())
+                .destinationAccount(Account.builder().accountNumber("FR26TCCL20786956994877").build())
+                .sender(Sender.builder()
+                        .freeText("unstructuredOne, unstructuredTwo")
+                        .name("John Smith")
+                        .ultimateSenderName("ultimateDebtorName")
+                        .address("address line1, address line2, address line3, address line4")
+                        .country("FR")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionMessageConverterTest {
+
+    private final Jackson2JsonMessageConverter jackson = new Jackson2JsonMessageConverter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionMessageConverter converter =
+            new TransactionMessageConverter(new TransactionJsonWriter(), jackson, new TransactionMetrics(meterRegistry));
+
+    @Test
+    void toMessage_ShouldMatchJacksonBodyAndProperties() {
+        // Given
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+
+        // When
+        Message message = converter.toMessage(transaction, new MessageProperties());
+        Message expected = jackson.toMessage(transaction, new MessageProperties());
+
+        // Then
+        assertThat(message.getBody()).isEqualTo(expected.getBody());
+        assertThat(message.getMessageProperties()).isEqualTo(expected.getMessageProperties());
+    }
+
+    @Test
+    void toMessage_ShouldDelegateToJackson_WhenContentIsStructured() {
+        // Given
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+        transaction.setTransactionContent(Map.of("key", "value"));
+
+        // When
+        Message message = converter.toMessage(transaction, new MessageProperties());
+
+        // Then
+        assertThat(new String(message.getBody())).contains("\"transaction_content\":{\"key\":\"value\"}");
+    }
+
+    @Test
+    void toMessage_ShouldTimeSerializationPerRail() {
+        // Given
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+
+        // When
+        converter.toMessage(transaction, new MessageProperties());
+        converter.toMessage(transaction, new MessageProperties());
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.serialization")
+                .tags("provider", transaction.getProvider(), "rail", transaction.getPaymentRail())
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void toMessage_ShouldSerializeWithDelegate_WhenNoWriterIsConfigured() {
+        // Given
+        TransactionMessageConverter jacksonOnly = new TransactionMessageConverter(null, jackson,
+                new TransactionMetrics(meterRegistry));
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+
+        // When
+        Message message = jacksonOnly.toMessage(transaction, new MessageProperties());
+
+        // Then
+        assertThat(message.getBody()).isEqualTo(jackson.toMessage(transaction, new MessageProperties()).getBody());
+        assertThat(meterRegistry.get("transactbench.serialization").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fromMessage_ShouldReadBackTransaction() {
+        // Given
+        Transaction transaction = TransactionJsonWriterTest.fullTransaction("txn-001", 1234);
+        Message message = converter.toMessage(transaction, new MessageProperties());
+
+        // When
+        Object converted = converter.fromMessage(message);
+
+        // Then
+        assertThat(converted).isEqualTo(transaction);
+    }
+}
@@ -0,0 +1,45 @@
+package com.currencycloud.transactbench.serialization;
+
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WireFormatsTest {
+
+    private final MessageConverter json = new Jackson2JsonMessageConverter();
+    private final TransactionMetrics metrics = new TransactionMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void converterFor_ShouldUseApplicationJsonConverter_ForJson() {
+        // Given
+        WireFormats wireFormats = new WireFormats(json, metrics, "json");
+
+        // When & Then
+        assertThat(wireFormats.converterFor(WireFormat.JSON)).isSameAs(json);
+        assertThat(wireFormats.converterFor(WireFormat.AVRO)).isInstanceOf(BinaryTransactionConverter.class);
+    }
+
+    @Test
+    void resolve_ShouldFallBackToConfiguredDefault_WhenNoFormatIsGiven() {
+        // Given
+        WireFormats wireFormats = new WireFormats(json, metrics, "Smile");
+
+        // When & Then
+        assertThat(wireFormats.resolve(null)).isEqualTo(WireFormat.SMILE);
+        assertThat(wireFormats.resolve(WireFormat.CBOR)).isEqualTo(WireFormat.CBOR);
+        assertThat(wireFormats.newWorker(null, new SerializationRecorder()).getFormat()).isEqualTo(WireFormat.SMILE);
+    }
+
+    @Test
+    void constructor_ShouldReject_WhenDefaultFormatIsUnknown() {
+        // When & Then
+        assertThatThrownBy(() -> new WireFormats(json, metrics, "xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("rabbitmq.message.format");
+    }
+}
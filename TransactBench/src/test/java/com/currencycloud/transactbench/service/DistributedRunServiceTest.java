@@ -0,0 +1,269 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.config.CoordinatorProperties;
+import com.currencycloud.transactbench.distributed.DistributedRun;
+import com.currencycloud.transactbench.distributed.WorkerClient;
+import com.currencycloud.transactbench.dto.DistributedRunRequest;
+import com.currencycloud.transactbench.dto.DistributedRunResponse;
+import com.currencycloud.transactbench.dto.JobStatusResponse;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.latency.HdrLogs;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.model.JobStatus;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedRunServiceTest {
+
+    private static final URI WORKER_1 = URI.create("http://worker-1:8080");
+    private static final URI WORKER_2 = URI.create("http://worker-2:8080");
+
+    @Mock
+    private WorkerClient workerClient;
+
+    private final CoordinatorProperties properties = new CoordinatorProperties();
+
+    private DistributedRunService runService;
+    private TransactionGenerationRequest run;
+
+    @BeforeEach
+    void setUp() {
+        properties.setWorkers(List.of(WORKER_1, WORKER_2));
+        properties.setStartDelay(Duration.ofSeconds(5));
+        runService = new DistributedRunService(workerClient, properties);
+        run = new TransactionGenerationRequest("lhv", "SEPA", 9, null);
+        run.setSeed(7L);
+    }
+
+    @Test
+    void submit_ShouldSubmitOneShareToEachWorkerWithSharedStart() {
+        // Given
+        when(workerClient.submit(eq(WORKER_1), any())).thenReturn("job-1");
+        when(workerClient.submit(eq(WORKER_2), any())).thenReturn("job-2");
+        Instant before = Instant.now();
+
+        // When
+        DistributedRun distributedRun = runService.submit(new DistributedRunRequest(run, null));
+
+        // Then
+        ArgumentCaptor<TransactionGenerationRequest> shares =
+                ArgumentCaptor.forClass(TransactionGenerationRequest.class);
+        verify(workerClient, times(2)).submit(any(), shares.capture());
+        assertThat(shares.getAllValues()).extracting(TransactionGenerationRequest::getFirstIndex)
+                .containsExactly(0L, 5L);
+        assertThat(shares.getAllValues()).extracting(TransactionGenerationRequest::getStartAt)
+                .containsOnly(distributedRun.getStartAt());
+        assertThat(distributedRun.getStartAt()).isAfterOrEqualTo(before.plusSeconds(5));
+        assertThat(distributedRun.getWorkers()).extracting(DistributedRun.WorkerJob::jobId)
+                .containsExactly("job-1", "job-2");
+        assertThat(runService.getRun(distributedRun.getId())).contains(distributedRun);
+    }
+
+    @Test
+    void submit_ShouldGiveEachShareItsOwnNodeId_WhenRunIsUnseeded() {
+        // Given
+        run.setSeed(null);
+        when(workerClient.submit(eq(WORKER_1), any())).thenReturn("job-1");
+        when(workerClient.submit(eq(WORKER_2), any())).thenReturn("job-2");
+
+        // When
+        runService.submit(new DistributedRunRequest(run, null));
+
+        // Then
+        ArgumentCaptor<TransactionGenerationRequest> shares =
+                ArgumentCaptor.forClass(TransactionGenerationRequest.class);
+        verify(workerClient, times(2)).submit(any(), shares.capture());
+        Integer first = shares.getAllValues().get(0).getNodeId();
+        assertThat(first).isBetween(0, 65534);
+        assertThat(shares.getAllValues().get(1).getNodeId()).isEqualTo(first + 1);
+    }
+
+    @Test
+    void submit_ShouldUseRequestedWorkers_InsteadOfConfiguredOnes() {
+        // Given
+        URI other = URI.create("http://other:8080");
+        when(workerClient.submit(eq(other), any())).thenReturn("job-1");
+
+        // When
+        DistributedRun distributedRun = runService.submit(new DistributedRunRequest(run, List.of(other)));
+
+        // Then
+        assertThat(distributedRun.getWorkers()).extracting(DistributedRun.WorkerJob::worker).containsExactly(other);
+        assertThat(distributedRun.getWorkers().get(0).count()).isEqualTo(9);
+    }
+
+    @Test
+    void submit_ShouldReject_WhenNoWorkersAreKnown() {
+        // Given
+        properties.setWorkers(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> runService.submit(new DistributedRunRequest(run, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("worker");
+    }
+
+    @Test
+    void submit_ShouldRejectRun_WhenAWorkerRejectsItsShare() {
+        // Given
+        when(workerClient.submit(eq(WORKER_1), any()))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null));
+
+        // When & Then
+        assertThatThrownBy(() -> runService.submit(new DistributedRunRequest(run, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("worker-1");
+        verify(workerClient, never()).submit(eq(WORKER_2), any());
+    }
+
+    @Test
+    void submit_ShouldFail_WhenAWorkerCannotBeReached() {
+        // Given
+        when(workerClient.submit(eq(WORKER_1), any())).thenReturn("job-1");
+        when(workerClient.submit(eq(WORKER_2), any())).thenThrow(new ResourceAccessException("Connection refused"));
+
+        // When & Then
+        assertThatThrownBy(() -> runService.submit(new DistributedRunRequest(run, null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("worker-2");
+    }
+
+    @Test
+    void getStatus_ShouldAddUpWorkerCounters_WhileRunning() {
+        // Given
+        DistributedRun distributedRun = submitToBothWorkers();
+        when(workerClient.status(WORKER_1, "job-1")).thenReturn(status(JobStatus.RUNNING, 3, 100.0, null));
+        when(workerClient.status(WORKER_2, "job-2")).thenReturn(status(JobStatus.QUEUED, 0, 0.0, null));
+
+        // When
+        DistributedRunResponse response = runService.getStatus(distributedRun.getId()).orElseThrow();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(response.getRequested()).isEqualTo(9);
+        assertThat(response.getPublished()).isEqualTo(3);
+        assertThat(response.getAverageRate()).isEqualTo(100.0);
+        assertThat(response.getChecksum()).isNull();
+        assertThat(response.getLatency()).isNull();
+        assertThat(response.getWorkers()).extracting(DistributedRunResponse.WorkerStatus::getStatus)
+                .containsExactly(JobStatus.RUNNING, JobStatus.QUEUED);
+        verify(workerClient, never()).latency(any(), any());
+    }
+
+    @Test
+    void getStatus_ShouldCombineChecksumsAndMergeLatency_WhenEveryWorkerCompleted() {
+        // Given
+        DistributedRun distributedRun = submitToBothWorkers();
+        when(workerClient.status(WORKER_1, "job-1"))
+                .thenReturn(status(JobStatus.COMPLETED, 5, 50.0, "0000000000000001"));
+        when(workerClient.status(WORKER_2, "job-2"))
+                .thenReturn(status(JobStatus.COMPLETED, 4, 40.0, "ffffffffffffffff"));
+        when(workerClient.latency(WORKER_1, "job-1")).thenReturn(latencyLog(100_000));
+        when(workerClient.latency(WORKER_2, "job-2")).thenReturn(latencyLog(300_000));
+
+        // When
+        DistributedRunResponse response = runService.getStatus(distributedRun.getId()).orElseThrow();
+        runService.getStatus(distributedRun.getId());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(response.getPublished()).isEqualTo(9);
+        assertThat(response.getChecksum()).isEqualTo("0000000000000000");
+        assertThat(response.getLatency().getPublish().getCount()).isEqualTo(2);
+        assertThat(response.getFinishedAt()).isNotNull();
+        assertThat(distributedRun.getLatencyReport()).isNotNull();
+        verify(workerClient, times(1)).latency(WORKER_1, "job-1");
+    }
+
+    @Test
+    void getStatus_ShouldReportFailure_WhenAnyWorkerFailed() {
+        // Given
+        DistributedRun distributedRun = submitToBothWorkers();
+        JobStatusResponse failed = status(JobStatus.FAILED, 1, 0.0, null);
+        failed.setError("Connection refused");
+        when(workerClient.status(WORKER_1, "job-1")).thenReturn(status(JobStatus.COMPLETED, 5, 0.0, "01"));
+        when(workerClient.status(WORKER_2, "job-2")).thenReturn(failed);
+        when(workerClient.latency(any(), any())).thenReturn(latencyLog(1_000));
+
+        // When
+        DistributedRunResponse response = runService.getStatus(distributedRun.getId()).orElseThrow();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(response.getChecksum()).isNull();
+        assertThat(response.getWorkers().get(1).getError()).isEqualTo("Connection refused");
+    }
+
+    @Test
+    void getStatus_ShouldKeepRunning_WhenAWorkerIsUnreachable() {
+        // Given
+        DistributedRun distributedRun = submitToBothWorkers();
+        when(workerClient.status(WORKER_1, "job-1")).thenReturn(status(JobStatus.COMPLETED, 5, 0.0, "01"));
+        when(workerClient.status(WORKER_2, "job-2")).thenThrow(new ResourceAccessException("Connection refused"));
+
+        // When
+        DistributedRunResponse response = runService.getStatus(distributedRun.getId()).orElseThrow();
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(response.getPublished()).isEqualTo(5);
+        assertThat(response.getWorkers().get(1).getStatus()).isNull();
+        assertThat(response.getWorkers().get(1).getError()).contains("unreachable");
+    }
+
+    @Test
+    void getStatus_ShouldReturnEmpty_WhenRunIsUnknown() {
+        // When & Then
+        assertThat(runService.getStatus("missing")).isEmpty();
+    }
+
+    private DistributedRun submitToBothWorkers() {
+        when(workerClient.submit(eq(WORKER_1), any())).thenReturn("job-1");
+        when(workerClient.submit(eq(WORKER_2), any())).thenReturn("job-2");
+        return runService.submit(new DistributedRunRequest(run, null));
+    }
+
+    private static JobStatusResponse status(JobStatus status, long published, double averageRate, String checksum) {
+        return JobStatusResponse.builder()
+                .status(status)
+                .generated(published)
+                .published(published)
+                .confirmed(published)
+                .averageRate(averageRate)
+                .checksum(checksum)
+                .build();
+    }
+
+    private static List<Histogram> latencyLog(long publishNanos) {
+        LatencyRecorder recorder = new LatencyRecorder(false);
+        recorder.newWorker().recordPublish(0, 0, publishNanos);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.report().writeHdrLog(out);
+        return HdrLogs.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -0,0 +1,407 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishListener;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.sink.SinkType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GenerationJobServiceTest {
+
+    @Mock
+    private TransactionGeneratorService generatorService;
+
+    @Mock
+    private ParallelPublisherService publisherService;
+
+    @Mock
+    private TransactionConfigProperties configProperties;
+
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GenerationJobService jobService;
+    private TransactionGenerationRequest request;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new GenerationJobService(generatorService, publisherService, configProperties, queuedTasks::add,
+                new TransactionMetrics(meterRegistry));
+        request = new TransactionGenerationRequest("provider1", "sepa", 3, null);
+        request.setPublisherWorkers(1);
+    }
+
+    @Test
+    void submit_ShouldReturnQueuedJobWithoutRunningIt() {
+        // When
+        GenerationJob job = jobService.submit(request);
+
+        // Then
+        assertThat(job.getId()).isNotBlank();
+        assertThat(job.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(job.getRequestedCount()).isEqualTo(3);
+        assertThat(queuedTasks).hasSize(1);
+        assertThat(jobService.getJob(job.getId())).contains(job);
+        verify(generatorService).validateIndexRange(request);
+        verify(generatorService).preparePayloads(request);
+        verifyNoMoreInteractions(generatorService);
+        verifyNoInteractions(publisherService);
+    }
+
+    @Test
+    void submit_ShouldRejectSynchronously_WhenPayloadProfileIsInvalid() {
+        // Given
+        doThrow(new IllegalArgumentException("Payload size must be between 0 and 1048576 bytes"))
+                .when(generatorService).preparePayloads(request);
+
+        // When & Then
+        assertThatThrownBy(() -> jobService.submit(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Payload size");
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void submit_ShouldRejectSynchronously_WhenSeededIndexRangePassesReferences() {
+        // Given
+        doThrow(new IllegalArgumentException("Seeded run needs 10 transaction indexes but references only cover 5"))
+                .when(generatorService).validateIndexRange(request);
+
+        // When & Then
+        assertThatThrownBy(() -> jobService.submit(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("references only cover");
+        assertThat(queuedTasks).isEmpty();
+        verifyNoInteractions(publisherService);
+    }
+
+    @Test
+    void submit_ShouldHoldJobQueuedUntilRequestedStart() {
+        // Given
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenAnswer(invocation -> Stream.of(Transaction.builder().id("txn-001").build()));
+        Instant startAt = Instant.now().plusMillis(200);
+        request.setStartAt(startAt);
+        GenerationJob job = jobService.submit(request);
+
+        // When
+        queuedTasks.get(0).run();
+
+        // Then
+        assertThat(job.getStartedAt()).isAfterOrEqualTo(startAt);
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    @Test
+    void submit_ShouldReject_WhenStartIsBeyondMaxStartDelay() {
+        // Given
+        request.setStartAt(Instant.now().plus(Duration.ofHours(1)));
+
+        // When & Then
+        assertThatThrownBy(() -> jobService.submit(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ahead");
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void submit_ShouldReportQueuedJobsAndPendingMessagesAsGauges() {
+        // When
+        jobService.submit(request);
+        jobService.submit(request);
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.jobs.queued").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("transactbench.jobs.pending.messages").gauge().value()).isEqualTo(6);
+    }
+
+    @Test
+    void submit_ShouldCountGeneratedAndPublishedTransactions_WhenJobRuns() {
+        // Given
+        List<Transaction> transactions = List.of(
+                Transaction.builder().id("txn-001").build(),
+                Transaction.builder().id("txn-002").build(),
+                Transaction.builder().id("txn-003").build());
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(transactions.stream());
+        when(publisherService.publish(any(), any(LoadPacer.class), any(), any(PublishRun.class)))
+                .thenAnswer(invocation -> {
+                    List<Stream<Transaction>> partitions = invocation.getArgument(0);
+                    PublishListener listener = invocation.getArgument(2);
+                    partitions.forEach(partition -> partition.forEach(listener::onPublished));
+                    return 3L;
+                });
+
+        // When
+        GenerationJob job = jobService.submit(request);
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getGeneratedCount()).isEqualTo(3);
+        assertThat(job.getPublishedCount()).isEqualTo(3);
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(job.etaSeconds()).isZero();
+    }
+
+    @Test
+    void submit_ShouldSplitRunAcrossPublisherWorkers() {
+        // Given
+        TransactionGenerationRequest parallelRequest = new TransactionGenerationRequest("provider1", "sepa", 10, null);
+        parallelRequest.setPublisherWorkers(3);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenAnswer(invocation -> Stream.<Transaction>empty());
+
+        // When
+        jobService.submit(parallelRequest);
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        verify(generatorService).streamTransactions(parallelRequest, 0, 4);
+        verify(generatorService).streamTransactions(parallelRequest, 4, 3);
+        verify(generatorService).streamTransactions(parallelRequest, 7, 3);
+        verify(publisherService).publish(argThat(partitions -> partitions.size() == 3), any(LoadPacer.class), any(),
+                argThat((PublishRun run) -> run.getMode() == null && run.getSink() == null && run.getLatency() != null));
+    }
+
+    @Test
+    void submit_ShouldUsePoolDefaultWorkers_WhenRequestDoesNotSpecify() {
+        // Given
+        TransactionGenerationRequest defaultRequest = new TransactionGenerationRequest("provider1", "sepa", 8, null);
+        when(publisherService.defaultWorkers()).thenReturn(2);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenAnswer(invocation -> Stream.<Transaction>empty());
+
+        // When
+        jobService.submit(defaultRequest);
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        verify(generatorService).streamTransactions(defaultRequest, 0, 4);
+        verify(generatorService).streamTransactions(defaultRequest, 4, 4);
+    }
+
+    @Test
+    void submit_ShouldPassRequestedPublishModeToPublisher() {
+        // Given
+        request.setPublishMode(PublishMode.BATCH);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(Stream.empty());
+
+        // When
+        jobService.submit(request);
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        verify(publisherService).publish(any(), any(LoadPacer.class), any(),
+                argThat((PublishRun run) -> run.getMode() == PublishMode.BATCH));
+    }
+
+    @Test
+    void submit_ShouldPassRequestedSinkAndJobIdToPublisher() {
+        // Given
+        request.setSink(SinkType.FILE);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(Stream.empty());
+
+        // When
+        GenerationJob job = jobService.submit(request);
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        verify(publisherService).publish(any(), any(LoadPacer.class), any(),
+                argThat((PublishRun run) -> run.getId().equals(job.getId()) && run.getSink() == SinkType.FILE));
+    }
+
+    @Test
+    void submit_ShouldMarkJobFailed_WhenPublishingFails() {
+        // Given
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(Stream.empty());
+        when(publisherService.publish(any(), any(LoadPacer.class), any(), any(PublishRun.class)))
+                .thenThrow(new RuntimeException("Failed to publish transaction: txn-001"));
+
+        // When
+        GenerationJob job = jobService.submit(request);
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getError()).contains("txn-001");
+        assertThat(job.getLatencyReport()).isNotNull();
+    }
+
+    @Test
+    void submit_ShouldAttachLatencyReport_WhenJobCompletes() {
+        // Given
+        request.setLoadProfile(LoadProfile.builder().type(LoadProfile.Type.CONSTANT).rate(100.0).build());
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(Stream.empty());
+
+        // When
+        GenerationJob job = jobService.submit(request);
+        LatencyReport reportWhileQueued = job.getLatencyReport();
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        assertThat(reportWhileQueued).isNull();
+        assertThat(job.getLatencyReport()).isNotNull();
+        assertThat(job.getLatencyReport().isCorrected()).isTrue();
+    }
+
+    @Test
+    void submit_ShouldPassWireFormatAndAttachSerializationSummary_WhenJobCompletes() {
+        // Given
+        request.setWireFormat(WireFormat.CBOR);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(Stream.empty());
+
+        // When
+        GenerationJob job = jobService.submit(request);
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        verify(publisherService).publish(any(), any(LoadPacer.class), any(),
+                argThat((PublishRun run) -> run.getWireFormat() == WireFormat.CBOR));
+        assertThat(job.getSerializationSummary()).isNotNull();
+        assertThat(job.getSerializationSummary().getMessages()).isZero();
+    }
+
+    @Test
+    void submit_ShouldRejectUnknownProviderSynchronously() {
+        // Given
+        when(configProperties.getConfig("invalid-provider", "sepa"))
+                .thenThrow(new IllegalArgumentException("Provider not found: invalid-provider"));
+        TransactionGenerationRequest invalidRequest =
+                new TransactionGenerationRequest("invalid-provider", "sepa", 3, null);
+
+        // When & Then
+        assertThatThrownBy(() -> jobService.submit(invalidRequest))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void submit_ShouldForgetJob_WhenExecutorRejectsIt() {
+        // Given
+        GenerationJobService saturatedService = new GenerationJobService(
+                generatorService, publisherService, configProperties,
+                task -> { throw new TaskRejectedException("queue full"); },
+                new TransactionMetrics(new SimpleMeterRegistry()));
+
+        // When & Then
+        assertThatThrownBy(() -> saturatedService.submit(request))
+                .isInstanceOf(TaskRejectedException.class);
+    }
+
+    @Test
+    void submit_ShouldRequestSingleTransaction_WhenTransactionIdProvided() {
+        // Given
+        TransactionGenerationRequest singleRequest =
+                new TransactionGenerationRequest("provider1", "sepa", 50, UUID.randomUUID());
+
+        // When
+        GenerationJob job = jobService.submit(singleRequest);
+
+        // Then
+        assertThat(job.getRequestedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_ShouldAttachPacer_WhenLoadProfileProvided() {
+        // Given
+        request.setLoadProfile(LoadProfile.builder().type(LoadProfile.Type.CONSTANT).rate(500.0).build());
+
+        // When
+        GenerationJob job = jobService.submit(request);
+
+        // Then
+        assertThat(job.getPacer().isPaced()).isTrue();
+    }
+
+    @Test
+    void submit_ShouldRejectIncompleteLoadProfile() {
+        // Given
+        request.setLoadProfile(LoadProfile.builder().type(LoadProfile.Type.RAMP).rate(500.0).build());
+
+        // When & Then
+        assertThatThrownBy(() -> jobService.submit(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("RAMP");
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void getJob_ShouldReturnEmpty_WhenJobUnknown() {
+        // When & Then
+        assertThat(jobService.getJob("unknown")).isEmpty();
+    }
+
+    @Test
+    void submit_ShouldRejectSeed_WhenIdStrategyCannotBeReplayed() {
+        // Given
+        request.setSeed(42L);
+        request.setIdStrategy(IdStrategy.TIME_ORDERED);
+
+        // When & Then
+        assertThatThrownBy(() -> jobService.submit(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("TIME_ORDERED");
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void submit_ShouldReportSeedAndChecksum_WhenSeededJobCompletes() {
+        // Given
+        request.setSeed(42L);
+        when(generatorService.streamTransactions(any(TransactionGenerationRequest.class), anyLong(), anyInt()))
+                .thenReturn(Stream.of(Transaction.builder().id("txn-001").build()));
+        when(publisherService.publish(any(), any(LoadPacer.class), any(), any(PublishRun.class)))
+                .thenAnswer(invocation -> {
+                    List<Stream<Transaction>> partitions = invocation.getArgument(0);
+                    partitions.forEach(partition -> partition.forEach(transaction -> { }));
+                    return 1L;
+                });
+
+        // When
+        GenerationJob job = jobService.submit(request);
+        String checksumWhileQueued = job.getChecksum();
+        queuedTasks.forEach(Runnable::run);
+
+        // Then
+        assertThat(job.getSeed()).isEqualTo(42L);
+        assertThat(checksumWhileQueued).isNull();
+        assertThat(job.getChecksum()).hasSize(16);
+    }
+}
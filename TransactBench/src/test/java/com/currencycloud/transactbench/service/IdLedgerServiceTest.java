@@ -0,0 +1,55 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.id.IdList;
+import com.currencycloud.transactbench.model.IdLedger;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdLedgerServiceTest {
+
+    private final IdLedgerService ledgerService = new IdLedgerService();
+
+    @Test
+    void record_ShouldRegisterLedgerOverIds() {
+        // Given
+        IdList ids = new IdList();
+        ids.addAll(List.of("txn-001", "txn-002"));
+
+        // When
+        IdLedger ledger = ledgerService.record(ids);
+
+        // Then
+        assertThat(ledger.getCount()).isEqualTo(2);
+        assertThat(ledgerService.getLedger(ledger.getId())).containsSame(ledger);
+        assertThat(ledger.ids()).containsExactly("txn-001", "txn-002");
+    }
+
+    @Test
+    void replay_ShouldGenerateIdsOnEachRead() {
+        // Given
+        int[] reads = new int[1];
+
+        // When
+        IdLedger ledger = ledgerService.replay(2, () -> {
+            reads[0]++;
+            return Stream.of("a", "b");
+        });
+
+        // Then
+        assertThat(reads[0]).isZero();
+        assertThat(ledger.ids()).containsExactly("a", "b");
+        assertThat(ledger.ids()).containsExactly("a", "b");
+        assertThat(reads[0]).isEqualTo(2);
+        assertThat(ledger.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getLedger_ShouldReturnEmpty_WhenLedgerUnknown() {
+        // When & Then
+        assertThat(ledgerService.getLedger("missing")).isEmpty();
+    }
+}
@@ -0,0 +1,478 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.config.PublisherPoolProperties;
+import com.currencycloud.transactbench.config.SinkProperties;
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.SerializationSummary;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.latency.LatencyReport;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.ConfirmMode;
+import com.currencycloud.transactbench.publish.ConfirmWindow;
+import com.currencycloud.transactbench.publish.PublishListener;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.publish.PublisherConnectionPool;
+import com.currencycloud.transactbench.serialization.TransactionJsonWriter;
+import com.currencycloud.transactbench.serialization.TransactionMessageConverter;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.serialization.WireFormats;
+import com.currencycloud.transactbench.sink.AmqpTransactionSink;
+import com.currencycloud.transactbench.sink.DiscardTransactionSink;
+import com.currencycloud.transactbench.sink.SinkType;
+import com.currencycloud.transactbench.sink.TransactionSinks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelPublisherServiceTest {
+
+    private static final String EXCHANGE_NAME = "transaction-exchange";
+    private static final String ROUTING_KEY = "new_transaction_message";
+
+    @Mock
+    private PublisherConnectionPool connectionPool;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private ParallelPublisherService publisherService;
+    private PublisherPoolProperties poolProperties;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionMetrics metrics = new TransactionMetrics(meterRegistry);
+    private final Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        poolProperties = new PublisherPoolProperties();
+        poolProperties.setMaxInFlight(4);
+        poolProperties.setConfirmTimeout(Duration.ofMillis(200));
+        AmqpTransactionSink amqpSink = new AmqpTransactionSink(connectionPool, poolProperties, metrics);
+        ReflectionTestUtils.setField(amqpSink, "exchangeName", EXCHANGE_NAME);
+        ReflectionTestUtils.setField(amqpSink, "routingKey", ROUTING_KEY);
+        TransactionSinks sinks = new TransactionSinks(List.of(amqpSink, new DiscardTransactionSink(metrics)),
+                new SinkProperties());
+        WireFormats wireFormats = new WireFormats(new TransactionMessageConverter(new TransactionJsonWriter(),
+                new Jackson2JsonMessageConverter(), metrics), metrics, "json");
+        publisherService = new ParallelPublisherService(connectionPool, poolProperties, sinks, wireFormats);
+        lenient().when(connectionPool.templateForWorker(anyInt())).thenReturn(rabbitTemplate);
+        lenient().when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            workerThreads.add(Thread.currentThread().getName());
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(rabbitTemplate);
+        });
+    }
+
+    @Test
+    void publish_ShouldPublishEveryPartitionOnItsOwnWorker() {
+        // Given
+        Queue<String> publishedIds = new ConcurrentLinkedQueue<>();
+        List<Stream<Transaction>> partitions = List.of(
+                transactions("a", 50), transactions("b", 50), transactions("c", 50));
+
+        // When
+        long published = publisherService.publish(partitions, LoadPacer.unpaced(),
+                transaction -> publishedIds.add(transaction.getId()));
+
+        // Then
+        assertThat(published).isEqualTo(150);
+        assertThat(publishedIds).hasSize(150).doesNotHaveDuplicates();
+        assertThat(workerThreads).hasSize(3).allMatch(name -> name.startsWith("publisher-worker-"));
+        verify(connectionPool).templateForWorker(0);
+        verify(connectionPool).templateForWorker(1);
+        verify(connectionPool).templateForWorker(2);
+        verify(rabbitTemplate, times(150)).send(eq(EXCHANGE_NAME), eq(ROUTING_KEY), any(Message.class));
+    }
+
+    @Test
+    void publish_ShouldRunWorkersOnVirtualThreads_WhenEnabled() {
+        // Given
+        ReflectionTestUtils.setField(publisherService, "virtualThreads", true);
+        Set<Boolean> virtual = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> virtual.add(Thread.currentThread().isVirtual()))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+
+        // When
+        long published = publisherService.publish(
+                List.of(transactions("a", 10), transactions("b", 10)), LoadPacer.unpaced(), transaction -> { });
+
+        // Then
+        assertThat(published).isEqualTo(20);
+        assertThat(virtual).containsExactly(true);
+        assertThat(workerThreads).hasSize(2).allMatch(name -> name.startsWith("publisher-worker-"));
+    }
+
+    @Test
+    void publish_ShouldShareThePacerAcrossWorkers() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.CONSTANT).rate(1000.0).durationSeconds(0.02).build());
+        List<Stream<Transaction>> partitions = List.of(transactions("a", 1000), transactions("b", 1000));
+
+        // When
+        long published = publisherService.publish(partitions, pacer, transaction -> { });
+
+        // Then
+        assertThat(published).isEqualTo(20);
+        assertThat(pacer.report().getSent()).isEqualTo(20);
+    }
+
+    @Test
+    void publish_ShouldStopAllWorkersAndRethrow_WhenOneWorkerFails() {
+        // Given
+        doThrow(new RuntimeException("channel closed"))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+        List<Stream<Transaction>> partitions = List.of(transactions("a", 10), transactions("b", 10));
+
+        // When & Then
+        assertThatThrownBy(() -> publisherService.publish(partitions, LoadPacer.unpaced(), transaction -> { }))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to publish transaction")
+                .hasRootCauseMessage("channel closed");
+    }
+
+    @Test
+    void publish_ShouldStopEarlierWorkersPromptly_WhenALaterPartitionFails() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.CONSTANT).rate(20.0).build());
+        Stream<Transaction> failing = Stream.concat(transactions("b", 2), Stream.<Transaction>generate(() -> {
+            throw new IllegalStateException("partition b broken");
+        }));
+        List<Stream<Transaction>> partitions = List.of(transactions("a", 200), failing);
+        long start = System.nanoTime();
+
+        // When & Then
+        assertThatThrownBy(() -> publisherService.publish(partitions, pacer, transaction -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("partition b broken");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void publish_ShouldCorrelateConfirmsNacksAndReturnsToTransactionIds_WhenConfirmsEnabled() {
+        // Given
+        when(connectionPool.getConfirmMode()).thenReturn(ConfirmMode.ASYNC);
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            switch (correlation.getId()) {
+                case "a-1" -> ConfirmWindow.handleConfirm(correlation, false, "broker nack");
+                case "a-2" -> {
+                    correlation.setReturned(new ReturnedMessage(
+                            new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE", EXCHANGE_NAME, ROUTING_KEY));
+                    ConfirmWindow.handleConfirm(correlation, true, null);
+                }
+                default -> ConfirmWindow.handleConfirm(correlation, true, null);
+            }
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        RecordingListener listener = new RecordingListener();
+
+        // When
+        long published = publisherService.publish(List.of(transactions("a", 10)), LoadPacer.unpaced(), listener);
+
+        // Then
+        assertThat(published).isEqualTo(10);
+        assertThat(listener.confirmed).hasSize(8).doesNotContain("a-1", "a-2");
+        assertThat(listener.nacked).containsExactly("a-1");
+        assertThat(listener.returned).containsExactly("a-2");
+        assertThat(listener.latencies).allMatch(latency -> latency >= 0);
+        assertThat(meterRegistry.get("transactbench.messages.published").counter().count()).isEqualTo(10);
+        assertThat(meterRegistry.get("transactbench.messages.confirmed").counter().count()).isEqualTo(8);
+        assertThat(meterRegistry.get("transactbench.messages.nacked").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.messages.returned").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactbench.confirms.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void publish_ShouldRecordPublishAndConfirmLatencies_WhenConfirmsEnabled() {
+        // Given
+        when(connectionPool.getConfirmMode()).thenReturn(ConfirmMode.ASYNC);
+        doAnswer(invocation -> {
+            ConfirmWindow.handleConfirm(invocation.getArgument(3), true, null);
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        LatencyRecorder latency = new LatencyRecorder(false);
+
+        // When
+        publisherService.publish(List.of(transactions("a", 20), transactions("b", 30)), LoadPacer.unpaced(),
+                new RecordingListener(), null, latency);
+        LatencyReport report = latency.report();
+
+        // Then
+        assertThat(report.getPublish().getTotalCount()).isEqualTo(50);
+        assertThat(report.getConfirm().getTotalCount()).isEqualTo(50);
+        assertThat(report.getPublishCorrected()).isNull();
+    }
+
+    @Test
+    void publish_ShouldChargeScheduleLagToCorrectedLatency_WhenPaced() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.CONSTANT).rate(1000.0).build());
+        doAnswer(invocation -> {
+            // Each send takes 5ms against a 1ms schedule, so every message falls further behind
+            sleep(5);
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+        LatencyRecorder latency = new LatencyRecorder(true);
+
+        // When
+        publisherService.publish(List.of(transactions("a", 20)), pacer, new RecordingListener(), null, latency);
+        LatencyReport report = latency.report();
+
+        // Then
+        assertThat(report.getPublish().getMaxValue()).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(report.getPublishCorrected().getMaxValue()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(70));
+    }
+
+    @Test
+    void publish_ShouldBlockAtWindowAndFail_WhenConfirmsNeverArrive() {
+        // Given
+        when(connectionPool.getConfirmMode()).thenReturn(ConfirmMode.ASYNC);
+        RecordingListener listener = new RecordingListener();
+        Thread publisher = Thread.ofPlatform().start(() -> {
+            try {
+                publisherService.publish(List.of(transactions("a", 10)), LoadPacer.unpaced(), listener);
+            } catch (RuntimeException expected) {
+                // interrupted while blocked on the full window
+            }
+        });
+
+        // When
+        await(() -> listener.published.size() == 4);
+        sleep(50);
+
+        // Then
+        assertThat(listener.published).hasSize(4);
+        publisher.interrupt();
+    }
+
+    @Test
+    void publish_ShouldFail_WhenOutstandingConfirmsTimeOut() {
+        // Given
+        when(connectionPool.getConfirmMode()).thenReturn(ConfirmMode.ASYNC);
+
+        // When & Then
+        assertThatThrownBy(() -> publisherService.publish(
+                List.of(transactions("a", 2)), LoadPacer.unpaced(), transaction -> { }))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Timed out waiting for 2 publisher confirms");
+    }
+
+    @Test
+    void publish_ShouldSendEveryTransactionAsItsOwnMessage_WhenBatching() {
+        // Given
+        poolProperties.setBatchSize(8);
+        poolProperties.setBatchLinger(Duration.ofSeconds(10));
+        Queue<String> publishedIds = new ConcurrentLinkedQueue<>();
+
+        // When
+        long published = publisherService.publish(List.of(transactions("a", 20)), LoadPacer.unpaced(),
+                transaction -> publishedIds.add(transaction.getId()), PublishMode.BATCH);
+
+        // Then
+        assertThat(published).isEqualTo(20);
+        assertThat(publishedIds).hasSize(20).startsWith("a-0", "a-1");
+        verify(rabbitTemplate, times(20)).send(eq(EXCHANGE_NAME), eq(ROUTING_KEY), any(Message.class));
+    }
+
+    @Test
+    void publish_ShouldWaitForEachBatchsConfirmsBeforeSendingTheNext_WhenBatchingWithConfirms() {
+        // Given
+        poolProperties.setBatchSize(5);
+        poolProperties.setBatchLinger(Duration.ofSeconds(10));
+        poolProperties.setConfirmTimeout(Duration.ofSeconds(5));
+        when(connectionPool.getConfirmMode()).thenReturn(ConfirmMode.ASYNC);
+        Queue<CorrelationData> unconfirmed = new ConcurrentLinkedQueue<>();
+        Queue<Integer> outstandingAtSend = new ConcurrentLinkedQueue<>();
+        doAnswer(invocation -> {
+            outstandingAtSend.add(unconfirmed.size());
+            unconfirmed.add(invocation.getArgument(3));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        Thread confirmer = Thread.ofPlatform().daemon().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (unconfirmed.size() == 5) {
+                    CorrelationData correlation;
+                    while ((correlation = unconfirmed.poll()) != null) {
+                        ConfirmWindow.handleConfirm(correlation, true, null);
+                    }
+                }
+                Thread.onSpinWait();
+            }
+        });
+
+        // When
+        long published = publisherService.publish(
+                List.of(transactions("a", 15)), LoadPacer.unpaced(), transaction -> { }, PublishMode.BATCH);
+        confirmer.interrupt();
+
+        // Then
+        assertThat(published).isEqualTo(15);
+        assertThat(outstandingAtSend).containsExactly(0, 1, 2, 3, 4, 0, 1, 2, 3, 4, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void publish_ShouldFlushPartialBatch_WhenLingerExpires() {
+        // Given
+        poolProperties.setBatchSize(1000);
+        poolProperties.setBatchLinger(Duration.ZERO);
+        Queue<String> publishedIds = new ConcurrentLinkedQueue<>();
+
+        // When
+        publisherService.publish(List.of(transactions("a", 3)), LoadPacer.unpaced(),
+                transaction -> publishedIds.add(transaction.getId()), PublishMode.BATCH);
+
+        // Then
+        assertThat(publishedIds).containsExactly("a-0", "a-1", "a-2");
+    }
+
+    @Test
+    void publish_ShouldFlushPartialBatchWhileWaitingForPacer_WhenGapsAreLongerThanLinger() {
+        // Given
+        poolProperties.setBatchSize(1000);
+        poolProperties.setBatchLinger(Duration.ofMillis(20));
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.CONSTANT).rate(4.0).build());
+        Queue<Long> sentAfterSlot = new ConcurrentLinkedQueue<>();
+        AtomicLong slot = new AtomicLong();
+        doAnswer(invocation -> {
+            sentAfterSlot.add(System.nanoTime() - pacer.intendedNanos(slot.getAndAdd(250_000_000L)));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+
+        // When
+        publisherService.publish(List.of(transactions("a", 3)), pacer, new RecordingListener(), PublishMode.BATCH);
+
+        // Then
+        assertThat(sentAfterSlot).hasSize(3);
+        assertThat(sentAfterSlot).allSatisfy(delay -> assertThat(delay)
+                .isLessThan(TimeUnit.MILLISECONDS.toNanos(200)));
+    }
+
+    @Test
+    void publish_ShouldWriteToRequestedSink_WithoutTouchingTheBroker() {
+        // Given
+        RecordingListener listener = new RecordingListener();
+        LatencyRecorder latency = new LatencyRecorder(false);
+
+        // When
+        long published = publisherService.publish(List.of(transactions("a", 20), transactions("b", 30)),
+                LoadPacer.unpaced(), listener,
+                PublishRun.builder().id("run-1").sink(SinkType.DISCARD).latency(latency).build());
+
+        // Then
+        assertThat(published).isEqualTo(50);
+        assertThat(listener.published).hasSize(50);
+        assertThat(latency.report().getPublish().getTotalCount()).isEqualTo(50);
+        assertThat(meterRegistry.get("transactbench.publish").timer().count()).isEqualTo(50);
+        verifyNoInteractions(connectionPool);
+    }
+
+    @Test
+    void publish_ShouldSendRequestedWireFormatAndRecordPayloadSizes() {
+        // Given
+        Queue<String> contentTypes = new ConcurrentLinkedQueue<>();
+        doAnswer(invocation -> {
+            Message message = invocation.getArgument(2);
+            contentTypes.add(message.getMessageProperties().getContentType());
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+        PublishRun run = PublishRun.builder().wireFormat(WireFormat.SMILE).build();
+
+        // When
+        publisherService.publish(List.of(transactions("a", 20), transactions("b", 30)), LoadPacer.unpaced(),
+                new RecordingListener(), run);
+        SerializationSummary summary = run.getSerialization().summary();
+
+        // Then
+        assertThat(contentTypes).hasSize(50).containsOnly("application/x-jackson-smile");
+        assertThat(summary.getFormat()).isEqualTo(WireFormat.SMILE);
+        assertThat(summary.getMessages()).isEqualTo(50);
+        assertThat(summary.getTotalBytes()).isPositive();
+        assertThat(summary.getSerialization().getCount()).isEqualTo(50);
+        assertThat(meterRegistry.get("transactbench.payload.size").summary().count()).isEqualTo(50);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            sleep(5);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingListener implements PublishListener {
+        private final Queue<String> published = new ConcurrentLinkedQueue<>();
+        private final Queue<String> confirmed = new ConcurrentLinkedQueue<>();
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final Queue<String> nacked = new ConcurrentLinkedQueue<>();
+        private final Queue<String> returned = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void onPublished(Transaction transaction) {
+            published.add(transaction.getId());
+        }
+
+        @Override
+        public void onConfirmed(String transactionId, long confirmLatencyNanos) {
+            confirmed.add(transactionId);
+            latencies.add(confirmLatencyNanos);
+        }
+
+        @Override
+        public void onNacked(String transactionId, String cause) {
+            nacked.add(transactionId);
+        }
+
+        @Override
+        public void onReturned(String transactionId, int replyCode, String replyText) {
+            returned.add(transactionId);
+        }
+    }
+
+    private static Stream<Transaction> transactions(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> Transaction.builder().id(prefix + "-" + i).build());
+    }
+}
@@ -0,0 +1,235 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.capture.CaptureWriter;
+import com.currencycloud.transactbench.config.SinkProperties;
+import com.currencycloud.transactbench.dto.ReplayRequest;
+import com.currencycloud.transactbench.dto.ReplayResponse;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.serialization.BinaryTransactionConverter;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.sink.FileTransactionSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplayServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private TransactionPublisherService publisherService;
+
+    private FileTransactionSink fileSink;
+    private ReplayService replayService;
+    private final Queue<String> sentBodies = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> sentAt = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        SinkProperties properties = new SinkProperties();
+        properties.getFile().setDirectory(directory);
+        fileSink = new FileTransactionSink(new TransactionMetrics(new SimpleMeterRegistry()), properties);
+        replayService = new ReplayService(fileSink, publisherService);
+        lenient().doAnswer(invocation -> {
+            Message message = invocation.getArgument(0);
+            sentAt.add(System.nanoTime());
+            sentBodies.add(new String(message.getBody(), StandardCharsets.UTF_8));
+            return null;
+        }).when(publisherService).publishMessage(any(Message.class));
+    }
+
+    @Test
+    void replay_ShouldPublishEveryCapturedMessageAsTheConverterWould() throws IOException {
+        // Given
+        capture("capture-1", 0, 0, 3);
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        Transaction transaction = Transaction.builder().id("txn-0-0").amount(100).build();
+        MessageProperties expected = converter.toMessage(transaction, new MessageProperties()).getMessageProperties();
+
+        // When
+        ReplayResponse response = replayService.replay(maxSpeed("capture-1")).orElseThrow();
+
+        // Then
+        assertThat(response.getPublished()).isEqualTo(3);
+        assertThat(response.getFiles()).isEqualTo(1);
+        assertThat(sentBodies).hasSize(3).allMatch(body -> body.startsWith("{\"id\":\"txn-0-"));
+        verify(publisherService, times(3)).publishMessage(argThat(message ->
+                message.getMessageProperties().getContentType().equals(expected.getContentType())
+                        && message.getMessageProperties().getContentEncoding().equals(expected.getContentEncoding())
+                        && message.getMessageProperties().getContentLength() == message.getBody().length
+                        && message.getMessageProperties().getHeaders().equals(expected.getHeaders())));
+    }
+
+    @Test
+    void replay_ShouldSendTheCapturesWireFormatHeaders_WhenCaptureIsAvro() throws IOException {
+        // Given
+        try (CaptureWriter writer = new CaptureWriter(fileSink.fileFor("capture-1", 0), 4096, 0, WireFormat.AVRO)) {
+            writer.append(0, new byte[] {2, 4, 6});
+        }
+        String fingerprint = BinaryTransactionConverter.fingerprint(BinaryTransactionConverter.loadAvroSchema());
+
+        // When
+        replayService.replay(maxSpeed("capture-1")).orElseThrow();
+
+        // Then
+        verify(publisherService).publishMessage(argThat(message ->
+                message.getMessageProperties().getContentType().equals("application/avro")
+                        && message.getMessageProperties().getContentEncoding() == null
+                        && fingerprint.equals(message.getMessageProperties()
+                                .getHeader(BinaryTransactionConverter.SCHEMA_FINGERPRINT_HEADER))));
+    }
+
+    @Test
+    void replay_ShouldReplayEveryWorkerFileOfTheCapture() throws IOException {
+        // Given
+        capture("capture-1", 0, 0, 5);
+        capture("capture-1", 1, 0, 7);
+        capture("capture-2", 0, 0, 11);
+
+        // When
+        ReplayResponse response = replayService.replay(maxSpeed("capture-1")).orElseThrow();
+
+        // Then
+        assertThat(response.getFiles()).isEqualTo(2);
+        assertThat(response.getPublished()).isEqualTo(12);
+        assertThat(sentBodies).hasSize(12);
+        assertThat(response.getLatency().getPublish().getCount()).isEqualTo(12);
+        assertThat(response.getLatency().getPublishCorrected()).isNull();
+    }
+
+    @Test
+    void replay_ShouldFollowCapturedTiming_WhenOriginal() throws IOException {
+        // Given
+        long gap = TimeUnit.MILLISECONDS.toNanos(20);
+        capture("capture-1", 0, gap, 5);
+
+        long before = System.nanoTime();
+
+        // When
+        ReplayResponse response = replayService.replay(new ReplayRequest("capture-1")).orElseThrow();
+
+        // Then
+        List<Long> times = List.copyOf(sentAt);
+        for (int i = 0; i < times.size(); i++) {
+            assertThat(times.get(i) - before).isGreaterThanOrEqualTo(i * gap);
+        }
+        assertThat(response.getTiming()).isEqualTo(ReplayRequest.Timing.ORIGINAL);
+        assertThat(response.getCapturedMillis()).isEqualTo(80);
+        assertThat(response.getDurationMillis()).isGreaterThanOrEqualTo(80);
+        assertThat(response.getLatency().getPublishCorrected()).isNotNull();
+    }
+
+    @Test
+    void replay_ShouldCompressCapturedTiming_WhenScaled() throws IOException {
+        // Given
+        long gap = TimeUnit.MILLISECONDS.toNanos(100);
+        capture("capture-1", 0, gap, 5);
+        ReplayRequest request = ReplayRequest.builder()
+                .captureId("capture-1").timing(ReplayRequest.Timing.SCALED).speed(10.0).build();
+
+        // When
+        ReplayResponse response = replayService.replay(request).orElseThrow();
+
+        // Then
+        assertThat(response.getDurationMillis()).isGreaterThanOrEqualTo(40).isLessThan(400);
+        assertThat(response.getSpeed()).isEqualTo(10.0);
+    }
+
+    @Test
+    void replay_ShouldRejectScaledTiming_WithoutSpeed() {
+        // Given
+        ReplayRequest request = ReplayRequest.builder()
+                .captureId("capture-1").timing(ReplayRequest.Timing.SCALED).build();
+
+        // When & Then
+        assertThatThrownBy(() -> replayService.replay(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("positive speed");
+    }
+
+    @Test
+    void replay_ShouldReturnEmpty_WhenCaptureDoesNotExist() throws IOException {
+        // When
+        Optional<ReplayResponse> response = replayService.replay(maxSpeed("missing"));
+
+        // Then
+        assertThat(response).isEmpty();
+        verifyNoInteractions(publisherService);
+    }
+
+    @Test
+    void replay_ShouldStopAndRethrow_WhenPublishingFails() throws IOException {
+        // Given
+        capture("capture-1", 0, 0, 5);
+        doNothing().doThrow(new RuntimeException("Failed to publish message"))
+                .when(publisherService).publishMessage(any(Message.class));
+
+        // When & Then
+        assertThatThrownBy(() -> replayService.replay(maxSpeed("capture-1")))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to publish message");
+        verify(publisherService, times(2)).publishMessage(any(Message.class));
+    }
+
+    @Test
+    void replay_ShouldStopOtherFilesPromptly_WhenALaterFileFails() throws IOException {
+        // Given
+        long gap = TimeUnit.MILLISECONDS.toNanos(50);
+        capture("capture-1", 0, gap, 40);
+        capture("capture-1", 1, gap, 5);
+        doAnswer(invocation -> {
+            Message message = invocation.getArgument(0);
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (body.contains("txn-1-1")) {
+                throw new RuntimeException("Failed to publish message");
+            }
+            sentBodies.add(body);
+            return null;
+        }).when(publisherService).publishMessage(any(Message.class));
+        long start = System.nanoTime();
+
+        // When & Then
+        assertThatThrownBy(() -> replayService.replay(new ReplayRequest("capture-1")))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to publish message");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(sentBodies).filteredOn(body -> body.contains("txn-0-")).hasSizeLessThan(40);
+    }
+
+    private void capture(String captureId, int worker, long gapNanos, int records) throws IOException {
+        try (CaptureWriter writer = new CaptureWriter(fileSink.fileFor(captureId, worker), 4096, 0)) {
+            for (int i = 0; i < records; i++) {
+                String body = "{\"id\":\"txn-" + worker + "-" + i + "\"}";
+                writer.append(i * gapNanos, body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static ReplayRequest maxSpeed(String captureId) {
+        return ReplayRequest.builder().captureId(captureId).timing(ReplayRequest.Timing.MAX_SPEED).build();
+    }
+}
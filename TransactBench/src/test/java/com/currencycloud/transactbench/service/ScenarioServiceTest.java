@@ -0,0 +1,508 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.calendar.ValueDateCalendar;
+import com.currencycloud.transactbench.config.IdGeneratorProperties;
+import com.currencycloud.transactbench.config.PayloadProperties;
+import com.currencycloud.transactbench.config.ProviderConfig;
+import com.currencycloud.transactbench.config.ReferenceFormat;
+import com.currencycloud.transactbench.config.ReferenceProperties;
+import com.currencycloud.transactbench.config.ScenarioProperties;
+import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import com.currencycloud.transactbench.config.ValueDateProperties;
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.dto.PhaseReport;
+import com.currencycloud.transactbench.dto.Scenario;
+import com.currencycloud.transactbench.id.IdGenerators;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.id.ReferenceGenerators;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.GenerationJob;
+import com.currencycloud.transactbench.model.JobStatus;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PayloadPools;
+import com.currencycloud.transactbench.publish.PublishListener;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.scenario.PhaseProgress;
+import com.currencycloud.transactbench.sink.SinkType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScenarioServiceTest {
+
+    @Mock
+    private TransactionGeneratorService generatorService;
+
+    @Mock
+    private ParallelPublisherService publisherService;
+
+    @Mock
+    private TransactionConfigProperties configProperties;
+
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private final List<Long> generatedIndexes = Collections.synchronizedList(new ArrayList<>());
+    private final ScenarioProperties scenarioProperties = new ScenarioProperties();
+    private GenerationJobService jobService;
+    private ScenarioService scenarioService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new GenerationJobService(generatorService, publisherService, configProperties, queuedTasks::add,
+                new TransactionMetrics(new SimpleMeterRegistry()));
+        scenarioService = new ScenarioService(jobService, generatorService, publisherService, configProperties,
+                scenarioProperties, Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void submit_ShouldQueueJobListingEveryPhase() {
+        // Given
+        Scenario scenario = scenario(
+                phase(Scenario.Phase.Type.WARMUP, 100L, null, null),
+                Scenario.Phase.builder().type(Scenario.Phase.Type.RAMP).startRate(10.0).rate(30.0)
+                        .durationSeconds(10.0).build(),
+                phase(Scenario.Phase.Type.STEADY, 50L, 1000.0, 60.0));
+
+        // When
+        GenerationJob job = scenarioService.submit(scenario);
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(job.getRequestedCount()).isEqualTo(100 + 200 + 50);
+        assertThat(job.getPhases()).extracting(PhaseProgress::getName)
+                .containsExactly("warmup", "ramp", "steady");
+        assertThat(job.getPhases()).extracting(PhaseProgress::getStatus).containsOnly(JobStatus.QUEUED);
+        assertThat(queuedTasks).hasSize(1);
+        assertThat(jobService.getJob(job.getId())).contains(job);
+        verify(configProperties, times(3)).getConfig("lhv", "SEPA");
+    }
+
+    @Test
+    void submit_ShouldRunPhasesInOrder_AndCountEachPhase() {
+        // Given
+        stubGenerator();
+        stubPublisher();
+        Scenario scenario = scenario(phase(Scenario.Phase.Type.WARMUP, 3L, null, null),
+                phase(Scenario.Phase.Type.SPIKE, 2L, null, null));
+        GenerationJob job = scenarioService.submit(scenario);
+
+        // When
+        queuedTasks.get(0).run();
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getPublishedCount()).isEqualTo(5);
+        assertThat(job.getGeneratedCount()).isEqualTo(5);
+        assertThat(job.getPhases()).extracting(PhaseProgress::getStatus).containsOnly(JobStatus.COMPLETED);
+        List<PhaseReport> reports = job.getPhases().stream().map(PhaseProgress::report).toList();
+        assertThat(reports).extracting(PhaseReport::getPublished).containsExactly(3L, 2L);
+        assertThat(reports.get(1).getMix()).singleElement()
+                .satisfies(share -> assertThat(share.getPublished()).isEqualTo(2));
+        assertThat(generatedIndexes).containsExactlyInAnyOrder(0L, 1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void submit_ShouldPaceEachPhaseWithItsOwnProfile_AndShareRunSettings() {
+        // Given
+        stubGenerator();
+        stubPublisher();
+        Scenario scenario = scenario(phase(Scenario.Phase.Type.STEADY, 2L, 10_000.0, null),
+                phase(Scenario.Phase.Type.WARMUP, 1L, null, null));
+        scenario.setSink(SinkType.MEMORY);
+        GenerationJob job = scenarioService.submit(scenario);
+
+        // When
+        queuedTasks.get(0).run();
+
+        // Then
+        verify(publisherService).publish(anyList(), argThat((LoadPacer pacer) -> pacer.isPaced()), any(),
+                argThat((PublishRun run) -> run.getId().equals(job.getId() + "-1")
+                        && run.getSink() == SinkType.MEMORY));
+        verify(publisherService).publish(anyList(), argThat((LoadPacer pacer) -> !pacer.isPaced()), any(),
+                argThat((PublishRun run) -> run.getId().equals(job.getId() + "-2")));
+        assertThat(job.getPhases().get(0).report().getPacing()).isNotNull();
+        assertThat(job.getPhases().get(1).report().getPacing()).isNull();
+    }
+
+    @Test
+    void submit_ShouldFailJobAndLeaveLaterPhasesQueued_WhenAPhaseFails() {
+        // Given
+        stubGenerator();
+        when(publisherService.publish(any(), any(LoadPacer.class), any(), any(PublishRun.class)))
+                .thenThrow(new IllegalStateException("Broker unavailable"));
+        GenerationJob job = scenarioService.submit(scenario(phase(Scenario.Phase.Type.STEADY, 2L, null, null),
+                phase(Scenario.Phase.Type.COOLDOWN, null, 1.0, 1.0, 5.0)));
+
+        // When
+        queuedTasks.get(0).run();
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getError()).isEqualTo("Broker unavailable");
+        assertThat(job.getLatencyReport()).isNotNull();
+        assertThat(job.getPhases()).extracting(PhaseProgress::getStatus)
+                .containsExactly(JobStatus.FAILED, JobStatus.QUEUED);
+    }
+
+    @Test
+    void submit_ShouldUsePhaseMix_OverScenarioMix() {
+        // Given
+        Scenario.Phase spike = phase(Scenario.Phase.Type.SPIKE, 10L, null, null);
+        spike.setMix(List.of(new Scenario.TrafficShare("arkea", "fps", 1)));
+
+        // When
+        GenerationJob job = scenarioService.submit(scenario(phase(Scenario.Phase.Type.STEADY, 10L, null, null), spike));
+
+        // Then
+        assertThat(job.getPhases().get(1).getMix()).extracting(Scenario.TrafficShare::getProvider)
+                .containsExactly("arkea");
+        verify(configProperties).getConfig("arkea", "fps");
+    }
+
+    @Test
+    void submit_ShouldReject_WhenPhaseHasNeitherCountNorDuration() {
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario(phase(Scenario.Phase.Type.STEADY, null, 10.0, null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("needs a count or durationSeconds");
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void submit_ShouldReject_WhenRampHasNoStartRate() {
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario(phase(Scenario.Phase.Type.RAMP, null, 10.0, 5.0))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("startRate");
+    }
+
+    @Test
+    void submit_ShouldReject_WhenTimedPhaseHasNoRate() {
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario(phase(Scenario.Phase.Type.STEADY, null, null, 5.0))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("needs a rate");
+    }
+
+    @Test
+    void submit_ShouldReject_WhenPhaseHasNoMix() {
+        // Given
+        Scenario scenario = scenario(phase(Scenario.Phase.Type.STEADY, 10L, null, null));
+        scenario.setMix(null);
+
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no traffic mix");
+    }
+
+    @Test
+    void submit_ShouldReject_WhenMixListsARailTwice() {
+        // Given
+        Scenario scenario = scenario(phase(Scenario.Phase.Type.STEADY, 10L, null, null));
+        scenario.setMix(List.of(new Scenario.TrafficShare("lhv", "SEPA", 1),
+                new Scenario.TrafficShare("lhv", "SEPA", 2)));
+
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than once");
+    }
+
+    @Test
+    void submit_ShouldReject_WhenScenarioHasNoPhases() {
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("phases: Scenario needs at least one phase");
+    }
+
+    @Test
+    void submit_ShouldReject_WhenProviderIsUnknown() {
+        // Given
+        when(configProperties.getConfig("lhv", "SEPA"))
+                .thenThrow(new IllegalArgumentException("Provider not found: lhv"));
+
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario(phase(Scenario.Phase.Type.STEADY, 10L, null, null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Provider not found");
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void submit_ShouldRunSeededScenario_WithConsecutiveIndexBlocksWithinTheReferenceSpace() {
+        // Given
+        ReferenceProperties references = new ReferenceProperties();
+        references.getFormats().put("SEPA", new ReferenceFormat("R", 6, "0123456789"));
+        ScenarioService seededService = withGenerator(references);
+        List<Transaction> published = Collections.synchronizedList(new ArrayList<>());
+        when(publisherService.publish(any(), any(LoadPacer.class), any(), any(PublishRun.class)))
+                .thenAnswer(invocation -> {
+                    List<Stream<Transaction>> partitions = invocation.getArgument(0);
+                    PublishListener listener = invocation.getArgument(2);
+                    partitions.forEach(partition -> partition.forEach(transaction -> {
+                        published.add(transaction);
+                        listener.onPublished(transaction);
+                    }));
+                    return 0L;
+                });
+        // The cooldown's block is its expected 2000 messages plus 20 for pacer rounding and 3 for the workers
+        Scenario scenario = scenario(phase(Scenario.Phase.Type.WARMUP, 1900L, null, null),
+                phase(Scenario.Phase.Type.STEADY, 1900L, null, null),
+                phase(Scenario.Phase.Type.STEADY, 1900L, null, null),
+                phase(Scenario.Phase.Type.SPIKE, 1900L, null, null),
+                phase(Scenario.Phase.Type.COOLDOWN, null, 100_000.0, 0.01, 300_000.0));
+        scenario.setSeed(42L);
+        GenerationJob job = seededService.submit(scenario);
+
+        // When
+        queuedTasks.get(0).run();
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getPhases()).extracting(PhaseProgress::getStatus).containsOnly(JobStatus.COMPLETED);
+        assertThat(published).hasSize(4 * 1900 + 2023);
+        assertThat(published).extracting(Transaction::getReference).doesNotHaveDuplicates();
+        assertThat(published).extracting(Transaction::getId).doesNotHaveDuplicates();
+        assertThat(job.getChecksum()).isNotNull();
+    }
+
+    @Test
+    void submit_ShouldReject_WhenSeededPhasesRunPastTheReferenceSpace() {
+        // Given
+        ReferenceProperties references = new ReferenceProperties();
+        references.getFormats().put("SEPA", new ReferenceFormat("R", 6, "0123456789"));
+        ScenarioService seededService = withGenerator(references);
+        Scenario scenario = scenario(phase(Scenario.Phase.Type.WARMUP, 300_000L, null, null),
+                phase(Scenario.Phase.Type.STEADY, 300_000L, null, null),
+                phase(Scenario.Phase.Type.SPIKE, 300_000L, null, null),
+                phase(Scenario.Phase.Type.STEADY, 300_000L, null, null));
+        scenario.setSeed(42L);
+
+        // When & Then
+        assertThatThrownBy(() -> seededService.submit(scenario))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("needs 1200000 transaction indexes")
+                .hasMessageContaining("only cover 1000000");
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void indexCount_ShouldBoundTimedPhases_ByExpectedCountPlusRoom() {
+        // When & Then
+        assertThat(ScenarioService.indexCount(phase(Scenario.Phase.Type.STEADY, 10L, null, null), 4)).isEqualTo(10);
+        assertThat(ScenarioService.indexCount(phase(Scenario.Phase.Type.STEADY, null, 1000.0, 10.0), 4))
+                .isEqualTo(10_000 + 100 + 4 + 1);
+        assertThat(ScenarioService.indexCount(phase(Scenario.Phase.Type.STEADY, 50L, 1000.0, 10.0), 4))
+                .isEqualTo(50);
+    }
+
+    @Test
+    void submit_ShouldReject_WhenSeedCannotBeReplayed() {
+        // Given
+        Scenario scenario = scenario(phase(Scenario.Phase.Type.STEADY, 10L, null, null));
+        scenario.setSeed(42L);
+        scenario.setIdStrategy(IdStrategy.TIME_ORDERED);
+
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be reproduced");
+    }
+
+    @Test
+    void submit_ShouldReject_WhenPayloadProfileIsInvalid() {
+        // Given
+        doThrow(new IllegalArgumentException("Payload size must be between 0 and 1048576 bytes"))
+                .when(generatorService).preparePayloads(any());
+
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit(scenario(phase(Scenario.Phase.Type.STEADY, 10L, null, null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Payload size");
+        assertThat(queuedTasks).isEmpty();
+    }
+
+    @Test
+    void submitNamed_ShouldRunStoredScenario_UnderItsKey() {
+        // Given
+        scenarioProperties.getScenarios().put("smoke", scenario(phase(Scenario.Phase.Type.STEADY, 10L, null, null)));
+
+        // When
+        GenerationJob job = scenarioService.submit("smoke");
+
+        // Then
+        assertThat(job.getProvider()).isEqualTo("scenario");
+        assertThat(job.getPaymentRail()).isEqualTo("smoke");
+        assertThat(queuedTasks).hasSize(1);
+    }
+
+    @Test
+    void submitNamed_ShouldReject_WhenScenarioIsUnknown() {
+        // When & Then
+        assertThatThrownBy(() -> scenarioService.submit("missing"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Scenario not found: missing");
+        verify(generatorService, never()).preparePayloads(any());
+    }
+
+    @Test
+    void parse_ShouldReadYamlScenario_WithLowerCaseTypes() {
+        // Given
+        String yaml = """
+                name: peak
+                mix:
+                  - provider: lhv
+                    paymentRail: SEPA
+                    weight: 3
+                phases:
+                  - type: ramp
+                    startRate: 10
+                    rate: 100
+                    durationSeconds: 30
+                  - type: steady
+                    count: 1000
+                """;
+
+        // When
+        Scenario scenario = ScenarioService.parse(yaml);
+
+        // Then
+        assertThat(scenario.getName()).isEqualTo("peak");
+        assertThat(scenario.getMix()).singleElement()
+                .satisfies(share -> assertThat(share.getWeight()).isEqualTo(3));
+        assertThat(scenario.getPhases()).extracting(Scenario.Phase::getType)
+                .containsExactly(Scenario.Phase.Type.RAMP, Scenario.Phase.Type.STEADY);
+        assertThat(scenario.getPhases().get(0).getStartRate()).isEqualTo(10.0);
+        assertThat(scenario.getPhases().get(1).getCount()).isEqualTo(1000L);
+    }
+
+    @Test
+    void parse_ShouldReject_WhenYamlHasUnknownField() {
+        // When & Then
+        assertThatThrownBy(() -> ScenarioService.parse("phases:\n  - type: steady\n    cuont: 10\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cuont");
+    }
+
+    @Test
+    void loadProfile_ShouldRampDown_ForCooldown() {
+        // When
+        LoadProfile profile = ScenarioService.loadProfile("cooldown",
+                phase(Scenario.Phase.Type.COOLDOWN, null, 100.0, 30.0, 1000.0));
+
+        // Then
+        assertThat(profile.getType()).isEqualTo(LoadProfile.Type.RAMP);
+        assertThat(profile.getStartRate()).isEqualTo(1000.0);
+        assertThat(profile.getRate()).isEqualTo(100.0);
+        assertThat(profile.getRampSeconds()).isEqualTo(30.0);
+        assertThat(profile.getDurationSeconds()).isEqualTo(30.0);
+    }
+
+    @Test
+    void loadProfile_ShouldBeConstant_ForSpike() {
+        // When
+        LoadProfile profile = ScenarioService.loadProfile("spike", phase(Scenario.Phase.Type.SPIKE, null, 500.0, 10.0));
+
+        // Then
+        assertThat(profile.getType()).isEqualTo(LoadProfile.Type.CONSTANT);
+        assertThat(profile.getRate()).isEqualTo(500.0);
+        assertThat(profile.getDurationSeconds()).isEqualTo(10.0);
+    }
+
+    @Test
+    void loadProfile_ShouldBeUnpaced_WhenPhaseOnlyHasCount() {
+        // When & Then
+        assertThat(ScenarioService.loadProfile("warmup", phase(Scenario.Phase.Type.WARMUP, 100L, null, null))).isNull();
+    }
+
+    @Test
+    void expectedCount_ShouldTakeFewerOfCountAndRateOverDuration() {
+        // When & Then
+        assertThat(ScenarioService.expectedCount(phase(Scenario.Phase.Type.STEADY, 100L, 10.0, 5.0))).isEqualTo(50);
+        assertThat(ScenarioService.expectedCount(phase(Scenario.Phase.Type.STEADY, 20L, 10.0, 5.0))).isEqualTo(20);
+        assertThat(ScenarioService.expectedCount(phase(Scenario.Phase.Type.RAMP, null, 30.0, 10.0, 10.0)))
+                .isEqualTo(200);
+    }
+
+    private ScenarioService withGenerator(ReferenceProperties references) {
+        ProviderConfig providerConfig = new ProviderConfig();
+        providerConfig.setCurrency("EUR");
+        providerConfig.setDestinationAccountNumber("DE89370400440532013000");
+        providerConfig.setSenderName("Test Sender");
+        providerConfig.setCountry("DE");
+        when(configProperties.getConfig("lhv", "SEPA")).thenReturn(providerConfig);
+        IdGenerators idGenerators = new IdGenerators(new IdGeneratorProperties());
+        TransactionGeneratorService generator = new TransactionGeneratorService(configProperties, idGenerators,
+                new ReferenceGenerators(references, idGenerators), new ValueDateCalendar(new ValueDateProperties()),
+                new TransactionMetrics(new SimpleMeterRegistry()), new PayloadPools(new PayloadProperties()));
+        return new ScenarioService(jobService, generator, publisherService, configProperties,
+                scenarioProperties, Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    private void stubGenerator() {
+        when(generatorService.streamMix(anyList(), any(int[].class), any(LongStream.class)))
+                .thenAnswer(invocation -> {
+                    LongStream indexes = invocation.getArgument(2);
+                    return indexes.peek(generatedIndexes::add)
+                            .mapToObj(index -> Transaction.builder().id("txn-" + index)
+                                    .provider("lhv").paymentRail("SEPA").build());
+                });
+    }
+
+    private void stubPublisher() {
+        when(publisherService.publish(any(), any(LoadPacer.class), any(), any(PublishRun.class)))
+                .thenAnswer(invocation -> {
+                    List<Stream<Transaction>> partitions = invocation.getArgument(0);
+                    PublishListener listener = invocation.getArgument(2);
+                    partitions.forEach(partition -> partition.forEach(listener::onPublished));
+                    return 0L;
+                });
+    }
+
+    private static Scenario scenario(Scenario.Phase... phases) {
+        return Scenario.builder()
+                .mix(List.of(new Scenario.TrafficShare("lhv", "SEPA", 1)))
+                .phases(List.of(phases))
+                .publisherWorkers(2)
+                .build();
+    }
+
+    private static Scenario.Phase phase(Scenario.Phase.Type type, Long count, Double rate, Double durationSeconds) {
+        return phase(type, count, rate, durationSeconds, null);
+    }
+
+    private static Scenario.Phase phase(Scenario.Phase.Type type, Long count, Double rate, Double durationSeconds,
+                                        Double startRate) {
+        return Scenario.Phase.builder()
+                .type(type)
+                .count(count)
+                .rate(rate)
+                .durationSeconds(durationSeconds)
+                .startRate(startRate)
+                .build();
+    }
+}
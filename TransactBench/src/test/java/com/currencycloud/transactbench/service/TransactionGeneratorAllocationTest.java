@@ -0,0 +1,149 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.calendar.ValueDateCalendar;
+import com.currencycloud.transactbench.config.IdGeneratorProperties;
+import com.currencycloud.transactbench.config.PayloadProperties;
+import com.currencycloud.transactbench.config.ProviderConfig;
+import com.currencycloud.transactbench.config.ReferenceProperties;
+import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import com.currencycloud.transactbench.config.ValueDateProperties;
+import com.currencycloud.transactbench.dto.PayloadProfile;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.id.IdGenerators;
+import com.currencycloud.transactbench.id.ReferenceGenerators;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Account;
+import com.currencycloud.transactbench.model.Sender;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PayloadPools;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures heap bytes allocated per generated transaction with the per-thread allocation counter.
+ * Runs are seeded so every round does identical work, and the lowest of several rounds is used
+ * so JIT warm-up does not count. Absolute figures depend on the JVM and on what else has been
+ * compiled, so tests only compare runs measured side by side.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionGeneratorAllocationTest {
+
+    private static final int MESSAGES_PER_ROUND = 100_000;
+    private static final int ROUNDS = 6;
+
+    @Mock
+    private TransactionConfigProperties configProperties;
+
+    @Spy
+    private IdGenerators idGenerators = new IdGenerators(new IdGeneratorProperties());
+
+    @Spy
+    private ReferenceGenerators referenceGenerators = new ReferenceGenerators(new ReferenceProperties(), idGenerators);
+
+    @Spy
+    private ValueDateCalendar valueDateCalendar = new ValueDateCalendar(new ValueDateProperties());
+
+    @Spy
+    private TransactionMetrics metrics = new TransactionMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private PayloadPools payloadPools = new PayloadPools(new PayloadProperties());
+
+    @InjectMocks
+    private TransactionGeneratorService transactionGeneratorService;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeEach
+    void setUp() {
+        assumeThat(ManagementFactory.getThreadMXBean()).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        ProviderConfig providerConfig = new ProviderConfig();
+        providerConfig.setCurrency("EUR");
+        providerConfig.setDestinationAccountNumber("DE89370400440532013000");
+        providerConfig.setSenderName("Test Sender");
+        providerConfig.setCountry("DE");
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+    }
+
+    @Test
+    void streamTransactions_ShouldAllocateLessPerMessage_ThanBuildingAccountsAndSenderPerMessage() {
+        // Given
+        Transaction[] sink = new Transaction[1];
+        Consumer<Transaction> shared = transaction -> sink[0] = transaction;
+        Consumer<Transaction> perMessage = transaction -> {
+            // What the generator allocated for every message before accounts and senders were shared
+            transaction.setOriginAccount(Account.builder()
+                    .accountNumber("FR26TCCL20786956994877")
+                    .bic("CMBRFR2BARK")
+                    .iban("FR26TCCL20786956994877")
+                    .build());
+            transaction.setDestinationAccount(Account.builder()
+                    .accountNumber("DE89370400440532013000")
+                    .build());
+            transaction.setSender(Sender.builder()
+                    .freeText("unstructuredOne, unstructuredTwo")
+                    .name("Test Sender")
+                    .ultimateSenderName("ultimateDebtorName")
+                    .address("address line1, address line2, address line3, address line4")
+                    .country("DE")
+                    .build());
+            sink[0] = transaction;
+        };
+
+        // When
+        double sharedBytes = bytesPerMessage(shared, null);
+        double perMessageBytes = bytesPerMessage(perMessage, null);
+
+        // Then: three objects of at least 24 bytes each are no longer allocated per message
+        assertThat(sink[0]).isNotNull();
+        assertThat(sharedBytes).isLessThanOrEqualTo(perMessageBytes - 72);
+    }
+
+    @Test
+    void streamTransactions_ShouldNotAllocateContentPerMessage_WhenPayloadIsLarge() {
+        // Given
+        Transaction[] sink = new Transaction[1];
+        PayloadProfile large = PayloadProfile.builder().type(PayloadProfile.Type.FIXED).size(64 * 1024).build();
+
+        // When
+        double emptyBytes = bytesPerMessage(transaction -> sink[0] = transaction, null);
+        double largeBytes = bytesPerMessage(transaction -> sink[0] = transaction, large);
+
+        // Then: the content comes from the pool, so only the extra random draw may cost anything
+        assertThat(sink[0].getTransactionContent()).isNotNull();
+        assertThat(largeBytes).isLessThan(emptyBytes + 64);
+    }
+
+    private double bytesPerMessage(Consumer<Transaction> consumer, PayloadProfile payloadProfile) {
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            TransactionGenerationRequest request =
+                    new TransactionGenerationRequest("provider1", "sepa", MESSAGES_PER_ROUND, null);
+            request.setSeed(42L);
+            request.setPayloadProfile(payloadProfile);
+
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            transactionGeneratorService.streamTransactions(request, 0, MESSAGES_PER_ROUND).forEach(consumer);
+            lowest = Math.min(lowest, threadMXBean.getCurrentThreadAllocatedBytes() - before);
+        }
+        return (double) lowest / MESSAGES_PER_ROUND;
+    }
+}
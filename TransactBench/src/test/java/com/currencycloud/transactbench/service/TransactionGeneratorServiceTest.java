@@ -1,23 +1,44 @@
 package com.currencycloud.transactbench.service;
 
+import com.currencycloud.transactbench.calendar.ValueDateCalendar;
+import com.currencycloud.transactbench.config.IdGeneratorProperties;
+import com.currencycloud.transactbench.config.PayloadProperties;
 import com.currencycloud.transactbench.config.ProviderConfig;
+import com.currencycloud.transactbench.config.ReferenceProperties;
+import com.currencycloud.transactbench.config.ValueDateProperties;
 import com.currencycloud.transactbench.config.TransactionConfigProperties;
+import com.currencycloud.transactbench.dto.PayloadProfile;
+import com.currencycloud.transactbench.dto.TransactionGenerationRequest;
+import com.currencycloud.transactbench.id.IdGenerators;
+import com.currencycloud.transactbench.id.IdStrategy;
+import com.currencycloud.transactbench.id.ReferenceGenerators;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
 import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.payload.PayloadPools;
+import com.currencycloud.transactbench.payload.PooledPayload;
 import java.util.UUID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +49,23 @@ class TransactionGeneratorServiceTest {
     @Mock
     private TransactionConfigProperties configProperties;
 
+    @Spy
+    private IdGenerators idGenerators = new IdGenerators(new IdGeneratorProperties());
+
+    @Spy
+    private ReferenceGenerators referenceGenerators = new ReferenceGenerators(new ReferenceProperties(), idGenerators);
+
+    @Spy
+    private ValueDateCalendar valueDateCalendar = new ValueDateCalendar(new ValueDateProperties());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private TransactionMetrics metrics = new TransactionMetrics(meterRegistry);
+
+    @Spy
+    private PayloadPools payloadPools = new PayloadPools(new PayloadProperties());
+
     @InjectMocks
     private TransactionGeneratorService transactionGeneratorService;
 
@@ -56,6 +94,24 @@ class TransactionGeneratorServiceTest {
         assertThat(transactions).hasSize(count);
     }
 
+    @Test
+    void generateTransactions_ShouldCountAndTimeGeneratedTransactionsPerRail() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+
+        // When
+        transactionGeneratorService.generateTransactions("provider1", "sepa", 5, null);
+        transactionGeneratorService.generateTransactions("provider1", "swift", 2, null);
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.messages.generated")
+                .tags("provider", "provider1", "rail", "sepa").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("transactbench.messages.generated")
+                .tags("provider", "provider1", "rail", "swift").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("transactbench.generation")
+                .tags("provider", "provider1", "rail", "sepa").timer().count()).isEqualTo(5);
+    }
+
     @Test
     void generateTransactions_ShouldGenerateUniqueTransactionIds() {
         // Given
@@ -180,6 +236,48 @@ class TransactionGeneratorServiceTest {
         });
     }
 
+    @Test
+    void generateTransactions_ShouldShareReadOnlyAccountsAndSender_AcrossRuns() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+
+        // When
+        List<Transaction> first = transactionGeneratorService.generateTransactions("provider1", "sepa", 3, null);
+        List<Transaction> second = transactionGeneratorService.generateTransactions("provider1", "sepa", 1, null);
+
+        // Then
+        Transaction reference = first.get(0);
+        Stream.concat(first.stream(), second.stream()).forEach(transaction -> {
+            assertThat(transaction.getOriginAccount()).isSameAs(reference.getOriginAccount());
+            assertThat(transaction.getDestinationAccount()).isSameAs(reference.getDestinationAccount());
+            assertThat(transaction.getSender()).isSameAs(reference.getSender());
+        });
+        assertThatThrownBy(() -> reference.getSender().setName("Changed"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void generateTransactions_ShouldUseSeparateParties_ForDifferentConfigs() {
+        // Given
+        ProviderConfig otherConfig = new ProviderConfig();
+        otherConfig.setCurrency("GBP");
+        otherConfig.setDestinationAccountNumber("GB29NWBK60161331926819");
+        otherConfig.setSenderName("Other Sender");
+        otherConfig.setCountry("GB");
+        when(configProperties.getConfig("provider1", "sepa")).thenReturn(providerConfig);
+        when(configProperties.getConfig("provider2", "fps")).thenReturn(otherConfig);
+
+        // When
+        Transaction sepa = transactionGeneratorService.generateTransactions("provider1", "sepa", 1, null).get(0);
+        Transaction fps = transactionGeneratorService.generateTransactions("provider2", "fps", 1, null).get(0);
+
+        // Then
+        assertThat(fps.getOriginAccount()).isSameAs(sepa.getOriginAccount());
+        assertThat(fps.getDestinationAccount().getAccountNumber()).isEqualTo("GB29NWBK60161331926819");
+        assertThat(fps.getSender().getName()).isEqualTo("Other Sender");
+        assertThat(sepa.getSender().getName()).isEqualTo("Test Sender");
+    }
+
     @Test
     void generateTransactions_ShouldSetVersionToTwo() {
         // Given
@@ -277,6 +375,21 @@ class TransactionGeneratorServiceTest {
         assertThat(references).doesNotHaveDuplicates();
     }
 
+    @Test
+    void streamTransactions_ShouldNeverRepeatReferences_AcrossLargeRun() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+
+        // When
+        long distinct = transactionGeneratorService.streamTransactions("provider1", "sepa", 200_000, null)
+                .map(Transaction::getReference)
+                .distinct()
+                .count();
+
+        // Then
+        assertThat(distinct).isEqualTo(200_000);
+    }
+
     @Test
     void generateTransactions_ShouldSetTransactionContentToNull() {
         // Given
@@ -366,4 +479,396 @@ class TransactionGeneratorServiceTest {
         List<String> ids = transactions.stream().map(Transaction::getId).toList();
         assertThat(ids).doesNotHaveDuplicates();
     }
+
+    @Test
+    void streamTransactions_ShouldGenerateLazilyAsStreamIsConsumed() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+
+        // When
+        Stream<Transaction> stream = transactionGeneratorService.streamTransactions(
+                "provider1", "sepa", 5_000_000, null);
+        List<Transaction> firstTen = stream.limit(10).toList();
+
+        // Then
+        assertThat(firstTen).hasSize(10);
+        assertThat(firstTen).extracting(Transaction::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void streamTransactions_ShouldProduceRequestedCount() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+
+        // When
+        long count = transactionGeneratorService.streamTransactions("provider1", "sepa", 250, null).count();
+
+        // Then
+        assertThat(count).isEqualTo(250);
+    }
+
+    @Test
+    void streamTransactions_ShouldProduceSingleTransaction_WhenTransactionIdProvided() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        UUID transactionId = UUID.randomUUID();
+
+        // When
+        List<Transaction> transactions = transactionGeneratorService.streamTransactions(
+                "provider1", "sepa", 10, transactionId).toList();
+
+        // Then
+        assertThat(transactions).hasSize(1);
+        assertThat(transactions.get(0).getId()).isEqualTo(transactionId.toString());
+    }
+
+    @Test
+    void streamTransactions_ShouldResolveConfigBeforeConsumption() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString()))
+                .thenThrow(new IllegalArgumentException("Provider not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionGeneratorService.streamTransactions(
+                "invalid-provider", "sepa", 10, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Provider not found");
+        verify(configProperties).getConfig("invalid-provider", "sepa");
+    }
+
+    @Test
+    void streamTransactions_ShouldUseRequestedIdStrategy_ForIdAndTrackingId() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 10, null);
+        request.setIdStrategy(IdStrategy.TIME_ORDERED);
+
+        // When
+        List<Transaction> transactions = transactionGeneratorService.streamTransactions(request, 0, 10).toList();
+
+        // Then
+        assertThat(transactions).allSatisfy(transaction -> {
+            assertThat(UUID.fromString(transaction.getId()).version()).isEqualTo(7);
+            assertThat(UUID.fromString(transaction.getTrackingId()).version()).isEqualTo(7);
+        });
+    }
+
+    @Test
+    void streamTransactions_ShouldUseConfiguredDefault_WhenNoIdStrategyGiven() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+
+        // When
+        List<Transaction> transactions = transactionGeneratorService.streamTransactions(
+                "provider1", "sepa", 3, null).toList();
+
+        // Then
+        verify(idGenerators).forStrategy(null, null);
+        assertThat(transactions).allSatisfy(transaction ->
+                assertThat(UUID.fromString(transaction.getId()).version()).isEqualTo(4));
+    }
+
+    @Test
+    void streamTransactions_ShouldReproduceDataset_WhenSeedRepeated() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 50, null);
+        request.setSeed(1234L);
+
+        // When
+        List<Transaction> first = transactionGeneratorService.streamTransactions(request, 0, 50).toList();
+        List<Transaction> second = transactionGeneratorService.streamTransactions(request, 0, 50).toList();
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(first).extracting(Transaction::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void streamTransactions_ShouldProduceSameDataset_WhenSeededRunIsSplit() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 30, null);
+        request.setSeed(99L);
+
+        // When
+        List<Transaction> whole = transactionGeneratorService.streamTransactions(request, 0, 30).toList();
+        List<Transaction> split = Stream.of(
+                        transactionGeneratorService.streamTransactions(request, 20, 10),
+                        transactionGeneratorService.streamTransactions(request, 0, 7),
+                        transactionGeneratorService.streamTransactions(request, 7, 13))
+                .flatMap(partition -> partition)
+                .toList();
+
+        // Then
+        assertThat(split).containsExactlyInAnyOrderElementsOf(whole);
+    }
+
+    @Test
+    void streamTransactions_ShouldGeneratePartOfLargerDataset_WhenRequestHasFirstIndex() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest whole = new TransactionGenerationRequest("provider1", "sepa", 30, null);
+        whole.setSeed(99L);
+        TransactionGenerationRequest part = new TransactionGenerationRequest("provider1", "sepa", 10, null);
+        part.setSeed(99L);
+        part.setFirstIndex(20L);
+
+        // When
+        List<Transaction> expected = transactionGeneratorService.streamTransactions(whole, 20, 10).toList();
+        List<Transaction> generated = transactionGeneratorService.streamTransactions(part, 0, 10).toList();
+
+        // Then
+        assertThat(generated).isEqualTo(expected);
+    }
+
+    @Test
+    void validateIndexRange_ShouldReject_WhenFirstIndexAndCountPassReferenceCapacity() {
+        // Given
+        long capacity = referenceGenerators.forRail("sepa").seededCapacity();
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 2, null);
+        request.setSeed(99L);
+        request.setFirstIndex(capacity - 1);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionGeneratorService.validateIndexRange(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("references only cover");
+        request.setNumberOfMessages(1);
+        transactionGeneratorService.validateIndexRange(request);
+    }
+
+    @Test
+    void streamIds_ShouldReplaySeededIdsWithoutMetering() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 10, null);
+        request.setSeed(99L);
+        request.setFirstIndex(20L);
+        List<String> expected = transactionGeneratorService.streamTransactions(request, 3, 5)
+                .map(Transaction::getId)
+                .toList();
+        double generated = meterRegistry.get("transactbench.messages.generated").counter().count();
+
+        // When
+        List<String> replayed = transactionGeneratorService.streamIds(request, 3, 5).toList();
+
+        // Then
+        assertThat(replayed).isEqualTo(expected);
+        assertThat(meterRegistry.get("transactbench.messages.generated").counter().count()).isEqualTo(generated);
+    }
+
+    @Test
+    void streamIds_ShouldReject_WhenRequestIsUnseeded() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 10, null);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionGeneratorService.streamIds(request, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("seeded");
+    }
+
+    @Test
+    void streamTransactions_ShouldProduceDifferentDatasets_ForDifferentSeeds() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest first = new TransactionGenerationRequest("provider1", "sepa", 5, null);
+        first.setSeed(1L);
+        TransactionGenerationRequest second = new TransactionGenerationRequest("provider1", "sepa", 5, null);
+        second.setSeed(2L);
+
+        // When & Then
+        assertThat(transactionGeneratorService.streamTransactions(first, 0, 5).map(Transaction::getId).toList())
+                .doesNotContainAnyElementsOf(
+                        transactionGeneratorService.streamTransactions(second, 0, 5).map(Transaction::getId).toList());
+    }
+
+    @Test
+    void streamTransactions_ShouldRejectSeed_WhenIdStrategyCannotBeReplayed() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 5, null);
+        request.setSeed(1L);
+        request.setIdStrategy(IdStrategy.NODE_SEQUENCE);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionGeneratorService.streamTransactions(request, 0, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("NODE_SEQUENCE");
+    }
+
+    @Test
+    void streamTransactions_ShouldLeaveContentEmpty_WhenNoPayloadProfile() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 5, null);
+
+        // When
+        List<Transaction> transactions = transactionGeneratorService.streamTransactions(request, 0, 5).toList();
+
+        // Then
+        assertThat(transactions).extracting(Transaction::getTransactionContent).containsOnlyNulls();
+    }
+
+    @Test
+    void streamTransactions_ShouldShareContentFromPool_WhenPayloadProfileIsSet() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 200, null);
+        request.setPayloadProfile(PayloadProfile.builder()
+                .type(PayloadProfile.Type.UNIFORM).minSize(1024).maxSize(8192).build());
+
+        // When
+        List<Transaction> transactions = transactionGeneratorService.streamTransactions(request, 0, 200).toList();
+
+        // Then
+        List<PooledPayload> contents = transactions.stream()
+                .map(transaction -> (PooledPayload) transaction.getTransactionContent())
+                .toList();
+        assertThat(contents).allSatisfy(content -> assertThat(content.size()).isBetween(1024, 8192));
+        assertThat(contents.stream().map(PooledPayload::size).distinct().count()).isGreaterThan(1);
+        assertThat(contents.stream().filter(content -> content.size() == contents.get(0).size()))
+                .allSatisfy(content -> assertThat(content).isSameAs(contents.get(0)));
+    }
+
+    @Test
+    void streamTransactions_ShouldReproduceContentSizes_WhenSeededRunIsSplit() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 20, null);
+        request.setSeed(7L);
+        request.setPayloadProfile(PayloadProfile.builder()
+                .type(PayloadProfile.Type.HISTOGRAM)
+                .buckets(List.of(new PayloadProfile.Bucket(1024, 1), new PayloadProfile.Bucket(4096, 1)))
+                .build());
+
+        // When
+        List<Transaction> whole = transactionGeneratorService.streamTransactions(request, 0, 20).toList();
+        List<Transaction> split = Stream.concat(
+                        transactionGeneratorService.streamTransactions(request, 10, 10),
+                        transactionGeneratorService.streamTransactions(request, 0, 10))
+                .toList();
+
+        // Then
+        assertThat(split).containsExactlyInAnyOrderElementsOf(whole);
+    }
+
+    @Test
+    void streamMix_ShouldSplitTrafficByWeight() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        List<TransactionGenerationRequest> requests = List.of(
+                new TransactionGenerationRequest("provider1", "sepa", 1, null),
+                new TransactionGenerationRequest("provider1", "inst", 1, null));
+
+        // When
+        Map<String, Long> byRail = transactionGeneratorService
+                .streamMix(requests, new int[]{3, 1}, LongStream.range(0, 20_000))
+                .collect(Collectors.groupingBy(Transaction::getPaymentRail, Collectors.counting()));
+
+        // Then
+        assertThat(byRail.get("sepa")).isBetween(14_500L, 15_500L);
+        assertThat(byRail.get("inst")).isBetween(4_500L, 5_500L);
+    }
+
+    @Test
+    void streamMix_ShouldReproduceDataset_WhenSeededIndexesAreSplit() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        List<TransactionGenerationRequest> requests = Stream.of("sepa", "inst", "tips")
+                .map(rail -> TransactionGenerationRequest.builder()
+                        .provider("provider1").paymentRail(rail).numberOfMessages(1).seed(7L).build())
+                .toList();
+        int[] weights = {5, 3, 2};
+
+        // When
+        List<Transaction> whole = transactionGeneratorService.streamMix(requests, weights, LongStream.range(0, 60))
+                .toList();
+        List<Transaction> split = Stream.of(
+                        transactionGeneratorService.streamMix(requests, weights, LongStream.range(40, 60)),
+                        transactionGeneratorService.streamMix(requests, weights, LongStream.range(0, 40)))
+                .flatMap(partition -> partition)
+                .toList();
+
+        // Then
+        assertThat(split).containsExactlyInAnyOrderElementsOf(whole);
+        assertThat(whole).extracting(Transaction::getId).doesNotHaveDuplicates();
+        assertThat(whole).extracting(Transaction::getPaymentRail).contains("sepa", "inst", "tips");
+    }
+
+    @Test
+    void streamMix_ShouldReject_WhenWeightsDoNotMatchRequests() {
+        // Given
+        List<TransactionGenerationRequest> requests =
+                List.of(new TransactionGenerationRequest("provider1", "sepa", 1, null));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionGeneratorService.streamMix(requests, new int[]{1, 1}, LongStream.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("one positive weight");
+    }
+
+    @Test
+    void preparePayloads_ShouldReject_WhenPayloadProfileIsInvalid() {
+        // Given
+        TransactionGenerationRequest request = new TransactionGenerationRequest("provider1", "sepa", 5, null);
+        request.setPayloadProfile(PayloadProfile.builder().type(PayloadProfile.Type.FIXED).size(2 << 20).build());
+
+        // When & Then
+        assertThatThrownBy(() -> transactionGeneratorService.preparePayloads(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Payload size");
+    }
+
+    @Test
+    void generateTransactions_ShouldOnlyUseTarget2BusinessDays_ForEuroValueDates() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+
+        // When
+        List<Transaction> transactions = transactionGeneratorService.generateTransactions(
+                "provider1", "sepa", 500, null);
+
+        // Then
+        transactions.forEach(transaction -> {
+            LocalDate valueDate = LocalDate.parse(transaction.getValueDate(), DATE_FORMATTER);
+            assertThat(valueDate.getDayOfWeek()).isNotIn(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+            assertThat(valueDate.getMonthValue() * 100 + valueDate.getDayOfMonth()).isNotIn(101, 501, 1225, 1226);
+        });
+        verify(valueDateCalendar).datesFor("EUR");
+    }
+
+    @Test
+    void streamTransactions_ShouldDrawSeededValueDatesFromSeededBaseDate_WhateverTheDay() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = TransactionGenerationRequest.builder()
+                .provider("provider1").paymentRail("sepa").numberOfMessages(200).seed(11L).build();
+
+        // When
+        List<Transaction> transactions = transactionGeneratorService.streamTransactions(request, 0, 200).toList();
+
+        // Then
+        verify(valueDateCalendar).datesAt("EUR", null);
+        assertThat(transactions).extracting(transaction -> LocalDate.parse(transaction.getValueDate()))
+                .allSatisfy(valueDate -> assertThat(valueDate).isAfter(LocalDate.of(2026, 1, 1))
+                        .isBeforeOrEqualTo(LocalDate.of(2026, 4, 1)));
+    }
+
+    @Test
+    void streamTransactions_ShouldCountValueDatesFromRequestedBaseDate() {
+        // Given
+        when(configProperties.getConfig(anyString(), anyString())).thenReturn(providerConfig);
+        TransactionGenerationRequest request = TransactionGenerationRequest.builder()
+                .provider("provider1").paymentRail("sepa").numberOfMessages(50)
+                .valueDateBase(LocalDate.of(2030, 6, 3)).build();
+
+        // When
+        List<Transaction> transactions = transactionGeneratorService.streamTransactions(request, 0, 50).toList();
+
+        // Then
+        verify(valueDateCalendar).datesAt("EUR", LocalDate.of(2030, 6, 3));
+        assertThat(transactions).extracting(transaction -> LocalDate.parse(transaction.getValueDate()))
+                .allSatisfy(valueDate -> assertThat(valueDate).isAfter(LocalDate.of(2030, 6, 3)));
+    }
 }
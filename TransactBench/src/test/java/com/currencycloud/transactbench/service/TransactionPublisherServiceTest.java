@@ -1,21 +1,39 @@
 package com.currencycloud.transactbench.service;
 
+import com.currencycloud.transactbench.config.SinkProperties;
+import com.currencycloud.transactbench.dto.LoadProfile;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
 import com.currencycloud.transactbench.model.Account;
 import com.currencycloud.transactbench.model.Sender;
 import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishRun;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import com.currencycloud.transactbench.serialization.WireFormats;
+import com.currencycloud.transactbench.sink.DiscardTransactionSink;
+import com.currencycloud.transactbench.sink.SinkType;
+import com.currencycloud.transactbench.sink.TransactionSinks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,6 +45,19 @@ class TransactionPublisherServiceTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private TransactionMetrics metrics = new TransactionMetrics(meterRegistry);
+
+    private final DiscardTransactionSink discardSink = new DiscardTransactionSink(metrics);
+
+    @Spy
+    private TransactionSinks sinks = new TransactionSinks(List.of(discardSink), new SinkProperties());
+
+    @Spy
+    private WireFormats wireFormats = new WireFormats(new Jackson2JsonMessageConverter(), metrics, "json");
+
     @InjectMocks
     private TransactionPublisherService transactionPublisherService;
 
@@ -57,6 +88,30 @@ class TransactionPublisherServiceTest {
         );
     }
 
+    @Test
+    void publishTransactions_ShouldCountAndTimePublishedTransactions() {
+        // When
+        transactionPublisherService.publishTransactions(transactions);
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.messages.published").counters().stream()
+                .mapToDouble(Counter::count).sum()).isEqualTo(2);
+        assertThat(meterRegistry.get("transactbench.publish").timers().stream()
+                .mapToLong(Timer::count).sum()).isEqualTo(2);
+    }
+
+    @Test
+    void publishTransactions_ShouldNotCountTransaction_WhenPublishFails() {
+        // Given
+        doThrow(new RuntimeException("channel closed"))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionPublisherService.publishTransactions(transactions))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(meterRegistry.find("transactbench.messages.published").counters()).isEmpty();
+    }
+
     @Test
     void publishTransactions_ShouldPublishEachTransactionIndividually() {
         // Given
@@ -233,6 +288,115 @@ class TransactionPublisherServiceTest {
                 .hasCause(originalException);
     }
 
+    @Test
+    void publishTransactionStream_ShouldPublishEachTransactionAndNotifyCallback() {
+        // Given
+        List<String> publishedIds = new ArrayList<>();
+        doNothing().when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        // When
+        long published = transactionPublisherService.publishTransactionStream(
+                transactions.stream(), transaction -> publishedIds.add(transaction.getId()));
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        assertThat(publishedIds).containsExactly("txn-001", "txn-002");
+        verify(rabbitTemplate).convertAndSend(EXCHANGE_NAME, ROUTING_KEY, transactions.get(0));
+        verify(rabbitTemplate).convertAndSend(EXCHANGE_NAME, ROUTING_KEY, transactions.get(1));
+    }
+
+    @Test
+    void publishTransactionStream_ShouldPublishBeforeNextTransactionIsGenerated() {
+        // Given
+        List<String> events = new ArrayList<>();
+        doAnswer(invocation -> events.add("published " + ((Transaction) invocation.getArgument(2)).getId()))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+        Stream<Transaction> stream = transactions.stream()
+                .peek(transaction -> events.add("generated " + transaction.getId()));
+
+        // When
+        transactionPublisherService.publishTransactionStream(stream, transaction -> { });
+
+        // Then
+        assertThat(events).containsExactly(
+                "generated txn-001", "published txn-001", "generated txn-002", "published txn-002");
+    }
+
+    @Test
+    void publishTransactionStream_ShouldStopAndThrow_WhenPublishFails() {
+        // Given
+        List<String> publishedIds = new ArrayList<>();
+        doNothing()
+                .doThrow(new RuntimeException("RabbitMQ connection error"))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionPublisherService.publishTransactionStream(
+                transactions.stream(), transaction -> publishedIds.add(transaction.getId())))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("txn-002");
+        assertThat(publishedIds).containsExactly("txn-001");
+    }
+
+    @Test
+    void publishTransactionStream_ShouldStopAtPacerDuration() {
+        // Given
+        LoadPacer pacer = LoadPacer.forProfile(LoadProfile.builder()
+                .type(LoadProfile.Type.CONSTANT).rate(100.0).durationSeconds(0.05).build());
+        doNothing().when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        // When
+        long published = transactionPublisherService.publishTransactionStream(
+                createLargeTransactionList(1000).stream(), pacer, transaction -> { });
+
+        // Then
+        assertThat(published).isEqualTo(5);
+        assertThat(pacer.report().getSent()).isEqualTo(5);
+    }
+
+    @Test
+    void publishTransactionStream_ShouldWriteToRequestedSink_InsteadOfRabbit() {
+        // Given
+        List<String> publishedIds = new ArrayList<>();
+
+        // When
+        long published = transactionPublisherService.publishTransactionStream(transactions.stream(),
+                LoadPacer.unpaced(), PublishRun.builder().sink(SinkType.DISCARD).build(),
+                transaction -> publishedIds.add(transaction.getId()));
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        assertThat(publishedIds).containsExactly("txn-001", "txn-002");
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void publishTransactions_ShouldRecordSameMeters_WhenWritingToAnotherSink() {
+        // When
+        transactionPublisherService.publishTransactions(transactions, PublishRun.builder().sink(SinkType.DISCARD).build());
+
+        // Then
+        assertThat(meterRegistry.get("transactbench.messages.published").counters().stream()
+                .mapToDouble(Counter::count).sum()).isEqualTo(2);
+        assertThat(meterRegistry.get("transactbench.publish").timers().stream()
+                .mapToLong(Timer::count).sum()).isEqualTo(2);
+    }
+
+    @Test
+    void publishTransactions_ShouldSendSerializedMessages_WhenWireFormatIsNotJson() {
+        // Given
+        PublishRun run = PublishRun.builder().wireFormat(WireFormat.CBOR).build();
+
+        // When
+        transactionPublisherService.publishTransactions(transactions, run);
+
+        // Then
+        verify(rabbitTemplate, times(2)).send(eq(EXCHANGE_NAME), eq(ROUTING_KEY),
+                argThat(message -> message.getMessageProperties().getContentType().equals("application/cbor")));
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+        assertThat(run.getSerialization().summary().getMessages()).isEqualTo(2);
+    }
+
     private List<Transaction> createMockTransactions() {
         Account originAccount = Account.builder()
                 .accountNumber("FR26TCCL20786956994877")
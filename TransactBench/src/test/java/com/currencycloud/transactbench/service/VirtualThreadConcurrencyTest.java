@@ -0,0 +1,100 @@
+package com.currencycloud.transactbench.service;
+
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Compares how many callers can be blocked in a publish at once on a pool the size of Tomcat's
+ * default 200 request threads and on virtual threads. Each send blocks until every caller has
+ * arrived or {@link #SEND_BLOCK_MILLIS} pass, standing in for a slow broker.
+ */
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadConcurrencyTest {
+
+    private static final int CALLERS = 1000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final long SEND_BLOCK_MILLIS = 300;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Spy
+    private TransactionMetrics metrics = new TransactionMetrics(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private TransactionPublisherService publisherService;
+
+    private final AtomicInteger blocked = new AtomicInteger();
+    private final AtomicInteger peakBlocked = new AtomicInteger();
+    private CountDownLatch allArrived;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(publisherService, "exchangeName", "internal");
+        ReflectionTestUtils.setField(publisherService, "routingKey", "funds.new_transaction");
+        allArrived = new CountDownLatch(CALLERS);
+        doAnswer(invocation -> {
+            peakBlocked.accumulateAndGet(blocked.incrementAndGet(), Math::max);
+            allArrived.countDown();
+            allArrived.await(SEND_BLOCK_MILLIS, TimeUnit.MILLISECONDS);
+            blocked.decrementAndGet();
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+
+    @Test
+    void platformPool_ShouldCapBlockedCallersAtPoolSize() throws Exception {
+        // When
+        long elapsedMillis = runCallers(Executors.newFixedThreadPool(PLATFORM_THREADS));
+
+        // Then: callers queue behind the pool and run in waves; only the last wave completes the latch
+        assertThat(peakBlocked.get()).isEqualTo(PLATFORM_THREADS);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(platformWaitMillis());
+    }
+
+    @Test
+    void virtualThreads_ShouldBlockEveryCallerAtOnce() throws Exception {
+        // When
+        long elapsedMillis = runCallers(Executors.newVirtualThreadPerTaskExecutor());
+
+        // Then: every caller is in flight together, so no one waits for a thread
+        assertThat(peakBlocked.get()).isEqualTo(CALLERS);
+        assertThat(elapsedMillis).isLessThan(platformWaitMillis());
+    }
+
+    private static long platformWaitMillis() {
+        return (CALLERS / PLATFORM_THREADS - 1) * SEND_BLOCK_MILLIS;
+    }
+
+    private long runCallers(ExecutorService executor) throws Exception {
+        long start = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < CALLERS; i++) {
+                Transaction transaction = Transaction.builder().id("txn-" + i).build();
+                executor.execute(() -> publisherService.publishTransaction(transaction));
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
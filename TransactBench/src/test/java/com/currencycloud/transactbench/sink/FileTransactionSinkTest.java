@@ -0,0 +1,209 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.capture.CaptureFormat;
+import com.currencycloud.transactbench.capture.CaptureReader;
+import com.currencycloud.transactbench.config.SinkProperties;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.serialization.BinaryTransactionConverter;
+import com.currencycloud.transactbench.serialization.SerializationRecorder;
+import com.currencycloud.transactbench.serialization.TransactionJsonWriter;
+import com.currencycloud.transactbench.serialization.TransactionMessageConverter;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileTransactionSinkTest {
+
+    @TempDir
+    private Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionMetrics metrics = new TransactionMetrics(meterRegistry);
+    private final TransactionMessageConverter converter =
+            new TransactionMessageConverter(new TransactionJsonWriter(), new Jackson2JsonMessageConverter(), metrics);
+    private FileTransactionSink sink;
+
+    @BeforeEach
+    void setUp() {
+        SinkProperties properties = new SinkProperties();
+        properties.getFile().setDirectory(directory);
+        // Far smaller than one run, so every test crosses several mapped regions
+        properties.getFile().setSegmentSize(DataSize.ofBytes(1024));
+        sink = new FileTransactionSink(metrics, properties);
+    }
+
+    @Test
+    void run_ShouldCaptureEveryBodyWithItsSendTime() throws IOException {
+        // Given
+        List<Transaction> transactions = transactions(50);
+
+        // When
+        long written = write(sink, "run-1", 0, transactions, new ArrayList<>());
+
+        // Then
+        assertThat(written).isEqualTo(50);
+        try (CaptureReader reader = new CaptureReader(sink.fileFor("run-1", 0))) {
+            long previous = 0;
+            for (Transaction transaction : transactions) {
+                assertThat(reader.next()).isTrue();
+                assertThat(reader.timestampNanos()).isGreaterThanOrEqualTo(previous);
+                previous = reader.timestampNanos();
+                byte[] body = new byte[reader.body().remaining()];
+                reader.body().get(body);
+                assertThat(body).isEqualTo(converter.toMessage(transaction, new MessageProperties()).getBody());
+            }
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void run_ShouldRecordWireFormatOfTheRunInCapture() throws IOException {
+        // Given
+        BinaryTransactionConverter cbor = BinaryTransactionConverter.cbor(metrics);
+        List<Transaction> transactions = transactions(3);
+
+        // When
+        write(sink, "run-1", 0, transactions, new ArrayList<>(), WireFormat.CBOR, cbor);
+
+        // Then
+        try (CaptureReader reader = new CaptureReader(sink.fileFor("run-1", 0))) {
+            assertThat(reader.getWireFormat()).isEqualTo(WireFormat.CBOR);
+            assertThat(reader.next()).isTrue();
+            byte[] body = new byte[reader.body().remaining()];
+            reader.body().get(body);
+            assertThat(cbor.fromMessage(new Message(body, new MessageProperties()))).isEqualTo(transactions.get(0));
+        }
+    }
+
+    @Test
+    void run_ShouldRecordPublishMetricsAndNotifyListener() {
+        // Given
+        List<String> published = new ArrayList<>();
+
+        // When
+        write(sink, "run-1", 0, transactions(5), published);
+
+        // Then
+        assertThat(published).containsExactly("txn-0", "txn-1", "txn-2", "txn-3", "txn-4");
+        assertThat(meterRegistry.get("transactbench.messages.published").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("transactbench.publish").timer().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("transactbench.serialization").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    void run_ShouldLeaveCaptureWithoutRecords_WhenNothingIsWritten() throws IOException {
+        // When
+        write(sink, "run-1", 0, List.of(), new ArrayList<>());
+
+        // Then
+        assertThat(Files.size(sink.fileFor("run-1", 0))).isEqualTo(CaptureFormat.HEADER_BYTES);
+        try (CaptureReader reader = new CaptureReader(sink.fileFor("run-1", 0))) {
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    void filesFor_ShouldListOnlyTheRunsFilesInWorkerOrder() throws IOException {
+        // Given
+        for (int worker : new int[] {10, 2, 0, 1}) {
+            write(sink, "run-1", worker, transactions(1), new ArrayList<>());
+        }
+        write(sink, "run-2", 0, transactions(1), new ArrayList<>());
+        write(sink, "run-1-x", 0, transactions(1), new ArrayList<>());
+
+        // When
+        List<Path> files = sink.filesFor("run-1");
+
+        // Then
+        assertThat(files).containsExactly(sink.fileFor("run-1", 0), sink.fileFor("run-1", 1),
+                sink.fileFor("run-1", 2), sink.fileFor("run-1", 10));
+    }
+
+    @Test
+    void deleteCapture_ShouldRemoveOnlyTheCapturesFiles() throws IOException {
+        // Given
+        write(sink, "run-1", 0, transactions(1), new ArrayList<>());
+        write(sink, "run-1", 1, transactions(1), new ArrayList<>());
+        write(sink, "run-2", 0, transactions(1), new ArrayList<>());
+
+        // When
+        int deleted = sink.deleteCapture("run-1");
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(sink.filesFor("run-1")).isEmpty();
+        assertThat(sink.filesFor("run-2")).hasSize(1);
+        assertThat(sink.deleteCapture("run-1")).isZero();
+    }
+
+    @Test
+    void run_ShouldDeleteCapturesOlderThanRetention_WhenNewRunStarts() throws IOException {
+        // Given
+        write(sink, "old-run", 0, transactions(1), new ArrayList<>());
+        write(sink, "recent-run", 0, transactions(1), new ArrayList<>());
+        Files.setLastModifiedTime(sink.fileFor("old-run", 0),
+                FileTime.from(Instant.now().minus(Duration.ofHours(25))));
+
+        // When
+        write(sink, "new-run", 0, transactions(1), new ArrayList<>());
+
+        // Then
+        assertThat(sink.filesFor("old-run")).isEmpty();
+        assertThat(sink.filesFor("recent-run")).hasSize(1);
+        assertThat(sink.filesFor("new-run")).hasSize(1);
+    }
+
+    private long write(TransactionSink sink, String runId, int worker, List<Transaction> transactions,
+                       List<String> published) {
+        return write(sink, runId, worker, transactions, published, WireFormat.JSON, converter);
+    }
+
+    private static long write(TransactionSink sink, String runId, int worker, List<Transaction> transactions,
+                              List<String> published, WireFormat format, MessageConverter converter) {
+        LoadPacer pacer = LoadPacer.unpaced();
+        pacer.start();
+        SinkContext context = new SinkContext(runId, pacer, transaction -> published.add(transaction.getId()),
+                PublishMode.PER_MESSAGE, new LatencyRecorder(false).newWorker(),
+                new SerializationRecorder().newWorker(format, converter));
+        return sink.run(worker, context, writer -> {
+            transactions.forEach(transaction -> writer.write(transaction, 0));
+            return transactions.size();
+        });
+    }
+
+    static List<Transaction> transactions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Transaction.builder()
+                        .id("txn-" + i)
+                        .version(2)
+                        .amount(100 + i)
+                        .currency("EUR")
+                        .provider("lhv")
+                        .paymentRail("SEPA")
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,150 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.config.SinkProperties;
+import com.currencycloud.transactbench.latency.LatencyRecorder;
+import com.currencycloud.transactbench.load.LoadPacer;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import com.currencycloud.transactbench.model.Transaction;
+import com.currencycloud.transactbench.probe.SendTimestamps;
+import com.currencycloud.transactbench.publish.PublishMode;
+import com.currencycloud.transactbench.serialization.SerializationRecorder;
+import com.currencycloud.transactbench.serialization.WireFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoryTransactionSinkTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionMetrics metrics = new TransactionMetrics(meterRegistry);
+
+    @Test
+    void run_ShouldQueueStampedMessagesInOrder() {
+        // Given
+        MemoryTransactionSink sink = sink(10);
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+
+        // When
+        write(sink, FileTransactionSinkTest.transactions(3));
+
+        // Then
+        assertThat(sink.size()).isEqualTo(3);
+        for (int i = 0; i < 3; i++) {
+            Message message = sink.poll();
+            assertThat(SendTimestamps.sentAt(message)).isNotNull();
+            assertThat(converter.fromMessage(message)).asString().contains("txn-" + i);
+        }
+        assertThat(sink.poll()).isNull();
+    }
+
+    @Test
+    void run_ShouldDropOldestMessages_WhenQueueIsFull() {
+        // Given
+        MemoryTransactionSink sink = sink(2);
+
+        // When
+        long written = write(sink, FileTransactionSinkTest.transactions(5));
+
+        // Then
+        assertThat(written).isEqualTo(5);
+        assertThat(sink.getDroppedCount()).isEqualTo(3);
+        List<Message> remaining = new ArrayList<>();
+        sink.drainTo(remaining, 10);
+        assertThat(remaining).hasSize(2);
+        assertThat(new String(remaining.get(0).getBody())).contains("txn-3");
+        assertThat(meterRegistry.get("transactbench.messages.published").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void clear_ShouldEmptyQueueAndResetDroppedCount() {
+        // Given
+        MemoryTransactionSink sink = sink(1);
+        write(sink, FileTransactionSinkTest.transactions(2));
+
+        // When
+        sink.clear();
+
+        // Then
+        assertThat(sink.size()).isZero();
+        assertThat(sink.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void run_ShouldDropOldestMessages_WhenQueuedBytesExceedLimit() {
+        // Given
+        SinkProperties properties = new SinkProperties();
+        properties.getMemory().setCapacity(100);
+        MemoryTransactionSink probe = new MemoryTransactionSink(metrics, properties);
+        write(probe, FileTransactionSinkTest.transactions(1));
+        long messageBytes = probe.getQueuedBytes();
+        properties.getMemory().setMaxBytes(DataSize.ofBytes(messageBytes * 2 + messageBytes / 2));
+        MemoryTransactionSink sink = new MemoryTransactionSink(metrics, properties);
+
+        // When
+        write(sink, FileTransactionSinkTest.transactions(5));
+
+        // Then
+        assertThat(sink.size()).isEqualTo(2);
+        assertThat(sink.getDroppedCount()).isEqualTo(3);
+        assertThat(sink.getQueuedBytes()).isLessThanOrEqualTo(properties.getMemory().getMaxBytes().toBytes());
+        sink.poll();
+        sink.drainTo(new ArrayList<>(), 10);
+        assertThat(sink.getQueuedBytes()).isZero();
+    }
+
+    @Test
+    void run_ShouldStartEmpty_WhenNewRunBegins() {
+        // Given
+        MemoryTransactionSink sink = sink(10);
+        write(sink, "run-1", FileTransactionSinkTest.transactions(3));
+
+        // When
+        write(sink, "run-2", FileTransactionSinkTest.transactions(2));
+
+        // Then
+        assertThat(sink.size()).isEqualTo(2);
+        assertThat(new String(sink.poll().getBody())).contains("txn-0");
+    }
+
+    @Test
+    void run_ShouldKeepMessages_WhenAnotherWorkerOfSameRunOpens() {
+        // Given
+        MemoryTransactionSink sink = sink(10);
+        write(sink, "run-1", FileTransactionSinkTest.transactions(3));
+
+        // When
+        write(sink, "run-1", FileTransactionSinkTest.transactions(2));
+
+        // Then
+        assertThat(sink.size()).isEqualTo(5);
+    }
+
+    private MemoryTransactionSink sink(int capacity) {
+        SinkProperties properties = new SinkProperties();
+        properties.getMemory().setCapacity(capacity);
+        return new MemoryTransactionSink(metrics, properties);
+    }
+
+    private static long write(TransactionSink sink, List<Transaction> transactions) {
+        return write(sink, "run-1", transactions);
+    }
+
+    private static long write(TransactionSink sink, String runId, List<Transaction> transactions) {
+        LoadPacer pacer = LoadPacer.unpaced();
+        pacer.start();
+        SinkContext context = new SinkContext(runId, pacer, transaction -> { }, PublishMode.PER_MESSAGE,
+                new LatencyRecorder(false).newWorker(),
+                new SerializationRecorder().newWorker(WireFormat.JSON, new Jackson2JsonMessageConverter()));
+        return sink.run(0, context, writer -> {
+            transactions.forEach(transaction -> writer.write(transaction, 0));
+            return transactions.size();
+        });
+    }
+}
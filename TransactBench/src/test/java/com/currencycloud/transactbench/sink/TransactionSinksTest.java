@@ -0,0 +1,60 @@
+package com.currencycloud.transactbench.sink;
+
+import com.currencycloud.transactbench.config.SinkProperties;
+import com.currencycloud.transactbench.metrics.TransactionMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionSinksTest {
+
+    private final DiscardTransactionSink discardSink =
+            new DiscardTransactionSink(new TransactionMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void forType_ShouldReturnSinkOfRequestedType() {
+        // Given
+        TransactionSinks sinks = new TransactionSinks(List.of(discardSink), new SinkProperties());
+
+        // When & Then
+        assertThat(sinks.forType(SinkType.DISCARD)).isSameAs(discardSink);
+    }
+
+    @Test
+    void forType_ShouldUseConfiguredDefault_WhenNoTypeIsGiven() {
+        // Given
+        SinkProperties properties = new SinkProperties();
+        properties.setDefaultType(SinkType.DISCARD);
+        TransactionSinks sinks = new TransactionSinks(List.of(discardSink), properties);
+
+        // When & Then
+        assertThat(sinks.resolve(null)).isEqualTo(SinkType.DISCARD);
+        assertThat(sinks.forType(null)).isSameAs(discardSink);
+    }
+
+    @Test
+    void forType_ShouldReject_WhenNoSinkOfTypeIsAvailable() {
+        // Given
+        TransactionSinks sinks = new TransactionSinks(List.of(discardSink), new SinkProperties());
+
+        // When & Then
+        assertThatThrownBy(() -> sinks.forType(SinkType.FILE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("FILE");
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidProperties() {
+        // Given
+        SinkProperties properties = new SinkProperties();
+        properties.getMemory().setCapacity(0);
+
+        // When & Then
+        assertThatThrownBy(() -> new TransactionSinks(List.of(discardSink), properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}